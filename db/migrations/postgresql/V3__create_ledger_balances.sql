@@ -0,0 +1,36 @@
+-- =====================================================
+-- Migration: V3 - Create Ledger Balances
+-- Description: Balance snapshots written by financer-ledger
+-- Author: Financer Team
+-- Date: 2025-11-07
+-- =====================================================
+
+SET search_path TO financer;
+
+-- =====================================================
+-- Table: ledger_balances
+-- Description: Latest balance per account as held in memory by the
+-- owning instance (financer-ledger), upserted once per interval for
+-- the accounts that changed. Deliberately without update/audit
+-- triggers: balance changes are audited by their transactions, and
+-- a to_jsonb copy of the row per snapshot is what the ledger avoids.
+-- account_id is the id exposed by the services (AccountDTO.id).
+-- =====================================================
+CREATE TABLE IF NOT EXISTS ledger_balances (
+    account_id          BIGINT PRIMARY KEY,
+    currency            VARCHAR(3) NOT NULL,
+    balance             DECIMAL(19, 4) NOT NULL,
+    version             BIGINT NOT NULL,
+    snapshot_at         TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- Snapshot lag per account (monitoring)
+CREATE INDEX idx_ledger_balances_snapshot_at ON ledger_balances(snapshot_at);
+
+-- =====================================================
+-- Comments for Documentation
+-- =====================================================
+COMMENT ON TABLE ledger_balances IS 'Balance snapshots of the in-memory ledger, authoritative over accounts.balance';
+COMMENT ON COLUMN ledger_balances.balance IS 'Balance at the snapshot, same scale as accounts.balance';
+COMMENT ON COLUMN ledger_balances.version IS 'Ledger version of the balance; an upsert only replaces a lower version';
+COMMENT ON COLUMN ledger_balances.snapshot_at IS 'When the snapshot was written';
@@ -0,0 +1,46 @@
+-- =====================================================
+-- Migration: V4 - Statement-level Transaction Audit on Insert
+-- Description: One audit INSERT per statement for new transactions,
+-- so multi-row inserts (financer-batch-writer) are audited in bulk
+-- Author: Financer Team
+-- Date: 2025-11-07
+-- =====================================================
+
+SET search_path TO financer;
+
+-- =====================================================
+-- Function: Transaction insert audit (statement level)
+-- Description: Same rows as audit_transaction_changes() writes for an
+-- INSERT, from the statement's transition table instead of per row
+-- =====================================================
+CREATE OR REPLACE FUNCTION audit_transaction_inserts()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO transaction_audit (transaction_id, operation, new_value, changed_by)
+    SELECT n.id, 'CREATE', to_jsonb(n), current_user
+    FROM new_transactions n;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- =====================================================
+-- Triggers: Row-level audit keeps UPDATE and DELETE
+-- (transition tables allow a single event per trigger)
+-- =====================================================
+DROP TRIGGER IF EXISTS trg_transactions_audit ON transactions;
+
+CREATE TRIGGER trg_transactions_audit
+    AFTER UPDATE OR DELETE ON transactions
+    FOR EACH ROW
+    EXECUTE FUNCTION audit_transaction_changes();
+
+CREATE TRIGGER trg_transactions_audit_insert
+    AFTER INSERT ON transactions
+    REFERENCING NEW TABLE AS new_transactions
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION audit_transaction_inserts();
+
+-- =====================================================
+-- Comments for Documentation
+-- =====================================================
+COMMENT ON FUNCTION audit_transaction_inserts() IS 'Audits inserted transactions once per statement';
@@ -0,0 +1,32 @@
+-- =====================================================
+-- Migration: V5 - Create Ledger Shard Owners
+-- Description: Fencing of ledger_balances writes by shard owner
+-- Author: Financer Team
+-- Date: 2025-11-07
+-- =====================================================
+
+SET search_path TO financer;
+
+-- =====================================================
+-- Table: ledger_shard_owners
+-- Description: Current owner epoch per ledger shard. An instance
+-- bumps the epoch of its shards at startup, before loading any
+-- balance, and its snapshot upserts into ledger_balances only
+-- write while the epoch is still the one it claimed (holding a
+-- share lock on the row). A previous owner still running, or a
+-- late snapshot round of one, is fenced off once the shard is
+-- claimed, whatever the version of its snapshots.
+-- =====================================================
+CREATE TABLE IF NOT EXISTS ledger_shard_owners (
+    shard               INTEGER PRIMARY KEY,
+    owner_epoch         BIGINT NOT NULL,
+    claimed_at          TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- =====================================================
+-- Comments for Documentation
+-- =====================================================
+COMMENT ON TABLE ledger_shard_owners IS 'Owner epoch per ledger shard, fencing ledger_balances upserts';
+COMMENT ON COLUMN ledger_shard_owners.shard IS 'Shard number (financer.ledger.shards.count)';
+COMMENT ON COLUMN ledger_shard_owners.owner_epoch IS 'Incremented by each claim; only the latest claimant may upsert';
+COMMENT ON COLUMN ledger_shard_owners.claimed_at IS 'When the current owner claimed the shard';
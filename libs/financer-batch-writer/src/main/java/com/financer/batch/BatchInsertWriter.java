@@ -0,0 +1,310 @@
+package com.financer.batch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Group-commit writer: rows submitted by concurrent requests are collected
+ * into micro-batches and written with one multi-row {@code INSERT}, so a
+ * batch costs one round trip and one commit instead of one per row.
+ * <p>
+ * A writer thread ({@code financer-batch-<table>}) takes the first queued
+ * row and everything queued behind it, then waits for more until the batch
+ * has {@code maxBatchSize} rows or {@code window} has passed since the first
+ * row was submitted; the window bounds the latency a row pays for batching.
+ * Rows queued while a batch is being written form the next one, so under
+ * load batches fill without waiting.
+ * <p>
+ * Each row is checked with {@link InsertStatement#validate} on submit, so
+ * input the statement knows to be invalid never joins a batch. Its id is a
+ * random UUID assigned on submit and its future completes when the batch
+ * commits. If the batch still violates a constraint (a foreign key, say),
+ * it is split in halves and retried until only the offending rows fail;
+ * any other error fails the whole batch. {@link #submit} blocks while
+ * {@code queueCapacity} rows are pending.
+ * <p>
+ * Meters (tagged with the table): {@code financer.batch.rows{outcome}},
+ * {@code financer.batch.size}, {@code financer.batch.write} (statement
+ * time), {@code financer.batch.latency} (submit to commit, per row) and
+ * {@code financer.batch.queue}.
+ *
+ * @param <T> row type
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+public class BatchInsertWriter<T> implements DisposableBean {
+
+    /**
+     * Bind parameters allowed in one PostgreSQL statement.
+     */
+    static final int MAX_PARAMETERS = 65535;
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InsertStatement<T> statement;
+    private final int columns;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final BlockingQueue<Pending<T>> queue;
+    private final String[] sqlBySize;
+    private final List<Thread> writers = new ArrayList<>();
+    private volatile boolean closed;
+
+    private final LongAdder inserted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final DistributionSummary batchSizes;
+    private final Timer writeTimer;
+    private final Timer latency;
+
+    /**
+     * @param maxBatchSize  rows per statement; times the column count at most {@value #MAX_PARAMETERS}
+     * @param window        longest a row waits for its batch to fill; zero writes whatever is queued
+     * @param queueCapacity rows pending before {@link #submit} blocks
+     * @param writerThreads concurrent batches (one connection each)
+     */
+    public BatchInsertWriter(JdbcTemplate jdbcTemplate, InsertStatement<T> statement, int maxBatchSize,
+                             Duration window, int queueCapacity, int writerThreads,
+                             ObjectProvider<MeterRegistry> meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.statement = statement;
+        this.columns = statement.columns().size();
+        if (maxBatchSize < 1 || (long) maxBatchSize * columns > MAX_PARAMETERS) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_PARAMETERS / columns
+                    + " for " + statement.table());
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.sqlBySize = new String[maxBatchSize + 1];
+        MeterRegistry meters = meterRegistry.getIfAvailable();
+        String table = statement.table();
+        this.batchSizes = meters == null ? null : DistributionSummary.builder("financer.batch.size")
+                .tag("table", table)
+                .description("Rows per batch insert")
+                .register(meters);
+        this.writeTimer = meters == null ? null : Timer.builder("financer.batch.write")
+                .tag("table", table)
+                .description("Duration of a batch insert statement")
+                .register(meters);
+        this.latency = meters == null ? null : Timer.builder("financer.batch.latency")
+                .tag("table", table)
+                .description("Time from submit to commit of a row")
+                .register(meters);
+        if (meters != null) {
+            registerMeters(meters, table);
+        }
+        for (int i = 0; i < writerThreads; i++) {
+            Thread thread = new Thread(this::run,
+                    writerThreads == 1 ? "financer-batch-" + table : "financer-batch-" + table + "-" + i);
+            thread.setDaemon(true);
+            writers.add(thread);
+            thread.start();
+        }
+    }
+
+    /**
+     * Queues a row for the next batch.
+     *
+     * @return future completed with the row's id once its batch commits,
+     * or exceptionally with the {@code DataAccessException} that rejected it
+     * @throws IllegalArgumentException if {@link InsertStatement#validate} rejects the row
+     */
+    public CompletableFuture<UUID> submit(T row) {
+        statement.validate(row);
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                    "Batch writer for " + statement.table() + " is closed"));
+        }
+        Pending<T> pending = new Pending<>(UUID.randomUUID(), row, new CompletableFuture<>(), System.nanoTime());
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        if (closed && queue.remove(pending)) {
+            // raced with destroy(): the writers may already be gone
+            pending.future.completeExceptionally(new IllegalStateException(
+                    "Batch writer for " + statement.table() + " is closed"));
+        }
+        return pending.future;
+    }
+
+    /**
+     * {@link #submit} and wait for the commit.
+     *
+     * @return the row's id
+     */
+    public UUID insert(T row) {
+        try {
+            return submit(row).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public int getPending() {
+        return queue.size();
+    }
+
+    /**
+     * Stops taking rows and writes the ones already queued.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        closed = true;
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        log.info("Batch writer for {} stopped: {} rows inserted, {} failed", statement.table(), inserted.sum(),
+                failed.sum());
+    }
+
+    private void run() {
+        List<Pending<T>> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                Pending<T> first = queue.poll(POLL_NANOS, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                long deadline = first.submittedNanos + windowNanos;
+                while (batch.size() < maxBatchSize && !closed) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending<T> next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batch.addAll(queue);
+            batch.forEach(pending -> pending.future.completeExceptionally(e));
+        }
+    }
+
+    private void write(List<Pending<T>> batch) {
+        long start = System.nanoTime();
+        try {
+            insertIsolating(batch);
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} rows into {} failed", batch.size(), statement.table(), e);
+            batch.forEach(pending -> fail(pending, e));
+        }
+        if (batchSizes != null) {
+            batchSizes.record(batch.size());
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Inserts the rows; on a constraint violation retries each half, so
+     * k bad rows cost about {@code k * log2(n)} extra statements.
+     */
+    private void insertIsolating(List<Pending<T>> rows) {
+        try {
+            insert(rows);
+            completeAll(rows);
+        } catch (DataIntegrityViolationException e) {
+            if (rows.size() == 1) {
+                fail(rows.get(0), e);
+                return;
+            }
+            int half = rows.size() / 2;
+            insertIsolating(rows.subList(0, half));
+            insertIsolating(rows.subList(half, rows.size()));
+        }
+    }
+
+    /**
+     * One statement in auto-commit: the whole batch commits once.
+     */
+    private void insert(List<Pending<T>> rows) {
+        jdbcTemplate.update(sql(rows.size()), ps -> {
+            int index = 1;
+            for (Pending<T> pending : rows) {
+                statement.bind(ps, index, pending.id, pending.row);
+                index += columns;
+            }
+        });
+    }
+
+    private void completeAll(List<Pending<T>> rows) {
+        long now = System.nanoTime();
+        for (Pending<T> pending : rows) {
+            if (latency != null) {
+                latency.record(now - pending.submittedNanos, TimeUnit.NANOSECONDS);
+            }
+            pending.future.complete(pending.id);
+        }
+        inserted.add(rows.size());
+    }
+
+    private void fail(Pending<T> pending, RuntimeException e) {
+        failed.increment();
+        pending.future.completeExceptionally(e);
+    }
+
+    private String sql(int rows) {
+        String sql = sqlBySize[rows];
+        if (sql == null) {
+            String values = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+            sql = "INSERT INTO " + statement.table() + " (" + String.join(", ", statement.columns())
+                    + ") VALUES " + String.join(", ", Collections.nCopies(rows, values));
+            // benign race between writer threads: every thread builds the same string
+            sqlBySize[rows] = sql;
+        }
+        return sql;
+    }
+
+    private void registerMeters(MeterRegistry meters, String table) {
+        FunctionCounter.builder("financer.batch.rows", inserted, LongAdder::sum)
+                .tags("table", table, "outcome", "inserted")
+                .description("Rows written by the batch writer")
+                .register(meters);
+        FunctionCounter.builder("financer.batch.rows", failed, LongAdder::sum)
+                .tags("table", table, "outcome", "failed")
+                .description("Rows written by the batch writer")
+                .register(meters);
+        Gauge.builder("financer.batch.queue", queue, BlockingQueue::size)
+                .tag("table", table)
+                .description("Rows waiting for a batch")
+                .register(meters);
+    }
+
+    private record Pending<T>(UUID id, T row, CompletableFuture<UUID> future, long submittedNanos) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.financer.batch;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Table and column binding for rows written by a {@link BatchInsertWriter}.
+ * The writer repeats the column list once per row in a single multi-row
+ * {@code INSERT ... VALUES (...), (...)}, so the binding receives the index
+ * of the row's first parameter.
+ *
+ * @param <T> row type
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public interface InsertStatement<T> {
+
+    /**
+     * Table name, optionally schema-qualified.
+     */
+    String table();
+
+    /**
+     * Inserted columns; the first one receives the id generated by the writer.
+     */
+    List<String> columns();
+
+    /**
+     * Binds one row to parameters {@code index} to {@code index + columns().size() - 1}.
+     */
+    void bind(PreparedStatement ps, int index, UUID id, T row) throws SQLException;
+
+    /**
+     * Rejects a row the table would refuse, before it joins a batch; called
+     * by {@link BatchInsertWriter#submit} on the caller's thread. Constraint
+     * violations left to the database still fail only their own row, but
+     * cost the batch a split.
+     *
+     * @throws IllegalArgumentException if the row would violate a constraint
+     */
+    default void validate(T row) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.financer.batch;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * {@link InsertStatement} for {@link TransactionRow}s. Columns left out
+ * ({@code due_date}, recurrence, installments, audit timestamps, version)
+ * take their table defaults.
+ * <p>
+ * {@link #validate} checks the row against the table's {@code NOT NULL},
+ * {@code CHECK} and length constraints, so a bad row is rejected on submit
+ * instead of splitting the batch it would have joined. Foreign keys are
+ * left to the database.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class TransactionInsertStatement implements InsertStatement<TransactionRow> {
+
+    private static final List<String> COLUMNS = List.of("id", "account_id", "card_id", "transaction_type",
+            "category", "description", "amount", "currency", "transaction_date", "status", "notes", "created_by");
+
+    /**
+     * {@code transaction_type} values allowed by the table's {@code CHECK}.
+     */
+    static final Set<String> TRANSACTION_TYPES = Set.of("PIX", "TED", "DOC", "CREDIT_CARD", "DEBIT_CARD",
+            "BANK_SLIP", "TRANSFER", "WITHDRAWAL", "DEPOSIT", "PAYMENT");
+
+    static final Set<String> STATUSES = Set.of("PENDING", "COMPLETED", "CANCELLED", "FAILED");
+
+    /**
+     * {@code DECIMAL(19, 4)}: integer digits an amount may have.
+     */
+    private static final int AMOUNT_INTEGER_DIGITS = 15;
+
+    private final String table;
+
+    /**
+     * @param table table name, optionally schema-qualified (default {@code transactions})
+     */
+    public TransactionInsertStatement(String table) {
+        this.table = table;
+    }
+
+    @Override
+    public String table() {
+        return table;
+    }
+
+    @Override
+    public List<String> columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public void bind(PreparedStatement ps, int index, UUID id, TransactionRow row) throws SQLException {
+        ps.setObject(index, id);
+        ps.setObject(index + 1, row.accountId());
+        ps.setObject(index + 2, row.cardId(), Types.OTHER);
+        ps.setString(index + 3, row.transactionType());
+        ps.setString(index + 4, row.category());
+        ps.setString(index + 5, row.description());
+        ps.setBigDecimal(index + 6, row.amount());
+        ps.setString(index + 7, row.currency());
+        ps.setObject(index + 8, row.transactionDate());
+        ps.setString(index + 9, row.status());
+        ps.setString(index + 10, row.notes());
+        ps.setString(index + 11, row.createdBy());
+    }
+
+    @Override
+    public void validate(TransactionRow row) {
+        BigDecimal amount = row.amount();
+        String problem;
+        if (row.accountId() == null) {
+            problem = "account_id is required";
+        } else if (row.transactionType() == null || !TRANSACTION_TYPES.contains(row.transactionType())) {
+            problem = "transaction_type " + row.transactionType() + " is not one of " + TRANSACTION_TYPES;
+        } else if (row.category() != null && row.category().length() > 100) {
+            problem = "category exceeds 100 characters";
+        } else if (row.description() == null) {
+            problem = "description is required";
+        } else if (amount == null) {
+            problem = "amount is required";
+        } else if (amount.precision() - amount.scale() > AMOUNT_INTEGER_DIGITS) {
+            problem = "amount " + amount + " exceeds DECIMAL(19, 4)";
+        } else if (row.currency() == null || row.currency().length() > 3) {
+            problem = "currency must have at most 3 characters";
+        } else if (row.transactionDate() == null) {
+            problem = "transaction_date is required";
+        } else if (row.status() == null || !STATUSES.contains(row.status())) {
+            problem = "status " + row.status() + " is not one of " + STATUSES;
+        } else if (row.createdBy() != null && row.createdBy().length() > 100) {
+            problem = "created_by exceeds 100 characters";
+        } else {
+            return;
+        }
+        throw new IllegalArgumentException("Invalid " + table + " row: " + problem);
+    }
+}
@@ -0,0 +1,79 @@
+package com.financer.batch;
+
+import com.financer.dto.transaction.CreateTransactionRequest;
+import com.financer.dto.transaction.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Row of the {@code transactions} table (migration
+ * {@code V2__create_cards_transactions_schema.sql}) as inserted by
+ * {@link TransactionInsertStatement}. The id is generated by the writer.
+ *
+ * @param transactionType one of the table's {@code transaction_type} values ({@code PIX}, {@code TED}, ...)
+ * @param status          {@code PENDING}, {@code COMPLETED}, {@code CANCELLED} or {@code FAILED}
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public record TransactionRow(
+        UUID accountId,
+        UUID cardId,
+        String transactionType,
+        String category,
+        String description,
+        BigDecimal amount,
+        String currency,
+        OffsetDateTime transactionDate,
+        String status,
+        String notes,
+        String createdBy) {
+
+    /**
+     * Pending row for a validated request. The type is mapped with
+     * {@link #transactionType(TransactionType)}, the date is the scheduled
+     * date (taken as UTC) or now, and {@code created_by} the requesting user id.
+     *
+     * @param accountId the account's id in the {@code accounts} table
+     * @throws IllegalArgumentException if the request type has no {@code transaction_type} value
+     */
+    public static TransactionRow of(CreateTransactionRequest request, UUID accountId) {
+        OffsetDateTime date = request.getScheduledAt() != null
+                ? request.getScheduledAt().atOffset(ZoneOffset.UTC)
+                : OffsetDateTime.now(ZoneOffset.UTC);
+        return new TransactionRow(
+                accountId,
+                null,
+                transactionType(request.getType()),
+                request.getCategory(),
+                request.getDescription(),
+                request.getAmount(),
+                request.getCurrency().getCode(),
+                date,
+                "PENDING",
+                null,
+                String.valueOf(request.getUserId()));
+    }
+
+    /**
+     * The table's {@code transaction_type} value for a request type. Only
+     * types naming a movement the table records have one; {@code CREDIT},
+     * {@code DEBIT}, {@code FEE}, {@code REFUND}, {@code INTEREST} and
+     * {@code ADJUSTMENT} would fail its {@code CHECK} constraint.
+     *
+     * @throws IllegalArgumentException if the type has no table value
+     */
+    public static String transactionType(TransactionType type) {
+        return switch (type) {
+            case TRANSFER -> "TRANSFER";
+            case PAYMENT -> "PAYMENT";
+            case DEPOSIT -> "DEPOSIT";
+            case WITHDRAWAL -> "WITHDRAWAL";
+            default -> throw new IllegalArgumentException(
+                    "Transaction type " + type + " has no transactions.transaction_type value");
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.financer.batch.config;
+
+import com.financer.batch.BatchInsertWriter;
+import com.financer.batch.TransactionInsertStatement;
+import com.financer.batch.TransactionRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Auto-configuration class for Financer Batch Writer Library.
+ * Sets up the group-commit writer for the {@code transactions} table.
+ * <p>
+ * Active when a {@link JdbcTemplate} is available unless
+ * {@code financer.batch.transactions.enabled=false}. Properties:
+ * <ul>
+ *     <li>{@code financer.batch.transactions.max-size} (default 500) — rows per {@code INSERT};</li>
+ *     <li>{@code financer.batch.transactions.window} (default 2ms) — longest a row waits for its batch;</li>
+ *     <li>{@code financer.batch.transactions.queue-capacity} (default 10000) and
+ *     {@code financer.batch.transactions.writers} (default 1);</li>
+ *     <li>{@code financer.batch.transactions.table} (default {@code transactions}).</li>
+ * </ul>
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration")
+@ConditionalOnProperty(value = "financer.batch.transactions.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnBean(JdbcTemplate.class)
+public class FinancerBatchWriterAutoConfiguration {
+
+    public FinancerBatchWriterAutoConfiguration() {
+        // Constructor for Spring Boot auto-configuration
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BatchInsertWriter<TransactionRow> transactionBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${financer.batch.transactions.table:transactions}") String table,
+            @Value("${financer.batch.transactions.max-size:500}") int maxSize,
+            @Value("${financer.batch.transactions.window:2ms}") Duration window,
+            @Value("${financer.batch.transactions.queue-capacity:10000}") int queueCapacity,
+            @Value("${financer.batch.transactions.writers:1}") int writers,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BatchInsertWriter<>(jdbcTemplate, new TransactionInsertStatement(table), maxSize, window,
+                queueCapacity, writers, meterRegistry);
+    }
+}
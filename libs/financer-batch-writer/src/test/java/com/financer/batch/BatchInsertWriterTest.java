@@ -0,0 +1,137 @@
+package com.financer.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchInsertWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"));
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private BatchInsertWriter<Entry> writer;
+
+    BatchInsertWriterTest() {
+        jdbcTemplate.execute("CREATE TABLE entries (id UUID PRIMARY KEY, account BIGINT NOT NULL, "
+                + "amount INTEGER NOT NULL CHECK (amount > 0))");
+    }
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        writer.destroy();
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void splitsBatchUntilOnlyBadRowsFail() {
+        writer = writer(100, Duration.ofMillis(200));
+        List<CompletableFuture<UUID>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(writer.submit(new Entry(i, i == 7 || i == 31 ? -1 : 10)));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<UUID> future = futures.get(i);
+            if (i == 7 || i == 31) {
+                CompletionException e = assertThrows(CompletionException.class, future::join);
+                assertInstanceOf(DataIntegrityViolationException.class, e.getCause());
+            } else {
+                UUID id = future.join();
+                assertEquals(i, jdbcTemplate.queryForObject("SELECT account FROM entries WHERE id = ?",
+                        Long.class, id));
+            }
+        }
+        assertEquals(48, count());
+        assertEquals(48.0, rows("inserted"));
+        assertEquals(2.0, rows("failed"));
+    }
+
+    @Test
+    void splitsLargeSubmissionsIntoBatchesOfAtMostMaxSize() throws InterruptedException {
+        writer = writer(8, Duration.ofMillis(50));
+        List<CompletableFuture<UUID>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(writer.submit(new Entry(i, 10)));
+        }
+        futures.forEach(CompletableFuture::join);
+        // batch meters are recorded after the futures complete
+        writer.destroy();
+
+        assertEquals(100, count());
+        assertTrue(meters.get("financer.batch.size").summary().max() <= 8);
+        assertTrue(meters.get("financer.batch.size").summary().count() >= 13);
+    }
+
+    @Test
+    void destroyWritesQueuedRowsAndRefusesNewOnes() throws InterruptedException {
+        writer = writer(5, Duration.ofMillis(200));
+        List<CompletableFuture<UUID>> futures = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            futures.add(writer.submit(new Entry(i, 10)));
+        }
+
+        writer.destroy();
+
+        futures.forEach(future -> assertTrue(future.isDone() && !future.isCompletedExceptionally()));
+        assertEquals(23, count());
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> writer.submit(new Entry(99, 10)).join());
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    private BatchInsertWriter<Entry> writer(int maxBatchSize, Duration window) {
+        return new BatchInsertWriter<>(jdbcTemplate, new EntryInsertStatement(), maxBatchSize, window, 1000, 1,
+                new StaticListableBeanFactory(Map.of("meters", meters)).getBeanProvider(MeterRegistry.class));
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM entries", Integer.class);
+    }
+
+    private double rows(String outcome) {
+        return meters.get("financer.batch.rows").tag("outcome", outcome).functionCounter().count();
+    }
+
+    private record Entry(long account, int amount) {
+    }
+
+    private static final class EntryInsertStatement implements InsertStatement<Entry> {
+
+        @Override
+        public String table() {
+            return "entries";
+        }
+
+        @Override
+        public List<String> columns() {
+            return List.of("id", "account", "amount");
+        }
+
+        @Override
+        public void bind(PreparedStatement ps, int index, UUID id, Entry row) throws SQLException {
+            ps.setObject(index, id);
+            ps.setLong(index + 1, row.account());
+            ps.setInt(index + 2, row.amount());
+        }
+    }
+}
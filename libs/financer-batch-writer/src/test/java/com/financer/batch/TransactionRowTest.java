@@ -0,0 +1,65 @@
+package com.financer.batch;
+
+import com.financer.dto.transaction.CreateTransactionRequest;
+import com.financer.dto.transaction.TransactionType;
+import com.financer.money.CurrencyCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionRowTest {
+
+    private final TransactionInsertStatement statement = new TransactionInsertStatement("transactions");
+
+    @ParameterizedTest
+    @EnumSource(value = TransactionType.class, names = {"TRANSFER", "PAYMENT", "DEPOSIT", "WITHDRAWAL"})
+    void mapsTypesTheTableAccepts(TransactionType type) {
+        TransactionRow row = TransactionRow.of(request(type), UUID.randomUUID());
+
+        assertEquals(type.name(), row.transactionType());
+        assertDoesNotThrow(() -> statement.validate(row));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TransactionType.class, names = {"CREDIT", "DEBIT", "FEE", "REFUND", "INTEREST", "ADJUSTMENT"})
+    void rejectsTypesTheTableRefuses(TransactionType type) {
+        assertThrows(IllegalArgumentException.class, () -> TransactionRow.of(request(type), UUID.randomUUID()));
+    }
+
+    @Test
+    void validateRejectsRowsBreakingConstraints() {
+        UUID account = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+        BigDecimal amount = new BigDecimal("10.00");
+
+        assertThrows(IllegalArgumentException.class, () -> statement.validate(new TransactionRow(
+                account, null, "CREDIT", null, "Pix", amount, "BRL", now, "PENDING", null, "42")));
+        assertThrows(IllegalArgumentException.class, () -> statement.validate(new TransactionRow(
+                account, null, "PIX", null, null, amount, "BRL", now, "PENDING", null, "42")));
+        assertThrows(IllegalArgumentException.class, () -> statement.validate(new TransactionRow(
+                account, null, "PIX", null, "Pix", new BigDecimal("1E+15"), "BRL", now, "PENDING", null, "42")));
+        assertThrows(IllegalArgumentException.class, () -> statement.validate(new TransactionRow(
+                account, null, "PIX", null, "Pix", amount, "BRL", now, null, null, "42")));
+        assertDoesNotThrow(() -> statement.validate(new TransactionRow(
+                account, null, "PIX", null, "Pix", new BigDecimal("999999999999999.9999"), "BRL", now, "PENDING",
+                null, "42")));
+    }
+
+    private static CreateTransactionRequest request(TransactionType type) {
+        return CreateTransactionRequest.builder()
+                .userId(42L)
+                .type(type)
+                .amount(new BigDecimal("150.00"))
+                .currency(CurrencyCode.BRL)
+                .description("Aluguel")
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.financer.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Entry point of {@code benchmarks.jar}: JMH's own command line, except
+ * that results are written as JSON to {@code jmh-result-<version>.json}
+ * unless {@code -rf} picks another format ({@code -rff} still names the
+ * file). Keep the file of each release and compare two of them with
+ * {@link ResultComparison}.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar                          # everything
+ * java -jar target/benchmarks.jar DtoRoundTripBenchmark -p dto=CardDTO
+ * </pre>
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class BenchmarkMain {
+
+    private static final Set<String> NO_RUN_OPTIONS = Set.of("-h", "-l", "-lp", "-lprof", "-lrf");
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(withJsonResult(args));
+    }
+
+    static String[] withJsonResult(String[] args) {
+        List<String> options = List.of(args);
+        if (options.stream().anyMatch(NO_RUN_OPTIONS::contains)) {
+            return args;
+        }
+        if (options.contains("-rf")) {
+            return args;
+        }
+        List<String> result = new ArrayList<>(options);
+        result.add("-rf");
+        result.add("json");
+        if (!options.contains("-rff")) {
+            result.add("-rff");
+            result.add("jmh-result-" + version() + ".json");
+        }
+        return result.toArray(String[]::new);
+    }
+
+    private static String version() {
+        String version = BenchmarkMain.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+}
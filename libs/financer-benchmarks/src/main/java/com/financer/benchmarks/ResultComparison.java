@@ -0,0 +1,100 @@
+package com.financer.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files, benchmark by benchmark (same name,
+ * mode and parameters), and exits with 1 when any got slower.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.financer.benchmarks.ResultComparison \
+ *      jmh-result-1.0.0.json jmh-result-1.1.0.json [threshold-percent]
+ * </pre>
+ *
+ * A benchmark regresses when it is worse by more than the threshold
+ * (default 5%) <em>and</em> the two 99.9% confidence intervals do not
+ * overlap, so noise on a shared CI host does not fail the build. "Worse"
+ * is lower for throughput and higher for every time mode.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class ResultComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 5.0;
+
+    private ResultComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: ResultComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "%-90s %14s %14.3f %9s%n", entry.getKey(), "-", after.score(), "new");
+                continue;
+            }
+            double change = (after.score() - before.score()) / before.score() * 100.0;
+            double worse = after.higherIsBetter() ? -change : change;
+            boolean regression = worse > threshold && !after.overlaps(before);
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "%-90s %14.3f %14.3f %+8.1f%% %s%n", entry.getKey(), before.score(),
+                    after.score(), change, regression ? "REGRESSION" : "");
+        }
+        System.out.printf(Locale.ROOT, "%n%d regression(s) over %.1f%% (units: %s)%n", regressions, threshold,
+                current.values().stream().map(Score::unit).distinct().toList());
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+                    .append(" [").append(result.path("mode").asText()).append(']');
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            JsonNode metric = result.path("primaryMetric");
+            scores.put(key.toString(), new Score(
+                    metric.path("score").asDouble(),
+                    metric.path("scoreError").asDouble(0.0),
+                    metric.path("scoreUnit").asText(),
+                    "thrpt".equals(result.path("mode").asText())));
+        }
+        return scores;
+    }
+
+    record Score(double score, double error, String unit, boolean higherIsBetter) {
+
+        boolean overlaps(Score other) {
+            double error = Double.isNaN(this.error) ? 0.0 : this.error;
+            double otherError = Double.isNaN(other.error) ? 0.0 : other.error;
+            return score - error <= other.score + otherError && other.score - otherError <= score + error;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.financer.benchmarks.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financer.benchmarks.support.SampleDtos;
+import com.financer.codec.BinaryCodec;
+import com.financer.codec.FinancerSchemas;
+import com.financer.common.config.JacksonConfig;
+import com.financer.dto.card.CardDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code CardDTO} encode/decode: JSON through the shared mapper versus
+ * {@code application/vnd.financer.binary}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+    private ObjectMapper mapper;
+    private BinaryCodec codec;
+    private CardDTO card;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = JacksonConfig.createObjectMapper(false);
+        codec = new BinaryCodec(FinancerSchemas.registry());
+        card = SampleDtos.card();
+        json = mapper.writeValueAsBytes(card);
+        binary = codec.encode(card);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return mapper.writeValueAsBytes(card);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return codec.encode(card);
+    }
+
+    @Benchmark
+    public CardDTO jsonDecode() throws IOException {
+        return mapper.readValue(json, CardDTO.class);
+    }
+
+    @Benchmark
+    public CardDTO binaryDecode() {
+        return codec.decode(binary, CardDTO.class);
+    }
+}
@@ -0,0 +1,155 @@
+package com.financer.benchmarks.enums;
+
+import com.financer.common.enums.CodedEnum;
+import com.financer.dto.account.AccountStatus;
+import com.financer.dto.account.AccountType;
+import com.financer.dto.card.CardBrand;
+import com.financer.dto.card.CardStatus;
+import com.financer.dto.card.CardType;
+import com.financer.dto.transaction.TransactionStatus;
+import com.financer.dto.transaction.TransactionType;
+import com.financer.dto.user.UserRole;
+import com.financer.dto.user.UserStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the registry-backed {@code fromCode} against the linear
+ * {@code values()} scan the DTO enums used before.
+ * <p>
+ * Run with {@code -prof gc} to see the per-call array clone of the legacy path.
+ * {@link #everyEnum} calls {@code fromCode} of every DTO enum, as Jackson
+ * does while reading a body, rotating through all their codes in the casing
+ * clients send. The codes live in separate states, so the {@code @Param}
+ * codes of the comparisons do not multiply the runs of {@link #everyEnum}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumCodeLookupBenchmark {
+
+    @Benchmark
+    public TransactionType transactionTypeRegistry(Codes codes) {
+        return TransactionType.fromCode(codes.transactionTypeCode);
+    }
+
+    @Benchmark
+    public TransactionType transactionTypeLinearScan(Codes codes) {
+        for (TransactionType type : TransactionType.values()) {
+            if (type.getCode().equalsIgnoreCase(codes.transactionTypeCode)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Invalid transaction type: " + codes.transactionTypeCode);
+    }
+
+    @Benchmark
+    public TransactionStatus transactionStatusRegistry(Codes codes) {
+        return TransactionStatus.fromCode(codes.transactionStatusCode);
+    }
+
+    @Benchmark
+    public TransactionStatus transactionStatusLinearScan(Codes codes) {
+        for (TransactionStatus status : TransactionStatus.values()) {
+            if (status.getCode().equalsIgnoreCase(codes.transactionStatusCode)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Invalid transaction status: " + codes.transactionStatusCode);
+    }
+
+    @Benchmark
+    public CardBrand cardBrandRegistry(Codes codes) {
+        return CardBrand.fromCode(codes.cardBrandCode);
+    }
+
+    @Benchmark
+    public CardBrand cardBrandLinearScan(Codes codes) {
+        for (CardBrand brand : CardBrand.values()) {
+            if (brand.getCode().equalsIgnoreCase(codes.cardBrandCode)) {
+                return brand;
+            }
+        }
+        throw new IllegalArgumentException("Invalid card brand: " + codes.cardBrandCode);
+    }
+
+    @Benchmark
+    public void everyEnum(Rotation rotation, Blackhole blackhole) {
+        String[][] codes = rotation.codes;
+        int i = rotation.next = (rotation.next + 1) & (Rotation.SIZE - 1);
+        blackhole.consume(AccountType.fromCode(codes[0][i]));
+        blackhole.consume(AccountStatus.fromCode(codes[1][i]));
+        blackhole.consume(CardType.fromCode(codes[2][i]));
+        blackhole.consume(CardBrand.fromCode(codes[3][i]));
+        blackhole.consume(CardStatus.fromCode(codes[4][i]));
+        blackhole.consume(TransactionType.fromCode(codes[5][i]));
+        blackhole.consume(TransactionStatus.fromCode(codes[6][i]));
+        blackhole.consume(UserRole.fromCode(codes[7][i]));
+        blackhole.consume(UserStatus.fromCode(codes[8][i]));
+    }
+
+    @State(Scope.Benchmark)
+    public static class Codes {
+
+        /**
+         * First, last and a mixed-case code, so the scan cost shows at both ends.
+         */
+        @Param({"credit", "adjustment", "Withdrawal"})
+        private String transactionTypeCode;
+
+        @Param({"scheduled"})
+        private String transactionStatusCode;
+
+        @Param({"other"})
+        private String cardBrandCode;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Rotation {
+
+        static final int SIZE = 16;
+
+        String[][] codes;
+        int next;
+
+        @Setup
+        public void setUp() {
+            codes = new String[][]{
+                    codes(AccountType.values()), codes(AccountStatus.values()),
+                    codes(CardType.values()), codes(CardBrand.values()), codes(CardStatus.values()),
+                    codes(TransactionType.values()), codes(TransactionStatus.values()),
+                    codes(UserRole.values()), codes(UserStatus.values())};
+        }
+
+        /**
+         * Codes as sent by clients: mostly as declared, some upper-cased.
+         */
+        private static String[] codes(CodedEnum[] values) {
+            String[] codes = new String[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                String code = values[i % values.length].getCode();
+                codes[i] = i % 4 == 3 ? code.toUpperCase(Locale.ROOT) : code;
+            }
+            return codes;
+        }
+    }
+}
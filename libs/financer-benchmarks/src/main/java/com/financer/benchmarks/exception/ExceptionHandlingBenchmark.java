@@ -0,0 +1,140 @@
+package com.financer.benchmarks.exception;
+
+import com.financer.benchmarks.support.SampleDtos;
+import com.financer.common.exception.BusinessValidationException;
+import com.financer.common.exception.ErrorResponse;
+import com.financer.common.exception.ExceptionLogLimiter;
+import com.financer.common.exception.FinancerException;
+import com.financer.common.exception.GlobalExceptionHandler;
+import com.financer.common.exception.ResourceNotFoundException;
+import com.financer.dto.account.CreateAccountRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the exception hierarchy on the error path: building a
+ * {@link FinancerException} and mapping it in {@link GlobalExceptionHandler}.
+ * <p>
+ * {@code notFound} / {@code businessValidation} are 4xx without a stack
+ * trace; {@code serverError} is a 5xx, which captures one, next to a plain
+ * {@code IllegalStateException} for reference. {@code throwAndHandle} is the
+ * whole path of a service method throwing a few frames deep. The
+ * {@link ExceptionLogLimiter} suppresses every line, the steady state of an
+ * error storm: the handlers only count.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlingBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private ResourceNotFoundException notFound;
+    private MethodArgumentNotValidException invalidBody;
+    private long id;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        ExceptionLogLimiter logLimiter = new ExceptionLogLimiter(0, Long.MAX_VALUE, 60,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        handler = new GlobalExceptionHandler(logLimiter);
+        request = new MockHttpServletRequest("GET", "/api/v1/accounts/1204331");
+        notFound = new ResourceNotFoundException("Account", "1204331");
+        invalidBody = invalidBody();
+    }
+
+    @Benchmark
+    public FinancerException notFound() {
+        return new ResourceNotFoundException("Account", Long.toString(++id));
+    }
+
+    @Benchmark
+    public FinancerException businessValidation() {
+        return new BusinessValidationException("Insufficient balance for transfer " + ++id);
+    }
+
+    @Benchmark
+    public FinancerException serverError() {
+        return new FinancerException("Ledger unavailable", "LEDGER_UNAVAILABLE", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Benchmark
+    public RuntimeException plainException() {
+        return new IllegalStateException("Ledger unavailable");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleNotFound() {
+        return handler.handleFinancerException(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleInvalidBody() {
+        return handler.handleValidationException(invalidBody, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> throwAndHandle() {
+        try {
+            return ResponseEntity.ok(findAccount(++id));
+        } catch (FinancerException e) {
+            return handler.handleFinancerException(e, request);
+        }
+    }
+
+    private Object findAccount(long accountId) {
+        return loadAccount(accountId);
+    }
+
+    private Object loadAccount(long accountId) {
+        throw new ResourceNotFoundException("Account", Long.toString(accountId));
+    }
+
+    /**
+     * What {@code @Valid} raises for a {@code CreateAccountRequest} with two bad fields.
+     */
+    private static MethodArgumentNotValidException invalidBody() throws NoSuchMethodException {
+        Object body = SampleDtos.invalid(CreateAccountRequest.class, new SplittableRandom(SampleDtos.SEED));
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(body, "createAccountRequest");
+        errors.addError(new FieldError("createAccountRequest", "name", "CC", false, null, null,
+                "Account name must be between 3 and 100 characters"));
+        errors.addError(new FieldError("createAccountRequest", "initialBalance", "-10.00", false, null, null,
+                "Initial balance cannot be negative"));
+        MethodParameter parameter = new MethodParameter(
+                AccountController.class.getMethod("create", CreateAccountRequest.class), 0);
+        return new MethodArgumentNotValidException(parameter, errors);
+    }
+
+    public interface AccountController {
+
+        Object create(CreateAccountRequest request);
+    }
+}
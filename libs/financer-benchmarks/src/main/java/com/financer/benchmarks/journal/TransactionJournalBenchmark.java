@@ -0,0 +1,154 @@
+package com.financer.benchmarks.journal;
+
+import com.financer.dto.transaction.TransactionDTO;
+import com.financer.dto.transaction.TransactionStatus;
+import com.financer.dto.transaction.TransactionType;
+import com.financer.journal.JournalReader;
+import com.financer.journal.TransactionJournal;
+import com.financer.money.CurrencyCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of journaling a posting with {@link TransactionJournal} and of
+ * replaying the log with {@link JournalReader}.
+ * <p>
+ * {@code append} is the mapped-memory write alone; {@code appendDurable}
+ * waits for the group commit from eight threads, so its time is the flush
+ * latency shared by a batch (it depends entirely on the disk under
+ * {@code java.io.tmpdir}). {@code replay} walks {@value #REPLAY_POSTINGS}
+ * postings (about 35 MB) reading one field each, and {@code replayUnverified}
+ * the same without CRC checks; divide by the log size for bandwidth.
+ * Appended segments are deleted as they roll (zero retention).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionJournalBenchmark {
+
+    private static final int REPLAY_POSTINGS = 200_000;
+
+    @State(Scope.Benchmark)
+    public static class Writer {
+
+        private Path directory;
+        private TransactionJournal journal;
+        private final TransactionDTO posting = posting(1L);
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("financer-journal-bench");
+            journal = new TransactionJournal(directory, 64 << 20, Duration.ZERO, Duration.ofMillis(10),
+                    new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            journal.close();
+            delete(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Log {
+
+        private Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("financer-journal-replay");
+            try (TransactionJournal journal = new TransactionJournal(directory, 64 << 20, Duration.ofDays(1),
+                    Duration.ofMillis(10), new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class))) {
+                for (long i = 1; i <= REPLAY_POSTINGS; i++) {
+                    journal.append(posting(i));
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            delete(directory);
+        }
+    }
+
+    @Benchmark
+    public long append(Writer writer) {
+        return writer.journal.append(writer.posting);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long appendDurable(Writer writer) {
+        return writer.journal.appendDurable(writer.posting);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long replay(Log log) {
+        long[] total = new long[1];
+        new JournalReader(log.directory).replay(1L, posting -> total[0] += posting.getAmountUnits());
+        return total[0];
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long replayUnverified(Log log) {
+        long[] total = new long[1];
+        new JournalReader(log.directory, false).replay(1L, posting -> total[0] += posting.getAmountUnits());
+        return total[0];
+    }
+
+    private static TransactionDTO posting(long id) {
+        return TransactionDTO.builder()
+                .id(id)
+                .userId(42L)
+                .fromAccountId(1001L)
+                .toAccountId(2002L)
+                .type(TransactionType.TRANSFER)
+                .status(TransactionStatus.COMPLETED)
+                .amount(new BigDecimal("125.90"))
+                .currency(CurrencyCode.BRL)
+                .description("Transferência PIX")
+                .referenceId("PIX-E1234567820251107")
+                .createdAt(LocalDateTime.of(2025, 11, 7, 10, 30))
+                .build();
+    }
+
+    private static void delete(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
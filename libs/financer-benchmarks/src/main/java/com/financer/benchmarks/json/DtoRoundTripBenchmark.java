@@ -0,0 +1,98 @@
+package com.financer.benchmarks.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.financer.benchmarks.support.SampleDtos;
+import com.financer.common.config.JacksonConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON write + read of every DTO through the {@link JacksonConfig} mapper
+ * the services use, over a batch of {@link SampleDtos}.
+ * <p>
+ * {@code roundTrip} is what an inter-service call costs on both ends;
+ * {@code serialize} and {@code deserialize} split it. Setup fails if a DTO
+ * does not survive the round trip, so a broken mapping never reports a
+ * fast number.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoRoundTripBenchmark {
+
+    private static final int BATCH = 64;
+
+    @Param({"AccountDTO", "CreateAccountRequest", "UpdateAccountRequest",
+            "CardDTO", "CreateCardRequest", "UpdateCardRequest",
+            "TransactionDTO", "CreateTransactionRequest",
+            "UserDTO", "CreateUserRequest", "UpdateUserRequest",
+            "LoginRequest", "LoginResponse"})
+    public String dto;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Object[] payloads;
+    private byte[][] json;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Class<?> type = SampleDtos.type(dto);
+        ObjectMapper mapper = JacksonConfig.createObjectMapper(false);
+        writer = mapper.writerFor(type);
+        reader = mapper.readerFor(type);
+        List<Object> batch = SampleDtos.batch(type, BATCH);
+        payloads = batch.toArray();
+        json = new byte[BATCH][];
+        for (int i = 0; i < BATCH; i++) {
+            json[i] = writer.writeValueAsBytes(payloads[i]);
+            byte[] again = writer.writeValueAsBytes(reader.readValue(json[i]));
+            if (!Arrays.equals(json[i], again)) {
+                throw new IllegalStateException(dto + " does not round-trip: " + new String(json[i]));
+            }
+        }
+    }
+
+    @Benchmark
+    public Object roundTrip() throws IOException {
+        return reader.readValue(writer.writeValueAsBytes(payloads[next()]));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(payloads[next()]);
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return reader.readValue(json[next()]);
+    }
+
+    private int next() {
+        return next = (next + 1) & (BATCH - 1);
+    }
+}
@@ -0,0 +1,136 @@
+package com.financer.benchmarks.ledger;
+
+import com.financer.dto.account.AccountDTO;
+import com.financer.ledger.BalanceLedger;
+import com.financer.ledger.BalanceSnapshot;
+import com.financer.ledger.BalanceStore;
+import com.financer.ledger.InsufficientFundsException;
+import com.financer.ledger.LedgerSharding;
+import com.financer.money.CurrencyCode;
+import com.financer.money.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a debit/credit decision in {@link BalanceLedger}, the work that
+ * replaces an {@code UPDATE accounts} round trip: shard and account lookup,
+ * status and currency checks, and the compare-and-set.
+ * <p>
+ * {@code debit} and {@code credit} rotate over {@value #ACCOUNTS} accounts
+ * with the {@link Money} API, {@code debitUnits} is the allocation-free
+ * variant and {@code rejectedDebit} the cost of an
+ * {@link InsufficientFundsException}. {@code hotAccountContended} debits a
+ * single account from four threads (only meaningful with at least four
+ * cores). Snapshots are not running: the store is a no-op.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BalanceLedgerBenchmark {
+
+    private static final int ACCOUNTS = 1024;
+    private static final long HOT_ACCOUNT = 1L;
+    private static final long EMPTY_ACCOUNT = ACCOUNTS + 1L;
+    private static final Money AMOUNT = Money.of(new BigDecimal("125.90"), CurrencyCode.BRL);
+
+    private BalanceLedger ledger;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        ledger = new BalanceLedger(LedgerSharding.all(16), new NoOpStore(),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        List<AccountDTO> accounts = new ArrayList<>();
+        for (long id = 1; id <= ACCOUNTS; id++) {
+            accounts.add(AccountDTO.builder()
+                    .id(id)
+                    .currency(CurrencyCode.BRL)
+                    .balance(new BigDecimal("1000000000000.00"))
+                    .creditLimit(new BigDecimal("5000.00"))
+                    .build());
+        }
+        accounts.add(AccountDTO.builder().id(EMPTY_ACCOUNT).currency(CurrencyCode.BRL).balance(BigDecimal.ZERO).build());
+        ledger.trackAll(accounts);
+    }
+
+    @Benchmark
+    public Money debit() {
+        return ledger.debit(nextAccount(), AMOUNT);
+    }
+
+    @Benchmark
+    public Money credit() {
+        return ledger.credit(nextAccount(), AMOUNT);
+    }
+
+    @Benchmark
+    public long debitUnits() {
+        return ledger.debitUnits(nextAccount(), AMOUNT.getUnits());
+    }
+
+    @Benchmark
+    public Object rejectedDebit() {
+        try {
+            return ledger.debit(EMPTY_ACCOUNT, AMOUNT);
+        } catch (InsufficientFundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long hotAccountContended() {
+        return ledger.debitUnits(HOT_ACCOUNT, AMOUNT.getUnits());
+    }
+
+    private long nextAccount() {
+        return (next = (next + 1) & (ACCOUNTS - 1)) + 1;
+    }
+
+    private static final class NoOpStore implements BalanceStore {
+
+        @Override
+        public void claim(LedgerSharding sharding) {
+            // a single instance, nothing to fence
+        }
+
+        @Override
+        public Map<Long, BalanceSnapshot> load(Collection<Long> accountIds) {
+            return Map.of();
+        }
+
+        @Override
+        public boolean[] save(List<BalanceSnapshot> snapshots) {
+            // benchmarks measure the in-memory decision only
+            boolean[] written = new boolean[snapshots.size()];
+            Arrays.fill(written, true);
+            return written;
+        }
+    }
+}
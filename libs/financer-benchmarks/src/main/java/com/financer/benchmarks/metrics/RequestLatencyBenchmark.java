@@ -0,0 +1,135 @@
+package com.financer.benchmarks.metrics;
+
+import com.financer.common.exception.GlobalExceptionHandler;
+import com.financer.common.metrics.LatencyHistogram;
+import com.financer.common.metrics.LatencyHistograms;
+import com.financer.common.metrics.RequestLatencyFilter;
+import com.financer.common.metrics.RouteTemplateInterceptor;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the latency histograms and the JFR request event:
+ * {@code filter} runs the real {@link RequestLatencyFilter} over a mock
+ * request, with {@link RouteTemplateInterceptor} as the chain, so it
+ * includes the {@code OncePerRequestFilter} bookkeeping, the attribute reads,
+ * both {@code nanoTime} calls, the histogram record and the
+ * {@code RequestEvent} begin/end. {@code filterWithJfr} is the same with a
+ * recording running (the event is below its 10ms threshold, so it is timed
+ * but not written) and {@code filterWithErrorCode} adds the error-code
+ * histogram of a request answered by {@code GlobalExceptionHandler}.
+ * <p>
+ * {@code record} isolates the HdrHistogram recorder. {@code clock} is one
+ * {@code nanoTime} call, the floor of any timing: ~20ns with a TSC clock
+ * source, two to three times that on some virtualized hosts, where two of
+ * them alone take most of a 100ns budget. {@code recordContended} records
+ * into one route from four threads (only meaningful with at least four
+ * cores).
+ * <p>
+ * On a 1-vCPU VM: {@code clock} 46ns, {@code record} 39ns, {@code filter}
+ * 227ns, {@code filterWithErrorCode} 269ns, {@code filterWithJfr} 319ns.
+ * The original 100ns target is not met; precomputing the filter's
+ * already-filtered attribute name took {@code filter} down from 294ns.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestLatencyBenchmark {
+
+    private static final String METHOD = "GET";
+    private static final String PATTERN = "/api/v1/accounts/{id}";
+
+    private LatencyHistograms histograms;
+    private LatencyHistogram route;
+    private RequestLatencyFilter filter;
+    private FilterChain chain;
+    private MockHttpServletRequest request;
+    private MockHttpServletRequest failedRequest;
+    private MockHttpServletResponse response;
+    private long micros;
+
+    @Setup
+    public void setUp() {
+        histograms = new LatencyHistograms(
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class), Duration.ofSeconds(30), 200);
+        route = histograms.forRoute(METHOD, PATTERN);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("latencyHistograms", histograms);
+        filter = new RequestLatencyFilter(beans.getBeanProvider(LatencyHistograms.class));
+        RouteTemplateInterceptor interceptor = new RouteTemplateInterceptor(histograms);
+        chain = (req, res) -> interceptor.preHandle((HttpServletRequest) req, (HttpServletResponse) res, this);
+        request = new MockHttpServletRequest(METHOD, "/api/v1/accounts/1204331");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+        failedRequest = new MockHttpServletRequest(METHOD, "/api/v1/accounts/1204331");
+        failedRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+        failedRequest.setAttribute(GlobalExceptionHandler.ERROR_CODE_ATTRIBUTE, "RESOURCE_NOT_FOUND");
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown
+    public void tearDown() {
+        histograms.destroy();
+    }
+
+    @Benchmark
+    public long clock() {
+        return System.nanoTime();
+    }
+
+    @Benchmark
+    public void record() {
+        route.record(++micros & 0x3FFF);
+    }
+
+    @Benchmark
+    public void filter() throws ServletException, IOException {
+        filter.doFilter(request, response, chain);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:StartFlightRecording")
+    public void filterWithJfr() throws ServletException, IOException {
+        filter.doFilter(request, response, chain);
+    }
+
+    @Benchmark
+    public void filterWithErrorCode() throws ServletException, IOException {
+        filter.doFilter(failedRequest, response, chain);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        record();
+    }
+}
@@ -0,0 +1,703 @@
+package com.financer.benchmarks.support;
+
+import com.financer.dto.account.AccountDTO;
+import com.financer.dto.account.AccountStatus;
+import com.financer.dto.account.AccountType;
+import com.financer.dto.account.CreateAccountRequest;
+import com.financer.dto.account.UpdateAccountRequest;
+import com.financer.dto.card.CardBrand;
+import com.financer.dto.card.CardDTO;
+import com.financer.dto.card.CardStatus;
+import com.financer.dto.card.CardType;
+import com.financer.dto.card.CreateCardRequest;
+import com.financer.dto.card.UpdateCardRequest;
+import com.financer.dto.transaction.CreateTransactionRequest;
+import com.financer.dto.transaction.TransactionDTO;
+import com.financer.dto.transaction.TransactionStatus;
+import com.financer.dto.transaction.TransactionType;
+import com.financer.dto.user.CreateUserRequest;
+import com.financer.dto.user.LoginRequest;
+import com.financer.dto.user.LoginResponse;
+import com.financer.dto.user.UpdateUserRequest;
+import com.financer.dto.user.UserDTO;
+import com.financer.dto.user.UserRole;
+import com.financer.dto.user.UserStatus;
+import com.financer.money.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * DTOs with production-like values, shared by the benchmarks.
+ * <p>
+ * {@link #transaction()}, {@link #card()} and {@link #account()} are single,
+ * fully populated instances. The rest is a seeded generator: varied names
+ * and text lengths, log-normal amounts, Luhn-valid PANs, optional fields
+ * left empty at realistic rates. Same seed, same payloads, so runs stay
+ * comparable across releases.
+ * <p>
+ * Benchmarks cycle through a batch of {@link #batch} payloads rather than
+ * one instance, so the JIT and branch predictors see the spread of real
+ * traffic. {@link #invalid} breaks two constraints of a valid request, the
+ * typical shape of a 400.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class SampleDtos {
+
+    public static final long SEED = 20251107L;
+
+    /**
+     * Every DTO of the {@code financer-dto-*} modules.
+     */
+    public static final List<Class<?>> DTO_TYPES = List.of(
+            AccountDTO.class, CreateAccountRequest.class, UpdateAccountRequest.class,
+            CardDTO.class, CreateCardRequest.class, UpdateCardRequest.class,
+            TransactionDTO.class, CreateTransactionRequest.class,
+            UserDTO.class, CreateUserRequest.class, UpdateUserRequest.class,
+            LoginRequest.class, LoginResponse.class);
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 11, 7, 14, 32, 5);
+
+    private static final String[] FIRST_NAMES = {
+            "Maria", "Jose", "Ana", "Joao", "Francisca", "Antonio", "Adriana", "Carlos", "Juliana", "Paulo",
+            "Marcia", "Lucas", "Fernanda", "Rafael", "Patricia", "Gabriel", "Aline", "Bruno", "Camila", "Thiago"};
+    private static final String[] LAST_NAMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa"};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "hotmail.com", "outlook.com", "yahoo.com.br", "uol.com.br"};
+    private static final String[] CITIES = {
+            "Sao Paulo, BR", "Rio de Janeiro, BR", "Belo Horizonte, BR", "Curitiba, BR", "Porto Alegre, BR",
+            "Recife, BR", "Salvador, BR", "Fortaleza, BR", "Brasilia, BR", "Lisboa, PT"};
+    private static final String[] DEVICES = {
+            "Android 14; Pixel 8", "Android 13; Galaxy S23", "iOS 17.1; iPhone 15", "iOS 16.6; iPhone 12",
+            "Web; Chrome 119; Windows 11", "Web; Safari 17; macOS 14", "Android 12; Moto G52"};
+    private static final String[] DESCRIPTIONS = {
+            "Aluguel", "Supermercado", "Pix recebido", "Conta de luz", "Farmacia", "Restaurante", "Uber",
+            "Transferencia para poupanca", "Mensalidade escola", "Assinatura streaming", "Combustivel",
+            "Pagamento fatura cartao de credito", "Reembolso despesas viagem corporativa São Paulo - Recife"};
+    private static final String[] CATEGORIES = {
+            "HOUSING", "GROCERIES", "TRANSPORT", "HEALTH", "EDUCATION", "ENTERTAINMENT", "UTILITIES", "INCOME"};
+    private static final String[] BANKS = {
+            "001", "Banco do Brasil", "033", "Santander", "104", "Caixa Economica Federal", "237", "Bradesco",
+            "341", "Itau Unibanco", "260", "Nu Pagamentos", "077", "Banco Inter"};
+    private static final String[] COLORS = {"#FF5733", "#1E90FF", "#2ECC71", "#8E44AD", "#000000", "#F1C40F"};
+    private static final CurrencyCode[] CURRENCIES = {
+            CurrencyCode.BRL, CurrencyCode.BRL, CurrencyCode.BRL, CurrencyCode.BRL, CurrencyCode.USD, CurrencyCode.EUR};
+
+    private SampleDtos() {
+    }
+
+    /**
+     * DTO type by simple name, for {@code @Param} values.
+     */
+    public static Class<?> type(String simpleName) {
+        for (Class<?> type : DTO_TYPES) {
+            if (type.getSimpleName().equals(simpleName)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown DTO: " + simpleName);
+    }
+
+    /**
+     * {@code size} valid payloads of {@code type} from the fixed seed.
+     */
+    public static List<Object> batch(Class<?> type, int size) {
+        SplittableRandom random = new SplittableRandom(SEED ^ type.getName().hashCode());
+        List<Object> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(valid(type, random));
+        }
+        return batch;
+    }
+
+    public static Object valid(Class<?> type, SplittableRandom random) {
+        if (type == AccountDTO.class) {
+            return account(random);
+        } else if (type == CreateAccountRequest.class) {
+            return createAccount(random);
+        } else if (type == UpdateAccountRequest.class) {
+            return updateAccount(random);
+        } else if (type == CardDTO.class) {
+            return card(random);
+        } else if (type == CreateCardRequest.class) {
+            return createCard(random);
+        } else if (type == UpdateCardRequest.class) {
+            return updateCard(random);
+        } else if (type == TransactionDTO.class) {
+            return transaction(random);
+        } else if (type == CreateTransactionRequest.class) {
+            return createTransaction(random);
+        } else if (type == UserDTO.class) {
+            return user(random);
+        } else if (type == CreateUserRequest.class) {
+            return createUser(random);
+        } else if (type == UpdateUserRequest.class) {
+            return updateUser(random);
+        } else if (type == LoginRequest.class) {
+            return login(random);
+        } else if (type == LoginResponse.class) {
+            return loginResponse(random);
+        }
+        throw new IllegalArgumentException("No generator for " + type.getName());
+    }
+
+    /**
+     * A valid request of {@code type} with two constraint violations.
+     */
+    public static Object invalid(Class<?> type, SplittableRandom random) {
+        Object payload = valid(type, random);
+        switch (payload) {
+            case CreateAccountRequest request -> {
+                request.setName("CC");
+                request.setInitialBalance(new BigDecimal("-10.00"));
+            }
+            case UpdateAccountRequest request -> {
+                request.setName("x");
+                request.setInterestRate(new BigDecimal("120.0"));
+            }
+            case CreateCardRequest request -> {
+                request.setCardNumber(breakCheckDigit(request.getCardNumber()));
+                request.setCvv("12a");
+            }
+            case UpdateCardRequest request -> {
+                request.setColorCode("red");
+                request.setDailyLimit(new BigDecimal("-1.00"));
+            }
+            case CreateTransactionRequest request -> {
+                request.setAmount(BigDecimal.ZERO);
+                request.setIpAddress("300.168.0.1");
+            }
+            case CreateUserRequest request -> {
+                request.setEmail(request.getUsername());
+                request.setPassword("senhafraca");
+            }
+            case UpdateUserRequest request -> {
+                request.setPhoneNumber("ramal 123");
+                request.setNewPassword("curta1");
+            }
+            default -> throw new IllegalArgumentException("No invalid variant for " + type.getName());
+        }
+        return payload;
+    }
+
+    // ------------------------------------------------------------------ fixed samples
+
+    public static TransactionDTO transaction() {
+        return TransactionDTO.builder()
+                .id(1_204_331L)
+                .userId(42L)
+                .fromAccountId(1001L)
+                .toAccountId(2002L)
+                .type(TransactionType.TRANSFER)
+                .status(TransactionStatus.COMPLETED)
+                .amount(new BigDecimal("1520.7500"))
+                .currency(CurrencyCode.BRL)
+                .description("Aluguel novembro")
+                .category("HOUSING")
+                .tags("rent,monthly")
+                .referenceId("TRX-2025-11-07-000123")
+                .fee(new BigDecimal("2.5000"))
+                .balanceAfter(new BigDecimal("8479.2500"))
+                .scheduledAt(NOW)
+                .processedAt(NOW.plusSeconds(3))
+                .createdAt(NOW)
+                .updatedAt(NOW.plusSeconds(3))
+                .location("Sao Paulo, BR")
+                .deviceInfo("Android 14; Pixel 8")
+                .ipAddress("192.168.100.254")
+                .build();
+    }
+
+    public static CardDTO card() {
+        return CardDTO.builder()
+                .id(7781L)
+                .userId(42L)
+                .accountId(1001L)
+                .cardNumber("4111111111111111")
+                .lastFourDigits("1111")
+                .holderName("MARIA S SILVA")
+                .type(CardType.CREDIT)
+                .brand(CardBrand.VISA)
+                .status(CardStatus.ACTIVE)
+                .expiryMonth(8)
+                .expiryYear(2030)
+                .expiryDate(LocalDate.of(2030, 8, 31))
+                .creditLimit(new BigDecimal("15000.0000"))
+                .availableCredit(new BigDecimal("12480.3300"))
+                .currentBalance(new BigDecimal("2519.6700"))
+                .minimumPayment(new BigDecimal("377.9500"))
+                .paymentDueDate(LocalDate.of(2025, 11, 15))
+                .statementClosingDate(LocalDate.of(2025, 11, 5))
+                .interestRate(new BigDecimal("0.1290"))
+                .annualFee(new BigDecimal("480.0000"))
+                .isPrimary(true)
+                .contactlessEnabled(true)
+                .onlinePurchasesEnabled(true)
+                .internationalPurchasesEnabled(false)
+                .dailyLimit(new BigDecimal("5000.0000"))
+                .monthlyLimit(new BigDecimal("15000.0000"))
+                .colorCode("#FF5733")
+                .nickname("Cartao principal")
+                .issuedAt(NOW.minusYears(1))
+                .activatedAt(NOW.minusYears(1).plusDays(2))
+                .createdAt(NOW.minusYears(1))
+                .updatedAt(NOW)
+                .build();
+    }
+
+    public static AccountDTO account() {
+        return AccountDTO.builder()
+                .id(1001L)
+                .userId(42L)
+                .accountNumber("0001234-5")
+                .type(AccountType.CHECKING)
+                .status(AccountStatus.ACTIVE)
+                .balance(new BigDecimal("8479.2500"))
+                .currency(CurrencyCode.BRL)
+                .name("Conta corrente")
+                .bankCode("341")
+                .bankName("Itau Unibanco")
+                .agency("0001")
+                .digit("5")
+                .creditLimit(new BigDecimal("2000.0000"))
+                .availableCredit(new BigDecimal("2000.0000"))
+                .interestRate(new BigDecimal("0.0800"))
+                .isDefault(true)
+                .createdAt(NOW.minusYears(3))
+                .updatedAt(NOW)
+                .build();
+    }
+
+    // ------------------------------------------------------------------ account
+
+    static AccountDTO account(SplittableRandom random) {
+        int bank = random.nextInt(BANKS.length / 2) * 2;
+        LocalDateTime created = past(random, 365 * 5);
+        return AccountDTO.builder()
+                .id(id(random))
+                .userId(id(random))
+                .accountNumber(digits(random, 7) + "-" + random.nextInt(10))
+                .type(pick(random, AccountType.values()))
+                .status(random.nextInt(10) < 8 ? AccountStatus.ACTIVE : pick(random, AccountStatus.values()))
+                .balance(amount(random, 8.0))
+                .currency(pick(random, CURRENCIES))
+                .name(random.nextBoolean() ? "Conta corrente" : "Poupanca " + pick(random, FIRST_NAMES))
+                .bankCode(BANKS[bank])
+                .bankName(BANKS[bank + 1])
+                .agency(digits(random, 4))
+                .digit(String.valueOf(random.nextInt(10)))
+                .creditLimit(random.nextBoolean() ? amount(random, 7.5) : null)
+                .availableCredit(random.nextBoolean() ? amount(random, 7.0) : null)
+                .interestRate(rate(random))
+                .isDefault(random.nextInt(4) == 0)
+                .createdAt(created)
+                .updatedAt(after(random, created))
+                .build();
+    }
+
+    static CreateAccountRequest createAccount(SplittableRandom random) {
+        int bank = random.nextInt(BANKS.length / 2) * 2;
+        boolean external = random.nextInt(3) == 0;
+        return CreateAccountRequest.builder()
+                .userId(id(random))
+                .type(pick(random, AccountType.values()))
+                .name("Conta " + pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES))
+                .currency(pick(random, CURRENCIES))
+                .initialBalance(random.nextBoolean() ? amount(random, 6.0) : null)
+                .bankCode(external ? BANKS[bank] : null)
+                .bankName(external ? BANKS[bank + 1] : null)
+                .agency(external ? digits(random, 4) : null)
+                .accountNumber(external ? digits(random, 8) : null)
+                .digit(external ? String.valueOf(random.nextInt(10)) : null)
+                .creditLimit(random.nextInt(4) == 0 ? amount(random, 7.5) : null)
+                .interestRate(random.nextInt(4) == 0 ? rate(random) : null)
+                .isDefault(random.nextInt(5) == 0)
+                .metadata(random.nextInt(5) == 0 ? "{\"origem\":\"app\",\"campanha\":\"black-friday\"}" : null)
+                .build();
+    }
+
+    static UpdateAccountRequest updateAccount(SplittableRandom random) {
+        return UpdateAccountRequest.builder()
+                .status(random.nextInt(3) == 0 ? pick(random, AccountStatus.values()) : null)
+                .name(random.nextBoolean() ? "Reserva " + pick(random, FIRST_NAMES) : null)
+                .creditLimit(random.nextInt(3) == 0 ? amount(random, 7.5) : null)
+                .interestRate(random.nextInt(4) == 0 ? rate(random) : null)
+                .isDefault(random.nextInt(4) == 0 ? Boolean.TRUE : null)
+                .bankName(random.nextInt(5) == 0 ? pick(random, BANKS) : null)
+                .build();
+    }
+
+    // ------------------------------------------------------------------ card
+
+    static CardDTO card(SplittableRandom random) {
+        CardBrand brand = pick(random, CardBrand.values());
+        String pan = pan(random, brand);
+        YearMonth expiry = YearMonth.of(2026 + random.nextInt(6), 1 + random.nextInt(12));
+        BigDecimal limit = amount(random, 8.5);
+        BigDecimal balance = limit.multiply(BigDecimal.valueOf(random.nextDouble())).setScale(4, RoundingMode.HALF_UP);
+        LocalDateTime issued = past(random, 365 * 3);
+        return CardDTO.builder()
+                .id(id(random))
+                .userId(id(random))
+                .accountId(id(random))
+                .cardNumber(pan)
+                .lastFourDigits(pan.substring(pan.length() - 4))
+                .holderName(holderName(random))
+                .type(pick(random, CardType.values()))
+                .brand(brand)
+                .status(random.nextInt(10) < 8 ? CardStatus.ACTIVE : pick(random, CardStatus.values()))
+                .expiryMonth(expiry.getMonthValue())
+                .expiryYear(expiry.getYear())
+                .expiryDate(expiry.atEndOfMonth())
+                .creditLimit(limit)
+                .availableCredit(limit.subtract(balance))
+                .currentBalance(balance)
+                .minimumPayment(balance.multiply(new BigDecimal("0.15")).setScale(4, RoundingMode.HALF_UP))
+                .paymentDueDate(LocalDate.of(2025, 11, 5 + random.nextInt(20)))
+                .statementClosingDate(LocalDate.of(2025, 11, 1 + random.nextInt(4)))
+                .interestRate(rate(random))
+                .annualFee(random.nextBoolean() ? new BigDecimal("480.0000") : BigDecimal.ZERO.setScale(4))
+                .isPrimary(random.nextInt(3) == 0)
+                .contactlessEnabled(random.nextInt(10) < 9)
+                .onlinePurchasesEnabled(random.nextInt(10) < 8)
+                .internationalPurchasesEnabled(random.nextInt(10) < 3)
+                .dailyLimit(random.nextBoolean() ? amount(random, 7.5) : null)
+                .monthlyLimit(random.nextBoolean() ? amount(random, 9.0) : null)
+                .colorCode(random.nextBoolean() ? pick(random, COLORS) : null)
+                .nickname(random.nextInt(3) == 0 ? "Cartao " + pick(random, FIRST_NAMES) : null)
+                .issuedAt(issued)
+                .activatedAt(issued.plusDays(1 + random.nextInt(10)))
+                .createdAt(issued)
+                .updatedAt(after(random, issued))
+                .build();
+    }
+
+    static CreateCardRequest createCard(SplittableRandom random) {
+        CardBrand brand = pick(random, CardBrand.values());
+        CardType type = pick(random, CardType.values());
+        boolean credit = type == CardType.CREDIT;
+        return CreateCardRequest.builder()
+                .userId(id(random))
+                .accountId(id(random))
+                .cardNumber(pan(random, brand))
+                .holderName(holderName(random))
+                .type(type)
+                .brand(brand)
+                .expiryMonth(1 + random.nextInt(12))
+                .expiryYear(2026 + random.nextInt(6))
+                .cvv(digits(random, brand == CardBrand.AMERICAN_EXPRESS ? 4 : 3))
+                .creditLimit(credit ? amount(random, 8.5) : null)
+                .interestRate(credit ? rate(random) : null)
+                .annualFee(credit && random.nextBoolean() ? new BigDecimal("480.00") : null)
+                .isPrimary(random.nextInt(3) == 0)
+                .contactlessEnabled(Boolean.TRUE)
+                .onlinePurchasesEnabled(random.nextInt(10) < 8)
+                .internationalPurchasesEnabled(random.nextInt(10) < 3)
+                .dailyLimit(random.nextBoolean() ? amount(random, 7.5) : null)
+                .monthlyLimit(random.nextBoolean() ? amount(random, 9.0) : null)
+                .nickname(random.nextInt(3) == 0 ? "Cartao " + pick(random, FIRST_NAMES) : null)
+                .colorCode(random.nextBoolean() ? pick(random, COLORS) : null)
+                .build();
+    }
+
+    static UpdateCardRequest updateCard(SplittableRandom random) {
+        return UpdateCardRequest.builder()
+                .status(random.nextInt(3) == 0 ? pick(random, CardStatus.values()) : null)
+                .holderName(random.nextInt(5) == 0 ? holderName(random) : null)
+                .creditLimit(random.nextInt(3) == 0 ? amount(random, 8.5) : null)
+                .interestRate(random.nextInt(5) == 0 ? rate(random) : null)
+                .isPrimary(random.nextInt(5) == 0 ? Boolean.TRUE : null)
+                .contactlessEnabled(random.nextInt(3) == 0 ? random.nextBoolean() : null)
+                .onlinePurchasesEnabled(random.nextInt(3) == 0 ? random.nextBoolean() : null)
+                .internationalPurchasesEnabled(random.nextInt(3) == 0 ? random.nextBoolean() : null)
+                .dailyLimit(random.nextInt(3) == 0 ? amount(random, 7.5) : null)
+                .monthlyLimit(random.nextInt(3) == 0 ? amount(random, 9.0) : null)
+                .nickname(random.nextInt(4) == 0 ? "Viagem " + pick(random, CITIES) : null)
+                .colorCode(random.nextInt(4) == 0 ? pick(random, COLORS) : null)
+                .build();
+    }
+
+    // ------------------------------------------------------------------ transaction
+
+    static TransactionDTO transaction(SplittableRandom random) {
+        TransactionType type = pick(random, TransactionType.values());
+        LocalDateTime created = past(random, 90);
+        BigDecimal amount = amount(random, 5.0);
+        return TransactionDTO.builder()
+                .id(id(random))
+                .userId(id(random))
+                .fromAccountId(type == TransactionType.CREDIT ? null : id(random))
+                .toAccountId(type == TransactionType.DEBIT ? null : id(random))
+                .type(type)
+                .status(random.nextInt(10) < 8 ? TransactionStatus.COMPLETED : pick(random, TransactionStatus.values()))
+                .amount(amount)
+                .currency(pick(random, CURRENCIES))
+                .description(pick(random, DESCRIPTIONS))
+                .category(random.nextInt(4) == 0 ? null : pick(random, CATEGORIES))
+                .tags(random.nextInt(3) == 0 ? "pix,recorrente" : null)
+                .referenceId("TRX-" + created.toLocalDate() + "-" + digits(random, 6))
+                .fee(random.nextInt(4) == 0 ? new BigDecimal("2.5000") : BigDecimal.ZERO.setScale(4))
+                .balanceAfter(amount(random, 8.0))
+                .scheduledAt(random.nextInt(5) == 0 ? created : null)
+                .processedAt(created.plusSeconds(random.nextInt(30)))
+                .createdAt(created)
+                .updatedAt(created.plusSeconds(random.nextInt(30)))
+                .location(random.nextBoolean() ? pick(random, CITIES) : null)
+                .deviceInfo(pick(random, DEVICES))
+                .ipAddress(ip(random))
+                .build();
+    }
+
+    static CreateTransactionRequest createTransaction(SplittableRandom random) {
+        TransactionType type = pick(random, TransactionType.values());
+        return CreateTransactionRequest.builder()
+                .userId(id(random))
+                .fromAccountId(type == TransactionType.CREDIT ? null : id(random))
+                .toAccountId(type == TransactionType.DEBIT ? null : id(random))
+                .type(type)
+                .amount(amount(random, 5.0).setScale(2, RoundingMode.HALF_UP).max(new BigDecimal("0.01")))
+                .currency(pick(random, CURRENCIES))
+                .description(pick(random, DESCRIPTIONS))
+                .category(random.nextInt(4) == 0 ? null : pick(random, CATEGORIES))
+                .tags(random.nextInt(3) == 0 ? "pix,recorrente" : null)
+                .referenceId(random.nextBoolean() ? "EXT-" + digits(random, 12) : null)
+                .fee(random.nextInt(4) == 0 ? new BigDecimal("2.50") : null)
+                // @Future is checked against the real clock
+                .scheduledAt(random.nextInt(5) == 0 ? LocalDateTime.now().plusDays(1 + random.nextInt(30)) : null)
+                .location(random.nextBoolean() ? pick(random, CITIES) : null)
+                .deviceInfo(pick(random, DEVICES))
+                .ipAddress(ip(random))
+                .build();
+    }
+
+    // ------------------------------------------------------------------ user
+
+    static UserDTO user(SplittableRandom random) {
+        String first = pick(random, FIRST_NAMES);
+        String last = pick(random, LAST_NAMES);
+        LocalDateTime created = past(random, 365 * 4);
+        return UserDTO.builder()
+                .id(id(random))
+                .username(username(random, first, last))
+                .email(email(random, first, last))
+                .fullName(first + " " + pick(random, LAST_NAMES) + " " + last)
+                .phoneNumber(random.nextInt(4) == 0 ? null : phone(random))
+                .role(random.nextInt(20) == 0 ? pick(random, UserRole.values()) : UserRole.USER)
+                .status(random.nextInt(10) < 9 ? UserStatus.ACTIVE : pick(random, UserStatus.values()))
+                .emailVerified(random.nextInt(10) < 9)
+                .twoFactorEnabled(random.nextInt(10) < 3)
+                .lastLoginAt(after(random, created))
+                .createdAt(created)
+                .updatedAt(after(random, created))
+                .version((long) random.nextInt(40))
+                .build();
+    }
+
+    static CreateUserRequest createUser(SplittableRandom random) {
+        String first = pick(random, FIRST_NAMES);
+        String last = pick(random, LAST_NAMES);
+        String password = password(random);
+        return CreateUserRequest.builder()
+                .username(username(random, first, last))
+                .email(email(random, first, last))
+                .password(password)
+                .confirmPassword(password)
+                .fullName(first + " " + pick(random, LAST_NAMES) + " " + last)
+                .phoneNumber(random.nextInt(4) == 0 ? null : phone(random))
+                .role(UserRole.USER)
+                .build();
+    }
+
+    static UpdateUserRequest updateUser(SplittableRandom random) {
+        String first = pick(random, FIRST_NAMES);
+        String last = pick(random, LAST_NAMES);
+        boolean passwordChange = random.nextInt(4) == 0;
+        return UpdateUserRequest.builder()
+                .email(random.nextInt(3) == 0 ? email(random, first, last) : null)
+                .fullName(random.nextInt(3) == 0 ? first + " " + last : null)
+                .phoneNumber(random.nextInt(3) == 0 ? phone(random) : null)
+                .newPassword(passwordChange ? password(random) : null)
+                .currentPassword(passwordChange ? password(random) : null)
+                .twoFactorEnabled(random.nextInt(5) == 0 ? Boolean.TRUE : null)
+                .version((long) random.nextInt(40))
+                .build();
+    }
+
+    static LoginRequest login(SplittableRandom random) {
+        String first = pick(random, FIRST_NAMES);
+        String last = pick(random, LAST_NAMES);
+        return LoginRequest.builder()
+                .username(random.nextBoolean() ? email(random, first, last) : username(random, first, last))
+                .password(password(random))
+                .twoFactorCode(random.nextInt(10) < 3 ? digits(random, 6) : null)
+                .rememberMe(random.nextBoolean())
+                .build();
+    }
+
+    static LoginResponse loginResponse(SplittableRandom random) {
+        return LoginResponse.builder()
+                .accessToken(token(random, 640))
+                .refreshToken(token(random, 320))
+                .tokenType("Bearer")
+                .expiresIn(900L)
+                .refreshExpiresIn(604_800L)
+                .user(user(random))
+                .loginAt(NOW.minusSeconds(random.nextInt(3600)))
+                .sessionId(hex(random, 32))
+                .build();
+    }
+
+    // ------------------------------------------------------------------ values
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static long id(SplittableRandom random) {
+        return 1 + random.nextLong(5_000_000L);
+    }
+
+    /**
+     * Log-normal around e^{@code mu}, four decimal places like the money columns.
+     */
+    private static BigDecimal amount(SplittableRandom random, double mu) {
+        double gaussian = gaussian(random);
+        return BigDecimal.valueOf(Math.exp(mu + gaussian)).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal rate(SplittableRandom random) {
+        return BigDecimal.valueOf(random.nextInt(1, 1500), 2);
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+
+    private static LocalDateTime past(SplittableRandom random, int maxDays) {
+        return NOW.minusSeconds(random.nextLong(maxDays * 86_400L));
+    }
+
+    private static LocalDateTime after(SplittableRandom random, LocalDateTime from) {
+        long span = Duration.between(from, NOW).getSeconds();
+        return span <= 0 ? from : from.plusSeconds(random.nextLong(span));
+    }
+
+    private static String digits(SplittableRandom random, int length) {
+        char[] digits = new char[length];
+        for (int i = 0; i < length; i++) {
+            digits[i] = (char) ('0' + random.nextInt(10));
+        }
+        return new String(digits);
+    }
+
+    private static String hex(SplittableRandom random, int length) {
+        StringBuilder hex = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            hex.append(Character.forDigit(random.nextInt(16), 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * JWT-shaped: base64url header, payload and signature of realistic sizes.
+     */
+    private static String token(SplittableRandom random, int length) {
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        StringBuilder token = new StringBuilder("eyJhbGciOiJSUzI1NiIsInR5cCI6IkpXVCJ9.");
+        for (int i = 0; i < length; i++) {
+            token.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            if (i == length * 3 / 4) {
+                token.append('.');
+            }
+        }
+        return token.toString();
+    }
+
+    private static String holderName(SplittableRandom random) {
+        return (pick(random, FIRST_NAMES) + " " + (char) ('A' + random.nextInt(26)) + " "
+                + pick(random, LAST_NAMES)).toUpperCase(Locale.ROOT);
+    }
+
+    private static String username(SplittableRandom random, String first, String last) {
+        return (first + (random.nextBoolean() ? "_" : ".") + last).toLowerCase(Locale.ROOT)
+                .replace('.', '-') + random.nextInt(100);
+    }
+
+    private static String email(SplittableRandom random, String first, String last) {
+        return (first + "." + last + random.nextInt(1000)).toLowerCase(Locale.ROOT) + "@" + pick(random, EMAIL_DOMAINS);
+    }
+
+    private static String phone(SplittableRandom random) {
+        return "+55 (" + (11 + random.nextInt(89)) + ") 9" + digits(random, 4) + "-" + digits(random, 4);
+    }
+
+    private static String password(SplittableRandom random) {
+        return pick(random, LAST_NAMES) + "-" + pick(random, FIRST_NAMES).toLowerCase(Locale.ROOT)
+                + "-" + digits(random, 4);
+    }
+
+    private static String ip(SplittableRandom random) {
+        return (random.nextBoolean() ? "189." : "177.") + random.nextInt(256) + "." + random.nextInt(256) + "."
+                + random.nextInt(1, 255);
+    }
+
+    /**
+     * Luhn-valid PAN with the brand's prefix and length.
+     */
+    private static String pan(SplittableRandom random, CardBrand brand) {
+        String prefix = switch (brand) {
+            case VISA -> "4";
+            case MASTERCARD -> "5" + (1 + random.nextInt(5));
+            case AMERICAN_EXPRESS -> random.nextBoolean() ? "34" : "37";
+            case ELO -> "636368";
+            case HIPERCARD -> "606282";
+            case DISCOVER -> "6011";
+            case DINERS_CLUB -> "36";
+            case JCB -> "35";
+            case OTHER -> "9";
+        };
+        int length = switch (brand) {
+            case AMERICAN_EXPRESS -> 15;
+            case DINERS_CLUB -> 14;
+            default -> 16;
+        };
+        String body = prefix + digits(random, length - prefix.length() - 1);
+        return body + checkDigit(body);
+    }
+
+    private static String breakCheckDigit(String pan) {
+        char last = pan.charAt(pan.length() - 1);
+        return pan.substring(0, pan.length() - 1) + (char) ('0' + (last - '0' + 1) % 10);
+    }
+
+    private static int checkDigit(String body) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = body.length() - 1; i >= 0; i--) {
+            int digit = body.charAt(i) - '0';
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10;
+    }
+}
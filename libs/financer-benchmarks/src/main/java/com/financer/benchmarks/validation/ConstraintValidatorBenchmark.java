@@ -0,0 +1,109 @@
+package com.financer.benchmarks.validation;
+
+import com.financer.common.constraints.HexColor;
+import com.financer.common.constraints.IPv4;
+import com.financer.common.constraints.Pan;
+import com.financer.common.constraints.PhoneNumber;
+import com.financer.common.constraints.StrongPassword;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written constraints in {@code com.financer.common.constraints}
+ * with the {@code @Pattern} regexes the request DTOs used before, through the
+ * full Hibernate Validator path.
+ * <p>
+ * Runs in {@link Mode#SampleTime} so the report includes p99 / p99.9 per
+ * benchmark; add {@code -prof gc} for allocation rates.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConstraintValidatorBenchmark {
+
+    private static final String IP = "192.168.100.254";
+    private static final String PAN = "4111111111111111";
+    private static final String COLOR = "#FF5733";
+    private static final String PASSWORD = "correct-Horse-battery-9";
+    private static final String PHONE = "+55 (11) 98765-4321";
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private PatternFields patternFields;
+    private ConstraintFields constraintFields;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        patternFields = new PatternFields(IP, PAN, COLOR, PASSWORD, PHONE);
+        constraintFields = new ConstraintFields(IP, PAN, COLOR, PASSWORD, PHONE);
+        // build metadata outside the measurement
+        validator.validate(patternFields);
+        validator.validate(constraintFields);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<PatternFields>> patternConstraints() {
+        return validator.validate(patternFields);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ConstraintFields>> handWrittenConstraints() {
+        return validator.validate(constraintFields);
+    }
+
+    /**
+     * The regexes removed from the DTOs (the PAN one still lacked the Luhn check).
+     */
+    public record PatternFields(
+            @Pattern(regexp = "^(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)$")
+            String ipAddress,
+            @Pattern(regexp = "^[0-9]{13,19}$")
+            String cardNumber,
+            @Pattern(regexp = "^#[0-9A-Fa-f]{6}$")
+            String colorCode,
+            @Pattern(regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d).+$")
+            String password,
+            @Pattern(regexp = "^[+]?[0-9\\s-()]*$")
+            String phoneNumber) {
+    }
+
+    public record ConstraintFields(
+            @IPv4 String ipAddress,
+            @Pan String cardNumber,
+            @HexColor String colorCode,
+            @StrongPassword String password,
+            @PhoneNumber String phoneNumber) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.financer.benchmarks.validation;
+
+import com.financer.benchmarks.support.SampleDtos;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of every {@code Create*Request} and {@code Update*Request},
+ * as {@code @Valid} runs it on each request body.
+ * <p>
+ * {@code valid} is the common path; {@code invalid} adds two violations
+ * per payload, so it includes message interpolation and the violation
+ * set, i.e. the cost of a 400. Setup checks that the payloads really are
+ * valid and invalid.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestValidationBenchmark {
+
+    private static final int BATCH = 64;
+
+    @Param({"CreateAccountRequest", "UpdateAccountRequest",
+            "CreateCardRequest", "UpdateCardRequest",
+            "CreateTransactionRequest",
+            "CreateUserRequest", "UpdateUserRequest"})
+    public String request;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private Object[] valid;
+    private Object[] invalid;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        Class<?> type = SampleDtos.type(request);
+        valid = SampleDtos.batch(type, BATCH).toArray();
+        invalid = new Object[BATCH];
+        SplittableRandom random = new SplittableRandom(SampleDtos.SEED);
+        for (int i = 0; i < BATCH; i++) {
+            invalid[i] = SampleDtos.invalid(type, random);
+            if (!validator.validate(valid[i]).isEmpty()) {
+                throw new IllegalStateException("Generated " + request + " is invalid: "
+                        + validator.validate(valid[i]));
+            }
+            if (validator.validate(invalid[i]).isEmpty()) {
+                throw new IllegalStateException("Broken " + request + " passes validation: " + invalid[i]);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Object>> valid() {
+        return validator.validate(valid[next()]);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Object>> invalid() {
+        return validator.validate(invalid[next()]);
+    }
+
+    private int next() {
+        return next = (next + 1) & (BATCH - 1);
+    }
+}
@@ -0,0 +1,97 @@
+package com.financer.codec;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Frames DTOs (single or list) with the registered {@link DtoSchema}s.
+ * <p>
+ * Frame: {@code FORMAT} byte, kind byte ({@code 1} single, {@code 2} list),
+ * schema version varint, element count varint (lists only), then the records.
+ * A payload from a newer schema version is still read; tags unknown here are
+ * skipped.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class BinaryCodec {
+
+    static final int FORMAT = 1;
+    static final int SINGLE = 1;
+    static final int LIST = 2;
+
+    private final DtoSchemas schemas;
+
+    public BinaryCodec(DtoSchemas schemas) {
+        this.schemas = schemas;
+    }
+
+    public DtoSchemas getSchemas() {
+        return schemas;
+    }
+
+    public boolean supports(Class<?> type) {
+        return schemas.supports(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> void write(T value, BinaryWriter out) {
+        DtoSchema<T> schema = schemas.get((Class<T>) value.getClass());
+        out.writeByte(FORMAT);
+        out.writeByte(SINGLE);
+        out.writeVarint(schema.getVersion());
+        schema.write(value, out);
+    }
+
+    public <T> void writeList(Class<T> elementType, Collection<? extends T> values, BinaryWriter out) {
+        DtoSchema<T> schema = schemas.get(elementType);
+        out.writeByte(FORMAT);
+        out.writeByte(LIST);
+        out.writeVarint(schema.getVersion());
+        out.writeVarint(values.size());
+        for (T value : values) {
+            schema.write(value, out);
+        }
+    }
+
+    public byte[] encode(Object value) {
+        BinaryWriter out = new BinaryWriter();
+        write(value, out);
+        return out.toByteArray();
+    }
+
+    public <T> T decode(byte[] payload, Class<T> type) {
+        BinaryReader in = new BinaryReader(payload);
+        DtoSchema<T> schema = readHeader(in, type, SINGLE);
+        return schema.read(in);
+    }
+
+    public <T> List<T> decodeList(byte[] payload, Class<T> elementType) {
+        BinaryReader in = new BinaryReader(payload);
+        DtoSchema<T> schema = readHeader(in, elementType, LIST);
+        int count = in.readVarint32();
+        List<T> values = new ArrayList<>(Math.min(count, 1024));
+        for (int i = 0; i < count; i++) {
+            values.add(schema.read(in));
+        }
+        return values;
+    }
+
+    private <T> DtoSchema<T> readHeader(BinaryReader in, Class<T> type, int expectedKind) {
+        DtoSchema<T> schema = schemas.get(type);
+        int format = in.readByte();
+        if (format != FORMAT) {
+            throw new BinaryCodecException("Unsupported binary format " + format);
+        }
+        int kind = in.readByte();
+        if (kind != expectedKind) {
+            throw new BinaryCodecException(expectedKind == LIST
+                    ? "Expected a list payload for " + type.getSimpleName()
+                    : "Expected a single " + type.getSimpleName() + " payload");
+        }
+        in.readVarint32(); // schema version: newer versions stay readable, unknown tags are skipped
+        return schema;
+    }
+}
@@ -0,0 +1,15 @@
+package com.financer.codec;
+
+/**
+ * Thrown when a binary payload is malformed or does not match the local schema.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class BinaryCodecException extends RuntimeException {
+
+    public BinaryCodecException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,106 @@
+package com.financer.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bounds-checked reader over a byte array, mirror of {@link BinaryWriter}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class BinaryReader {
+
+    private final byte[] buf;
+    private final int limit;
+    private int pos;
+
+    public BinaryReader(byte[] buf) {
+        this(buf, 0, buf.length);
+    }
+
+    public BinaryReader(byte[] buf, int offset, int length) {
+        this.buf = buf;
+        this.pos = offset;
+        this.limit = offset + length;
+    }
+
+    public int readByte() {
+        require(1);
+        return buf[pos++] & 0xFF;
+    }
+
+    public long readVarint() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new BinaryCodecException("Malformed varint at offset " + pos);
+    }
+
+    public int readVarint32() {
+        long value = readVarint();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new BinaryCodecException("Varint out of int range: " + value);
+        }
+        return (int) value;
+    }
+
+    public long readZigZag() {
+        long value = readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public String readString() {
+        int length = readVarint32();
+        require(length);
+        String value = new String(buf, pos, length, StandardCharsets.UTF_8);
+        pos += length;
+        return value;
+    }
+
+    public byte[] readBytes() {
+        int length = readVarint32();
+        require(length);
+        byte[] value = new byte[length];
+        System.arraycopy(buf, pos, value, 0, length);
+        pos += length;
+        return value;
+    }
+
+    /**
+     * Skips the payload of a field with an unknown tag.
+     */
+    public void skip(int wireType) {
+        switch (wireType) {
+            case WireType.VARINT -> readVarint();
+            case WireType.PAIR -> {
+                readVarint();
+                readVarint();
+            }
+            case WireType.LEN -> {
+                int length = readVarint32();
+                require(length);
+                pos += length;
+            }
+            case WireType.NULL -> {
+                // no payload
+            }
+            default -> throw new BinaryCodecException("Unknown wire type " + wireType + " at offset " + pos);
+        }
+    }
+
+    public boolean hasRemaining() {
+        return pos < limit;
+    }
+
+    private void require(int n) {
+        if (n < 0 || limit - pos < n) {
+            throw new BinaryCodecException("Truncated payload at offset " + pos);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.financer.codec;
+
+import com.financer.money.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Binary layout of one DTO type: a schema version plus tagged fields.
+ * <p>
+ * A record is the sequence of its non-null fields as {@code key, payload}
+ * ending with key {@code 0}. Tags are never reused; readers skip tags they
+ * do not know, so adding a field does not break older services. Fields whose
+ * default on a fresh instance is not null (e.g. {@code Boolean x = false})
+ * write an explicit {@link WireType#NULL} so null survives the round trip.
+ *
+ * <pre>{@code
+ * DtoSchema<AccountDTO> schema = DtoSchema.builder(AccountDTO.class, 1, AccountDTO::new)
+ *         .int64(1, AccountDTO::getId, AccountDTO::setId)
+ *         .string(3, AccountDTO::getAccountNumber, AccountDTO::setAccountNumber)
+ *         .build();
+ * }</pre>
+ *
+ * @param <T> DTO type
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class DtoSchema<T> {
+
+    private static final int END = 0;
+
+    private final Class<T> type;
+    private final int version;
+    private final Supplier<T> factory;
+    private final Field<T, ?>[] fields;
+    private final Field<T, ?>[] byTag;
+
+    private DtoSchema(Class<T> type, int version, Supplier<T> factory, Field<T, ?>[] fields) {
+        this.type = type;
+        this.version = version;
+        this.factory = factory;
+        this.fields = fields;
+        int maxTag = 0;
+        for (Field<T, ?> field : fields) {
+            maxTag = Math.max(maxTag, field.tag);
+        }
+        @SuppressWarnings("unchecked")
+        Field<T, ?>[] index = new Field[maxTag + 1];
+        for (Field<T, ?> field : fields) {
+            if (index[field.tag] != null) {
+                throw new IllegalArgumentException("Duplicate tag " + field.tag + " in " + type.getSimpleName());
+            }
+            index[field.tag] = field;
+        }
+        this.byTag = index;
+    }
+
+    public static <T> Builder<T> builder(Class<T> type, int version, Supplier<T> factory) {
+        return new Builder<>(type, version, factory);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void write(T value, BinaryWriter out) {
+        for (Field<T, ?> field : fields) {
+            field.write(value, out);
+        }
+        out.writeVarint(END);
+    }
+
+    public T read(BinaryReader in) {
+        T value = factory.get();
+        long key;
+        while ((key = in.readVarint()) != END) {
+            long tag = key >>> WireType.BITS;
+            int wireType = (int) (key & WireType.MASK);
+            Field<T, ?> field = tag < byTag.length ? byTag[(int) tag] : null;
+            if (field == null) {
+                in.skip(wireType);
+            } else {
+                field.read(value, in, wireType);
+            }
+        }
+        return value;
+    }
+
+    private static final class Field<T, V> {
+
+        private final int tag;
+        private final ValueCodec<V> codec;
+        private final Function<T, V> getter;
+        private final BiConsumer<T, V> setter;
+        private final boolean writeNull;
+
+        private Field(int tag, ValueCodec<V> codec, Function<T, V> getter, BiConsumer<T, V> setter, T prototype) {
+            this.tag = tag;
+            this.codec = codec;
+            this.getter = getter;
+            this.setter = setter;
+            this.writeNull = getter.apply(prototype) != null;
+        }
+
+        void write(T target, BinaryWriter out) {
+            V value = getter.apply(target);
+            if (value != null) {
+                out.writeKey(tag, codec.wireType(value));
+                codec.write(value, out);
+            } else if (writeNull) {
+                out.writeKey(tag, WireType.NULL);
+            }
+        }
+
+        void read(T target, BinaryReader in, int wireType) {
+            setter.accept(target, wireType == WireType.NULL ? null : codec.read(in, wireType));
+        }
+    }
+
+    /**
+     * Collects fields; tags must be positive and unique.
+     */
+    public static final class Builder<T> {
+
+        private final Class<T> type;
+        private final int version;
+        private final Supplier<T> factory;
+        private final T prototype;
+        private final List<Field<T, ?>> fields = new ArrayList<>();
+
+        private Builder(Class<T> type, int version, Supplier<T> factory) {
+            this.type = type;
+            this.version = version;
+            this.factory = factory;
+            this.prototype = factory.get();
+        }
+
+        public <V> Builder<T> field(int tag, ValueCodec<V> codec, Function<T, V> getter, BiConsumer<T, V> setter) {
+            if (tag <= 0) {
+                throw new IllegalArgumentException("Tags must be positive: " + tag);
+            }
+            fields.add(new Field<>(tag, codec, getter, setter, prototype));
+            return this;
+        }
+
+        public Builder<T> int64(int tag, Function<T, Long> getter, BiConsumer<T, Long> setter) {
+            return field(tag, ValueCodecs.INT64, getter, setter);
+        }
+
+        public Builder<T> int32(int tag, Function<T, Integer> getter, BiConsumer<T, Integer> setter) {
+            return field(tag, ValueCodecs.INT32, getter, setter);
+        }
+
+        public Builder<T> bool(int tag, Function<T, Boolean> getter, BiConsumer<T, Boolean> setter) {
+            return field(tag, ValueCodecs.BOOL, getter, setter);
+        }
+
+        public Builder<T> string(int tag, Function<T, String> getter, BiConsumer<T, String> setter) {
+            return field(tag, ValueCodecs.STRING, getter, setter);
+        }
+
+        public Builder<T> decimal(int tag, Function<T, BigDecimal> getter, BiConsumer<T, BigDecimal> setter) {
+            return field(tag, ValueCodecs.DECIMAL, getter, setter);
+        }
+
+        public Builder<T> dateTime(int tag, Function<T, LocalDateTime> getter, BiConsumer<T, LocalDateTime> setter) {
+            return field(tag, ValueCodecs.DATE_TIME, getter, setter);
+        }
+
+        public Builder<T> date(int tag, Function<T, LocalDate> getter, BiConsumer<T, LocalDate> setter) {
+            return field(tag, ValueCodecs.DATE, getter, setter);
+        }
+
+        public Builder<T> currency(int tag, Function<T, CurrencyCode> getter, BiConsumer<T, CurrencyCode> setter) {
+            return field(tag, ValueCodecs.CURRENCY, getter, setter);
+        }
+
+        public <E extends Enum<E>> Builder<T> ordinal(int tag, Class<E> enumType,
+                                                      Function<T, E> getter, BiConsumer<T, E> setter) {
+            return field(tag, ValueCodecs.ordinal(enumType), getter, setter);
+        }
+
+        @SuppressWarnings("unchecked")
+        public DtoSchema<T> build() {
+            return new DtoSchema<>(type, version, factory, fields.toArray(new Field[0]));
+        }
+    }
+}
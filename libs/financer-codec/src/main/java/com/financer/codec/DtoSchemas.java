@@ -0,0 +1,46 @@
+package com.financer.codec;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link DtoSchema}s by DTO class.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class DtoSchemas {
+
+    private final Map<Class<?>, DtoSchema<?>> schemas = new ConcurrentHashMap<>();
+
+    public DtoSchemas register(DtoSchema<?> schema) {
+        schemas.put(schema.getType(), schema);
+        return this;
+    }
+
+    /**
+     * @return the schema for {@code type}, or {@code null} if none is registered
+     */
+    @SuppressWarnings("unchecked")
+    public <T> DtoSchema<T> find(Class<T> type) {
+        return (DtoSchema<T>) schemas.get(type);
+    }
+
+    public <T> DtoSchema<T> get(Class<T> type) {
+        DtoSchema<T> schema = find(type);
+        if (schema == null) {
+            throw new BinaryCodecException("No binary schema registered for " + type.getName());
+        }
+        return schema;
+    }
+
+    public boolean supports(Class<?> type) {
+        return schemas.containsKey(type);
+    }
+
+    public Collection<DtoSchema<?>> all() {
+        return schemas.values();
+    }
+}
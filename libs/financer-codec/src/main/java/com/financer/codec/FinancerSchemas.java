@@ -0,0 +1,145 @@
+package com.financer.codec;
+
+import com.financer.dto.account.AccountDTO;
+import com.financer.dto.account.AccountStatus;
+import com.financer.dto.account.AccountType;
+import com.financer.dto.card.CardBrand;
+import com.financer.dto.card.CardDTO;
+import com.financer.dto.card.CardStatus;
+import com.financer.dto.card.CardType;
+import com.financer.dto.transaction.TransactionDTO;
+import com.financer.dto.transaction.TransactionStatus;
+import com.financer.dto.transaction.TransactionType;
+import com.financer.dto.user.UserDTO;
+import com.financer.dto.user.UserRole;
+import com.financer.dto.user.UserStatus;
+
+/**
+ * Binary schemas of the DTOs exchanged between services.
+ * <p>
+ * Rules for changing them: never reuse or renumber a tag; only append enum
+ * constants; bump the version when a field's meaning changes. Fields the JSON
+ * form never writes ({@code CardDTO.cvv}, {@code UserDTO.version}) are left out.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class FinancerSchemas {
+
+    public static final DtoSchema<AccountDTO> ACCOUNT = DtoSchema.builder(AccountDTO.class, 1, AccountDTO::new)
+            .int64(1, AccountDTO::getId, AccountDTO::setId)
+            .int64(2, AccountDTO::getUserId, AccountDTO::setUserId)
+            .string(3, AccountDTO::getAccountNumber, AccountDTO::setAccountNumber)
+            .ordinal(4, AccountType.class, AccountDTO::getType, AccountDTO::setType)
+            .ordinal(5, AccountStatus.class, AccountDTO::getStatus, AccountDTO::setStatus)
+            .decimal(6, AccountDTO::getBalance, AccountDTO::setBalance)
+            .currency(7, AccountDTO::getCurrency, AccountDTO::setCurrency)
+            .string(8, AccountDTO::getName, AccountDTO::setName)
+            .string(9, AccountDTO::getBankCode, AccountDTO::setBankCode)
+            .string(10, AccountDTO::getBankName, AccountDTO::setBankName)
+            .string(11, AccountDTO::getAgency, AccountDTO::setAgency)
+            .string(12, AccountDTO::getDigit, AccountDTO::setDigit)
+            .decimal(13, AccountDTO::getCreditLimit, AccountDTO::setCreditLimit)
+            .decimal(14, AccountDTO::getAvailableCredit, AccountDTO::setAvailableCredit)
+            .decimal(15, AccountDTO::getInterestRate, AccountDTO::setInterestRate)
+            .bool(16, AccountDTO::getIsDefault, AccountDTO::setIsDefault)
+            .dateTime(17, AccountDTO::getCreatedAt, AccountDTO::setCreatedAt)
+            .dateTime(18, AccountDTO::getUpdatedAt, AccountDTO::setUpdatedAt)
+            .dateTime(19, AccountDTO::getClosedAt, AccountDTO::setClosedAt)
+            .string(20, AccountDTO::getMetadata, AccountDTO::setMetadata)
+            .build();
+
+    public static final DtoSchema<TransactionDTO> TRANSACTION =
+            DtoSchema.builder(TransactionDTO.class, 1, TransactionDTO::new)
+            .int64(1, TransactionDTO::getId, TransactionDTO::setId)
+            .int64(2, TransactionDTO::getUserId, TransactionDTO::setUserId)
+            .int64(3, TransactionDTO::getFromAccountId, TransactionDTO::setFromAccountId)
+            .int64(4, TransactionDTO::getToAccountId, TransactionDTO::setToAccountId)
+            .ordinal(5, TransactionType.class, TransactionDTO::getType, TransactionDTO::setType)
+            .ordinal(6, TransactionStatus.class, TransactionDTO::getStatus, TransactionDTO::setStatus)
+            .decimal(7, TransactionDTO::getAmount, TransactionDTO::setAmount)
+            .currency(8, TransactionDTO::getCurrency, TransactionDTO::setCurrency)
+            .string(9, TransactionDTO::getDescription, TransactionDTO::setDescription)
+            .string(10, TransactionDTO::getCategory, TransactionDTO::setCategory)
+            .string(11, TransactionDTO::getTags, TransactionDTO::setTags)
+            .string(12, TransactionDTO::getReferenceId, TransactionDTO::setReferenceId)
+            .decimal(13, TransactionDTO::getFee, TransactionDTO::setFee)
+            .decimal(14, TransactionDTO::getBalanceAfter, TransactionDTO::setBalanceAfter)
+            .dateTime(15, TransactionDTO::getScheduledAt, TransactionDTO::setScheduledAt)
+            .dateTime(16, TransactionDTO::getProcessedAt, TransactionDTO::setProcessedAt)
+            .dateTime(17, TransactionDTO::getCreatedAt, TransactionDTO::setCreatedAt)
+            .dateTime(18, TransactionDTO::getUpdatedAt, TransactionDTO::setUpdatedAt)
+            .string(19, TransactionDTO::getFailureReason, TransactionDTO::setFailureReason)
+            .string(20, TransactionDTO::getMetadata, TransactionDTO::setMetadata)
+            .string(21, TransactionDTO::getLocation, TransactionDTO::setLocation)
+            .string(22, TransactionDTO::getDeviceInfo, TransactionDTO::setDeviceInfo)
+            .string(23, TransactionDTO::getIpAddress, TransactionDTO::setIpAddress)
+            .build();
+
+    public static final DtoSchema<CardDTO> CARD = DtoSchema.builder(CardDTO.class, 1, CardDTO::new)
+            .int64(1, CardDTO::getId, CardDTO::setId)
+            .int64(2, CardDTO::getUserId, CardDTO::setUserId)
+            .int64(3, CardDTO::getAccountId, CardDTO::setAccountId)
+            .string(4, CardDTO::getCardNumber, CardDTO::setCardNumber)
+            .string(5, CardDTO::getLastFourDigits, CardDTO::setLastFourDigits)
+            .string(6, CardDTO::getHolderName, CardDTO::setHolderName)
+            .ordinal(7, CardType.class, CardDTO::getType, CardDTO::setType)
+            .ordinal(8, CardBrand.class, CardDTO::getBrand, CardDTO::setBrand)
+            .ordinal(9, CardStatus.class, CardDTO::getStatus, CardDTO::setStatus)
+            .int32(10, CardDTO::getExpiryMonth, CardDTO::setExpiryMonth)
+            .int32(11, CardDTO::getExpiryYear, CardDTO::setExpiryYear)
+            .date(12, CardDTO::getExpiryDate, CardDTO::setExpiryDate)
+            .decimal(13, CardDTO::getCreditLimit, CardDTO::setCreditLimit)
+            .decimal(14, CardDTO::getAvailableCredit, CardDTO::setAvailableCredit)
+            .decimal(15, CardDTO::getCurrentBalance, CardDTO::setCurrentBalance)
+            .decimal(16, CardDTO::getMinimumPayment, CardDTO::setMinimumPayment)
+            .date(17, CardDTO::getPaymentDueDate, CardDTO::setPaymentDueDate)
+            .date(18, CardDTO::getStatementClosingDate, CardDTO::setStatementClosingDate)
+            .decimal(19, CardDTO::getInterestRate, CardDTO::setInterestRate)
+            .decimal(20, CardDTO::getAnnualFee, CardDTO::setAnnualFee)
+            .bool(21, CardDTO::getIsPrimary, CardDTO::setIsPrimary)
+            .bool(22, CardDTO::getContactlessEnabled, CardDTO::setContactlessEnabled)
+            .bool(23, CardDTO::getOnlinePurchasesEnabled, CardDTO::setOnlinePurchasesEnabled)
+            .bool(24, CardDTO::getInternationalPurchasesEnabled, CardDTO::setInternationalPurchasesEnabled)
+            .decimal(25, CardDTO::getDailyLimit, CardDTO::setDailyLimit)
+            .decimal(26, CardDTO::getMonthlyLimit, CardDTO::setMonthlyLimit)
+            .string(27, CardDTO::getColorCode, CardDTO::setColorCode)
+            .string(28, CardDTO::getNickname, CardDTO::setNickname)
+            .dateTime(29, CardDTO::getIssuedAt, CardDTO::setIssuedAt)
+            .dateTime(30, CardDTO::getActivatedAt, CardDTO::setActivatedAt)
+            .dateTime(31, CardDTO::getCreatedAt, CardDTO::setCreatedAt)
+            .dateTime(32, CardDTO::getUpdatedAt, CardDTO::setUpdatedAt)
+            .dateTime(33, CardDTO::getCancelledAt, CardDTO::setCancelledAt)
+            .string(34, CardDTO::getMetadata, CardDTO::setMetadata)
+            .build();
+
+    public static final DtoSchema<UserDTO> USER = DtoSchema.builder(UserDTO.class, 1, UserDTO::new)
+            .int64(1, UserDTO::getId, UserDTO::setId)
+            .string(2, UserDTO::getUsername, UserDTO::setUsername)
+            .string(3, UserDTO::getEmail, UserDTO::setEmail)
+            .string(4, UserDTO::getFullName, UserDTO::setFullName)
+            .string(5, UserDTO::getPhoneNumber, UserDTO::setPhoneNumber)
+            .ordinal(6, UserRole.class, UserDTO::getRole, UserDTO::setRole)
+            .ordinal(7, UserStatus.class, UserDTO::getStatus, UserDTO::setStatus)
+            .bool(8, UserDTO::getEmailVerified, UserDTO::setEmailVerified)
+            .bool(9, UserDTO::getTwoFactorEnabled, UserDTO::setTwoFactorEnabled)
+            .dateTime(10, UserDTO::getLastLoginAt, UserDTO::setLastLoginAt)
+            .dateTime(11, UserDTO::getCreatedAt, UserDTO::setCreatedAt)
+            .dateTime(12, UserDTO::getUpdatedAt, UserDTO::setUpdatedAt)
+            .build();
+
+    private FinancerSchemas() {
+    }
+
+    /**
+     * @return a new registry with all the schemas above
+     */
+    public static DtoSchemas registry() {
+        return new DtoSchemas()
+                .register(ACCOUNT)
+                .register(TRANSACTION)
+                .register(CARD)
+                .register(USER);
+    }
+}
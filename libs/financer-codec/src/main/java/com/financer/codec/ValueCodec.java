@@ -0,0 +1,24 @@
+package com.financer.codec;
+
+/**
+ * Encodes one non-null field value; see {@link ValueCodecs} for the built-in types.
+ *
+ * @param <V> value type
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public interface ValueCodec<V> {
+
+    /**
+     * @return the {@link WireType} {@link #write} uses for {@code value}
+     */
+    int wireType(V value);
+
+    void write(V value, BinaryWriter out);
+
+    /**
+     * @throws BinaryCodecException if {@code wireType} is not one this codec writes
+     */
+    V read(BinaryReader in, int wireType);
+}
@@ -0,0 +1,231 @@
+package com.financer.codec;
+
+import com.financer.money.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Built-in {@link ValueCodec}s for the field types used by the DTO modules.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class ValueCodecs {
+
+    public static final ValueCodec<Long> INT64 = new VarintCodec<>() {
+        @Override
+        public void write(Long value, BinaryWriter out) {
+            out.writeZigZag(value);
+        }
+
+        @Override
+        Long decode(BinaryReader in) {
+            return in.readZigZag();
+        }
+    };
+
+    public static final ValueCodec<Integer> INT32 = new VarintCodec<>() {
+        @Override
+        public void write(Integer value, BinaryWriter out) {
+            out.writeZigZag(value);
+        }
+
+        @Override
+        Integer decode(BinaryReader in) {
+            return Math.toIntExact(in.readZigZag());
+        }
+    };
+
+    public static final ValueCodec<Boolean> BOOL = new VarintCodec<>() {
+        @Override
+        public void write(Boolean value, BinaryWriter out) {
+            out.writeVarint(value ? 1 : 0);
+        }
+
+        @Override
+        Boolean decode(BinaryReader in) {
+            return in.readVarint() != 0;
+        }
+    };
+
+    public static final ValueCodec<String> STRING = new ValueCodec<>() {
+        @Override
+        public int wireType(String value) {
+            return WireType.LEN;
+        }
+
+        @Override
+        public void write(String value, BinaryWriter out) {
+            out.writeString(value);
+        }
+
+        @Override
+        public String read(BinaryReader in, int wireType) {
+            expect(wireType, WireType.LEN);
+            return in.readString();
+        }
+    };
+
+    /**
+     * {@code PAIR(scale, unscaled)} when the unscaled value fits a {@code long},
+     * otherwise {@code LEN(scale, two's-complement bytes)}.
+     */
+    public static final ValueCodec<BigDecimal> DECIMAL = new ValueCodec<>() {
+        @Override
+        public int wireType(BigDecimal value) {
+            return value.precision() <= 18 ? WireType.PAIR : WireType.LEN;
+        }
+
+        @Override
+        public void write(BigDecimal value, BinaryWriter out) {
+            if (value.precision() <= 18) {
+                out.writeZigZag(value.scale());
+                out.writeZigZag(value.unscaledValue().longValue());
+            } else {
+                BinaryWriter nested = new BinaryWriter(32);
+                nested.writeZigZag(value.scale());
+                nested.writeBytes(value.unscaledValue().toByteArray());
+                out.writeBytes(nested.toByteArray());
+            }
+        }
+
+        @Override
+        public BigDecimal read(BinaryReader in, int wireType) {
+            if (wireType == WireType.PAIR) {
+                int scale = Math.toIntExact(in.readZigZag());
+                return BigDecimal.valueOf(in.readZigZag(), scale);
+            }
+            expect(wireType, WireType.LEN);
+            BinaryReader nested = new BinaryReader(in.readBytes());
+            int scale = Math.toIntExact(nested.readZigZag());
+            return new BigDecimal(new BigInteger(nested.readBytes()), scale);
+        }
+    };
+
+    /**
+     * Epoch second (UTC wall clock, no zone applied); {@code PAIR} adds nanos when present.
+     */
+    public static final ValueCodec<LocalDateTime> DATE_TIME = new ValueCodec<>() {
+        @Override
+        public int wireType(LocalDateTime value) {
+            return value.getNano() == 0 ? WireType.VARINT : WireType.PAIR;
+        }
+
+        @Override
+        public void write(LocalDateTime value, BinaryWriter out) {
+            out.writeZigZag(value.toEpochSecond(ZoneOffset.UTC));
+            if (value.getNano() != 0) {
+                out.writeVarint(value.getNano());
+            }
+        }
+
+        @Override
+        public LocalDateTime read(BinaryReader in, int wireType) {
+            long seconds = in.readZigZag();
+            int nanos = 0;
+            if (wireType == WireType.PAIR) {
+                nanos = in.readVarint32();
+            } else {
+                expect(wireType, WireType.VARINT);
+            }
+            return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        }
+    };
+
+    public static final ValueCodec<LocalDate> DATE = new VarintCodec<>() {
+        @Override
+        public void write(LocalDate value, BinaryWriter out) {
+            out.writeZigZag(value.toEpochDay());
+        }
+
+        @Override
+        LocalDate decode(BinaryReader in) {
+            return LocalDate.ofEpochDay(in.readZigZag());
+        }
+    };
+
+    /**
+     * ISO codes travel as their packed {@code int}; detached codes as text.
+     */
+    public static final ValueCodec<CurrencyCode> CURRENCY = new ValueCodec<>() {
+        @Override
+        public int wireType(CurrencyCode value) {
+            return value.isIso() ? WireType.VARINT : WireType.LEN;
+        }
+
+        @Override
+        public void write(CurrencyCode value, BinaryWriter out) {
+            if (value.isIso()) {
+                out.writeVarint(value.packed());
+            } else {
+                out.writeString(value.getCode());
+            }
+        }
+
+        @Override
+        public CurrencyCode read(BinaryReader in, int wireType) {
+            if (wireType == WireType.LEN) {
+                return CurrencyCode.parse(in.readString());
+            }
+            expect(wireType, WireType.VARINT);
+            try {
+                return CurrencyCode.fromPacked(in.readVarint32());
+            } catch (IllegalArgumentException e) {
+                throw new BinaryCodecException(e.getMessage());
+            }
+        }
+    };
+
+    private ValueCodecs() {
+    }
+
+    /**
+     * Enum constants by ordinal. Constants may only be appended: reordering
+     * or removing one requires a new schema version.
+     */
+    public static <E extends Enum<E>> ValueCodec<E> ordinal(Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        return new VarintCodec<>() {
+            @Override
+            public void write(E value, BinaryWriter out) {
+                out.writeVarint(value.ordinal());
+            }
+
+            @Override
+            E decode(BinaryReader in) {
+                long ordinal = in.readVarint();
+                if (ordinal < 0 || ordinal >= constants.length) {
+                    throw new BinaryCodecException("Unknown " + type.getSimpleName() + " ordinal " + ordinal);
+                }
+                return constants[(int) ordinal];
+            }
+        };
+    }
+
+    static void expect(int actual, int expected) {
+        if (actual != expected) {
+            throw new BinaryCodecException("Unexpected wire type " + actual + ", expected " + expected);
+        }
+    }
+
+    private abstract static class VarintCodec<V> implements ValueCodec<V> {
+
+        @Override
+        public int wireType(V value) {
+            return WireType.VARINT;
+        }
+
+        @Override
+        public V read(BinaryReader in, int wireType) {
+            expect(wireType, WireType.VARINT);
+            return decode(in);
+        }
+
+        abstract V decode(BinaryReader in);
+    }
+}
@@ -0,0 +1,38 @@
+package com.financer.codec;
+
+/**
+ * Wire types carried in the low {@link #BITS} bits of every field key
+ * ({@code tag << BITS | wireType}), so a reader can skip tags it does not know.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class WireType {
+
+    /**
+     * One varint (integers zig-zag encoded, booleans, enum ordinals, dates).
+     */
+    public static final int VARINT = 0;
+
+    /**
+     * Two varints (decimal scale + unscaled value, epoch second + nanos).
+     */
+    public static final int PAIR = 1;
+
+    /**
+     * Varint byte length followed by that many bytes (UTF-8 strings, large decimals).
+     */
+    public static final int LEN = 2;
+
+    /**
+     * Explicit null, no payload; only written where the DTO default is not null.
+     */
+    public static final int NULL = 3;
+
+    static final int BITS = 3;
+    static final int MASK = (1 << BITS) - 1;
+
+    private WireType() {
+    }
+}
@@ -0,0 +1,81 @@
+package com.financer.codec.config;
+
+import com.financer.codec.BinaryCodec;
+import com.financer.codec.FinancerSchemas;
+import com.financer.codec.http.FinancerBinaryHttpMessageConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Wires the binary DTO codec into Spring MVC and the HTTP clients.
+ * <p>
+ * Server side the converter is appended after JSON, so only callers that
+ * send {@code Accept: application/vnd.financer.binary} get it. Client side,
+ * only {@code @LoadBalanced} {@code RestTemplate} / {@code RestClient.Builder}
+ * beans are touched ({@link LoadBalancedBinaryClientPostProcessor}): a
+ * {@linkplain FinancerBinaryHttpMessageConverter#readOnly read-only}
+ * converter goes first, so internal calls ask for binary responses with JSON
+ * as fallback, but request bodies stay JSON, so a callee without the codec
+ * (e.g. during a rolling deploy) never gets a 415. Binary request bodies
+ * are a per-client opt-in: add a regular converter at index 0 of that
+ * client's builder.
+ * <p>
+ * The converter is deliberately not a bean, and there are no
+ * {@code RestTemplateCustomizer} / {@code RestClientCustomizer} beans: Boot
+ * would apply either to every client, external APIs included.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(value = "financer.codec.binary.enabled", havingValue = "true", matchIfMissing = true)
+public class BinaryCodecConfig {
+
+    /**
+     * Accept header for clients that did not set one: binary first, JSON as fallback.
+     */
+    static final String CLIENT_ACCEPT = FinancerBinaryHttpMessageConverter.MEDIA_TYPE_VALUE
+            + ", application/json;q=0.9";
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BinaryCodec binaryCodec() {
+        BinaryCodec codec = new BinaryCodec(FinancerSchemas.registry());
+        log.info("Financer binary codec enabled for {} DTO types", codec.getSchemas().all().size());
+        return codec;
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(WebMvcConfigurer.class)
+    public WebMvcConfigurer financerBinaryWebMvcConfigurer(BinaryCodec codec) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.add(new FinancerBinaryHttpMessageConverter(codec));
+            }
+        };
+    }
+
+    /**
+     * Static: a post-processor must exist before the beans it processes.
+     */
+    @Bean
+    @ConditionalOnClass(name = "org.springframework.cloud.client.loadbalancer.LoadBalanced")
+    public static BeanPostProcessor financerBinaryLoadBalancedClientPostProcessor(ObjectProvider<BinaryCodec> codec) {
+        return new LoadBalancedBinaryClientPostProcessor(codec);
+    }
+}
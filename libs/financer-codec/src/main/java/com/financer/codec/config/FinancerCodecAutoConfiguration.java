@@ -0,0 +1,21 @@
+package com.financer.codec.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+
+/**
+ * Auto-configuration class for Financer Codec Library.
+ * Registers the binary DTO content type when the library is on the classpath.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@AutoConfiguration
+@ComponentScan(basePackages = "com.financer.codec")
+public class FinancerCodecAutoConfiguration {
+
+    public FinancerCodecAutoConfiguration() {
+        // Constructor for Spring Boot auto-configuration
+    }
+}
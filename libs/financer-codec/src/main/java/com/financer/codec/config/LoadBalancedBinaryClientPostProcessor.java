@@ -0,0 +1,74 @@
+package com.financer.codec.config;
+
+import com.financer.codec.BinaryCodec;
+import com.financer.codec.http.FinancerBinaryHttpMessageConverter;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Makes {@code @LoadBalanced} {@link RestTemplate} and
+ * {@link RestClient.Builder} beans ask for binary responses: a
+ * {@linkplain FinancerBinaryHttpMessageConverter#readOnly read-only}
+ * converter goes first and, for {@code RestClient}, requests without an
+ * {@code Accept} header get {@link BinaryCodecConfig#CLIENT_ACCEPT}.
+ * <p>
+ * Only load-balanced clients call Financer services; every other client
+ * (payment gateways, third-party APIs) is left as built. That is why this is
+ * not a {@code RestTemplateCustomizer} / {@code RestClientCustomizer}: Boot
+ * applies those to every builder it hands out.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class LoadBalancedBinaryClientPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    private final ObjectProvider<BinaryCodec> codec;
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public LoadBalancedBinaryClientPostProcessor(ObjectProvider<BinaryCodec> codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof RestTemplate restTemplate && isLoadBalanced(beanName)) {
+            customize(restTemplate, codec.getObject());
+        } else if (bean instanceof RestClient.Builder builder && isLoadBalanced(beanName)) {
+            customize(builder, codec.getObject());
+        }
+        return bean;
+    }
+
+    private boolean isLoadBalanced(String beanName) {
+        return beanFactory.containsBeanDefinition(beanName)
+                && beanFactory.findAnnotationOnBean(beanName, LoadBalanced.class) != null;
+    }
+
+    static void customize(RestTemplate restTemplate, BinaryCodec codec) {
+        // RestTemplate derives Accept from converter order
+        restTemplate.getMessageConverters().add(0, FinancerBinaryHttpMessageConverter.readOnly(codec));
+    }
+
+    static void customize(RestClient.Builder builder, BinaryCodec codec) {
+        builder.messageConverters(converters -> converters.add(0, FinancerBinaryHttpMessageConverter.readOnly(codec)))
+                .requestInterceptor((request, body, execution) -> {
+                    if (!request.getHeaders().containsKey(HttpHeaders.ACCEPT)) {
+                        request.getHeaders().set(HttpHeaders.ACCEPT, BinaryCodecConfig.CLIENT_ACCEPT);
+                    }
+                    return execution.execute(request, body);
+                });
+    }
+}
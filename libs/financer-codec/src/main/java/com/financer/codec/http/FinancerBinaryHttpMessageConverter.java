@@ -0,0 +1,159 @@
+package com.financer.codec.http;
+
+import com.financer.codec.BinaryCodec;
+import com.financer.codec.BinaryCodecException;
+import com.financer.codec.BinaryWriter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.DateTimeException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads and writes registered DTOs, and {@code List}/{@code Collection}s of
+ * them, as {@value #MEDIA_TYPE_VALUE}.
+ * <p>
+ * Only selected when the caller asks for the media type: it is appended
+ * after the JSON converter, so {@code Accept: *&#47;*} and
+ * {@code application/json} clients keep getting JSON. A
+ * {@linkplain #readOnly read-only} instance only decodes responses, for
+ * clients that must keep sending JSON request bodies.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class FinancerBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.financer.binary";
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private final BinaryCodec codec;
+    private final boolean writable;
+
+    public FinancerBinaryHttpMessageConverter(BinaryCodec codec) {
+        this(codec, true);
+    }
+
+    private FinancerBinaryHttpMessageConverter(BinaryCodec codec, boolean writable) {
+        super(MEDIA_TYPE);
+        this.codec = codec;
+        this.writable = writable;
+    }
+
+    /**
+     * Converter that reads the binary type but never writes it, so request
+     * bodies stay JSON while {@code Accept} still advertises binary.
+     */
+    public static FinancerBinaryHttpMessageConverter readOnly(BinaryCodec codec) {
+        return new FinancerBinaryHttpMessageConverter(codec, false);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return codec.supports(clazz);
+    }
+
+    /**
+     * Also advertises the media type for collections, whose element type is
+     * only checked by the generic {@code canRead} / {@code canWrite}.
+     */
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return codec.supports(clazz) || Collection.class.isAssignableFrom(clazz)
+                ? getSupportedMediaTypes() : List.of();
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return elementType(type, contextClass) != null && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return writable && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return writable && elementType(type != null ? type : clazz, null) != null && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        Class<?> element = elementType(type, contextClass);
+        if (element == null) {
+            throw new HttpMessageNotReadableException("Unsupported type " + type, inputMessage);
+        }
+        byte[] payload = StreamUtils.copyToByteArray(inputMessage.getBody());
+        try {
+            if (element == type) {
+                return codec.decode(payload, element);
+            }
+            return codec.decodeList(payload, element);
+        } catch (BinaryCodecException | ArithmeticException | DateTimeException e) {
+            throw new HttpMessageNotReadableException("Invalid " + MEDIA_TYPE_VALUE + " payload: " + e.getMessage(),
+                    e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        BinaryWriter out = new BinaryWriter();
+        if (value instanceof Collection<?> values) {
+            Class<Object> element = (Class<Object>) elementType(type, null);
+            if (element == null) {
+                throw new HttpMessageNotWritableException("Cannot resolve element type of " + type);
+            }
+            codec.writeList(element, values, out);
+        } else {
+            codec.write(value, out);
+        }
+        outputMessage.getHeaders().setContentLength(out.size());
+        out.writeTo(outputMessage.getBody());
+    }
+
+    /**
+     * @return the registered DTO class {@code type} denotes, directly or as
+     *         a collection element; {@code null} if it is not supported
+     */
+    @Nullable
+    private Class<?> elementType(@Nullable Type type, @Nullable Class<?> contextClass) {
+        if (type == null) {
+            return null;
+        }
+        ResolvableType resolved = ResolvableType.forType(type, contextClass != null
+                ? ResolvableType.forClass(contextClass) : null);
+        Class<?> raw = resolved.resolve();
+        if (raw == null) {
+            return null;
+        }
+        if (codec.supports(raw)) {
+            return raw;
+        }
+        if (raw.isAssignableFrom(List.class)) {
+            Class<?> element = resolved.asCollection().resolveGeneric(0);
+            return element != null && codec.supports(element) ? element : null;
+        }
+        return null;
+    }
+}
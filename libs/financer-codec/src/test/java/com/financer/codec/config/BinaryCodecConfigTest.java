@@ -0,0 +1,110 @@
+package com.financer.codec.config;
+
+import com.financer.codec.BinaryCodec;
+import com.financer.codec.http.FinancerBinaryHttpMessageConverter;
+import com.financer.dto.account.AccountDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.hamcrest.Matchers.startsWith;
+
+class BinaryCodecConfigTest {
+
+    private final BinaryCodecConfig config = new BinaryCodecConfig();
+    private final BinaryCodec codec = config.binaryCodec();
+
+    @Test
+    void clientConverterOnlyReads() {
+        FinancerBinaryHttpMessageConverter converter = FinancerBinaryHttpMessageConverter.readOnly(codec);
+
+        assertThat(converter.canRead(AccountDTO.class, FinancerBinaryHttpMessageConverter.MEDIA_TYPE)).isTrue();
+        assertThat(converter.canWrite(AccountDTO.class, FinancerBinaryHttpMessageConverter.MEDIA_TYPE)).isFalse();
+        assertThat(converter.canWrite(AccountDTO.class, null)).isFalse();
+    }
+
+    @Test
+    void restTemplateSendsJsonBodiesAndAcceptsBinary() {
+        RestTemplate restTemplate = new RestTemplate();
+        LoadBalancedBinaryClientPostProcessor.customize(restTemplate, codec);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        AccountDTO account = AccountDTO.builder().id(7L).build();
+        server.expect(requestTo("http://accounts/accounts"))
+                .andExpect(header(HttpHeaders.CONTENT_TYPE, startsWith(MediaType.APPLICATION_JSON_VALUE)))
+                .andExpect(header(HttpHeaders.ACCEPT, startsWith(FinancerBinaryHttpMessageConverter.MEDIA_TYPE_VALUE)))
+                .andExpect(content().json("{\"id\":7}"))
+                .andRespond(withSuccess(codec.encode(account), FinancerBinaryHttpMessageConverter.MEDIA_TYPE));
+
+        AccountDTO created = restTemplate.postForObject("http://accounts/accounts", account, AccountDTO.class);
+
+        assertThat(created.getId()).isEqualTo(7L);
+        server.verify();
+    }
+
+    @Test
+    void onlyLoadBalancedClientsAreCustomized() {
+        try (AnnotationConfigApplicationContext context =
+                     new AnnotationConfigApplicationContext(BinaryCodecConfig.class, Clients.class)) {
+            assertThat(context.getBean("internalTemplate", RestTemplate.class).getMessageConverters().get(0))
+                    .isInstanceOf(FinancerBinaryHttpMessageConverter.class);
+            assertThat(context.getBean("externalTemplate", RestTemplate.class).getMessageConverters())
+                    .noneMatch(FinancerBinaryHttpMessageConverter.class::isInstance);
+
+            assertThat(acceptSentBy(context.getBean("internalBuilder", RestClient.Builder.class)))
+                    .isEqualTo(BinaryCodecConfig.CLIENT_ACCEPT);
+            assertThat(acceptSentBy(context.getBean("externalBuilder", RestClient.Builder.class)))
+                    .doesNotContain(FinancerBinaryHttpMessageConverter.MEDIA_TYPE_VALUE);
+        }
+    }
+
+    private static String acceptSentBy(RestClient.Builder builder) {
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        AtomicReference<String> accept = new AtomicReference<>();
+        server.expect(requestTo("http://service/ping"))
+                .andExpect(request -> accept.set(request.getHeaders().getFirst(HttpHeaders.ACCEPT)))
+                .andRespond(withSuccess());
+        builder.build().get().uri("http://service/ping").retrieve().toBodilessEntity();
+        server.verify();
+        return String.valueOf(accept.get());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class Clients {
+
+        @Bean
+        @LoadBalanced
+        RestTemplate internalTemplate() {
+            return new RestTemplate();
+        }
+
+        @Bean
+        RestTemplate externalTemplate() {
+            return new RestTemplate();
+        }
+
+        @Bean
+        @LoadBalanced
+        RestClient.Builder internalBuilder() {
+            return RestClient.builder();
+        }
+
+        @Bean
+        RestClient.Builder externalBuilder() {
+            return RestClient.builder();
+        }
+    }
+}
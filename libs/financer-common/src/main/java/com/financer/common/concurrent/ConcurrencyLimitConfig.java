@@ -0,0 +1,40 @@
+package com.financer.common.concurrent;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Puts the {@link ConcurrencyLimitInterceptor} on the HTTP clients built from
+ * Boot's {@code RestTemplateBuilder} / {@code RestClient.Builder}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Configuration
+@ConditionalOnProperty(value = "financer.concurrency.http-client.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public ConcurrencyLimitInterceptor concurrencyLimitInterceptor(ConcurrencyLimiters limiters) {
+        return new ConcurrencyLimitInterceptor(limiters);
+    }
+
+    @Bean
+    @ConditionalOnClass(RestTemplate.class)
+    public RestTemplateCustomizer financerConcurrencyLimitRestTemplateCustomizer(ConcurrencyLimitInterceptor interceptor) {
+        return restTemplate -> restTemplate.getInterceptors().add(interceptor);
+    }
+
+    @Bean
+    @ConditionalOnClass(RestClient.class)
+    public RestClientCustomizer financerConcurrencyLimitRestClientCustomizer(ConcurrencyLimitInterceptor interceptor) {
+        return builder -> builder.requestInterceptor(interceptor);
+    }
+}
@@ -0,0 +1,47 @@
+package com.financer.common.concurrent;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Applies the {@link ConcurrencyLimiters} limit of the target host to
+ * outgoing HTTP calls; hosts without a limit pass straight through.
+ * <p>
+ * Added to every {@code RestTemplate} / {@code RestClient} built from Boot's
+ * builders, ahead of the load-balancer interceptor, so for
+ * {@code @LoadBalanced} clients the host is the service name and the limit
+ * covers all its instances. The permit is held until the response headers
+ * arrive; reading the body is not counted.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class ConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final ConcurrencyLimiters limiters;
+
+    public ConcurrencyLimitInterceptor(ConcurrencyLimiters limiters) {
+        this.limiters = limiters;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = request.getURI().getHost();
+        ConcurrencyLimiter limiter = host == null ? null : limiters.find(host);
+        if (limiter == null) {
+            return execution.execute(request, body);
+        }
+        limiter.acquire();
+        try {
+            return execution.execute(request, body);
+        } finally {
+            limiter.release();
+        }
+    }
+}
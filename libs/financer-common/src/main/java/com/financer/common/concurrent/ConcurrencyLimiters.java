@@ -0,0 +1,103 @@
+package com.financer.common.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named {@link ConcurrencyLimiter}s, one per downstream resource.
+ * <p>
+ * Limits come from {@code financer.concurrency.limits.<resource>=<permits>};
+ * for HTTP clients the resource is the target host, i.e. the service name
+ * for {@code @LoadBalanced} clients (see {@link ConcurrencyLimitInterceptor}).
+ * Resources without an entry use {@code financer.concurrency.default-limit}
+ * (default {@code 0}: unlimited). A call waits up to
+ * {@code financer.concurrency.acquire-timeout} (default {@code 500ms}) for a
+ * permit.
+ * <p>
+ * Meters, tagged {@code resource}: {@code financer.concurrency.limit},
+ * {@code financer.concurrency.inflight}, {@code financer.concurrency.rejected}
+ * and {@code financer.concurrency.wait} (time spent waiting for a permit).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimiters {
+
+    private final Map<String, Integer> limits;
+    private final int defaultLimit;
+    private final Duration acquireTimeout;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiters(
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${financer.concurrency.default-limit:0}") int defaultLimit,
+            @Value("${financer.concurrency.acquire-timeout:500ms}") Duration acquireTimeout) {
+        this.limits = Binder.get(environment)
+                .bind("financer.concurrency.limits", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+        this.defaultLimit = defaultLimit;
+        this.acquireTimeout = acquireTimeout;
+        this.meterRegistry = meterRegistry;
+        if (!limits.isEmpty()) {
+            log.info("Concurrency limits: {} (acquire timeout {})", limits, acquireTimeout);
+        }
+    }
+
+    /**
+     * Limiter for {@code resource}, or {@code null} when it has no limit.
+     */
+    public ConcurrencyLimiter find(String resource) {
+        ConcurrencyLimiter limiter = limiters.get(resource);
+        if (limiter != null) {
+            return limiter;
+        }
+        int limit = limits.getOrDefault(resource, defaultLimit);
+        return limit > 0 ? limiters.computeIfAbsent(resource, r -> create(r, limit)) : null;
+    }
+
+    /**
+     * Limiter for {@code resource}, created with {@code limit} unless the configuration sets one.
+     */
+    public ConcurrencyLimiter get(String resource, int limit) {
+        ConcurrencyLimiter limiter = find(resource);
+        return limiter != null ? limiter : limiters.computeIfAbsent(resource, r -> create(r, limit));
+    }
+
+    private ConcurrencyLimiter create(String resource, int limit) {
+        MeterRegistry meters = meterRegistry.getIfAvailable();
+        Timer waitTimer = meters == null ? null : Timer.builder("financer.concurrency.wait")
+                .description("Time spent waiting for a concurrency permit")
+                .tag("resource", resource)
+                .register(meters);
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(resource, limit, acquireTimeout, waitTimer);
+        if (meters != null) {
+            Gauge.builder("financer.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                    .tag("resource", resource).register(meters);
+            Gauge.builder("financer.concurrency.inflight", limiter, ConcurrencyLimiter::getInFlight)
+                    .tag("resource", resource)
+                    .description("Calls holding a permit").register(meters);
+            FunctionCounter.builder("financer.concurrency.rejected", limiter, ConcurrencyLimiter::getRejected)
+                    .tag("resource", resource)
+                    .description("Calls rejected at the concurrency limit").register(meters);
+        }
+        return limiter;
+    }
+}
@@ -0,0 +1,209 @@
+package com.financer.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports virtual threads pinned to their carrier, read from JFR in-process.
+ * <p>
+ * On Java 21 a virtual thread that blocks inside a {@code synchronized}
+ * block or under a native frame cannot unmount: it holds one of the few
+ * carrier threads for the whole wait. JDBC drivers and connection pools
+ * that guard socket I/O with {@code synchronized} are the usual offenders.
+ * The JVM emits {@code jdk.VirtualThreadPinned} for every such wait longer
+ * than {@code financer.threads.virtual.pinning.threshold} (default 20ms);
+ * this streams those events and turns them into:
+ * <ul>
+ *     <li>{@code financer.threads.virtual.pinned} — timer tagged
+ *     {@code source} ({@code jdbc} when a driver or pool frame is on the
+ *     stack, {@code synchronized} otherwise) and {@code location}, the
+ *     first frame outside the JDK;</li>
+ *     <li>{@code financer.threads.virtual.submit.failed} — virtual threads
+ *     that could not be scheduled ({@code jdk.VirtualThreadSubmitFailed});</li>
+ *     <li>one WARN with the stack per new location.</li>
+ * </ul>
+ * At most {@code financer.threads.virtual.pinning.max-locations} (default
+ * 100) locations are tagged; later ones are reported as {@code other}.
+ * Active only with {@code financer.threads.virtual.enabled=true}; disable
+ * with {@code financer.threads.virtual.pinning.enabled=false}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${financer.threads.virtual.enabled:false} and ${financer.threads.virtual.pinning.enabled:true}")
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    static final String PINNED = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED = "jdk.VirtualThreadSubmitFailed";
+
+    private static final String OTHER = "other";
+    private static final int LOGGED_FRAMES = 12;
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+    private static final List<String> JDBC_PACKAGES = List.of(
+            "java.sql.", "javax.sql.", "com.zaxxer.hikari.", "org.postgresql.", "com.mysql.", "org.mariadb.",
+            "oracle.jdbc.", "com.microsoft.sqlserver.", "org.h2.", "org.hsqldb.", "com.ibm.db2.");
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Duration threshold;
+    private final int maxLocations;
+    private final Map<String, Location> locations = new ConcurrentHashMap<>();
+    private final LongAdder pinnedCount = new LongAdder();
+    private volatile Counter submitFailed;
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${financer.threads.virtual.pinning.threshold:20ms}") Duration threshold,
+            @Value("${financer.threads.virtual.pinning.max-locations:100}") int maxLocations) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+        this.maxLocations = maxLocations;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED).withThreshold(threshold).withStackTrace();
+            recording.enable(SUBMIT_FAILED);
+            recording.setMaxAge(Duration.ofSeconds(10));
+            recording.onEvent(PINNED, this::onPinned);
+            recording.onEvent(SUBMIT_FAILED, this::onSubmitFailed);
+            recording.startAsync();
+            stream = recording;
+            log.info("Virtual thread pinning monitor started (threshold {})", threshold);
+        } catch (RuntimeException | LinkageError e) {
+            // JFR missing or disabled in this runtime: run without the monitor
+            log.warn("Virtual thread pinning monitor unavailable: {}", e.toString());
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String location = location(frames);
+        String source = source(frames);
+        String key = source + '|' + location;
+        Location seen = locations.get(key);
+        if (seen == null) {
+            if (locations.size() >= maxLocations) {
+                key = source + '|' + OTHER;
+                location = OTHER;
+            } else {
+                log.warn("Virtual thread pinned for {} ms at {} ({}):{}", event.getDuration().toMillis(),
+                        location, source, stack(frames));
+            }
+            String tagged = location;
+            seen = locations.computeIfAbsent(key, k -> new Location(timer(source, tagged)));
+        }
+        if (seen.timer() != null) {
+            seen.timer().record(event.getDuration());
+        }
+    }
+
+    void onSubmitFailed(RecordedEvent event) {
+        log.error("Virtual thread could not be scheduled: {}", event.getString("exceptionMessage"));
+        Counter counter = submitFailed;
+        if (counter == null) {
+            MeterRegistry meters = meterRegistry.getIfAvailable();
+            if (meters == null) {
+                return;
+            }
+            counter = Counter.builder("financer.threads.virtual.submit.failed")
+                    .description("Virtual threads that could not be scheduled").register(meters);
+            submitFailed = counter;
+        }
+        counter.increment();
+    }
+
+    private Timer timer(String source, String location) {
+        MeterRegistry meters = meterRegistry.getIfAvailable();
+        if (meters == null) {
+            return null;
+        }
+        return Timer.builder("financer.threads.virtual.pinned")
+                .description("Waits of virtual threads pinned to their carrier thread")
+                .tag("source", source)
+                .tag("location", location)
+                .register(meters);
+    }
+
+    /**
+     * Pinned waits seen since startup, whatever the location.
+     */
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    private static String location(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!startsWithAny(type, JDK_PACKAGES)) {
+                return type + '.' + frame.getMethod().getName();
+            }
+        }
+        return frames.isEmpty() ? "unknown" : frames.getFirst().getMethod().getType().getName();
+    }
+
+    private static String source(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (startsWithAny(frame.getMethod().getType().getName(), JDBC_PACKAGES)) {
+                return "jdbc";
+            }
+        }
+        return "synchronized";
+    }
+
+    private static String stack(List<RecordedFrame> frames) {
+        StringBuilder stack = new StringBuilder();
+        for (int i = 0; i < frames.size() && i < LOGGED_FRAMES; i++) {
+            RecordedFrame frame = frames.get(i);
+            stack.append("\n\tat ").append(frame.getMethod().getType().getName())
+                    .append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber());
+        }
+        return stack.toString();
+    }
+
+    private static boolean startsWithAny(String type, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (type.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Location(Timer timer) {
+    }
+
+    @Override
+    public void destroy() {
+        RecordingStream current = stream;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
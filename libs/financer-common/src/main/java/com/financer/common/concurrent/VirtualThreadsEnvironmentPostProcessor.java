@@ -0,0 +1,60 @@
+package com.financer.common.concurrent;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Switches the application to virtual threads when
+ * {@code financer.threads.virtual.enabled=true} (default {@code false}).
+ * <p>
+ * Translates the switch into Boot's own settings rather than building
+ * executors by hand, so every place Boot knows about follows:
+ * <ul>
+ *     <li>{@code spring.threads.virtual.enabled=true} — Tomcat request
+ *     handling, the {@code @Async} executor ({@code applicationTaskExecutor})
+ *     and the {@code @Scheduled} scheduler run on virtual threads;</li>
+ *     <li>{@code spring.main.keep-alive=true} — virtual threads are daemon
+ *     threads, so applications driven only by schedulers or listeners would
+ *     otherwise exit after startup.</li>
+ * </ul>
+ * The values are added with the lowest precedence: anything set explicitly
+ * in the application's configuration wins.
+ * <p>
+ * Once the request pool is gone nothing bounds concurrency any more; see
+ * {@link ConcurrencyLimiters} for per-resource caps and
+ * {@link VirtualThreadPinningMonitor} for pinning.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class VirtualThreadsEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    static final String ENABLED = "financer.threads.virtual.enabled";
+
+    private static final String SOURCE_NAME = "financerVirtualThreads";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty(ENABLED, Boolean.class, false)
+                || environment.getPropertySources().contains(SOURCE_NAME)) {
+            return;
+        }
+        environment.getPropertySources().addLast(new MapPropertySource(SOURCE_NAME, Map.of(
+                "spring.threads.virtual.enabled", true,
+                "spring.main.keep-alive", true)));
+    }
+
+    /**
+     * After the config data files, so {@code application.yml} can turn it on.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,49 @@
+package com.financer.common.constraints;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Hand-written {@link Pan} validator: a single pass over the characters, no regex, no allocation.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class PanValidator implements ConstraintValidator<Pan, CharSequence> {
+
+    private static final int MIN_DIGITS = 13;
+    private static final int MAX_DIGITS = 19;
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || isPan(value);
+    }
+
+    /**
+     * @return whether {@code value} is 13-19 ASCII digits with a valid Luhn check digit
+     */
+    public static boolean isPan(CharSequence value) {
+        int length = value.length();
+        if (length < MIN_DIGITS || length > MAX_DIGITS) {
+            return false;
+        }
+        int sum = 0;
+        boolean doubled = false;
+        for (int i = length - 1; i >= 0; i--) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            if (doubled) {
+                digit <<= 1;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return sum % 10 == 0;
+    }
+}
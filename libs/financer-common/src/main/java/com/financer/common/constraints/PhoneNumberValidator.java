@@ -0,0 +1,33 @@
+package com.financer.common.constraints;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Hand-written {@link PhoneNumber} validator: a single pass over the characters, no regex, no allocation.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class PhoneNumberValidator implements ConstraintValidator<PhoneNumber, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        int length = value.length();
+        int i = length > 0 && value.charAt(0) == '+' ? 1 : 0;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            boolean allowed = (c >= '0' && c <= '9')
+                    || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r'
+                    || c == '-' || c == '(' || c == ')';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
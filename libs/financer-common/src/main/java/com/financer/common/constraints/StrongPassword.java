@@ -0,0 +1,33 @@
+package com.financer.common.constraints;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated string must contain at least one ASCII lowercase letter, one
+ * ASCII uppercase letter and one digit, on a single line. Length is left to
+ * {@code @Size}.
+ * {@code null} is valid; combine with {@code @NotBlank} when required.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Documented
+@Constraint(validatedBy = StrongPasswordValidator.class)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StrongPassword {
+
+    String message() default "Password must contain at least one uppercase letter, one lowercase letter, and one digit";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
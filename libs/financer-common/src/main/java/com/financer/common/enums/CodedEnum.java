@@ -0,0 +1,17 @@
+package com.financer.common.enums;
+
+/**
+ * Contract for enums that are exchanged by a stable external code
+ * (JSON value, database column) instead of their constant name.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public interface CodedEnum {
+
+    /**
+     * @return the external code of this constant
+     */
+    String getCode();
+}
@@ -0,0 +1,36 @@
+package com.financer.common.enums;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
+
+/**
+ * Spring {@link ConverterFactory} that reads {@link CodedEnum} values by code
+ * through the shared {@link EnumCodeRegistry}.
+ * <p>
+ * Register it in Spring Data JDBC custom conversions ({@code JdbcCustomConversions})
+ * or in a {@code FormatterRegistry} when request parameters should bind by code
+ * instead of by constant name.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class CodedEnumConverterFactory implements ConverterFactory<String, CodedEnum> {
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T extends CodedEnum> Converter<String, T> getConverter(Class<T> targetType) {
+        EnumCodeRegistry registry = EnumCodeRegistry.of((Class) targetType);
+        return source -> {
+            if (source.isEmpty()) {
+                return null;
+            }
+            Object value = registry.lookup(source);
+            if (value == null) {
+                throw new IllegalArgumentException(
+                        "Invalid " + targetType.getSimpleName() + " code: " + source);
+            }
+            return (T) value;
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.financer.common.enums;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Base JPA attribute converter that stores a {@link CodedEnum} by its code.
+ * Services declare one concrete {@code @Converter} per enum type:
+ *
+ * <pre>{@code
+ * @Converter(autoApply = true)
+ * public class AccountStatusConverter extends EnumCodeAttributeConverter<AccountStatus> {
+ *     public AccountStatusConverter() {
+ *         super(AccountStatus.class);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public abstract class EnumCodeAttributeConverter<E extends Enum<E> & CodedEnum>
+        implements AttributeConverter<E, String> {
+
+    private final EnumCodeRegistry<E> registry;
+
+    protected EnumCodeAttributeConverter(Class<E> type) {
+        this.registry = EnumCodeRegistry.of(type);
+    }
+
+    @Override
+    public String convertToDatabaseColumn(E attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public E convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        E value = registry.lookup(dbData);
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "Invalid " + registry.type().getSimpleName() + " code in database: " + dbData);
+        }
+        return value;
+    }
+}
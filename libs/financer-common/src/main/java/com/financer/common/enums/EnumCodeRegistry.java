@@ -0,0 +1,146 @@
+package com.financer.common.enums;
+
+import java.lang.reflect.Array;
+
+/**
+ * Precomputed code lookup for {@link CodedEnum} types.
+ * <p>
+ * The table is built once per enum type and uses open addressing over the
+ * constants' codes, so {@link #lookup(String)} runs in constant time without
+ * cloning {@code values()} or allocating per call. Case-insensitive registries
+ * fold the hash the same way {@link String#equalsIgnoreCase(String)} compares
+ * characters, keeping the previous {@code fromCode} semantics.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class EnumCodeRegistry<E extends Enum<E> & CodedEnum> {
+
+    private static final ClassValue<EnumCodeRegistry<?>> IGNORE_CASE = new ClassValue<>() {
+        @Override
+        protected EnumCodeRegistry<?> computeValue(Class<?> type) {
+            return create(type, true);
+        }
+    };
+
+    private static final ClassValue<EnumCodeRegistry<?>> EXACT = new ClassValue<>() {
+        @Override
+        protected EnumCodeRegistry<?> computeValue(Class<?> type) {
+            return create(type, false);
+        }
+    };
+
+    private final Class<E> type;
+    private final boolean ignoreCase;
+    private final String[] codes;
+    private final E[] constants;
+    private final int mask;
+
+    private EnumCodeRegistry(Class<E> type, boolean ignoreCase) {
+        this.type = type;
+        this.ignoreCase = ignoreCase;
+
+        E[] values = type.getEnumConstants();
+        int capacity = Integer.highestOneBit(Math.max(values.length, 1) * 4 - 1) << 1;
+        this.mask = capacity - 1;
+        this.codes = new String[capacity];
+        @SuppressWarnings("unchecked")
+        E[] slots = (E[]) Array.newInstance(type, capacity);
+        this.constants = slots;
+
+        for (E value : values) {
+            String code = value.getCode();
+            if (code == null) {
+                throw new IllegalStateException("Null code for " + type.getName() + "." + value.name());
+            }
+            int slot = hash(code) & mask;
+            while (codes[slot] != null) {
+                if (matches(codes[slot], code)) {
+                    throw new IllegalStateException("Duplicate code '" + code + "' in " + type.getName());
+                }
+                slot = (slot + 1) & mask;
+            }
+            codes[slot] = code;
+            constants[slot] = value;
+        }
+    }
+
+    /**
+     * Returns the shared case-insensitive registry for the given enum type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E> & CodedEnum> EnumCodeRegistry<E> of(Class<E> type) {
+        return (EnumCodeRegistry<E>) IGNORE_CASE.get(type);
+    }
+
+    /**
+     * Returns the shared case-sensitive registry for the given enum type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E> & CodedEnum> EnumCodeRegistry<E> exact(Class<E> type) {
+        return (EnumCodeRegistry<E>) EXACT.get(type);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static EnumCodeRegistry<?> create(Class<?> type, boolean ignoreCase) {
+        if (!type.isEnum() || !CodedEnum.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(type.getName() + " is not a CodedEnum");
+        }
+        return new EnumCodeRegistry(type, ignoreCase);
+    }
+
+    /**
+     * Resolves a constant by its code.
+     *
+     * @param code the external code, may be {@code null}
+     * @return the matching constant, or {@code null} when there is none
+     */
+    public E lookup(String code) {
+        if (code == null) {
+            return null;
+        }
+        int slot = hash(code) & mask;
+        String candidate;
+        while ((candidate = codes[slot]) != null) {
+            if (matches(candidate, code)) {
+                return constants[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * @return the enum type backing this registry
+     */
+    public Class<E> type() {
+        return type;
+    }
+
+    private boolean matches(String candidate, String code) {
+        return ignoreCase ? candidate.equalsIgnoreCase(code) : candidate.equals(code);
+    }
+
+    private int hash(String code) {
+        if (!ignoreCase) {
+            return spread(code.hashCode());
+        }
+        int h = 0;
+        for (int i = 0, n = code.length(); i < n; i++) {
+            h = 31 * h + fold(code.charAt(i));
+        }
+        return spread(h);
+    }
+
+    private static char fold(char c) {
+        if (c < 0x80) {
+            return (c >= 'A' && c <= 'Z') ? (char) (c | 0x20) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,33 @@
+package com.financer.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a downstream resource is at its concurrency cap and
+ * no permit freed up within the acquire timeout.
+ * <p>
+ * Maps to 503, so callers shed load instead of queueing behind this
+ * instance. Raised in bulk exactly when the service is overloaded, so it
+ * never captures a stack trace and logs as a warning.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends FinancerException {
+
+    private final String resource;
+
+    public ConcurrencyLimitExceededException(String resource, int limit) {
+        super("Concurrency limit of " + limit + " reached for resource: " + resource,
+                "CONCURRENCY_LIMIT_EXCEEDED", HttpStatus.SERVICE_UNAVAILABLE, null, false);
+        this.resource = resource;
+    }
+
+    @Override
+    public ErrorSeverity getSeverity() {
+        return ErrorSeverity.WARNING;
+    }
+}
@@ -0,0 +1,35 @@
+package com.financer.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * How an exception is treated by {@link GlobalExceptionHandler}.
+ * 
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public enum ErrorSeverity {
+
+    /**
+     * Expected control flow (not found, validation): INFO, no stack trace.
+     */
+    EXPECTED,
+
+    /**
+     * Worth attention but not a bug (e.g. conflicts, upstream rejections): WARN, no stack trace.
+     */
+    WARNING,
+
+    /**
+     * Server-side failure: ERROR with stack trace.
+     */
+    ERROR;
+
+    /**
+     * Default classification: 5xx is {@link #ERROR}, everything else {@link #EXPECTED}.
+     */
+    public static ErrorSeverity of(HttpStatus status) {
+        return status.is5xxServerError() ? ERROR : EXPECTED;
+    }
+}
@@ -0,0 +1,125 @@
+package com.financer.common.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-error-code rate limiter for {@link GlobalExceptionHandler} logging.
+ * <p>
+ * In each window the first {@code financer.logging.exceptions.full-per-window}
+ * occurrences of an error code are logged in full, then one in every
+ * {@code sample-every}; the rest are only counted. At the end of the window a
+ * summary line reports the suppressed count per code, and the
+ * {@code financer.exceptions.suppressed} counter (tag {@code error.code})
+ * exposes the same numbers. A storm of one error therefore costs a counter
+ * increment per request instead of a formatted stack trace queued to the
+ * async appender.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+public class ExceptionLogLimiter {
+
+    static final String SUPPRESSED_METRIC = "financer.exceptions.suppressed";
+
+    private final int fullPerWindow;
+    private final long sampleEvery;
+    private final long windowSeconds;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ErrorCodeWindow> windows = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public ExceptionLogLimiter(
+            @Value("${financer.logging.exceptions.full-per-window:10}") int fullPerWindow,
+            @Value("${financer.logging.exceptions.sample-every:100}") long sampleEvery,
+            @Value("${financer.logging.exceptions.window-seconds:60}") long windowSeconds,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.fullPerWindow = fullPerWindow;
+        this.sampleEvery = sampleEvery;
+        this.windowSeconds = Math.max(1, windowSeconds);
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "financer-exception-log-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleAtFixedRate(this::closeWindow, this.windowSeconds, this.windowSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Records one occurrence of {@code errorCode}.
+     *
+     * @return whether this occurrence should be logged in full
+     */
+    public boolean shouldLog(String errorCode, ErrorSeverity severity) {
+        ErrorCodeWindow window = windows.computeIfAbsent(errorCode, code -> new ErrorCodeWindow(code, severity));
+        long n = window.occurrences.incrementAndGet();
+        if (n <= fullPerWindow || (sampleEvery > 0 && (n - fullPerWindow) % sampleEvery == 0)) {
+            return true;
+        }
+        window.suppressed.incrementAndGet();
+        if (window.counter != null) {
+            window.counter.increment();
+        }
+        return false;
+    }
+
+    /**
+     * Emits the summary lines and starts a new window.
+     */
+    void closeWindow() {
+        for (ErrorCodeWindow window : windows.values()) {
+            long occurrences = window.occurrences.getAndSet(0);
+            long suppressed = window.suppressed.getAndSet(0);
+            if (suppressed == 0) {
+                continue;
+            }
+            if (window.severity == ErrorSeverity.ERROR) {
+                log.error("Suppressed {} of {} [{}] log entries in the last {}s",
+                        suppressed, occurrences, window.errorCode, windowSeconds);
+            } else {
+                log.warn("Suppressed {} of {} [{}] log entries in the last {}s",
+                        suppressed, occurrences, window.errorCode, windowSeconds);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        closeWindow();
+    }
+
+    private final class ErrorCodeWindow {
+
+        private final String errorCode;
+        private final ErrorSeverity severity;
+        private final AtomicLong occurrences = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+        private final Counter counter;
+
+        private ErrorCodeWindow(String errorCode, ErrorSeverity severity) {
+            this.errorCode = errorCode;
+            this.severity = severity;
+            this.counter = meterRegistry == null ? null : Counter.builder(SUPPRESSED_METRIC)
+                    .description("Exception log entries suppressed by the per-error-code rate limit")
+                    .tag("error.code", errorCode)
+                    .register(meterRegistry);
+        }
+    }
+}
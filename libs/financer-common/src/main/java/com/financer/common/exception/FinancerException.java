@@ -3,11 +3,18 @@ package com.financer.common.exception;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
  * Base exception class for all Financer business exceptions.
  * Provides consistent error handling across all microservices.
+ * <p>
+ * Business exceptions are expected control flow, so by default only 5xx
+ * exceptions capture a stack trace; {@code -Dfinancer.exceptions.stack-traces=true}
+ * captures it for all of them while debugging. The timestamp is recorded
+ * as epoch millis and only turned into a {@link LocalDateTime} when read.
  * 
  * @author Financer Team
  * @version 1.0.0
@@ -16,21 +23,43 @@ import java.time.LocalDateTime;
 @Getter
 public class FinancerException extends RuntimeException {
 
+    private static final boolean CAPTURE_STACK_TRACES = Boolean.getBoolean("financer.exceptions.stack-traces");
+
     private final String errorCode;
     private final HttpStatus httpStatus;
-    private final LocalDateTime timestamp;
+    private final long timestampMillis;
 
     public FinancerException(String message, String errorCode, HttpStatus httpStatus) {
-        super(message);
-        this.errorCode = errorCode;
-        this.httpStatus = httpStatus;
-        this.timestamp = LocalDateTime.now();
+        this(message, errorCode, httpStatus, null, captureStackTrace(httpStatus));
     }
 
     public FinancerException(String message, String errorCode, HttpStatus httpStatus, Throwable cause) {
-        super(message, cause);
+        this(message, errorCode, httpStatus, cause, captureStackTrace(httpStatus));
+    }
+
+    /**
+     * @param writableStackTrace whether to capture the stack trace regardless of the default
+     */
+    protected FinancerException(String message, String errorCode, HttpStatus httpStatus, Throwable cause,
+                                boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace || CAPTURE_STACK_TRACES);
         this.errorCode = errorCode;
         this.httpStatus = httpStatus;
-        this.timestamp = LocalDateTime.now();
+        this.timestampMillis = System.currentTimeMillis();
+    }
+
+    public LocalDateTime getTimestamp() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * Drives logging in {@link GlobalExceptionHandler}; override to reclassify.
+     */
+    public ErrorSeverity getSeverity() {
+        return ErrorSeverity.of(httpStatus);
+    }
+
+    private static boolean captureStackTrace(HttpStatus httpStatus) {
+        return httpStatus.is5xxServerError();
     }
 }
@@ -1,6 +1,8 @@
 package com.financer.common.exception;
 
+import com.financer.common.jfr.ExceptionHandlingEvent;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +18,11 @@ import java.util.Map;
 /**
  * Global exception handler for all Financer microservices.
  * Catches and handles exceptions with consistent error responses.
+ * Logging is rate limited per error code by {@link ExceptionLogLimiter}.
+ * <p>
+ * The error code is left in the {@link #ERROR_CODE_ATTRIBUTE} request
+ * attribute for the per-error-code latency histograms, and each handling
+ * is a {@code com.financer.ExceptionHandling} JFR event.
  * 
  * @author Financer Team
  * @version 1.0.0
@@ -23,19 +30,35 @@ import java.util.Map;
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    /**
+     * Request attribute holding the error code of the response.
+     */
+    public static final String ERROR_CODE_ATTRIBUTE = GlobalExceptionHandler.class.getName() + ".errorCode";
+
+    private final ExceptionLogLimiter logLimiter;
+
     /**
      * Handles FinancerException and its subclasses.
+     * Logged according to {@link FinancerException#getSeverity()}: expected
+     * business errors at INFO and warnings at WARN, both without stack trace.
      */
     @ExceptionHandler(FinancerException.class)
     public ResponseEntity<ErrorResponse> handleFinancerException(
             FinancerException ex,
             HttpServletRequest request) {
         
-        log.error("Financer exception occurred: {}", ex.getMessage(), ex);
+        ExceptionHandlingEvent event = new ExceptionHandlingEvent();
+        event.begin();
+        ErrorSeverity severity = ex.getSeverity();
+        if (logLimiter.shouldLog(ex.getErrorCode(), severity)) {
+            logFinancerException(ex, severity, request);
+        }
         
         ErrorResponse errorResponse = ErrorResponse.of(ex, request.getRequestURI());
+        handled(event, ex, ex.getErrorCode(), ex.getHttpStatus(), request);
         return ResponseEntity.status(ex.getHttpStatus()).body(errorResponse);
     }
 
@@ -47,7 +70,12 @@ public class GlobalExceptionHandler {
             MethodArgumentNotValidException ex,
             HttpServletRequest request) {
         
-        log.error("Validation exception occurred: {}", ex.getMessage());
+        ExceptionHandlingEvent event = new ExceptionHandlingEvent();
+        event.begin();
+        // expected client error; ex.getMessage() would render every field error
+        if (logLimiter.shouldLog("VALIDATION_ERROR", ErrorSeverity.EXPECTED)) {
+            log.info("Validation failed on {}: {} error(s)", request.getRequestURI(), ex.getErrorCount());
+        }
         
         Map<String, String> validationErrors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
@@ -66,6 +94,7 @@ public class GlobalExceptionHandler {
                 .validationErrors(validationErrors)
                 .build();
 
+        handled(event, ex, "VALIDATION_ERROR", HttpStatus.BAD_REQUEST, request);
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
@@ -77,7 +106,11 @@ public class GlobalExceptionHandler {
             Exception ex,
             HttpServletRequest request) {
         
-        log.error("Unexpected exception occurred: {}", ex.getMessage(), ex);
+        ExceptionHandlingEvent event = new ExceptionHandlingEvent();
+        event.begin();
+        if (logLimiter.shouldLog(ex.getClass().getName(), ErrorSeverity.ERROR)) {
+            log.error("Unexpected exception occurred: {}", ex.getMessage(), ex);
+        }
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -88,6 +121,29 @@ public class GlobalExceptionHandler {
                 .path(request.getRequestURI())
                 .build();
 
+        handled(event, ex, "INTERNAL_SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR, request);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
+
+    private static void handled(ExceptionHandlingEvent event, Exception ex, String errorCode, HttpStatus status,
+                                HttpServletRequest request) {
+        request.setAttribute(ERROR_CODE_ATTRIBUTE, errorCode);
+        event.end();
+        if (event.shouldCommit()) {
+            event.exception = ex.getClass();
+            event.errorCode = errorCode;
+            event.status = status.value();
+            event.commit();
+        }
+    }
+
+    private void logFinancerException(FinancerException ex, ErrorSeverity severity, HttpServletRequest request) {
+        switch (severity) {
+            case EXPECTED -> log.info("Financer exception [{}] on {}: {}",
+                    ex.getErrorCode(), request.getRequestURI(), ex.getMessage());
+            case WARNING -> log.warn("Financer exception [{}] on {}: {}",
+                    ex.getErrorCode(), request.getRequestURI(), ex.getMessage());
+            case ERROR -> log.error("Financer exception occurred: {}", ex.getMessage(), ex);
+        }
+    }
 }
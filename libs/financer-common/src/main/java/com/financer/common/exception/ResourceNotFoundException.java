@@ -13,7 +13,7 @@ public class ResourceNotFoundException extends FinancerException {
 
     public ResourceNotFoundException(String resource, String id) {
         super(
-                "%s not found with id: %s".formatted(resource, id),
+            resource + " not found with id: " + id,
             "RESOURCE_NOT_FOUND",
             HttpStatus.NOT_FOUND
         );
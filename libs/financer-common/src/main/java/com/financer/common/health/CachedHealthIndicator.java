@@ -0,0 +1,156 @@
+package com.financer.common.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HealthIndicator} answering from the last result of a background probe.
+ * <p>
+ * {@link HealthProbeScheduler} runs the delegate every {@code interval} on a
+ * probe thread; {@link #health()} only reads a volatile snapshot, so
+ * {@code /actuator/health} and Eureka renewals never wait on a database,
+ * broker or remote call. A probe still running after {@code timeout} is
+ * reported as {@code DOWN} (it is not resubmitted until it returns), and a
+ * snapshot older than {@code maxStaleness} is reported as {@code DOWN} with
+ * its last known status: a hung dependency has to take the aggregate, and so
+ * readiness and the Eureka status, down with it, which a custom status
+ * missing from {@code management.endpoint.health.status.order} would not.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class CachedHealthIndicator implements HealthIndicator {
+
+    private static final Health PENDING = Health.unknown().withDetail("reason", "first probe pending").build();
+
+    private final String name;
+    private final HealthIndicator delegate;
+    private final Duration interval;
+    private final Duration timeout;
+    private final long maxStalenessNanos;
+
+    private volatile Snapshot snapshot;
+
+    // scheduler thread only
+    private Future<?> inFlight;
+    private long inFlightStarted;
+
+    public CachedHealthIndicator(String name, HealthIndicator delegate,
+                                 Duration interval, Duration timeout, Duration maxStaleness) {
+        this.name = name;
+        this.delegate = delegate;
+        this.interval = interval;
+        this.timeout = timeout;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+    }
+
+    @Override
+    public Health health() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return PENDING;
+        }
+        long age = System.nanoTime() - current.completedAt;
+        if (age > maxStalenessNanos) {
+            return Health.down()
+                    .withDetail("reason", "stale")
+                    .withDetail("lastStatus", current.probedStatus.getCode())
+                    .withDetail("ageMs", TimeUnit.NANOSECONDS.toMillis(age))
+                    .build();
+        }
+        return current.health;
+    }
+
+    /**
+     * Starts a probe unless the previous one is still running.
+     */
+    void probe(ExecutorService probes, ScheduledExecutorService scheduler) {
+        if (inFlight != null && !inFlight.isDone()) {
+            checkTimeout();
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            inFlight = probes.submit(() -> record(run(), started));
+        } catch (RejectedExecutionException e) {
+            return;
+        }
+        inFlightStarted = started;
+        scheduler.schedule(this::checkTimeout, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void checkTimeout() {
+        if (inFlight == null || inFlight.isDone()) {
+            return;
+        }
+        long elapsed = System.nanoTime() - inFlightStarted;
+        if (elapsed >= timeout.toNanos()) {
+            Snapshot current = snapshot;
+            Status lastStatus = current == null ? Status.UNKNOWN : current.probedStatus;
+            Health timedOut = Health.down()
+                    .withDetail("reason", "timeout")
+                    .withDetail("timeoutMs", timeout.toMillis())
+                    .withDetail("runningMs", TimeUnit.NANOSECONDS.toMillis(elapsed))
+                    .withDetail("lastStatus", lastStatus.getCode())
+                    .build();
+            snapshot = new Snapshot(timedOut, System.nanoTime(), elapsed, lastStatus);
+        }
+    }
+
+    private Health run() {
+        try {
+            Health health = delegate.health();
+            return health != null ? health : Health.unknown().build();
+        } catch (Exception e) {
+            return Health.down(e).build();
+        }
+    }
+
+    private void record(Health health, long started) {
+        long now = System.nanoTime();
+        snapshot = new Snapshot(health, now, now - started, health.getStatus());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public HealthIndicator getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Summary of the last probe for {@link FinancerHealthIndicator}; {@code null} before the first one.
+     */
+    ProbeState state() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        return new ProbeState(health().getStatus(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - current.completedAt),
+                TimeUnit.NANOSECONDS.toMillis(current.durationNanos));
+    }
+
+    record ProbeState(Status status, long ageMs, long durationMs) {
+    }
+
+    /**
+     * @param probedStatus status of the last probe that actually returned
+     */
+    private record Snapshot(Health health, long completedAt, long durationNanos, Status probedStatus) {
+    }
+}
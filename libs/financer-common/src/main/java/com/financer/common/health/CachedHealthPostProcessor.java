@@ -0,0 +1,119 @@
+package com.financer.common.health;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Wraps every {@link HealthIndicator} bean in a {@link CachedHealthIndicator},
+ * so both {@code /actuator/health} and the Eureka health check handler read
+ * cached results.
+ * <p>
+ * Settings, under {@code financer.health.cache}, with per-indicator overrides
+ * under {@code financer.health.cache.indicators.<name>} ({@code name} is the
+ * contributor name, e.g. {@code db}, {@code mongo}, {@code kafka}):
+ * <ul>
+ *     <li>{@code enabled} — default {@code true}</li>
+ *     <li>{@code interval} — time between probes, default {@code 10s}</li>
+ *     <li>{@code timeout} — after which a running probe reports DOWN, default {@code 3s}</li>
+ *     <li>{@code max-staleness} — oldest result served as is, default {@code 3 × interval}</li>
+ *     <li>{@code exclude} — contributor names left uncached, default {@code ping}</li>
+ * </ul>
+ * Composite contributors are left as they are; their indicators are wrapped
+ * only when they are beans themselves.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+public class CachedHealthPostProcessor implements BeanPostProcessor, EnvironmentAware, DisposableBean {
+
+    private static final String PREFIX = "financer.health.cache.";
+
+    private Environment environment;
+    private volatile HealthProbeScheduler scheduler;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HealthIndicator indicator)
+                || bean instanceof CachedHealthIndicator
+                || bean instanceof FinancerHealthIndicator
+                || !environment.getProperty(PREFIX + "enabled", Boolean.class, true)) {
+            return bean;
+        }
+        String name = contributorName(beanName);
+        List<String> excluded = Arrays.asList(environment.getProperty(PREFIX + "exclude", String[].class, new String[]{"ping"}));
+        if (excluded.contains(name)) {
+            return bean;
+        }
+        Duration interval = duration(name, "interval", Duration.ofSeconds(10));
+        Duration timeout = duration(name, "timeout", Duration.ofSeconds(3));
+        Duration maxStaleness = duration(name, "max-staleness", interval.multipliedBy(3));
+        CachedHealthIndicator cached = new CachedHealthIndicator(name, indicator, interval, timeout, maxStaleness);
+        scheduler().register(cached);
+        log.info("Health indicator '{}' cached (interval {}, timeout {}, max staleness {})",
+                name, interval, timeout, maxStaleness);
+        return cached;
+    }
+
+    /**
+     * Indicators wrapped so far, in registration order.
+     */
+    public List<CachedHealthIndicator> getCachedIndicators() {
+        HealthProbeScheduler current = scheduler;
+        return current == null ? List.of() : current.getIndicators();
+    }
+
+    private HealthProbeScheduler scheduler() {
+        HealthProbeScheduler current = scheduler;
+        if (current == null) {
+            synchronized (this) {
+                current = scheduler;
+                if (current == null) {
+                    current = new HealthProbeScheduler();
+                    scheduler = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    private Duration duration(String name, String key, Duration defaultValue) {
+        Duration global = environment.getProperty(PREFIX + key, Duration.class, defaultValue);
+        return environment.getProperty(PREFIX + "indicators." + name + "." + key, Duration.class, global);
+    }
+
+    /**
+     * Same naming as Spring Boot's health contributor registry.
+     */
+    private static String contributorName(String beanName) {
+        for (String suffix : new String[]{"HealthIndicator", "HealthContributor"}) {
+            if (beanName.length() > suffix.length() && beanName.toLowerCase().endsWith(suffix.toLowerCase())) {
+                return beanName.substring(0, beanName.length() - suffix.length());
+            }
+        }
+        return beanName;
+    }
+}
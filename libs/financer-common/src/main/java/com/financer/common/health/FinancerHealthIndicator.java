@@ -1,17 +1,27 @@
 package com.financer.common.health;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Custom health indicator for Financer applications.
  * Provides application health status and metadata.
+ * <p>
+ * Also summarizes the dependency indicators cached by
+ * {@link CachedHealthPostProcessor} (status, result age, probe duration); a
+ * slow or stale dependency already reports {@code DOWN} through its own
+ * indicator. Like the cached indicators it never runs a probe itself.
  * 
  * @author Financer Team
  * @version 1.0.0
@@ -19,6 +29,7 @@ import java.time.format.DateTimeFormatter;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FinancerHealthIndicator implements HealthIndicator {
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
@@ -32,15 +43,35 @@ public class FinancerHealthIndicator implements HealthIndicator {
     @Value("${financer.common.version:@project.version@}")
     private String commonLibVersion;
 
+    private final ObjectProvider<CachedHealthPostProcessor> cachedHealth;
+
     @Override
     public Health health() {
         try {
+            Map<String, Object> dependencies = new LinkedHashMap<>();
+            boolean down = false;
+            CachedHealthPostProcessor cache = cachedHealth.getIfAvailable();
+            if (cache != null) {
+                for (CachedHealthIndicator indicator : cache.getCachedIndicators()) {
+                    CachedHealthIndicator.ProbeState state = indicator.state();
+                    if (state == null) {
+                        dependencies.put(indicator.getName(), Map.of("status", Status.UNKNOWN.getCode()));
+                        continue;
+                    }
+                    down |= Status.DOWN.equals(state.status());
+                    dependencies.put(indicator.getName(), Map.of(
+                            "status", state.status().getCode(),
+                            "ageMs", state.ageMs(),
+                            "durationMs", state.durationMs()));
+                }
+            }
             return Health.up()
-                    .withDetail("status", "Application is running")
+                    .withDetail("status", down ? "Application is running, dependencies down" : "Application is running")
                     .withDetail("timestamp", LocalDateTime.now().format(FORMATTER))
                     .withDetail("service", applicationName)
                     .withDetail("version", applicationVersion)
                     .withDetail("financer-common-version", commonLibVersion)
+                    .withDetail("dependencies", dependencies)
                     .build();
         } catch (Exception e) {
             log.error("Health check failed", e);
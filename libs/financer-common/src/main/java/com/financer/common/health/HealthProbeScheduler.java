@@ -0,0 +1,58 @@
+package com.financer.common.health;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the {@link CachedHealthIndicator} probes.
+ * <p>
+ * One scheduler thread triggers probes and timeout checks; the probes
+ * themselves run on a separate pool so a hung dependency only ever holds its
+ * own thread (a probe is never resubmitted while it is still running).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+public class HealthProbeScheduler {
+
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(daemon("financer-health-scheduler"));
+    private final ExecutorService probes = Executors.newCachedThreadPool(daemon("financer-health-probe-"));
+    private final List<CachedHealthIndicator> indicators = new CopyOnWriteArrayList<>();
+
+    public void register(CachedHealthIndicator indicator) {
+        indicators.add(indicator);
+        scheduler.scheduleWithFixedDelay(() -> indicator.probe(probes, scheduler),
+                0, indicator.getInterval().toNanos(), TimeUnit.NANOSECONDS);
+        log.debug("Health indicator '{}' probed every {}", indicator.getName(), indicator.getInterval());
+    }
+
+    public List<CachedHealthIndicator> getIndicators() {
+        return List.copyOf(indicators);
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+        probes.shutdownNow();
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        boolean numbered = prefix.endsWith("-");
+        return runnable -> {
+            Thread thread = new Thread(runnable, numbered ? prefix + counter.incrementAndGet() : prefix);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.financer.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * {@code GlobalExceptionHandler} turning an exception into an error response.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Name("com.financer.ExceptionHandling")
+@Label("Exception Handling")
+@Category({"Financer", "HTTP"})
+@Description("Exception mapped to an error response, logging included")
+@StackTrace(false)
+public class ExceptionHandlingEvent extends jdk.jfr.Event {
+
+    @Label("Exception")
+    public Class<?> exception;
+
+    @Label("Error Code")
+    public String errorCode;
+
+    @Label("Status")
+    public int status;
+}
@@ -0,0 +1,91 @@
+package com.financer.common.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * {@code /actuator/flightrecording}: returns a JFR recording (see
+ * {@link FlightRecordings}), to open in JDK Mission Control.
+ *
+ * <pre>
+ * curl -o app.jfr 'localhost:8080/actuator/flightrecording?duration=60s'
+ * </pre>
+ *
+ * Answers 429 while another on-demand recording is in progress. Not exposed
+ * by default: add {@code flightrecording} to
+ * {@code management.endpoints.web.exposure.include} on a secured port.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+@WebEndpoint(id = "flightrecording")
+@ConditionalOnProperty(value = "financer.jfr.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint {
+
+    private static final Duration DEFAULT_DURATION = Duration.ofSeconds(30);
+
+    private final FlightRecordings recordings;
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Nullable Duration duration) throws IOException {
+        try {
+            Path file = recordings.dump(duration != null ? duration : DEFAULT_DURATION);
+            if (file == null) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+            }
+            return new WebEndpointResponse<>(new TemporaryFileResource(file), WebEndpointResponse.STATUS_OK);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * Deleted once streamed; not a plain file, so the response is not sent with zero-copy.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private final Path file;
+
+        private TemporaryFileResource(Path file) {
+            super(file);
+            this.file = file;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.financer.common.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process Flight Recorder control, behind {@code /actuator/flightrecording}.
+ * <p>
+ * Recording settings are the JDK {@code default} profile (the one built for
+ * continuous production use, ~1% overhead) overlaid with the bundled
+ * {@code META-INF/jfr/financer.jfc}: the Financer events with their
+ * thresholds, socket and lock waits above 20ms with stack traces (JDBC and
+ * downstream calls show up as {@code jdk.SocketRead}), and no environment
+ * variables, system properties or JVM arguments, which may hold secrets.
+ * <p>
+ * With {@code financer.jfr.continuous.enabled=true} a recording runs from
+ * startup, bounded by {@code max-age} (default 1h) and {@code max-size}
+ * (default 250MB), and a dump returns what it holds. Otherwise a dump
+ * records for the requested duration first; one at a time.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "financer.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecordings implements InitializingBean, DisposableBean {
+
+    public static final String PROFILE = "META-INF/jfr/financer.jfc";
+
+    private final boolean continuousEnabled;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    @Getter
+    private final Duration maxDuration;
+    private final AtomicBoolean onDemandRunning = new AtomicBoolean();
+    private Map<String, String> settings;
+    private volatile Recording continuous;
+
+    public FlightRecordings(
+            @Value("${financer.jfr.continuous.enabled:false}") boolean continuousEnabled,
+            @Value("${financer.jfr.continuous.max-age:1h}") Duration maxAge,
+            @Value("${financer.jfr.continuous.max-size:250MB}") DataSize maxSize,
+            @Value("${financer.jfr.on-demand.max-duration:5m}") Duration maxDuration) {
+        this.continuousEnabled = continuousEnabled;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException, ParseException {
+        settings = settings();
+        if (continuousEnabled) {
+            Recording recording = new Recording(settings);
+            recording.setName("financer-continuous");
+            recording.setToDisk(true);
+            recording.setMaxAge(maxAge);
+            recording.setMaxSize(maxSize.toBytes());
+            recording.start();
+            continuous = recording;
+            log.info("Continuous flight recording started (max age {}, max size {})", maxAge, maxSize);
+        }
+    }
+
+    /**
+     * JDK {@code default} settings overlaid with the bundled profile.
+     */
+    static Map<String, String> settings() throws IOException, ParseException {
+        Map<String, String> merged = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource(PROFILE).getInputStream(), StandardCharsets.UTF_8)) {
+            merged.putAll(Configuration.create(reader).getSettings());
+        }
+        return merged;
+    }
+
+    public boolean isContinuous() {
+        Recording recording = continuous;
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    /**
+     * Writes a recording to a temporary file: the continuous recording if one
+     * runs, otherwise a new one of {@code duration} (capped at {@code max-duration}).
+     *
+     * @return the file, or {@code null} when another on-demand recording is in progress
+     */
+    public Path dump(Duration duration) throws IOException, InterruptedException {
+        Path file = Files.createTempFile("financer-", ".jfr");
+        if (isContinuous()) {
+            continuous.dump(file);
+            return file;
+        }
+        if (!onDemandRunning.compareAndSet(false, true)) {
+            Files.deleteIfExists(file);
+            return null;
+        }
+        Duration length = duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        try (Recording recording = new Recording(settings)) {
+            recording.setName("financer-on-demand");
+            recording.setToDisk(true);
+            log.info("On-demand flight recording started for {}", length);
+            recording.start();
+            try {
+                Thread.sleep(length.toMillis());
+            } finally {
+                recording.stop();
+                recording.dump(file);
+            }
+            return file;
+        } finally {
+            onDemandRunning.set(false);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        Recording recording = continuous;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
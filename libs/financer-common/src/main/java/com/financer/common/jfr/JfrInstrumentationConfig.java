@@ -0,0 +1,64 @@
+package com.financer.common.jfr;
+
+import com.financer.common.json.PrebuiltJacksonHttpMessageConverter;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.validation.SmartValidator;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Hooks the serialization and validation JFR events into Spring MVC:
+ * Boot's JSON converter is swapped for a {@link RecordingJacksonHttpMessageConverter}
+ * and the {@code mvcValidator} bean is wrapped in a {@link RecordingValidator}.
+ * <p>
+ * Events that no recording enables cost a few nanoseconds each; disable the
+ * hooks altogether with {@code financer.jfr.events.enabled=false}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(value = "financer.jfr.events.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrInstrumentationConfig {
+
+    static final String MVC_VALIDATOR = "mvcValidator";
+
+    @Bean
+    public WebMvcConfigurer financerJfrWebMvcConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                for (int i = 0; i < converters.size(); i++) {
+                    if (converters.get(i).getClass() == MappingJackson2HttpMessageConverter.class
+                            || converters.get(i) instanceof PrebuiltJacksonHttpMessageConverter) {
+                        converters.set(i, new RecordingJacksonHttpMessageConverter(
+                                (MappingJackson2HttpMessageConverter) converters.get(i)));
+                    }
+                }
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor financerJfrValidatorPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (MVC_VALIDATOR.equals(beanName) && bean instanceof SmartValidator validator
+                        && !(bean instanceof RecordingValidator)) {
+                    return new RecordingValidator(validator);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.financer.common.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boot's JSON converter, emitting a {@link SerializationEvent} around every
+ * body read and write. Every read, write and media type check is delegated
+ * to the converter it replaces, so its {@code ObjectMapper}, per-type mapper
+ * registrations and media types keep applying; it stays a
+ * {@link MappingJackson2HttpMessageConverter} only so {@code @JsonView} and
+ * other Jackson body advice still recognize it.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class RecordingJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final MappingJackson2HttpMessageConverter delegate;
+
+    public RecordingJacksonHttpMessageConverter(MappingJackson2HttpMessageConverter delegate) {
+        super(delegate.getObjectMapper());
+        // the final write() picks the default content type from these before writeInternal runs
+        setSupportedMediaTypes(delegate.getSupportedMediaTypes());
+        setDefaultCharset(delegate.getDefaultCharset());
+        this.delegate = delegate;
+    }
+
+    public MappingJackson2HttpMessageConverter getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return delegate.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return delegate.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return delegate.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return delegate.canWrite(type, clazz, mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return delegate.getSupportedMediaTypes();
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return delegate.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    public Map<MediaType, ObjectMapper> getObjectMappersForType(Class<?> clazz) {
+        return delegate.getObjectMappersForType(clazz);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        try {
+            return delegate.read(type, contextClass, inputMessage);
+        } finally {
+            commit(event, SerializationEvent.READ, type);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        try {
+            return delegate.read(clazz, inputMessage);
+        } finally {
+            commit(event, SerializationEvent.READ, clazz);
+        }
+    }
+
+    /**
+     * Called by the final {@code write} once the headers are set; the
+     * delegate leaves them as they are and writes the body.
+     */
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        try {
+            delegate.write(object, type, outputMessage.getHeaders().getContentType(), outputMessage);
+        } finally {
+            commit(event, SerializationEvent.WRITE, object.getClass());
+        }
+    }
+
+    private static void commit(SerializationEvent event, String direction, @Nullable Type type) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.direction = direction;
+            event.type = type == null ? null : type.getTypeName();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.financer.common.jfr;
+
+import org.springframework.lang.Nullable;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * MVC validator emitting a {@link ValidationEvent} per validated argument;
+ * delegates everything to the validator it wraps.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class RecordingValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+
+    public RecordingValidator(SmartValidator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        int before = errors.getErrorCount();
+        try {
+            delegate.validate(target, errors);
+        } finally {
+            commit(event, target, errors.getErrorCount() - before);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        int before = errors.getErrorCount();
+        try {
+            delegate.validate(target, errors, validationHints);
+        } finally {
+            commit(event, target, errors.getErrorCount() - before);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, @Nullable String fieldName, @Nullable Object value, Errors errors,
+                              Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    @Nullable
+    public <T> T unwrap(@Nullable Class<T> type) {
+        return delegate.unwrap(type);
+    }
+
+    private static void commit(ValidationEvent event, Object target, int errors) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = target.getClass().getName();
+            event.errors = errors;
+            event.commit();
+        }
+    }
+}
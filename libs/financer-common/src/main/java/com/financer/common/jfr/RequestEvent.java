@@ -0,0 +1,36 @@
+package com.financer.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One inbound HTTP request, from the first filter to the response.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Name("com.financer.Request")
+@Label("HTTP Request")
+@Category({"Financer", "HTTP"})
+@Description("Inbound request handled by Spring MVC")
+@StackTrace(false)
+@Threshold("10 ms")
+public class RequestEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI Template")
+    public String uri;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Error Code")
+    public String errorCode;
+}
@@ -0,0 +1,33 @@
+package com.financer.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Jackson reading a request body or writing a response body.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Name("com.financer.Serialization")
+@Label("JSON Serialization")
+@Category({"Financer", "HTTP"})
+@Description("Request body deserialization or response body serialization")
+@StackTrace(false)
+@Threshold("1 ms")
+public class SerializationEvent extends jdk.jfr.Event {
+
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+
+    @Label("Direction")
+    public String direction;
+
+    @Label("Type")
+    public String type;
+}
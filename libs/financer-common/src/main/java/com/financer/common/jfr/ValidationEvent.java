@@ -0,0 +1,30 @@
+package com.financer.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Bean Validation of a {@code @Valid} handler argument.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Name("com.financer.Validation")
+@Label("Validation")
+@Category({"Financer", "HTTP"})
+@Description("Bean Validation of a request DTO")
+@StackTrace(false)
+@Threshold("1 ms")
+public class ValidationEvent extends jdk.jfr.Event {
+
+    @Label("Type")
+    public String type;
+
+    @Label("Errors")
+    public int errors;
+}
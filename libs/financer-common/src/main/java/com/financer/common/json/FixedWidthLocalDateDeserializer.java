@@ -0,0 +1,60 @@
+package com.financer.common.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Parses {@code @JsonFormat(pattern = "yyyy-MM-dd")} fields straight from the
+ * parser's character buffer; see {@link FixedWidthLocalDateTimeDeserializer}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class FixedWidthLocalDateDeserializer extends StdScalarDeserializer<LocalDate>
+        implements ContextualDeserializer {
+
+    private final JsonDeserializer<LocalDate> delegate;
+
+    public FixedWidthLocalDateDeserializer() {
+        this(LocalDateDeserializer.INSTANCE);
+    }
+
+    private FixedWidthLocalDateDeserializer(JsonDeserializer<LocalDate> delegate) {
+        super(LocalDate.class);
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        JsonDeserializer<?> contextual = LocalDateDeserializer.INSTANCE.createContextual(ctxt, property);
+        if (!FixedWidthTime.isFixed(findFormatOverrides(ctxt, property, handledType()),
+                FixedWidthTime.DATE_PATTERN)) {
+            return contextual;
+        }
+        return new FixedWidthLocalDateDeserializer((JsonDeserializer<LocalDate>) contextual);
+    }
+
+    @Override
+    public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (delegate != LocalDateDeserializer.INSTANCE && p.hasToken(JsonToken.VALUE_STRING)) {
+            LocalDate value = FixedWidthTime.parseDate(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            if (value != null) {
+                return value;
+            }
+        }
+        return delegate.deserialize(p, ctxt);
+    }
+}
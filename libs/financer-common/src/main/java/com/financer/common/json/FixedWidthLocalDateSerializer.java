@@ -0,0 +1,57 @@
+package com.financer.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Writes {@code @JsonFormat(pattern = "yyyy-MM-dd")} fields without going
+ * through {@code DateTimeFormatter}; see {@link FixedWidthLocalDateTimeSerializer}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class FixedWidthLocalDateSerializer extends StdScalarSerializer<LocalDate> implements ContextualSerializer {
+
+    private final JsonSerializer<LocalDate> delegate;
+
+    public FixedWidthLocalDateSerializer() {
+        this(LocalDateSerializer.INSTANCE);
+    }
+
+    private FixedWidthLocalDateSerializer(JsonSerializer<LocalDate> delegate) {
+        super(LocalDate.class);
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+            throws JsonMappingException {
+        JsonSerializer<?> contextual = LocalDateSerializer.INSTANCE.createContextual(prov, property);
+        if (!FixedWidthTime.isFixed(findFormatOverrides(prov, property, handledType()),
+                FixedWidthTime.DATE_PATTERN)) {
+            return contextual;
+        }
+        return new FixedWidthLocalDateSerializer((JsonSerializer<LocalDate>) contextual);
+    }
+
+    @Override
+    public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (delegate == LocalDateSerializer.INSTANCE || !FixedWidthTime.fits(value)) {
+            delegate.serialize(value, gen, provider);
+            return;
+        }
+        char[] buf = new char[FixedWidthTime.DATE_LENGTH];
+        gen.writeString(buf, 0, FixedWidthTime.formatDate(value, buf, 0));
+    }
+}
@@ -0,0 +1,63 @@
+package com.financer.common.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Parses {@code @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")} fields straight
+ * from the parser's character buffer. Text that is not an exact, valid value
+ * (whitespace, other lengths, out-of-range fields) goes to the JavaTimeModule
+ * deserializer, so leniency and error messages are unchanged.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class FixedWidthLocalDateTimeDeserializer extends StdScalarDeserializer<LocalDateTime>
+        implements ContextualDeserializer {
+
+    private final JsonDeserializer<LocalDateTime> delegate;
+
+    public FixedWidthLocalDateTimeDeserializer() {
+        this(LocalDateTimeDeserializer.INSTANCE);
+    }
+
+    private FixedWidthLocalDateTimeDeserializer(JsonDeserializer<LocalDateTime> delegate) {
+        super(LocalDateTime.class);
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        JsonDeserializer<?> contextual = LocalDateTimeDeserializer.INSTANCE.createContextual(ctxt, property);
+        if (!FixedWidthTime.isFixed(findFormatOverrides(ctxt, property, handledType()),
+                FixedWidthTime.DATE_TIME_PATTERN)) {
+            return contextual;
+        }
+        return new FixedWidthLocalDateTimeDeserializer((JsonDeserializer<LocalDateTime>) contextual);
+    }
+
+    @Override
+    public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (delegate != LocalDateTimeDeserializer.INSTANCE && p.hasToken(JsonToken.VALUE_STRING)) {
+            LocalDateTime value = FixedWidthTime.parseDateTime(
+                    p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            if (value != null) {
+                return value;
+            }
+        }
+        return delegate.deserialize(p, ctxt);
+    }
+}
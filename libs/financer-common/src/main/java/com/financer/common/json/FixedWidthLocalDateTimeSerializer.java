@@ -0,0 +1,59 @@
+package com.financer.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes {@code @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")} fields without
+ * going through {@code DateTimeFormatter}. Every other format, and years
+ * outside 1..9999, is handled by the JavaTimeModule serializer as before.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class FixedWidthLocalDateTimeSerializer extends StdScalarSerializer<LocalDateTime>
+        implements ContextualSerializer {
+
+    private final JsonSerializer<LocalDateTime> delegate;
+
+    public FixedWidthLocalDateTimeSerializer() {
+        this(LocalDateTimeSerializer.INSTANCE);
+    }
+
+    private FixedWidthLocalDateTimeSerializer(JsonSerializer<LocalDateTime> delegate) {
+        super(LocalDateTime.class);
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+            throws JsonMappingException {
+        JsonSerializer<?> contextual = LocalDateTimeSerializer.INSTANCE.createContextual(prov, property);
+        if (!FixedWidthTime.isFixed(findFormatOverrides(prov, property, handledType()),
+                FixedWidthTime.DATE_TIME_PATTERN)) {
+            return contextual;
+        }
+        return new FixedWidthLocalDateTimeSerializer((JsonSerializer<LocalDateTime>) contextual);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (delegate == LocalDateTimeSerializer.INSTANCE || !FixedWidthTime.fits(value)) {
+            delegate.serialize(value, gen, provider);
+            return;
+        }
+        char[] buf = new char[FixedWidthTime.DATE_TIME_LENGTH];
+        gen.writeString(buf, 0, FixedWidthTime.formatDateTime(value, buf, 0));
+    }
+}
@@ -0,0 +1,151 @@
+package com.financer.common.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Formatting and parsing of the two fixed-width layouts the DTOs declare
+ * with {@code @JsonFormat}, straight between fields and a {@code char[]}.
+ * <p>
+ * Only years 1..9999 and values that already are a valid date/time take the
+ * fast path; anything else makes the parse methods return {@code null} so
+ * the caller falls back to the {@code DateTimeFormatter}-based codec and
+ * keeps its exact behavior (padding rules, SMART resolution, error messages).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+final class FixedWidthTime {
+
+    static final String DATE_PATTERN = "yyyy-MM-dd";
+    static final String DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+
+    static final int DATE_LENGTH = 10;
+    static final int DATE_TIME_LENGTH = 19;
+
+    private static final int MAX_YEAR = 9999;
+
+    private FixedWidthTime() {
+    }
+
+    /**
+     * @return whether {@code format} asks for {@code pattern} as a plain string
+     */
+    static boolean isFixed(JsonFormat.Value format, String pattern) {
+        if (format == null || !pattern.equals(format.getPattern()) || format.getLenient() != null) {
+            return false;
+        }
+        JsonFormat.Shape shape = format.getShape();
+        return shape == JsonFormat.Shape.ANY || shape == JsonFormat.Shape.STRING;
+    }
+
+    static boolean fits(LocalDate date) {
+        return date.getYear() >= 1 && date.getYear() <= MAX_YEAR;
+    }
+
+    static boolean fits(LocalDateTime dateTime) {
+        return dateTime.getYear() >= 1 && dateTime.getYear() <= MAX_YEAR;
+    }
+
+    /**
+     * Writes {@code yyyy-MM-dd}; the year must satisfy {@link #fits(LocalDate)}.
+     */
+    static int formatDate(LocalDate date, char[] buf, int off) {
+        int year = date.getYear();
+        write2(year / 100, buf, off);
+        write2(year % 100, buf, off + 2);
+        buf[off + 4] = '-';
+        write2(date.getMonthValue(), buf, off + 5);
+        buf[off + 7] = '-';
+        write2(date.getDayOfMonth(), buf, off + 8);
+        return off + DATE_LENGTH;
+    }
+
+    /**
+     * Writes {@code yyyy-MM-dd'T'HH:mm:ss} (fraction of second dropped, as the pattern does).
+     */
+    static int formatDateTime(LocalDateTime dateTime, char[] buf, int off) {
+        formatDate(dateTime.toLocalDate(), buf, off);
+        buf[off + 10] = 'T';
+        write2(dateTime.getHour(), buf, off + 11);
+        buf[off + 13] = ':';
+        write2(dateTime.getMinute(), buf, off + 14);
+        buf[off + 16] = ':';
+        write2(dateTime.getSecond(), buf, off + 17);
+        return off + DATE_TIME_LENGTH;
+    }
+
+    /**
+     * @return the date, or {@code null} if the text is not an exact, valid {@code yyyy-MM-dd}
+     */
+    static LocalDate parseDate(char[] buf, int off, int len) {
+        if (len != DATE_LENGTH) {
+            return null;
+        }
+        return parseDate(buf, off);
+    }
+
+    /**
+     * @return the date-time, or {@code null} if the text is not an exact, valid
+     *         {@code yyyy-MM-dd'T'HH:mm:ss}
+     */
+    static LocalDateTime parseDateTime(char[] buf, int off, int len) {
+        if (len != DATE_TIME_LENGTH || buf[off + 10] != 'T' || buf[off + 13] != ':' || buf[off + 16] != ':') {
+            return null;
+        }
+        LocalDate date = parseDate(buf, off);
+        int hour = read2(buf, off + 11);
+        int minute = read2(buf, off + 14);
+        int second = read2(buf, off + 17);
+        if (date == null || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalDateTime.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), hour, minute, second);
+    }
+
+    private static LocalDate parseDate(char[] buf, int off) {
+        if (buf[off + 4] != '-' || buf[off + 7] != '-') {
+            return null;
+        }
+        int hi = read2(buf, off);
+        int lo = read2(buf, off + 2);
+        int month = read2(buf, off + 5);
+        int day = read2(buf, off + 8);
+        if ((hi | lo | month | day) < 0) {
+            return null;
+        }
+        int year = hi * 100 + lo;
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static void write2(int value, char[] buf, int off) {
+        buf[off] = (char) ('0' + value / 10);
+        buf[off + 1] = (char) ('0' + value % 10);
+    }
+
+    /**
+     * @return the two-digit value, or -1 if either char is not an ASCII digit
+     */
+    private static int read2(char[] buf, int off) {
+        int d1 = buf[off] - '0';
+        int d2 = buf[off + 1] - '0';
+        if (d1 < 0 || d1 > 9 || d2 < 0 || d2 > 9) {
+            return -1;
+        }
+        return d1 * 10 + d2;
+    }
+}
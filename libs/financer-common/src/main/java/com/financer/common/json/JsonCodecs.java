@@ -0,0 +1,136 @@
+package com.financer.common.json;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-type {@link ObjectReader} / {@link ObjectWriter} cache over the shared
+ * {@code ObjectMapper}.
+ * <p>
+ * {@code mapper.writeValueAsBytes(dto)} looks the root serializer up on every
+ * call; a writer bound to the type resolves it once. With the performance
+ * profile on ({@code financer.jackson.performance.enabled=true}) every class
+ * under {@code financer.jackson.performance.dto-packages} is bound at startup
+ * and the MVC JSON converter reads and writes those types through the bound
+ * readers and writers ({@link PrebuiltJacksonHttpMessageConverter}).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+public class JsonCodecs {
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JsonCodecs(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Autowired
+    JsonCodecs(ObjectMapper objectMapper,
+               @Value("${financer.jackson.performance.enabled:false}") boolean performance,
+               @Value("${financer.jackson.performance.dto-packages:com.financer.dto}") String[] dtoPackages) {
+        this(objectMapper);
+        if (performance) {
+            int bound = 0;
+            for (String dtoPackage : dtoPackages) {
+                bound += prebuild(dtoPackage);
+            }
+            log.info("Jackson performance profile: prebuilt readers/writers for {} DTO types", bound);
+        }
+    }
+
+    public ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    public ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    /**
+     * @return the reader bound for {@code type}, or {@code null} if none was built yet
+     */
+    public ObjectReader findReader(Class<?> type) {
+        return readers.get(type);
+    }
+
+    /**
+     * @return the writer bound for {@code type}, or {@code null} if none was built yet
+     */
+    public ObjectWriter findWriter(Class<?> type) {
+        return writers.get(type);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public <T> T read(byte[] content, Class<T> type) throws IOException {
+        return reader(type).readValue(content);
+    }
+
+    /**
+     * Like {@code writeValueAsBytes}, which in the pinned jackson-databind
+     * never hands its buffer recycler back to a shared pool: here the output
+     * buffer is borrowed from the mapper's pool and returned after the copy.
+     */
+    public byte[] writeAsBytes(Object value) throws IOException {
+        BufferRecycler recycler = objectMapper.getFactory()._getBufferRecycler();
+        ByteArrayBuilder bytes = new ByteArrayBuilder(recycler);
+        try {
+            writer(value.getClass()).writeValue(bytes, value);
+            return bytes.toByteArray();
+        } finally {
+            // close() is a no-op: release() is what hands the block back
+            bytes.release();
+            recycler.releaseToPool();
+        }
+    }
+
+    public void write(OutputStream out, Object value) throws IOException {
+        writer(value.getClass()).writeValue(out, value);
+    }
+
+    /**
+     * Binds a reader and writer for every concrete, non-enum class in {@code basePackage}.
+     *
+     * @return number of types bound
+     */
+    public int prebuild(String basePackage) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((metadataReader, factory) ->
+                !"java.lang.Enum".equals(metadataReader.getClassMetadata().getSuperClassName()));
+        int bound = 0;
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            try {
+                Class<?> type = ClassUtils.forName(candidate.getBeanClassName(), getClass().getClassLoader());
+                reader(type);
+                writer(type);
+                bound++;
+            } catch (ClassNotFoundException | LinkageError | IllegalArgumentException e) {
+                log.warn("Skipping {} in Jackson prebuild: {}", candidate.getBeanClassName(), e.toString());
+            }
+        }
+        return bound;
+    }
+}
@@ -0,0 +1,76 @@
+package com.financer.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Writes {@link BigDecimal} amounts digit by digit into a {@code char[]}
+ * instead of building (and caching) {@code BigDecimal.toString()}.
+ * <p>
+ * Only values whose {@code toString()} is already plain notation take the
+ * fast path (non-negative scale up to 18, at most 18 digits, adjusted
+ * exponent &gt;= -6), so {@code 1520.7500} and {@code 0.0000} come out exactly
+ * as before and {@code 1E-7} or {@code 1E+3} still go through
+ * {@code writeNumber(BigDecimal)}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class PlainBigDecimalSerializer extends NumberSerializer {
+
+    private static final int MAX_DIGITS = 18;
+
+    /**
+     * Sign, 18 digits, leading {@code "0."} and up to 18 fraction digits.
+     */
+    private static final int MAX_LENGTH = 1 + MAX_DIGITS + 2;
+
+    public PlainBigDecimalSerializer() {
+        super(BigDecimal.class);
+    }
+
+    @Override
+    public void serialize(Number value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value instanceof BigDecimal decimal) {
+            int scale = decimal.scale();
+            int precision = decimal.precision();
+            if (scale >= 0 && scale <= MAX_DIGITS && precision <= MAX_DIGITS && precision - 1 - scale >= -6) {
+                char[] buf = new char[MAX_LENGTH];
+                int off = format(decimal.unscaledValue().longValue(), scale, buf);
+                gen.writeNumber(buf, off, MAX_LENGTH - off);
+                return;
+            }
+        }
+        super.serialize(value, gen, provider);
+    }
+
+    /**
+     * Writes right-aligned into {@code buf}.
+     *
+     * @return offset of the first char
+     */
+    static int format(long unscaled, int scale, char[] buf) {
+        long rest = Math.abs(unscaled);
+        int pos = buf.length;
+        for (int i = 0; i < scale; i++) {
+            buf[--pos] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+        if (scale > 0) {
+            buf[--pos] = '.';
+        }
+        do {
+            buf[--pos] = (char) ('0' + rest % 10);
+            rest /= 10;
+        } while (rest != 0);
+        if (unscaled < 0) {
+            buf[--pos] = '-';
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,87 @@
+package com.financer.common.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Boot's JSON converter, reading and writing the types {@link JsonCodecs}
+ * has bound through its prebuilt {@link ObjectReader}s and
+ * {@link ObjectWriter}s instead of deriving a reader and writer from the
+ * mapper on every request.
+ * <p>
+ * Anything the prebuilt codecs cannot express goes through the regular
+ * path: {@code @JsonView} and filters ({@link MappingJacksonValue}), generic
+ * types, per-type mapper registrations, non-UTF-8 charsets and server-sent
+ * events. Writers are chosen by the runtime class, as the regular path does.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class PrebuiltJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final JsonCodecs codecs;
+
+    public PrebuiltJacksonHttpMessageConverter(JsonCodecs codecs) {
+        super(codecs.getObjectMapper());
+        this.codecs = codecs;
+    }
+
+    public JsonCodecs getCodecs() {
+        return codecs;
+    }
+
+    @Override
+    protected ObjectReader customizeReader(ObjectReader reader, JavaType javaType) {
+        if (reader.getConfig().getActiveView() != null || javaType.hasGenericTypes()) {
+            return reader;
+        }
+        ObjectReader prebuilt = codecs.findReader(javaType.getRawClass());
+        return prebuilt != null && prebuilt.getFactory() == reader.getFactory() ? prebuilt : reader;
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        ObjectWriter writer = object instanceof MappingJacksonValue ? null : codecs.findWriter(object.getClass());
+        if (writer == null || !prebuiltApplies(object.getClass(), outputMessage.getHeaders().getContentType())) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        try {
+            writer.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), object);
+        } catch (InvalidDefinitionException ex) {
+            throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    private boolean prebuiltApplies(Class<?> clazz, @Nullable MediaType contentType) {
+        if (!getObjectMappersForType(clazz).isEmpty()) {
+            return false;
+        }
+        if (contentType == null) {
+            return true;
+        }
+        Charset charset = contentType.getCharset();
+        return !contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                && (charset == null || StandardCharsets.UTF_8.equals(charset));
+    }
+}
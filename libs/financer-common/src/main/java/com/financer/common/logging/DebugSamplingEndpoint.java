@@ -0,0 +1,57 @@
+package com.financer.common.logging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/debugsampling}: reads and changes request debug sampling.
+ *
+ * <pre>
+ * curl -X POST localhost:8080/actuator/debugsampling \
+ *      -H 'Content-Type: application/json' -d '{"sampleRate":0.01}'
+ * </pre>
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+@Endpoint(id = "debugsampling")
+@RequiredArgsConstructor
+public class DebugSamplingEndpoint {
+
+    private final DebugSamplingFilter filter;
+
+    @ReadOperation
+    public Map<String, Object> state() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("sampleRate", filter.getSampleRate());
+        state.put("headerEnabled", filter.isHeaderEnabled());
+        state.put("header", filter.getHeaderName());
+        state.put("maxConcurrent", filter.getMaxConcurrent());
+        state.put("activeScopes", DebugScope.openScopes());
+        state.put("debuggedRequests", filter.getDebuggedCount());
+        state.put("rejectedRequests", filter.getRejectedCount());
+        DebugSamplingTurboFilter turboFilter = DebugSamplingTurboFilter.current();
+        state.put("verboseLoggers", turboFilter == null ? Map.of() : turboFilter.getVerboseLoggers());
+        return state;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Double sampleRate, @Nullable Boolean headerEnabled) {
+        if (sampleRate != null) {
+            filter.setSampleRate(sampleRate);
+        }
+        if (headerEnabled != null) {
+            filter.setHeaderEnabled(headerEnabled);
+        }
+        return state();
+    }
+}
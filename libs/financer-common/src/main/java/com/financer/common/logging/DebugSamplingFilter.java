@@ -0,0 +1,211 @@
+package com.financer.common.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opens a {@link DebugScope} for the requests that should log verbosely:
+ * those carrying {@code financer.logging.debug-sampling.header} (when
+ * {@code header-enabled}) and a random {@code sample-rate} fraction of the
+ * rest. At most {@code max-concurrent} requests are debugged at once, so a
+ * burst of debug headers cannot turn the whole service verbose.
+ * <p>
+ * Debug logging includes JDBC bind values and security decisions, so the
+ * header is off by default and, when enabled, only honoured if its value
+ * equals {@code header-secret} or the caller's address is in
+ * {@code trusted-networks} (CIDR list, e.g. {@code 10.0.0.0/8}). With
+ * neither configured the header is ignored. Gateways should still strip
+ * the header from external requests.
+ * <p>
+ * The sample rate can be changed at runtime through the
+ * {@code debugsampling} actuator endpoint ({@link DebugSamplingEndpoint}).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class DebugSamplingFilter extends OncePerRequestFilter {
+
+    @Getter
+    private final String headerName;
+    @Getter
+    private final int maxConcurrent;
+    @Getter
+    private volatile double sampleRate;
+    @Getter
+    private volatile boolean headerEnabled;
+
+    private final byte[] headerSecret;
+    private final List<TrustedNetwork> trustedNetworks;
+    private final AtomicLong debugged = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public DebugSamplingFilter(
+            @Value("${financer.logging.debug-sampling.header:X-Financer-Debug}") String headerName,
+            @Value("${financer.logging.debug-sampling.header-enabled:false}") boolean headerEnabled,
+            @Value("${financer.logging.debug-sampling.header-secret:}") String headerSecret,
+            @Value("${financer.logging.debug-sampling.trusted-networks:}") List<String> trustedNetworks,
+            @Value("${financer.logging.debug-sampling.sample-rate:0}") double sampleRate,
+            @Value("${financer.logging.debug-sampling.max-concurrent:16}") int maxConcurrent) {
+        this.headerName = headerName;
+        this.headerSecret = headerSecret.isEmpty() ? null : headerSecret.getBytes(StandardCharsets.UTF_8);
+        this.trustedNetworks = trustedNetworks.stream()
+                .map(String::trim)
+                .filter(network -> !network.isEmpty())
+                .map(TrustedNetwork::parse)
+                .toList();
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        setHeaderEnabled(headerEnabled);
+        setSampleRate(sampleRate);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String reason = reason(request);
+        if (reason == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (DebugScope.openScopes() >= maxConcurrent) {
+            rejected.incrementAndGet();
+            chain.doFilter(request, response);
+            return;
+        }
+        debugged.incrementAndGet();
+        try (DebugScope ignored = DebugScope.open(reason)) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private String reason(HttpServletRequest request) {
+        if (headerEnabled) {
+            String header = request.getHeader(headerName);
+            if (header != null && !"false".equalsIgnoreCase(header) && isTrusted(request, header)) {
+                return "header";
+            }
+        }
+        double rate = sampleRate;
+        if (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate) {
+            return "sampled";
+        }
+        return null;
+    }
+
+    /**
+     * @param sampleRate fraction of requests to debug, clamped to [0, 1]
+     */
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = Double.isNaN(sampleRate) ? 0 : Math.min(1, Math.max(0, sampleRate));
+        log.info("Debug sampling rate set to {}", this.sampleRate);
+    }
+
+    public void setHeaderEnabled(boolean headerEnabled) {
+        if (headerEnabled && headerSecret == null && trustedNetworks.isEmpty()) {
+            log.warn("Debug header {} enabled without header-secret or trusted-networks; it will be ignored",
+                    headerName);
+        }
+        this.headerEnabled = headerEnabled;
+    }
+
+    private boolean isTrusted(HttpServletRequest request, String header) {
+        if (headerSecret != null
+                && MessageDigest.isEqual(headerSecret, header.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        if (trustedNetworks.isEmpty()) {
+            return false;
+        }
+        byte[] address = TrustedNetwork.address(request.getRemoteAddr());
+        return address != null && trustedNetworks.stream().anyMatch(network -> network.contains(address));
+    }
+
+    /**
+     * Requests debugged since startup.
+     */
+    public long getDebuggedCount() {
+        return debugged.get();
+    }
+
+    /**
+     * Requests that asked for debugging while {@code max-concurrent} scopes were open.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * IPv4 or IPv6 network in CIDR notation; a bare address is a single host.
+     */
+    private record TrustedNetwork(byte[] network, int prefix) {
+
+        static TrustedNetwork parse(String cidr) {
+            int slash = cidr.indexOf('/');
+            byte[] network = address(slash < 0 ? cidr : cidr.substring(0, slash));
+            if (network == null) {
+                throw new IllegalArgumentException("Invalid trusted network: " + cidr);
+            }
+            int prefix = slash < 0 ? network.length * 8 : Integer.parseInt(cidr.substring(slash + 1));
+            if (prefix < 0 || prefix > network.length * 8) {
+                throw new IllegalArgumentException("Invalid prefix length in trusted network: " + cidr);
+            }
+            return new TrustedNetwork(network, prefix);
+        }
+
+        /**
+         * Bytes of an IP literal, or {@code null} for anything else (never resolves host names).
+         */
+        static byte[] address(String literal) {
+            // strings with ':' are parsed as IPv6 literals; IPv4 must be digits and dots
+            if (literal == null || literal.isEmpty()) {
+                return null;
+            }
+            if (literal.indexOf(':') < 0 && !literal.chars().allMatch(c -> c == '.' || (c >= '0' && c <= '9'))) {
+                return null;
+            }
+            try {
+                return InetAddress.getByName(literal).getAddress();
+            } catch (UnknownHostException e) {
+                return null;
+            }
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int full = prefix / 8;
+            if (!Arrays.equals(address, 0, full, network, 0, full)) {
+                return false;
+            }
+            int bits = prefix % 8;
+            if (bits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - bits);
+            return (address[full] & mask) == (network[full] & mask);
+        }
+    }
+}
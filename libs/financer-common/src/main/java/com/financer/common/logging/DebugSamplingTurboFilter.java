@@ -0,0 +1,117 @@
+package com.financer.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns on verbose loggers only inside a {@link DebugScope}.
+ * <p>
+ * Each {@code verboseLogger} entry is {@code name=LEVEL}; within an open
+ * scope, events of that logger (or its children) at or above {@code LEVEL}
+ * are accepted even though the logger's configured level is higher. Outside
+ * a scope the filter is neutral and costs one volatile read, so the global
+ * DEBUG/TRACE loggers it replaces no longer tax every request.
+ *
+ * <pre>{@code
+ * <turboFilter class="com.financer.common.logging.DebugSamplingTurboFilter">
+ *     <verboseLogger>org.springframework.web=DEBUG</verboseLogger>
+ *     <verboseLogger>org.hibernate.orm.jdbc.bind=TRACE</verboseLogger>
+ * </turboFilter>
+ * }</pre>
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class DebugSamplingTurboFilter extends TurboFilter {
+
+    private static volatile DebugSamplingTurboFilter current;
+
+    private final List<String> verboseLoggers = new ArrayList<>();
+    private String[] prefixes = new String[0];
+    private int[] levels = new int[0];
+
+    public void addVerboseLogger(String entry) {
+        verboseLoggers.add(entry.trim());
+    }
+
+    @Override
+    public void start() {
+        List<String> names = new ArrayList<>();
+        List<Integer> thresholds = new ArrayList<>();
+        for (String entry : verboseLoggers) {
+            int separator = entry.indexOf('=');
+            String name = separator < 0 ? entry : entry.substring(0, separator).trim();
+            Level level = separator < 0 ? Level.DEBUG : Level.toLevel(entry.substring(separator + 1).trim(), null);
+            if (name.isEmpty() || level == null) {
+                addError("Invalid verboseLogger [" + entry + "], expected name=LEVEL");
+                continue;
+            }
+            names.add(name);
+            thresholds.add(level.toInt());
+        }
+        prefixes = names.toArray(new String[0]);
+        levels = thresholds.stream().mapToInt(Integer::intValue).toArray();
+        current = this;
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (current == this) {
+            current = null;
+        }
+        super.stop();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (DebugScope.openScopes() == 0 || level == null || MDC.get(DebugScope.MDC_KEY) == null) {
+            return FilterReply.NEUTRAL;
+        }
+        int levelInt = level.toInt();
+        if (levelInt >= logger.getEffectiveLevel().toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        for (int i = 0; i < prefixes.length; i++) {
+            if (levelInt >= levels[i] && isSameOrChild(name, prefixes[i])) {
+                return FilterReply.ACCEPT;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private static boolean isSameOrChild(String name, String prefix) {
+        return name.startsWith(prefix)
+                && (name.length() == prefix.length() || name.charAt(prefix.length()) == '.'
+                || name.charAt(prefix.length()) == '$');
+    }
+
+    /**
+     * Configured verbose loggers and their levels.
+     */
+    public Map<String, String> getVerboseLoggers() {
+        Map<String, String> loggers = new LinkedHashMap<>();
+        for (int i = 0; i < prefixes.length; i++) {
+            loggers.put(prefixes[i], Level.toLevel(levels[i]).levelStr);
+        }
+        return loggers;
+    }
+
+    /**
+     * The started instance of the current logging configuration, if any.
+     */
+    public static DebugSamplingTurboFilter current() {
+        return current;
+    }
+}
@@ -0,0 +1,68 @@
+package com.financer.common.logging;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Marks the current thread's unit of work (request, message, job) for verbose
+ * logging through {@link DebugSamplingTurboFilter}.
+ * <p>
+ * The mark is the {@value #MDC_KEY} MDC entry, so it follows the work into
+ * every log line and into {@code MDC.getCopyOfContextMap()} hand-offs. A
+ * global count of open scopes lets the turbo filter return immediately while
+ * nothing is being debugged.
+ *
+ * <pre>{@code
+ * try (DebugScope ignored = DebugScope.open("replay")) {
+ *     consumer.process(record);
+ * }
+ * }</pre>
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class DebugScope implements AutoCloseable {
+
+    /**
+     * MDC key carrying the reason verbose logging is on (e.g. {@code header}, {@code sampled}).
+     */
+    public static final String MDC_KEY = "financer.debug";
+
+    private static final AtomicInteger OPEN = new AtomicInteger();
+
+    private final String previous;
+    private boolean closed;
+
+    private DebugScope(String reason) {
+        this.previous = MDC.get(MDC_KEY);
+        MDC.put(MDC_KEY, reason);
+        OPEN.incrementAndGet();
+    }
+
+    public static DebugScope open(String reason) {
+        return new DebugScope(reason);
+    }
+
+    /**
+     * Number of scopes currently open in the JVM.
+     */
+    public static int openScopes() {
+        return OPEN.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        OPEN.decrementAndGet();
+        if (previous == null) {
+            MDC.remove(MDC_KEY);
+        } else {
+            MDC.put(MDC_KEY, previous);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.financer.common.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Logback encoder writing one JSON object per line, straight into a reusable
+ * per-thread byte buffer.
+ * <p>
+ * Unlike a {@code PatternLayout} there is no intermediate {@code String}: the
+ * thread, logger, message and MDC values are escaped and UTF-8 encoded into
+ * the buffer char by char, the timestamp prefix is formatted once per second,
+ * and the only per-event allocation is the exact-size {@code byte[]} the
+ * {@code Encoder} contract returns. Stack traces are rendered only for events
+ * that carry a throwable.
+ *
+ * <pre>{@code
+ * {"@timestamp":"2025-11-07T18:30:00.123-03:00","level":"INFO","thread":"http-nio-8080-exec-1",
+ *  "logger":"com.financer.account.AccountService","message":"...","app":"financer-account-service",
+ *  "mdc":{"traceId":"..."}}
+ * }</pre>
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final int INITIAL_BUFFER = 1024;
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    private static final DateTimeFormatter SECOND_PREFIX = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.");
+    private static final DateTimeFormatter OFFSET = DateTimeFormatter.ofPattern("XXX");
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final ThreadLocal<Sink> sinks = ThreadLocal.withInitial(Sink::new);
+    private volatile CachedSecond cachedSecond = new CachedSecond(Long.MIN_VALUE, null, null);
+    private ZoneId zoneId = ZoneId.systemDefault();
+    private String appName;
+    private boolean includeMdc = true;
+    private byte[] appNameField = new byte[0];
+
+    public void setTimeZone(String timeZone) {
+        this.zoneId = ZoneId.of(timeZone);
+    }
+
+    /**
+     * Defaults to the {@code APP_NAME} context property set by {@code logback-spring.xml}.
+     */
+    public void setAppName(String appName) {
+        this.appName = appName;
+    }
+
+    public void setIncludeMdc(boolean includeMdc) {
+        this.includeMdc = includeMdc;
+    }
+
+    @Override
+    public void start() {
+        String name = appName != null ? appName : (getContext() != null ? getContext().getProperty("APP_NAME") : null);
+        if (name != null && !name.isEmpty()) {
+            Sink sink = new Sink();
+            sink.ascii(",\"app\":");
+            sink.string(name);
+            appNameField = sink.toByteArray();
+        }
+        super.start();
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        Sink sink = sinks.get();
+        sink.count = 0;
+        sink.ascii("{\"@timestamp\":\"");
+        timestamp(sink, event.getTimeStamp());
+        sink.ascii("\",\"level\":\"");
+        sink.ascii(event.getLevel().levelStr);
+        sink.ascii("\",\"thread\":");
+        sink.string(event.getThreadName());
+        sink.ascii(",\"logger\":");
+        sink.string(event.getLoggerName());
+        sink.ascii(",\"message\":");
+        sink.string(event.getFormattedMessage());
+        sink.raw(appNameField);
+        if (includeMdc) {
+            Map<String, String> mdc = event.getMDCPropertyMap();
+            if (mdc != null && !mdc.isEmpty()) {
+                sink.ascii(",\"mdc\":{");
+                sink.firstField = true;
+                mdc.forEach(sink);
+                sink.put('}');
+            }
+        }
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            sink.ascii(",\"exception\":");
+            sink.string(throwable.getClassName());
+            sink.ascii(",\"stack_trace\":");
+            sink.string(ThrowableProxyUtil.asString(throwable));
+        }
+        sink.ascii("}\n");
+        byte[] encoded = sink.toByteArray();
+        if (sink.bytes.length > MAX_RETAINED_BUFFER) {
+            sink.bytes = new byte[INITIAL_BUFFER];
+        }
+        return encoded;
+    }
+
+    private void timestamp(Sink sink, long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000L);
+        CachedSecond second = cachedSecond;
+        if (second.epochSecond != epochSecond) {
+            ZonedDateTime time = Instant.ofEpochSecond(epochSecond).atZone(zoneId);
+            second = new CachedSecond(epochSecond,
+                    SECOND_PREFIX.format(time).getBytes(StandardCharsets.US_ASCII),
+                    OFFSET.format(time).getBytes(StandardCharsets.US_ASCII));
+            cachedSecond = second;
+        }
+        int millis = (int) Math.floorMod(epochMillis, 1000L);
+        sink.raw(second.prefix);
+        sink.put((char) ('0' + millis / 100));
+        sink.put((char) ('0' + millis / 10 % 10));
+        sink.put((char) ('0' + millis % 10));
+        sink.raw(second.offset);
+    }
+
+    private record CachedSecond(long epochSecond, byte[] prefix, byte[] offset) {
+    }
+
+    /**
+     * Growable UTF-8 buffer; doubles as the MDC visitor so iterating the map allocates nothing.
+     */
+    private static final class Sink implements BiConsumer<String, String> {
+
+        private byte[] bytes = new byte[INITIAL_BUFFER];
+        private int count;
+        private boolean firstField;
+
+        @Override
+        public void accept(String key, String value) {
+            if (!firstField) {
+                put(',');
+            }
+            firstField = false;
+            string(key);
+            put(':');
+            string(value);
+        }
+
+        void put(char c) {
+            ensure(1);
+            bytes[count++] = (byte) c;
+        }
+
+        void ascii(String s) {
+            int length = s.length();
+            ensure(length);
+            for (int i = 0; i < length; i++) {
+                bytes[count++] = (byte) s.charAt(i);
+            }
+        }
+
+        void raw(byte[] source) {
+            ensure(source.length);
+            System.arraycopy(source, 0, bytes, count, source.length);
+            count += source.length;
+        }
+
+        /**
+         * Writes {@code s} as a quoted, escaped JSON string; {@code null} becomes JSON {@code null}.
+         */
+        void string(String s) {
+            if (s == null) {
+                ascii("null");
+                return;
+            }
+            int length = s.length();
+            ensure(length * 3 + 2);
+            byte[] b = bytes;
+            b[count++] = '"';
+            for (int i = 0; i < length; i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    if (c >= 0x20 && c != '"' && c != '\\') {
+                        b[count++] = (byte) c;
+                    } else {
+                        escape(c, (length - i - 1) * 3 + 1);
+                        b = bytes;
+                    }
+                } else if (c < 0x800) {
+                    b[count++] = (byte) (0xC0 | (c >> 6));
+                    b[count++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, s.charAt(++i));
+                    b[count++] = (byte) (0xF0 | (cp >> 18));
+                    b[count++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    b[count++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    b[count++] = (byte) (0x80 | (cp & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    b[count++] = '?';
+                } else {
+                    b[count++] = (byte) (0xE0 | (c >> 12));
+                    b[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    b[count++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            b[count++] = '"';
+        }
+
+        /**
+         * @param reserved bytes still needed after this char (the rest of the string plus the closing quote)
+         */
+        private void escape(char c, int reserved) {
+            // an escape takes up to 6 bytes where 3 were reserved for it
+            ensure(6 + reserved);
+            bytes[count++] = '\\';
+            switch (c) {
+                case '"' -> bytes[count++] = '"';
+                case '\\' -> bytes[count++] = '\\';
+                case '\n' -> bytes[count++] = 'n';
+                case '\r' -> bytes[count++] = 'r';
+                case '\t' -> bytes[count++] = 't';
+                case '\b' -> bytes[count++] = 'b';
+                case '\f' -> bytes[count++] = 'f';
+                default -> {
+                    bytes[count++] = 'u';
+                    bytes[count++] = '0';
+                    bytes[count++] = '0';
+                    bytes[count++] = HEX[c >> 4];
+                    bytes[count++] = HEX[c & 0xF];
+                }
+            }
+        }
+
+        private void ensure(int extra) {
+            if (count + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, count + extra));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, count);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.financer.common.logging;
+
+/**
+ * What {@link RingBufferAppender} does with an event when its ring is full.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The logging thread waits for a free slot. Lossless; the wait is
+     * reported as blocked time.
+     */
+    BLOCK,
+
+    /**
+     * TRACE, DEBUG and INFO events are dropped and counted; WARN and ERROR
+     * still wait for a slot.
+     */
+    DROP_DEBUG_INFO,
+
+    /**
+     * The logging thread encodes the event and appends it to the spill file
+     * itself. Lossless and never waits on the ring, but spilled events are
+     * out of order with respect to the main log.
+     */
+    SPILL
+}
@@ -0,0 +1,395 @@
+package com.financer.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous appender backed by a preallocated, lock-free ring buffer.
+ * <p>
+ * Replaces {@code AsyncAppender}, whose {@code ArrayBlockingQueue} puts every
+ * logging thread behind a single lock. Here producers claim a slot with one
+ * CAS on a sequence counter and publish the event with a release store; one
+ * worker thread drains the ring in order into the attached appenders. Nothing
+ * is allocated per event beyond the event itself. When the ring is full the
+ * {@link OverflowPolicy} decides between waiting, dropping TRACE/DEBUG/INFO,
+ * or spilling the event to {@code spillFile}.
+ * <p>
+ * Depth, drops, spills and blocked time are exposed through getters and, in a
+ * Spring context, as {@code financer.logging.ring.*} meters (see
+ * {@link RingBufferAppenderMetrics}).
+ *
+ * <pre>{@code
+ * <appender name="ASYNC_FILE" class="com.financer.common.logging.RingBufferAppender">
+ *     <capacity>8192</capacity>
+ *     <overflowPolicy>SPILL</overflowPolicy>
+ *     <spillFile>${LOG_PATH}/${LOG_FILE}-spill.log</spillFile>
+ *     <appender-ref ref="FILE"/>
+ * </appender>
+ * }</pre>
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final Set<RingBufferAppender> STARTED = ConcurrentHashMap.newKeySet();
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int IDLE_SPINS = 256;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder blockedNanos = new LongAdder();
+
+    private int capacity = 8192;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private String spillFile;
+    private Encoder<ILoggingEvent> encoder;
+    private boolean includeCallerData;
+    private long maxFlushTime = 1000;
+
+    private ILoggingEvent[] slots;
+    private AtomicLongArray sequences;
+    private int mask;
+    private volatile long head;
+    private volatile boolean running;
+    private volatile boolean workerParked;
+    private Thread worker;
+    private OutputStream spillStream;
+
+    /**
+     * Rounded up to a power of two. Default 8192.
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Target of {@link OverflowPolicy#SPILL}; required with that policy.
+     */
+    public void setSpillFile(String spillFile) {
+        this.spillFile = spillFile;
+    }
+
+    /**
+     * Encoder for spilled events. Default {@link JsonLogEncoder}.
+     */
+    public void setEncoder(Encoder<ILoggingEvent> encoder) {
+        this.encoder = encoder;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    /**
+     * How long {@link #stop()} waits for the ring to drain, in milliseconds. Default 1000.
+     */
+    public void setMaxFlushTime(long maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No appender-ref attached to [" + name + "]");
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.SPILL) {
+            if (spillFile == null || spillFile.isEmpty()) {
+                addError("overflowPolicy SPILL requires a spillFile for [" + name + "]");
+                return;
+            }
+            if (encoder == null) {
+                JsonLogEncoder json = new JsonLogEncoder();
+                json.setContext(getContext());
+                encoder = json;
+            }
+            if (!encoder.isStarted()) {
+                encoder.start();
+            }
+        }
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        slots = new ILoggingEvent[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+        capacity = size;
+        running = true;
+        worker = new Thread(this::drain, "financer-log-ring-" + name);
+        worker.setDaemon(true);
+        worker.start();
+        STARTED.add(this);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxFlushTime);
+            if (worker.isAlive()) {
+                addWarn("Ring of [" + name + "] not drained within " + maxFlushTime + " ms; "
+                        + getDepth() + " events discarded");
+                worker.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        STARTED.remove(this);
+        closeSpill();
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+        if (offer(event)) {
+            wakeWorker();
+            return;
+        }
+        switch (overflowPolicy) {
+            case SPILL -> spill(event);
+            case DROP_DEBUG_INFO -> {
+                if (event.getLevel().toInt() <= Level.INFO_INT) {
+                    dropped.increment();
+                } else {
+                    block(event);
+                }
+            }
+            default -> block(event);
+        }
+    }
+
+    private boolean offer(ILoggingEvent event) {
+        long position = tail.get();
+        for (;;) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = event;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private ILoggingEvent poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        ILoggingEvent event = slots[index];
+        slots[index] = null;
+        sequences.lazySet(index, position + capacity);
+        head = position + 1;
+        return event;
+    }
+
+    /**
+     * The publish above is only a release store, so a wake-up can be missed
+     * against a worker that is just parking; it then resumes after
+     * {@code IDLE_PARK_NANOS} at the latest.
+     */
+    private void wakeWorker() {
+        if (workerParked) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void block(ILoggingEvent event) {
+        long start = System.nanoTime();
+        blocked.increment();
+        while (!offer(event)) {
+            if (!running) {
+                dropped.increment();
+                break;
+            }
+            wakeWorker();
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        }
+        blockedNanos.add(System.nanoTime() - start);
+        wakeWorker();
+    }
+
+    private void spill(ILoggingEvent event) {
+        byte[] bytes = encoder.encode(event);
+        synchronized (this) {
+            try {
+                if (spillStream == null) {
+                    File file = new File(spillFile);
+                    File parent = file.getParentFile();
+                    if (parent != null) {
+                        parent.mkdirs();
+                    }
+                    spillStream = new BufferedOutputStream(new FileOutputStream(file, true));
+                }
+                spillStream.write(bytes);
+                spillStream.flush();
+                spilled.increment();
+            } catch (IOException e) {
+                dropped.increment();
+                addError("Failed to spill event of [" + name + "] to " + spillFile, e);
+            }
+        }
+    }
+
+    private synchronized void closeSpill() {
+        if (spillStream != null) {
+            try {
+                spillStream.close();
+            } catch (IOException e) {
+                addWarn("Failed to close spill file " + spillFile, e);
+            }
+            spillStream = null;
+        }
+    }
+
+    private void drain() {
+        int idle = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            ILoggingEvent event = poll();
+            if (event != null) {
+                idle = 0;
+                appenders.appendLoopOnAppenders(event);
+            } else if (!running) {
+                return;
+            } else if (++idle < IDLE_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                workerParked = true;
+                if (sequences.get((int) (head & mask)) != head + 1) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                workerParked = false;
+                idle = 0;
+            }
+        }
+    }
+
+    /**
+     * Events published and not yet handed to the attached appenders.
+     */
+    public int getDepth() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getSpilledCount() {
+        return spilled.sum();
+    }
+
+    /**
+     * Events whose producer had to wait for a free slot.
+     */
+    public long getBlockedCount() {
+        return blocked.sum();
+    }
+
+    public long getBlockedNanos() {
+        return blockedNanos.sum();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Appenders of this type currently started in the JVM.
+     */
+    public static List<RingBufferAppender> started() {
+        return List.copyOf(STARTED);
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
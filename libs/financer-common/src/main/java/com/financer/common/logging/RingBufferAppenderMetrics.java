@@ -0,0 +1,57 @@
+package com.financer.common.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the state of every started {@link RingBufferAppender}, tagged by
+ * appender name:
+ * <ul>
+ *     <li>{@code financer.logging.ring.depth} / {@code .capacity} — events waiting, ring size</li>
+ *     <li>{@code financer.logging.ring.blocked} — events whose producer waited for a slot</li>
+ *     <li>{@code financer.logging.ring.blocked.time} — total producer wait, in seconds</li>
+ *     <li>{@code financer.logging.ring.dropped} / {@code .spilled} — overflow outcomes</li>
+ * </ul>
+ * Logback is configured before the application context, so the appenders
+ * already exist when Spring binds this to the registry.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class RingBufferAppenderMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RingBufferAppender appender : RingBufferAppender.started()) {
+            Tags tags = Tags.of("appender", String.valueOf(appender.getName()),
+                    "policy", appender.getOverflowPolicy().name());
+            Gauge.builder("financer.logging.ring.depth", appender, RingBufferAppender::getDepth)
+                    .tags(tags)
+                    .description("Log events waiting in the ring")
+                    .register(registry);
+            Gauge.builder("financer.logging.ring.capacity", appender, RingBufferAppender::getCapacity)
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("financer.logging.ring.blocked", appender, RingBufferAppender::getBlockedCount)
+                    .tags(tags)
+                    .description("Log events whose producer waited for a free slot")
+                    .register(registry);
+            FunctionCounter.builder("financer.logging.ring.blocked.time", appender, a -> a.getBlockedNanos() / 1e9)
+                    .tags(tags)
+                    .baseUnit("seconds")
+                    .register(registry);
+            FunctionCounter.builder("financer.logging.ring.dropped", appender, RingBufferAppender::getDroppedCount)
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("financer.logging.ring.spilled", appender, RingBufferAppender::getSpilledCount)
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.financer.common.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/allocations}: routes ranked by heap allocated per request.
+ *
+ * <pre>
+ * curl 'localhost:8080/actuator/allocations?limit=10'
+ * </pre>
+ *
+ * {@code bytesPerRequest} is the mean since startup; {@code p50}/{@code p99}/
+ * {@code max} cover the last interval of exactly measured requests (0 when
+ * every request ran on a virtual thread, see {@code sampledRequests}).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+@Endpoint(id = "allocations")
+@ConditionalOnProperty(value = "financer.metrics.allocation.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AllocationEndpoint {
+
+    private final AllocationHistograms histograms;
+
+    @ReadOperation
+    public List<AllocationHistograms.RouteAllocation> ranking(@Nullable Integer limit) {
+        List<AllocationHistograms.RouteAllocation> ranking = histograms.ranking();
+        return limit == null || limit >= ranking.size() ? ranking : ranking.subList(0, Math.max(limit, 0));
+    }
+}
@@ -0,0 +1,102 @@
+package com.financer.common.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Heap allocated while handling the requests of one route, in bytes.
+ * <p>
+ * Requests measured exactly (platform threads) record into an HdrHistogram
+ * {@link Recorder} rotated like {@link LatencyHistogram}: the percentiles
+ * describe the last interval. Every request, measured or sampled (virtual
+ * threads, see {@link VirtualThreadAllocationSampler}), also adds to the
+ * running totals behind {@link #getBytesPerRequest()}. Values are tracked
+ * from 1 KiB to 64 GiB with two significant digits.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class AllocationHistogram {
+
+    static final long LOWEST_DISCERNIBLE_BYTES = 1024L;
+    static final long HIGHEST_TRACKABLE_BYTES = 1L << 36;
+
+    private final Recorder recorder = new Recorder(
+            LOWEST_DISCERNIBLE_BYTES, HIGHEST_TRACKABLE_BYTES, LatencyHistogram.SIGNIFICANT_DIGITS);
+    private final LongAdder totalBytes = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder sampledRequests = new LongAdder();
+    private Histogram interval;
+    private volatile IntervalSnapshot snapshot = IntervalSnapshot.EMPTY;
+
+    /**
+     * Exact allocation of one request.
+     */
+    public void record(long bytes) {
+        bytes = Math.max(bytes, 0);
+        recorder.recordValue(Math.min(bytes, HIGHEST_TRACKABLE_BYTES));
+        totalBytes.add(bytes);
+        requests.increment();
+    }
+
+    /**
+     * Estimated allocation of one request, from allocation samples; counts
+     * towards the totals only, one request's estimate being too coarse for
+     * percentiles.
+     */
+    public void recordSampled(long bytes) {
+        totalBytes.add(Math.max(bytes, 0));
+        requests.increment();
+        sampledRequests.increment();
+    }
+
+    /**
+     * Closes the current interval; called by a single thread.
+     */
+    void rotate() {
+        interval = recorder.getIntervalHistogram(interval);
+        snapshot = interval.getTotalCount() == 0 ? IntervalSnapshot.EMPTY : new IntervalSnapshot(
+                interval.getTotalCount(),
+                interval.getValueAtPercentile(50.0),
+                interval.getValueAtPercentile(99.0),
+                interval.getMaxValue());
+    }
+
+    /**
+     * Percentiles of the exactly measured requests of the last completed interval.
+     */
+    public IntervalSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes.sum();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getSampledRequests() {
+        return sampledRequests.sum();
+    }
+
+    /**
+     * Mean allocation per request since startup, measured and sampled.
+     */
+    public long getBytesPerRequest() {
+        long count = requests.sum();
+        return count == 0 ? 0 : totalBytes.sum() / count;
+    }
+
+    /**
+     * Count and percentiles of one interval, in bytes.
+     */
+    public record IntervalSnapshot(long count, long p50, long p99, long max) {
+
+        static final IntervalSnapshot EMPTY = new IntervalSnapshot(0, 0, 0, 0);
+    }
+}
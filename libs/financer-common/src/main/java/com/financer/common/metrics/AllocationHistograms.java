@@ -0,0 +1,119 @@
+package com.financer.common.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link AllocationHistogram}s of inbound requests, one per route template
+ * (method + MVC pattern), filled by {@link RequestAllocationFilter}.
+ * <p>
+ * Meters, all in bytes:
+ * <ul>
+ *     <li>{@code financer.http.server.allocation} — tags {@code method},
+ *     {@code uri}, {@code quantile} ({@code 0.5}, {@code 0.99},
+ *     {@code 1.0} = max) over the last
+ *     {@code financer.metrics.allocation.interval} (default 30s);</li>
+ *     <li>{@code financer.http.server.allocation.total} and
+ *     {@code financer.http.server.allocation.requests} — counters, so
+ *     {@code rate(total) / rate(requests)} is the bytes per request to
+ *     alert on after a deploy.</li>
+ * </ul>
+ * {@link #ranking()} backs the {@code allocations} actuator endpoint. At
+ * most {@code financer.metrics.allocation.max-routes} (default 200) routes
+ * are tracked; the rest is reported as {@code OTHER} ({@link RouteHistograms}).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+@ConditionalOnProperty(value = "financer.metrics.allocation.enabled", havingValue = "true", matchIfMissing = true)
+public class AllocationHistograms extends RouteHistograms<AllocationHistogram> {
+
+    private static final String ALLOCATION = "financer.http.server.allocation";
+
+    public AllocationHistograms(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${financer.metrics.allocation.interval:30s}") Duration interval,
+            @Value("${financer.metrics.allocation.max-routes:200}") int maxRoutes) {
+        super("allocation", meterRegistry, interval, maxRoutes);
+    }
+
+    /**
+     * Routes by mean bytes per request since startup, heaviest first.
+     */
+    public List<RouteAllocation> ranking() {
+        List<RouteAllocation> ranking = new ArrayList<>();
+        forEachRoute((method, pattern, histogram) -> {
+            if (histogram.getRequests() > 0) {
+                ranking.add(RouteAllocation.of(method, pattern, histogram));
+            }
+        });
+        ranking.sort(Comparator.comparingLong(RouteAllocation::bytesPerRequest).reversed());
+        return ranking;
+    }
+
+    @Override
+    AllocationHistogram newHistogram() {
+        return new AllocationHistogram();
+    }
+
+    @Override
+    void register(MeterRegistry meters, Tags tags, AllocationHistogram histogram) {
+        quantile(meters, tags, "0.5", histogram, s -> s.p50());
+        quantile(meters, tags, "0.99", histogram, s -> s.p99());
+        quantile(meters, tags, "1.0", histogram, s -> s.max());
+        FunctionCounter.builder(ALLOCATION + ".total", histogram, AllocationHistogram::getTotalBytes)
+                .tags(tags)
+                .baseUnit(BaseUnits.BYTES)
+                .description("Heap allocated by requests")
+                .register(meters);
+        FunctionCounter.builder(ALLOCATION + ".requests", histogram, AllocationHistogram::getRequests)
+                .tags(tags)
+                .description("Requests with allocation accounted")
+                .register(meters);
+    }
+
+    private static void quantile(MeterRegistry meters, Tags tags, String quantile, AllocationHistogram histogram,
+                                 ToLongFunction<AllocationHistogram.IntervalSnapshot> value) {
+        Gauge.builder(ALLOCATION, histogram, h -> value.applyAsLong(h.getSnapshot()))
+                .tags(tags)
+                .tag("quantile", quantile)
+                .baseUnit(BaseUnits.BYTES)
+                .description("Heap allocated per request, percentile over the last interval")
+                .register(meters);
+    }
+
+    @Override
+    void rotate(AllocationHistogram histogram) {
+        histogram.rotate();
+    }
+
+    /**
+     * One line of the ranking; percentiles cover the exactly measured
+     * requests of the last interval.
+     */
+    public record RouteAllocation(String method, String uri, long requests, long sampledRequests,
+                                  long bytesPerRequest, long totalBytes, long p50, long p99, long max) {
+
+        static RouteAllocation of(String method, String uri, AllocationHistogram histogram) {
+            AllocationHistogram.IntervalSnapshot snapshot = histogram.getSnapshot();
+            return new RouteAllocation(method, uri, histogram.getRequests(), histogram.getSampledRequests(),
+                    histogram.getBytesPerRequest(), histogram.getTotalBytes(),
+                    snapshot.p50(), snapshot.p99(), snapshot.max());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.financer.common.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link LatencyHistogram}s of inbound requests, one per route template
+ * (method + MVC pattern, e.g. {@code GET /api/v1/accounts/{id}}) and one
+ * per {@code FinancerException} error code.
+ * <p>
+ * Every {@code financer.metrics.latency.interval} (default 30s) the
+ * interval of all histograms closes ({@link RouteHistograms}); the meters
+ * report that interval, so percentiles describe the last 30s rather than
+ * the process lifetime:
+ * <ul>
+ *     <li>{@code financer.http.server.latency} — tags {@code method},
+ *     {@code uri}, {@code quantile} ({@code 0.5}, {@code 0.99},
+ *     {@code 0.999}, {@code 1.0} = max), plus {@code .count};</li>
+ *     <li>{@code financer.http.server.errors.latency} — same per
+ *     {@code error.code}.</li>
+ * </ul>
+ * At most {@code financer.metrics.latency.max-routes} (default 200) routes
+ * and as many error codes are tracked; the rest is reported as {@code OTHER}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+@ConditionalOnProperty(value = "financer.metrics.latency.enabled", havingValue = "true", matchIfMissing = true)
+public class LatencyHistograms extends RouteHistograms<LatencyHistogram> {
+
+    /**
+     * {@code uri} of requests no handler matched (404s, requests rejected by filters).
+     */
+    public static final String UNMATCHED = "UNMATCHED";
+
+    private static final String LATENCY = "financer.http.server.latency";
+    private static final String ERRORS_LATENCY = "financer.http.server.errors.latency";
+
+    private final Map<String, LatencyHistogram> errorCodes = new ConcurrentHashMap<>();
+
+    public LatencyHistograms(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${financer.metrics.latency.interval:30s}") Duration interval,
+            @Value("${financer.metrics.latency.max-routes:200}") int maxRoutes) {
+        super("latency", meterRegistry, interval, maxRoutes);
+    }
+
+    public LatencyHistogram forErrorCode(String errorCode) {
+        LatencyHistogram histogram = errorCodes.get(errorCode);
+        return histogram != null ? histogram : createErrorCode(errorCode);
+    }
+
+    private synchronized LatencyHistogram createErrorCode(String errorCode) {
+        LatencyHistogram histogram = errorCodes.get(errorCode);
+        if (histogram != null) {
+            return histogram;
+        }
+        if (errorCodes.size() >= getMaxRoutes() && !OTHER.equals(errorCode)) {
+            return createErrorCode(OTHER);
+        }
+        histogram = new LatencyHistogram();
+        errorCodes.put(errorCode, histogram);
+        MeterRegistry meters = getMeterRegistry().getIfAvailable();
+        if (meters != null) {
+            register(meters, ERRORS_LATENCY, Tags.of("error.code", errorCode), histogram);
+        }
+        return histogram;
+    }
+
+    @Override
+    LatencyHistogram newHistogram() {
+        return new LatencyHistogram();
+    }
+
+    @Override
+    void register(MeterRegistry meters, Tags tags, LatencyHistogram histogram) {
+        register(meters, LATENCY, tags, histogram);
+    }
+
+    private static void register(MeterRegistry meters, String name, Tags tags, LatencyHistogram histogram) {
+        quantile(meters, name, tags, "0.5", histogram, s -> s.p50());
+        quantile(meters, name, tags, "0.99", histogram, s -> s.p99());
+        quantile(meters, name, tags, "0.999", histogram, s -> s.p999());
+        quantile(meters, name, tags, "1.0", histogram, s -> s.max());
+        Gauge.builder(name + ".count", histogram, h -> h.getSnapshot().count())
+                .tags(tags)
+                .description("Requests in the last interval")
+                .register(meters);
+    }
+
+    private static void quantile(MeterRegistry meters, String name, Tags tags, String quantile,
+                                 LatencyHistogram histogram, ToLongFunction<LatencyHistogram.IntervalSnapshot> value) {
+        TimeGauge.builder(name, histogram, TimeUnit.MICROSECONDS, h -> value.applyAsLong(h.getSnapshot()))
+                .tags(tags)
+                .tag("quantile", quantile)
+                .description("Request latency percentile over the last interval")
+                .register(meters);
+    }
+
+    @Override
+    void forEachHistogram(Consumer<LatencyHistogram> action) {
+        super.forEachHistogram(action);
+        errorCodes.values().forEach(action);
+    }
+
+    @Override
+    void rotate(LatencyHistogram histogram) {
+        histogram.rotate();
+    }
+}
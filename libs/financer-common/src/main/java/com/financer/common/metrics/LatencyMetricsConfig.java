@@ -0,0 +1,32 @@
+package com.financer.common.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the {@link RouteTemplateInterceptor} with Spring MVC.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(value = "financer.metrics.latency.enabled", havingValue = "true", matchIfMissing = true)
+public class LatencyMetricsConfig {
+
+    @Bean
+    public WebMvcConfigurer financerLatencyWebMvcConfigurer(LatencyHistograms histograms) {
+        RouteTemplateInterceptor interceptor = new RouteTemplateInterceptor(histograms);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+}
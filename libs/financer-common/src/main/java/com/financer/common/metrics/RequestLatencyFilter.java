@@ -0,0 +1,130 @@
+package com.financer.common.metrics;
+
+import com.financer.common.exception.GlobalExceptionHandler;
+import com.financer.common.jfr.RequestEvent;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Times every request into the {@link LatencyHistograms} and emits a
+ * {@link RequestEvent} for JFR.
+ * <p>
+ * The route comes from {@link RouteTemplateInterceptor}, which resolves the
+ * histogram once the handler is known; requests that never reach a handler
+ * are recorded as {@link LatencyHistograms#UNMATCHED}. Requests answered by
+ * {@code GlobalExceptionHandler} also count towards their error code.
+ * Async requests are recorded when the async processing completes.
+ * The added work per request is the {@code OncePerRequestFilter}
+ * bookkeeping, two {@code nanoTime} calls, a few request attribute reads,
+ * a wait-free histogram record and the JFR event: about 230ns on a 1-vCPU
+ * VM whose {@code nanoTime} costs 46ns, 320ns with a recording running
+ * ({@code RequestLatencyBenchmark} in financer-benchmarks).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class RequestLatencyFilter extends OncePerRequestFilter {
+
+    private static final String ALREADY_FILTERED = RequestLatencyFilter.class.getName() + ALREADY_FILTERED_SUFFIX;
+
+    private final LatencyHistograms histograms;
+
+    public RequestLatencyFilter(ObjectProvider<LatencyHistograms> histograms) {
+        this.histograms = histograms.getIfAvailable();
+    }
+
+    /**
+     * Constant, instead of the filter name concatenated on every request.
+     */
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        return ALREADY_FILTERED;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(start, event));
+            } else {
+                complete(request, response, start, event);
+            }
+        }
+    }
+
+    void complete(HttpServletRequest request, HttpServletResponse response, long start, RequestEvent event) {
+        long micros = (System.nanoTime() - start) / 1_000;
+        LatencyHistogram route = (LatencyHistogram) request.getAttribute(RouteTemplateInterceptor.HISTOGRAM_ATTRIBUTE);
+        String errorCode = (String) request.getAttribute(GlobalExceptionHandler.ERROR_CODE_ATTRIBUTE);
+        if (histograms != null) {
+            if (route == null) {
+                route = histograms.forRoute(request.getMethod(), LatencyHistograms.UNMATCHED);
+            }
+            route.record(micros);
+            if (errorCode != null) {
+                histograms.forErrorCode(errorCode).record(micros);
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            Object pattern = request.getAttribute(RouteTemplateInterceptor.PATTERN_ATTRIBUTE);
+            event.method = request.getMethod();
+            event.uri = pattern instanceof String template ? template : LatencyHistograms.UNMATCHED;
+            event.status = response.getStatus();
+            event.errorCode = errorCode;
+            event.commit();
+        }
+    }
+
+    private final class CompletionListener implements AsyncListener {
+
+        private final long start;
+        private final RequestEvent event;
+
+        private CompletionListener(long start, RequestEvent event) {
+            this.start = start;
+            this.event = event;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent asyncEvent) {
+            complete((HttpServletRequest) asyncEvent.getSuppliedRequest(),
+                    (HttpServletResponse) asyncEvent.getSuppliedResponse(), start, event);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent asyncEvent) {
+        }
+
+        @Override
+        public void onError(AsyncEvent asyncEvent) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent asyncEvent) {
+            asyncEvent.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.financer.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Interval histograms of inbound requests, one per route template
+ * (method + MVC pattern), whatever quantity they record.
+ * <p>
+ * A lookup is two map reads and allocates nothing; a new route is created
+ * and its meters registered under a lock. At most {@code maxRoutes} routes
+ * are tracked, the rest shares the {@code OTHER} pattern of its method. A
+ * single daemon thread closes the interval of every histogram each
+ * {@code interval}.
+ *
+ * @param <H> histogram type
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+abstract class RouteHistograms<H> implements DisposableBean {
+
+    static final String OTHER = "OTHER";
+
+    private final Map<String, Map<String, H>> routes = new ConcurrentHashMap<>();
+    private final String name;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int maxRoutes;
+    private final ScheduledExecutorService rotator;
+
+    /**
+     * @param name names the rotation thread ({@code financer-<name>-rotator}) and its log lines
+     */
+    RouteHistograms(String name, ObjectProvider<MeterRegistry> meterRegistry, Duration interval, int maxRoutes) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+        this.maxRoutes = maxRoutes;
+        this.rotator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "financer-" + name + "-rotator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rotator.scheduleAtFixedRate(this::rotate, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Histogram of a route; {@code pattern} is the MVC best matching pattern
+     * or {@link LatencyHistograms#UNMATCHED}.
+     */
+    public H forRoute(String method, String pattern) {
+        method = knownMethod(method);
+        Map<String, H> byPattern = routes.get(method);
+        H histogram = byPattern == null ? null : byPattern.get(pattern);
+        return histogram != null ? histogram : createRoute(method, pattern);
+    }
+
+    private synchronized H createRoute(String method, String pattern) {
+        Map<String, H> byPattern = routes.computeIfAbsent(method, m -> new ConcurrentHashMap<>());
+        H histogram = byPattern.get(pattern);
+        if (histogram != null) {
+            return histogram;
+        }
+        if (!OTHER.equals(pattern) && routeCount() >= maxRoutes) {
+            return createRoute(method, OTHER);
+        }
+        histogram = newHistogram();
+        byPattern.put(pattern, histogram);
+        MeterRegistry meters = meterRegistry.getIfAvailable();
+        if (meters != null) {
+            register(meters, Tags.of("method", method, "uri", pattern), histogram);
+        }
+        return histogram;
+    }
+
+    /**
+     * The method comes from the client: anything non-standard shares one tag value.
+     */
+    static String knownMethod(String method) {
+        return switch (method) {
+            case "GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS", "TRACE" -> method;
+            default -> OTHER;
+        };
+    }
+
+    private int routeCount() {
+        int count = 0;
+        for (Map<String, H> byPattern : routes.values()) {
+            count += byPattern.size();
+        }
+        return count;
+    }
+
+    final ObjectProvider<MeterRegistry> getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    final int getMaxRoutes() {
+        return maxRoutes;
+    }
+
+    void forEachRoute(RouteVisitor<H> visitor) {
+        routes.forEach((method, byPattern) -> byPattern.forEach((pattern, histogram) ->
+                visitor.visit(method, pattern, histogram)));
+    }
+
+    /**
+     * Every histogram the rotation closes; subclasses with histograms beyond routes add theirs.
+     */
+    void forEachHistogram(Consumer<H> action) {
+        routes.values().forEach(byPattern -> byPattern.values().forEach(action));
+    }
+
+    abstract H newHistogram();
+
+    /**
+     * Registers the meters of a new route, tagged {@code method} and {@code uri}.
+     */
+    abstract void register(MeterRegistry meters, Tags tags, H histogram);
+
+    abstract void rotate(H histogram);
+
+    void rotate() {
+        try {
+            forEachHistogram(this::rotate);
+        } catch (RuntimeException e) {
+            log.warn("{} histogram rotation failed: {}", name, e.toString());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        rotator.shutdownNow();
+    }
+
+    @FunctionalInterface
+    interface RouteVisitor<H> {
+
+        void visit(String method, String pattern, H histogram);
+    }
+}
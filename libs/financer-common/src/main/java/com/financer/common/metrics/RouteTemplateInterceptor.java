@@ -0,0 +1,35 @@
+package com.financer.common.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Resolves the {@link LatencyHistogram} of the matched route once the
+ * handler is known and leaves it on the request for
+ * {@link RequestLatencyFilter}, which runs before any handler mapping.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class RouteTemplateInterceptor implements HandlerInterceptor {
+
+    static final String HISTOGRAM_ATTRIBUTE = RouteTemplateInterceptor.class.getName() + ".histogram";
+    static final String PATTERN_ATTRIBUTE = HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE;
+
+    private final LatencyHistograms histograms;
+
+    public RouteTemplateInterceptor(LatencyHistograms histograms) {
+        this.histograms = histograms;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(PATTERN_ATTRIBUTE) instanceof String pattern) {
+            request.setAttribute(HISTOGRAM_ATTRIBUTE, histograms.forRoute(request.getMethod(), pattern));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,174 @@
+package com.financer.common.metrics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the allocation of requests served by virtual threads, for
+ * which {@code ThreadMXBean} has no per-thread counter (it answers -1).
+ * <p>
+ * Streams {@code jdk.ObjectAllocationSample} in-process: the JVM samples
+ * allocations at up to {@code financer.metrics.allocation.virtual.throttle}
+ * (default {@code 300/s}) and weighs each sample with the bytes allocated
+ * since the previous one, so the weights of a thread add up to what it
+ * allocated. {@link RequestAllocationFilter} opens a {@link Scope} per
+ * request; samples are attributed to the scope of their virtual thread
+ * covering the sample time. Events arrive about a second late, so a scope
+ * is recorded {@value #SETTLE_SECONDS}s after its request ended.
+ * <p>
+ * The estimate is good for the mean of a route over many requests, not for
+ * one request. Active only with {@code financer.threads.virtual.enabled=true}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${financer.metrics.allocation.enabled:true} and ${financer.threads.virtual.enabled:false}")
+public class VirtualThreadAllocationSampler implements InitializingBean, DisposableBean {
+
+    static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    static final long SETTLE_SECONDS = 3;
+
+    private final String throttle;
+    private final Map<Long, Scope> scopes = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadAllocationSampler(
+            @Value("${financer.metrics.allocation.virtual.throttle:300/s}") String throttle) {
+        this.throttle = throttle;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(ALLOCATION_SAMPLE).with("throttle", throttle);
+            recording.setMaxAge(Duration.ofSeconds(10));
+            recording.onEvent(ALLOCATION_SAMPLE, this::onSample);
+            recording.onFlush(this::settle);
+            recording.startAsync();
+            stream = recording;
+            log.info("Virtual thread allocation sampler started (throttle {})", throttle);
+        } catch (RuntimeException | LinkageError e) {
+            // JFR missing or disabled in this runtime: virtual thread requests go unaccounted
+            log.warn("Virtual thread allocation sampler unavailable: {}", e.toString());
+        }
+    }
+
+    /**
+     * Whether samples are being collected; {@link #begin()} is pointless otherwise.
+     */
+    public boolean isActive() {
+        return stream != null;
+    }
+
+    /**
+     * Opens the scope of a request on the current virtual thread.
+     */
+    public Scope begin() {
+        long threadId = Thread.currentThread().threadId();
+        Scope scope = new Scope(Instant.now(), scopes.get(threadId));
+        scopes.put(threadId, scope);
+        return scope;
+    }
+
+    /**
+     * Closes a scope; its estimate goes to {@code histogram} once late
+     * samples had time to arrive, or nowhere when {@code null}.
+     */
+    public void end(Scope scope, @Nullable AllocationHistogram histogram) {
+        scope.histogram = histogram;
+        scope.end = Instant.now();
+    }
+
+    void onSample(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread == null) {
+            return;
+        }
+        Instant time = event.getStartTime();
+        Scope scope = scopes.get(thread.getJavaThreadId());
+        while (scope != null && time.isBefore(scope.start)) {
+            scope = scope.previous;
+        }
+        if (scope != null && (scope.end == null || !time.isAfter(scope.end))) {
+            scope.bytes += event.getLong("weight");
+        }
+    }
+
+    /**
+     * Records and forgets the scopes that ended long enough ago; runs on the
+     * stream thread, like {@link #onSample}.
+     */
+    void settle() {
+        Instant settled = Instant.now().minusSeconds(SETTLE_SECONDS);
+        scopes.forEach((threadId, head) -> {
+            Scope newer = null;
+            Scope scope = head;
+            while (scope != null && !scope.endedBefore(settled)) {
+                newer = scope;
+                scope = scope.previous;
+            }
+            if (scope == null) {
+                return;
+            }
+            if (newer != null) {
+                newer.previous = null;
+            } else if (!scopes.remove(threadId, head)) {
+                // a new request started on this thread meanwhile: next flush
+                return;
+            }
+            for (; scope != null; scope = scope.previous) {
+                if (scope.histogram != null) {
+                    scope.histogram.recordSampled(scope.bytes);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        RecordingStream current = stream;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /**
+     * Allocation samples of one request on one virtual thread. {@code bytes}
+     * is only touched by the stream thread.
+     */
+    public static final class Scope {
+
+        private final Instant start;
+        private volatile Scope previous;
+        private volatile Instant end;
+        private volatile AllocationHistogram histogram;
+        private long bytes;
+
+        private Scope(Instant start, Scope previous) {
+            this.start = start;
+            this.previous = previous;
+        }
+
+        private boolean endedBefore(Instant instant) {
+            Instant ended = end;
+            return ended != null && ended.isBefore(instant);
+        }
+    }
+}
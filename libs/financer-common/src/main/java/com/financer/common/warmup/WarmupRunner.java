@@ -0,0 +1,182 @@
+package com.financer.common.warmup;
+
+import com.financer.common.json.JsonCodecs;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the JVM warm-up before the application takes traffic, so the first
+ * requests after a deploy do not pay for class loading, interpretation and
+ * JIT compilation.
+ * <p>
+ * The {@link DtoWarmupTask} plus every {@link WarmupTask} bean run in a loop
+ * until {@code financer.warmup.iterations} (default 1000, {@code 0} for no
+ * limit) or {@code financer.warmup.duration} (default 20s) is reached,
+ * whichever comes first.
+ * <p>
+ * It runs once all singletons exist and before any {@code Lifecycle} bean
+ * starts, blocking the context refresh. Nothing downstream of the refresh
+ * can happen earlier: the web server does not listen, the Eureka
+ * registration (on web server start) is not sent, and readiness stays
+ * {@code REFUSING_TRAFFIC} — Boot only publishes {@code ACCEPTING_TRAFFIC}
+ * once the application is ready. Should a renewal from an already created
+ * Eureka client register the instance meanwhile, it does so with
+ * {@code eureka.instance.initial-status}, which Spring Cloud defaults to
+ * {@code UP}: financer-eureka-client sets it to {@code STARTING} (not
+ * routed to) and switches to {@code UP} on {@code ApplicationReadyEvent};
+ * applications without that library must set it themselves.
+ * <p>
+ * Meters: {@code financer.warmup.duration}, {@code financer.warmup.iterations}
+ * and {@code financer.warmup.task.duration} (tagged {@code task}).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "financer.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements SmartInitializingSingleton {
+
+    private final ObjectProvider<WarmupTask> tasks;
+    private final ObjectProvider<JsonCodecs> codecs;
+    private final ObjectProvider<Validator> validator;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int iterations;
+    private final Duration duration;
+    private final boolean dtoEnabled;
+    private final String[] dtoPackages;
+    private final Map<String, Long> taskNanos = new LinkedHashMap<>();
+    private volatile long durationNanos;
+    private volatile int completedIterations;
+
+    public WarmupRunner(
+            ObjectProvider<WarmupTask> tasks,
+            ObjectProvider<JsonCodecs> codecs,
+            ObjectProvider<Validator> validator,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${financer.warmup.iterations:1000}") int iterations,
+            @Value("${financer.warmup.duration:20s}") Duration duration,
+            @Value("${financer.warmup.dto.enabled:true}") boolean dtoEnabled,
+            @Value("${financer.warmup.dto-packages:com.financer.dto}") String[] dtoPackages) {
+        this.tasks = tasks;
+        this.codecs = codecs;
+        this.validator = validator;
+        this.meterRegistry = meterRegistry;
+        this.iterations = iterations;
+        this.duration = duration;
+        this.dtoEnabled = dtoEnabled;
+        this.dtoPackages = dtoPackages;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<WarmupTask> pending = new ArrayList<>();
+        JsonCodecs jsonCodecs = codecs.getIfAvailable();
+        if (dtoEnabled && jsonCodecs != null) {
+            DtoWarmupTask dto = new DtoWarmupTask(jsonCodecs, validator.getIfUnique(), dtoPackages);
+            if (dto.getSampleCount() > 0) {
+                pending.add(dto);
+            }
+        }
+        tasks.orderedStream().forEach(pending::add);
+        if (pending.isEmpty()) {
+            log.info("JVM warm-up skipped: no tasks");
+            return;
+        }
+        run(pending);
+        registerMeters();
+    }
+
+    private void run(List<WarmupTask> pending) {
+        long[] nanos = new long[pending.size()];
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        int done = 0;
+        while ((iterations <= 0 || done < iterations) && System.nanoTime() - deadline < 0 && hasTasks(pending)) {
+            for (int i = 0; i < pending.size(); i++) {
+                WarmupTask task = pending.get(i);
+                if (task == null) {
+                    continue;
+                }
+                long taskStart = System.nanoTime();
+                try {
+                    task.run();
+                } catch (Exception | LinkageError e) {
+                    log.warn("Warm-up task '{}' failed, dropping it: {}", task.getName(), e.toString());
+                    pending.set(i, null);
+                }
+                nanos[i] += System.nanoTime() - taskStart;
+            }
+            done++;
+        }
+        durationNanos = System.nanoTime() - start;
+        completedIterations = done;
+        for (int i = 0; i < nanos.length; i++) {
+            WarmupTask task = pending.get(i);
+            if (task != null) {
+                taskNanos.put(task.getName(), nanos[i]);
+            }
+        }
+        log.info("JVM warm-up finished: {} iterations in {} ms ({})", done,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), summary());
+    }
+
+    private static boolean hasTasks(List<WarmupTask> pending) {
+        for (WarmupTask task : pending) {
+            if (task != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String summary() {
+        StringBuilder summary = new StringBuilder();
+        taskNanos.forEach((name, nanos) -> {
+            if (!summary.isEmpty()) {
+                summary.append(", ");
+            }
+            summary.append(name).append(' ').append(TimeUnit.NANOSECONDS.toMillis(nanos)).append(" ms");
+        });
+        return summary.toString();
+    }
+
+    private void registerMeters() {
+        MeterRegistry meters = meterRegistry.getIfAvailable();
+        if (meters == null) {
+            return;
+        }
+        TimeGauge.builder("financer.warmup.duration", this, TimeUnit.NANOSECONDS, WarmupRunner::getDurationNanos)
+                .description("Time spent in the startup warm-up").register(meters);
+        Gauge.builder("financer.warmup.iterations", this, WarmupRunner::getCompletedIterations)
+                .description("Warm-up iterations completed").register(meters);
+        taskNanos.forEach((name, nanos) ->
+                TimeGauge.builder("financer.warmup.task.duration", nanos, TimeUnit.NANOSECONDS, Long::doubleValue)
+                        .tag("task", name).description("Time spent in a warm-up task").strongReference(true)
+                        .register(meters));
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public int getCompletedIterations() {
+        return completedIterations;
+    }
+}
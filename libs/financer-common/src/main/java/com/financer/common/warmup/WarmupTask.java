@@ -0,0 +1,31 @@
+package com.financer.common.warmup;
+
+/**
+ * Unit of work run repeatedly by the {@link WarmupRunner} before the
+ * application starts taking traffic.
+ * <p>
+ * Declare implementations as beans to have them picked up (ordered by
+ * {@code @Order} / {@code Ordered}). A task should exercise the same code
+ * paths as real requests — parsing, mapping, pricing, signing — without side
+ * effects: no writes to databases, brokers or other services. A task that
+ * throws is logged and dropped from the rest of the warm-up; it never fails
+ * the startup.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public interface WarmupTask {
+
+    /**
+     * Name used in logs and as the {@code task} tag of {@code financer.warmup.task.duration}.
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Runs one iteration.
+     */
+    void run() throws Exception;
+}
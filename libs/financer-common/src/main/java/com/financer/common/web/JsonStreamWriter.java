@@ -0,0 +1,156 @@
+package com.financer.common.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.financer.common.json.JsonCodecs;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Writes large DTO collections as a JSON array one element at a time, so a
+ * list endpoint never materializes the whole {@code List} in memory.
+ * <p>
+ * Elements are serialized through the shared {@code ObjectMapper} into a
+ * {@link JsonGenerator} whose buffer is bounded by Jackson; the generator is
+ * flushed every {@code financer.web.streaming.flush-every} elements so bytes
+ * reach the client steadily. The output is byte-for-byte the array the
+ * mapper would write for the equivalent list.
+ *
+ * <pre>{@code
+ * @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+ * public ResponseEntity<StreamingResponseBody> list(@PathVariable Long userId) {
+ *     return ResponseEntity.ok(jsonStreams.of(cursor, TransactionDTO.class));
+ * }
+ * }</pre>
+ * <p>
+ * {@link StreamingResponseBody} runs after the controller returns, on an MVC
+ * async thread: {@link Stream} sources must stay valid outside the caller's
+ * transaction (e.g. {@code JdbcTemplate.queryForStream}); prefer a
+ * {@link PageCursor} otherwise. Streams are always closed.
+ * <p>
+ * The status line is already sent when a source fails mid-stream, so the
+ * array is deliberately left unclosed: the client sees malformed JSON and
+ * cannot mistake a partial result for a complete one.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class JsonStreamWriter {
+
+    private final ObjectMapper objectMapper;
+    private final JsonCodecs codecs;
+    private final int flushEvery;
+    private final int pageSize;
+
+    public JsonStreamWriter(
+            ObjectMapper objectMapper,
+            JsonCodecs codecs,
+            @Value("${financer.web.streaming.flush-every:100}") int flushEvery,
+            @Value("${financer.web.streaming.page-size:500}") int pageSize) {
+        this.objectMapper = objectMapper;
+        this.codecs = codecs;
+        this.flushEvery = Math.max(1, flushEvery);
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * Streams a (possibly cursor-backed) {@link Stream}; it is closed when writing ends.
+     */
+    public <T> StreamingResponseBody of(Stream<T> items, Class<T> type) {
+        return out -> {
+            try (Stream<T> source = items) {
+                write(source.iterator(), type, out);
+            }
+        };
+    }
+
+    public <T> StreamingResponseBody of(Iterator<T> items, Class<T> type) {
+        return out -> write(items, type, out);
+    }
+
+    /**
+     * Streams a keyset-paginated source using {@code financer.web.streaming.page-size}.
+     */
+    public <T> StreamingResponseBody of(PageCursor<T> cursor, Class<T> type) {
+        return of(cursor, type, pageSize);
+    }
+
+    public <T> StreamingResponseBody of(PageCursor<T> cursor, Class<T> type, int pageSize) {
+        return out -> write(new PageIterator<>(cursor, pageSize), type, out);
+    }
+
+    /**
+     * Writes {@code items} as a JSON array to {@code out} without closing it.
+     * If {@code items} throws, the array is not terminated.
+     */
+    public <T> void write(Iterator<T> items, Class<T> type, OutputStream out) throws IOException {
+        ObjectWriter writer = codecs.writer(type)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartArray();
+            int written = 0;
+            while (items.hasNext()) {
+                writer.writeValue(generator, items.next());
+                if (++written % flushEvery == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Adapts a {@link PageCursor} to an {@link Iterator}, holding one page at a time.
+     */
+    private static final class PageIterator<T> implements Iterator<T> {
+
+        private final PageCursor<T> cursor;
+        private final int pageSize;
+        private List<T> page;
+        private int index;
+        private boolean lastPage;
+
+        private PageIterator(PageCursor<T> cursor, int pageSize) {
+            this.cursor = cursor;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (page != null && index < page.size()) {
+                return true;
+            }
+            if (lastPage) {
+                return false;
+            }
+            T last = page == null || page.isEmpty() ? null : page.get(page.size() - 1);
+            page = cursor.fetchPage(last, pageSize);
+            index = 0;
+            lastPage = page == null || page.size() < pageSize;
+            return page != null && !page.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.get(index++);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.financer.common.web;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated source for {@link JsonStreamWriter}: each call runs one
+ * short query for the rows after the last element already written, so no
+ * connection or transaction is held while the response is streaming.
+ *
+ * <pre>{@code
+ * PageCursor<TransactionDTO> cursor = (last, size) ->
+ *         repository.findPage(userId, last == null ? 0L : last.getId(), size);
+ * }</pre>
+ *
+ * @param <T> element type
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@FunctionalInterface
+public interface PageCursor<T> {
+
+    /**
+     * @param last     last element of the previous page, {@code null} for the first page
+     * @param pageSize maximum number of elements to return
+     * @return the next page; fewer than {@code pageSize} elements ends the stream
+     */
+    List<T> fetchPage(T last, int pageSize);
+}
@@ -0,0 +1,69 @@
+package com.financer.common.health;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CachedHealthIndicatorTest {
+
+    private final ExecutorService probes = Executors.newCachedThreadPool();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        probes.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void hungProbeReportsDown() throws Exception {
+        CachedHealthIndicator indicator = new CachedHealthIndicator("db", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Health.up().build();
+        }, Duration.ofSeconds(10), Duration.ofMillis(50), Duration.ofSeconds(30));
+
+        scheduler.submit(() -> indicator.probe(probes, scheduler)).get();
+        awaitStatus(indicator, Status.DOWN);
+
+        Health health = indicator.health();
+        assertEquals("timeout", health.getDetails().get("reason"));
+        assertEquals(Status.UNKNOWN.getCode(), health.getDetails().get("lastStatus"));
+    }
+
+    @Test
+    void staleResultReportsDown() throws Exception {
+        CachedHealthIndicator indicator = new CachedHealthIndicator("db", () -> Health.up().build(),
+                Duration.ofSeconds(10), Duration.ofSeconds(3), Duration.ofMillis(50));
+
+        scheduler.submit(() -> indicator.probe(probes, scheduler)).get();
+        awaitStatus(indicator, Status.DOWN);
+
+        Health health = indicator.health();
+        assertEquals("stale", health.getDetails().get("reason"));
+        assertEquals(Status.UP.getCode(), health.getDetails().get("lastStatus"));
+    }
+
+    private static void awaitStatus(CachedHealthIndicator indicator, Status status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!status.equals(indicator.health().getStatus()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(status, indicator.health().getStatus());
+    }
+}
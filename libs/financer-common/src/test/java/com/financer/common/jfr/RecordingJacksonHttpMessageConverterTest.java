@@ -0,0 +1,52 @@
+package com.financer.common.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class RecordingJacksonHttpMessageConverterTest {
+
+    record Payment(String accountId) {
+    }
+
+    @Test
+    void keepsPerTypeObjectMappers() throws Exception {
+        MappingJackson2HttpMessageConverter original = new MappingJackson2HttpMessageConverter();
+        ObjectMapper snakeCase = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        original.registerObjectMappersForType(Payment.class,
+                mappers -> mappers.put(MediaType.APPLICATION_JSON, snakeCase));
+        RecordingJacksonHttpMessageConverter converter = new RecordingJacksonHttpMessageConverter(original);
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(new Payment("acc-1"), Payment.class, MediaType.APPLICATION_JSON, output);
+        assertEquals("{\"account_id\":\"acc-1\"}", output.getBodyAsString(StandardCharsets.UTF_8));
+        assertEquals(MediaType.APPLICATION_JSON, output.getHeaders().getContentType());
+
+        MockHttpInputMessage input = new MockHttpInputMessage(
+                "{\"account_id\":\"acc-2\"}".getBytes(StandardCharsets.UTF_8));
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        assertEquals(new Payment("acc-2"), converter.read(Payment.class, input));
+    }
+
+    @Test
+    void delegatesMediaTypeChecks() {
+        MappingJackson2HttpMessageConverter original = new MappingJackson2HttpMessageConverter();
+        original.registerObjectMappersForType(Payment.class,
+                mappers -> mappers.put(MediaType.APPLICATION_JSON, new ObjectMapper()));
+        RecordingJacksonHttpMessageConverter converter = new RecordingJacksonHttpMessageConverter(original);
+
+        // registrations restrict a type to the registered media types
+        assertFalse(converter.canWrite(Payment.class, MediaType.valueOf("application/*+json")));
+        assertEquals(original.getSupportedMediaTypes(Payment.class), converter.getSupportedMediaTypes(Payment.class));
+    }
+}
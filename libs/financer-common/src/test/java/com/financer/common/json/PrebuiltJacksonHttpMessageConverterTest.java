@@ -0,0 +1,78 @@
+package com.financer.common.json;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.financer.common.config.JacksonConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrebuiltJacksonHttpMessageConverterTest {
+
+    interface Summary {
+    }
+
+    interface Detail {
+    }
+
+    record Payment(@JsonView(Summary.class) String accountId, @JsonView(Detail.class) BigDecimal amount) {
+    }
+
+    private final ObjectMapper mapper = JacksonConfig.createObjectMapper(true);
+    private final JsonCodecs codecs = new JsonCodecs(mapper);
+    private final PrebuiltJacksonHttpMessageConverter converter = new PrebuiltJacksonHttpMessageConverter(codecs);
+
+    @Test
+    void boundTypesRoundTripAsTheMapperWould() throws Exception {
+        codecs.reader(Payment.class);
+        codecs.writer(Payment.class);
+        Payment payment = new Payment("acc-1", new BigDecimal("10.50"));
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(payment, MediaType.APPLICATION_JSON, output);
+        assertArrayEquals(mapper.writeValueAsBytes(payment), output.getBodyAsBytes());
+        assertEquals(MediaType.APPLICATION_JSON, output.getHeaders().getContentType());
+
+        MockHttpInputMessage input = new MockHttpInputMessage(output.getBodyAsBytes());
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        assertEquals(payment, converter.read(Payment.class, input));
+    }
+
+    @Test
+    void viewsAndPerTypeMappersTakeTheRegularPath() throws Exception {
+        codecs.writer(Payment.class);
+        Payment payment = new Payment("acc-1", BigDecimal.ONE);
+
+        MappingJacksonValue summary = new MappingJacksonValue(payment);
+        summary.setSerializationView(Summary.class);
+        MockHttpOutputMessage viewOutput = new MockHttpOutputMessage();
+        converter.write(summary, MediaType.APPLICATION_JSON, viewOutput);
+        assertEquals("{\"accountId\":\"acc-1\"}", viewOutput.getBodyAsString(StandardCharsets.UTF_8));
+
+        ObjectMapper snakeCase = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        converter.registerObjectMappersForType(Payment.class,
+                mappers -> mappers.put(MediaType.APPLICATION_JSON, snakeCase));
+        MockHttpOutputMessage snakeOutput = new MockHttpOutputMessage();
+        converter.write(payment, MediaType.APPLICATION_JSON, snakeOutput);
+        assertEquals("{\"account_id\":\"acc-1\",\"amount\":1}", snakeOutput.getBodyAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void pooledBuffersDoNotLeakBetweenWrites() throws Exception {
+        Payment longer = new Payment("a".repeat(5000), BigDecimal.TEN);
+        Payment shorter = new Payment("acc-2", BigDecimal.ONE);
+
+        assertArrayEquals(mapper.writeValueAsBytes(longer), codecs.writeAsBytes(longer));
+        assertArrayEquals(mapper.writeValueAsBytes(shorter), codecs.writeAsBytes(shorter));
+    }
+}
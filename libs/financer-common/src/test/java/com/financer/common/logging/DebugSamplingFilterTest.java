@@ -0,0 +1,76 @@
+package com.financer.common.logging;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DebugSamplingFilterTest {
+
+    private static final String HEADER = "X-Financer-Debug";
+
+    @Test
+    void headerIsIgnoredByDefault() throws Exception {
+        DebugSamplingFilter filter = filter(false, "", List.of());
+
+        assertFalse(debugged(filter, request("10.0.0.1", "true")));
+    }
+
+    @Test
+    void enabledHeaderWithoutSecretOrNetworksIsIgnored() throws Exception {
+        DebugSamplingFilter filter = filter(true, "", List.of());
+
+        assertFalse(debugged(filter, request("10.0.0.1", "true")));
+    }
+
+    @Test
+    void headerMustCarryTheSecret() throws Exception {
+        DebugSamplingFilter filter = filter(true, "s3cret", List.of());
+
+        assertFalse(debugged(filter, request("203.0.113.9", "true")));
+        assertTrue(debugged(filter, request("203.0.113.9", "s3cret")));
+    }
+
+    @Test
+    void headerIsHonouredFromTrustedNetworks() throws Exception {
+        DebugSamplingFilter filter = filter(true, "", List.of("10.0.0.0/8", " 192.168.1.7", "fd00::/8"));
+
+        assertTrue(debugged(filter, request("10.20.30.40", "true")));
+        assertTrue(debugged(filter, request("192.168.1.7", "true")));
+        assertTrue(debugged(filter, request("fd12::1", "true")));
+        assertFalse(debugged(filter, request("192.168.1.8", "true")));
+        assertFalse(debugged(filter, request("11.0.0.1", "true")));
+        assertFalse(debugged(filter, request("10.0.0.1", "false")));
+    }
+
+    @Test
+    void invalidTrustedNetworkFailsFast() {
+        assertThrows(IllegalArgumentException.class, () -> filter(true, "", List.of("internal.example.com")));
+        assertThrows(IllegalArgumentException.class, () -> filter(true, "", List.of("10.0.0.0/33")));
+    }
+
+    private static DebugSamplingFilter filter(boolean headerEnabled, String secret, List<String> networks) {
+        return new DebugSamplingFilter(HEADER, headerEnabled, secret, networks, 0, 16);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String header) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/accounts");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader(HEADER, header);
+        return request;
+    }
+
+    private static boolean debugged(DebugSamplingFilter filter, MockHttpServletRequest request) throws Exception {
+        AtomicBoolean inScope = new AtomicBoolean();
+        FilterChain chain = (req, res) -> inScope.set(DebugScope.openScopes() > 0);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return inScope.get();
+    }
+}
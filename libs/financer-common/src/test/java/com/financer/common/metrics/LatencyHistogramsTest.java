@@ -0,0 +1,53 @@
+package com.financer.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LatencyHistogramsTest {
+
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private final LatencyHistograms histograms = new LatencyHistograms(
+            new StaticListableBeanFactory(Map.of("meters", meters)).getBeanProvider(MeterRegistry.class),
+            Duration.ofHours(1), 2);
+
+    @AfterEach
+    void shutdown() {
+        histograms.destroy();
+    }
+
+    @Test
+    void routesBeyondTheLimitShareOther() {
+        LatencyHistogram accounts = histograms.forRoute("GET", "/accounts/{id}");
+        LatencyHistogram cards = histograms.forRoute("POST", "/cards");
+        LatencyHistogram third = histograms.forRoute("GET", "/transactions");
+
+        assertSame(accounts, histograms.forRoute("GET", "/accounts/{id}"));
+        assertNotSame(cards, third);
+        assertSame(third, histograms.forRoute("GET", "/users"));
+        assertSame(third, histograms.forRoute("GET", RouteHistograms.OTHER));
+        assertSame(histograms.forRoute("OTHER", "/coffee"), histograms.forRoute("BREW", "/tea"));
+        assertEquals(2, meters.find("financer.http.server.latency.count").tag("uri", RouteHistograms.OTHER)
+                .gauges().size());
+    }
+
+    @Test
+    void rotationClosesRoutesAndErrorCodes() {
+        histograms.forRoute("GET", "/accounts/{id}").record(2_000);
+        histograms.forErrorCode("ACCOUNT_NOT_FOUND").record(3_000);
+
+        histograms.rotate();
+
+        assertEquals(1, histograms.forRoute("GET", "/accounts/{id}").getSnapshot().count());
+        assertEquals(1, histograms.forErrorCode("ACCOUNT_NOT_FOUND").getSnapshot().count());
+    }
+}
@@ -0,0 +1,44 @@
+package com.financer.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financer.common.json.JsonCodecs;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonStreamWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonStreamWriter writer = new JsonStreamWriter(objectMapper, new JsonCodecs(objectMapper), 1, 10);
+
+    @Test
+    void writesTheSameArrayAsTheMapper() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(List.of(1, 2, 3).iterator(), Integer.class, out);
+
+        assertEquals(objectMapper.writeValueAsString(List.of(1, 2, 3)), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void failingSourceLeavesTheArrayUnterminated() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Iterator<Integer> failing = Stream.iterate(1, i -> {
+            if (i == 2) {
+                throw new IllegalStateException("cursor lost");
+            }
+            return i + 1;
+        }).iterator();
+
+        assertThrows(IllegalStateException.class, () -> writer.write(failing, Integer.class, out));
+
+        assertEquals("[1,2", out.toString(StandardCharsets.UTF_8));
+    }
+}
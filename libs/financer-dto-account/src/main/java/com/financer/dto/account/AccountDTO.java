@@ -1,6 +1,7 @@
 package com.financer.dto.account;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.financer.money.CurrencyCode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -56,7 +57,7 @@ public class AccountDTO {
     /**
      * Currency code (e.g., BRL, USD, EUR)
      */
-    private String currency;
+    private CurrencyCode currency;
 
     /**
      * Name or description of the account
@@ -2,6 +2,8 @@ package com.financer.dto.account;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.financer.common.enums.CodedEnum;
+import com.financer.common.enums.EnumCodeRegistry;
 
 /**
  * Enum representing the status of an account.
@@ -10,7 +12,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
  * @version 1.0.0
  * @since 2025-11-07
  */
-public enum AccountStatus {
+public enum AccountStatus implements CodedEnum {
     
     /**
      * Account is active and operational
@@ -45,11 +47,14 @@ public enum AccountStatus {
     private final String code;
     private final String description;
 
+    private static final EnumCodeRegistry<AccountStatus> CODES = EnumCodeRegistry.of(AccountStatus.class);
+
     AccountStatus(String code, String description) {
         this.code = code;
         this.description = description;
     }
 
+    @Override
     @JsonValue
     public String getCode() {
         return code;
@@ -61,10 +66,9 @@ public enum AccountStatus {
 
     @JsonCreator
     public static AccountStatus fromCode(String code) {
-        for (AccountStatus status : AccountStatus.values()) {
-            if (status.code.equalsIgnoreCase(code)) {
-                return status;
-            }
+        AccountStatus status = CODES.lookup(code);
+        if (status != null) {
+            return status;
         }
         throw new IllegalArgumentException("Invalid account status: " + code);
     }
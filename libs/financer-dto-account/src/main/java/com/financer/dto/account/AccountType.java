@@ -2,6 +2,8 @@ package com.financer.dto.account;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.financer.common.enums.CodedEnum;
+import com.financer.common.enums.EnumCodeRegistry;
 
 /**
  * Enum representing the different types of accounts in the system.
@@ -10,7 +12,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
  * @version 1.0.0
  * @since 2025-11-07
  */
-public enum AccountType {
+public enum AccountType implements CodedEnum {
     
     /**
      * Checking account for daily transactions
@@ -40,11 +42,14 @@ public enum AccountType {
     private final String code;
     private final String description;
 
+    private static final EnumCodeRegistry<AccountType> CODES = EnumCodeRegistry.of(AccountType.class);
+
     AccountType(String code, String description) {
         this.code = code;
         this.description = description;
     }
 
+    @Override
     @JsonValue
     public String getCode() {
         return code;
@@ -56,10 +61,9 @@ public enum AccountType {
 
     @JsonCreator
     public static AccountType fromCode(String code) {
-        for (AccountType type : AccountType.values()) {
-            if (type.code.equalsIgnoreCase(code)) {
-                return type;
-            }
+        AccountType type = CODES.lookup(code);
+        if (type != null) {
+            return type;
         }
         throw new IllegalArgumentException("Invalid account type: " + code);
     }
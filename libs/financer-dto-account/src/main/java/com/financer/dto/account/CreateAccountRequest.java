@@ -1,5 +1,7 @@
 package com.financer.dto.account;
 
+import com.financer.money.CurrencyCode;
+import com.financer.money.validation.ValidCurrency;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -44,10 +46,9 @@ public class CreateAccountRequest {
     /**
      * Currency code (e.g., BRL, USD, EUR)
      */
-    @NotBlank(message = "Currency is required")
-    @Size(min = 3, max = 3, message = "Currency must be a 3-letter code")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Currency must be uppercase letters")
-    private String currency;
+    @NotNull(message = "Currency is required")
+    @ValidCurrency(message = "Currency must be a valid ISO 4217 code")
+    private CurrencyCode currency;
 
     /**
      * Initial balance (optional, defaults to 0)
@@ -2,6 +2,8 @@ package com.financer.dto.card;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.financer.common.enums.CodedEnum;
+import com.financer.common.enums.EnumCodeRegistry;
 
 /**
  * Enum representing the brand of the card.
@@ -10,7 +12,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
  * @version 1.0.0
  * @since 2025-11-07
  */
-public enum CardBrand {
+public enum CardBrand implements CodedEnum {
     
     /**
      * Visa
@@ -60,11 +62,14 @@ public enum CardBrand {
     private final String code;
     private final String description;
 
+    private static final EnumCodeRegistry<CardBrand> CODES = EnumCodeRegistry.of(CardBrand.class);
+
     CardBrand(String code, String description) {
         this.code = code;
         this.description = description;
     }
 
+    @Override
     @JsonValue
     public String getCode() {
         return code;
@@ -76,10 +81,9 @@ public enum CardBrand {
 
     @JsonCreator
     public static CardBrand fromCode(String code) {
-        for (CardBrand brand : CardBrand.values()) {
-            if (brand.code.equalsIgnoreCase(code)) {
-                return brand;
-            }
+        CardBrand brand = CODES.lookup(code);
+        if (brand != null) {
+            return brand;
         }
         throw new IllegalArgumentException("Invalid card brand: " + code);
     }
@@ -2,6 +2,8 @@ package com.financer.dto.card;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.financer.common.enums.CodedEnum;
+import com.financer.common.enums.EnumCodeRegistry;
 
 /**
  * Enum representing the status of a card.
@@ -10,7 +12,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
  * @version 1.0.0
  * @since 2025-11-07
  */
-public enum CardStatus {
+public enum CardStatus implements CodedEnum {
     
     /**
      * Card is active and can be used
@@ -55,11 +57,14 @@ public enum CardStatus {
     private final String code;
     private final String description;
 
+    private static final EnumCodeRegistry<CardStatus> CODES = EnumCodeRegistry.of(CardStatus.class);
+
     CardStatus(String code, String description) {
         this.code = code;
         this.description = description;
     }
 
+    @Override
     @JsonValue
     public String getCode() {
         return code;
@@ -71,10 +76,9 @@ public enum CardStatus {
 
     @JsonCreator
     public static CardStatus fromCode(String code) {
-        for (CardStatus status : CardStatus.values()) {
-            if (status.code.equalsIgnoreCase(code)) {
-                return status;
-            }
+        CardStatus status = CODES.lookup(code);
+        if (status != null) {
+            return status;
         }
         throw new IllegalArgumentException("Invalid card status: " + code);
     }
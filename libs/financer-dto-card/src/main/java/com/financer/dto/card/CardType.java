@@ -2,6 +2,8 @@ package com.financer.dto.card;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.financer.common.enums.CodedEnum;
+import com.financer.common.enums.EnumCodeRegistry;
 
 /**
  * Enum representing the type of card.
@@ -10,7 +12,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
  * @version 1.0.0
  * @since 2025-11-07
  */
-public enum CardType {
+public enum CardType implements CodedEnum {
     
     /**
      * Credit card
@@ -40,11 +42,14 @@ public enum CardType {
     private final String code;
     private final String description;
 
+    private static final EnumCodeRegistry<CardType> CODES = EnumCodeRegistry.of(CardType.class);
+
     CardType(String code, String description) {
         this.code = code;
         this.description = description;
     }
 
+    @Override
     @JsonValue
     public String getCode() {
         return code;
@@ -56,10 +61,9 @@ public enum CardType {
 
     @JsonCreator
     public static CardType fromCode(String code) {
-        for (CardType type : CardType.values()) {
-            if (type.code.equalsIgnoreCase(code)) {
-                return type;
-            }
+        CardType type = CODES.lookup(code);
+        if (type != null) {
+            return type;
         }
         throw new IllegalArgumentException("Invalid card type: " + code);
     }
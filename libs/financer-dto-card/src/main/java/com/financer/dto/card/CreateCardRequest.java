@@ -1,5 +1,7 @@
 package com.financer.dto.card;
 
+import com.financer.common.constraints.HexColor;
+import com.financer.common.constraints.Pan;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -39,10 +41,7 @@ public class CreateCardRequest {
      * Card number (will be encrypted in storage)
      */
     @NotBlank(message = "Card number is required")
-    @Pattern(
-        regexp = "^[0-9]{13,19}$",
-        message = "Card number must be between 13 and 19 digits"
-    )
+    @Pan(message = "Card number must be between 13 and 19 digits with a valid check digit")
     private String cardNumber;
 
     /**
@@ -146,7 +145,7 @@ public class CreateCardRequest {
     /**
      * Color code (hex format, e.g., #FF5733)
      */
-    @Pattern(regexp = "^#[0-9A-Fa-f]{6}$", message = "Color code must be in hex format (#RRGGBB)")
+    @HexColor(message = "Color code must be in hex format (#RRGGBB)")
     private String colorCode;
 
     /**
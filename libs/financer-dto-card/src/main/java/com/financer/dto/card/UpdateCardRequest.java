@@ -1,5 +1,6 @@
 package com.financer.dto.card;
 
+import com.financer.common.constraints.HexColor;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -87,7 +88,7 @@ public class UpdateCardRequest {
     /**
      * Update color code
      */
-    @Pattern(regexp = "^#[0-9A-Fa-f]{6}$", message = "Color code must be in hex format (#RRGGBB)")
+    @HexColor(message = "Color code must be in hex format (#RRGGBB)")
     private String colorCode;
 
     /**
@@ -1,5 +1,8 @@
 package com.financer.dto.transaction;
 
+import com.financer.common.constraints.IPv4;
+import com.financer.money.CurrencyCode;
+import com.financer.money.validation.ValidCurrency;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -57,10 +60,9 @@ public class CreateTransactionRequest {
     /**
      * Currency code
      */
-    @NotBlank(message = "Currency is required")
-    @Size(min = 3, max = 3, message = "Currency must be a 3-letter code")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Currency must be uppercase letters")
-    private String currency;
+    @NotNull(message = "Currency is required")
+    @ValidCurrency(message = "Currency must be a valid ISO 4217 code")
+    private CurrencyCode currency;
 
     /**
      * Transaction description
@@ -119,9 +121,6 @@ public class CreateTransactionRequest {
     /**
      * IP address (optional)
      */
-    @Pattern(
-        regexp = "^(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)$",
-        message = "Invalid IP address format"
-    )
+    @IPv4(message = "Invalid IP address format")
     private String ipAddress;
 }
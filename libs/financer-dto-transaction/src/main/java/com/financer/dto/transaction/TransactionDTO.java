@@ -1,6 +1,7 @@
 package com.financer.dto.transaction;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.financer.money.CurrencyCode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -61,7 +62,7 @@ public class TransactionDTO {
     /**
      * Currency code (e.g., BRL, USD, EUR)
      */
-    private String currency;
+    private CurrencyCode currency;
 
     /**
      * Transaction description
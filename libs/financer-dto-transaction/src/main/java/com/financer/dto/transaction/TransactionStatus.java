@@ -2,6 +2,8 @@ package com.financer.dto.transaction;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.financer.common.enums.CodedEnum;
+import com.financer.common.enums.EnumCodeRegistry;
 
 /**
  * Enum representing the status of a transaction.
@@ -10,7 +12,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
  * @version 1.0.0
  * @since 2025-11-07
  */
-public enum TransactionStatus {
+public enum TransactionStatus implements CodedEnum {
     
     /**
      * Transaction is pending processing
@@ -55,11 +57,14 @@ public enum TransactionStatus {
     private final String code;
     private final String description;
 
+    private static final EnumCodeRegistry<TransactionStatus> CODES = EnumCodeRegistry.of(TransactionStatus.class);
+
     TransactionStatus(String code, String description) {
         this.code = code;
         this.description = description;
     }
 
+    @Override
     @JsonValue
     public String getCode() {
         return code;
@@ -71,10 +76,9 @@ public enum TransactionStatus {
 
     @JsonCreator
     public static TransactionStatus fromCode(String code) {
-        for (TransactionStatus status : TransactionStatus.values()) {
-            if (status.code.equalsIgnoreCase(code)) {
-                return status;
-            }
+        TransactionStatus status = CODES.lookup(code);
+        if (status != null) {
+            return status;
         }
         throw new IllegalArgumentException("Invalid transaction status: " + code);
     }
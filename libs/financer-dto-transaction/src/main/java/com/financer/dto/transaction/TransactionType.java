@@ -2,6 +2,8 @@ package com.financer.dto.transaction;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.financer.common.enums.CodedEnum;
+import com.financer.common.enums.EnumCodeRegistry;
 
 /**
  * Enum representing the type of transaction.
@@ -10,7 +12,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
  * @version 1.0.0
  * @since 2025-11-07
  */
-public enum TransactionType {
+public enum TransactionType implements CodedEnum {
     
     /**
      * Credit transaction (money in)
@@ -65,11 +67,14 @@ public enum TransactionType {
     private final String code;
     private final String description;
 
+    private static final EnumCodeRegistry<TransactionType> CODES = EnumCodeRegistry.of(TransactionType.class);
+
     TransactionType(String code, String description) {
         this.code = code;
         this.description = description;
     }
 
+    @Override
     @JsonValue
     public String getCode() {
         return code;
@@ -81,10 +86,9 @@ public enum TransactionType {
 
     @JsonCreator
     public static TransactionType fromCode(String code) {
-        for (TransactionType type : TransactionType.values()) {
-            if (type.code.equalsIgnoreCase(code)) {
-                return type;
-            }
+        TransactionType type = CODES.lookup(code);
+        if (type != null) {
+            return type;
         }
         throw new IllegalArgumentException("Invalid transaction type: " + code);
     }
@@ -1,5 +1,7 @@
 package com.financer.dto.user;
 
+import com.financer.common.constraints.PhoneNumber;
+import com.financer.common.constraints.StrongPassword;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -52,8 +54,7 @@ public class CreateUserRequest implements Serializable {
      */
     @NotBlank(message = "Password is required")
     @Size(min = 8, max = 100, message = "Password must be between 8 and 100 characters")
-    @Pattern(regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d).+$",
-             message = "Password must contain at least one uppercase letter, one lowercase letter, and one digit")
+    @StrongPassword(message = "Password must contain at least one uppercase letter, one lowercase letter, and one digit")
     private String password;
 
     /**
@@ -73,8 +74,7 @@ public class CreateUserRequest implements Serializable {
      * User's phone number (optional)
      */
     @Size(max = 20, message = "Phone number must not exceed 20 characters")
-    @Pattern(regexp = "^[+]?[0-9\\s-()]*$", 
-             message = "Phone number must be valid")
+    @PhoneNumber(message = "Phone number must be valid")
     private String phoneNumber;
 
     /**
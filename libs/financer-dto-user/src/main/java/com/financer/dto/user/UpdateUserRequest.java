@@ -1,7 +1,8 @@
 package com.financer.dto.user;
 
+import com.financer.common.constraints.PhoneNumber;
+import com.financer.common.constraints.StrongPassword;
 import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -43,8 +44,7 @@ public class UpdateUserRequest implements Serializable {
      * User's phone number (optional update)
      */
     @Size(max = 20, message = "Phone number must not exceed 20 characters")
-    @Pattern(regexp = "^[+]?[0-9\\s-()]*$", 
-             message = "Phone number must be valid")
+    @PhoneNumber(message = "Phone number must be valid")
     private String phoneNumber;
 
     /**
@@ -52,8 +52,7 @@ public class UpdateUserRequest implements Serializable {
      * Must meet security requirements
      */
     @Size(min = 8, max = 100, message = "Password must be between 8 and 100 characters")
-    @Pattern(regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d).+$",
-             message = "Password must contain at least one uppercase letter, one lowercase letter, and one digit")
+    @StrongPassword(message = "Password must contain at least one uppercase letter, one lowercase letter, and one digit")
     private String newPassword;
 
     /**
@@ -2,6 +2,8 @@ package com.financer.dto.user;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.financer.common.enums.CodedEnum;
+import com.financer.common.enums.EnumCodeRegistry;
 import lombok.Getter;
 
 /**
@@ -13,7 +15,7 @@ import lombok.Getter;
  * @since 2025-11-10
  */
 @Getter
-public enum UserRole {
+public enum UserRole implements CodedEnum {
     
     /**
      * Administrator role - Full system access
@@ -50,6 +52,8 @@ public enum UserRole {
      */
     private final String description;
 
+    private static final EnumCodeRegistry<UserRole> CODES = EnumCodeRegistry.exact(UserRole.class);
+
     /**
      * Constructor for UserRole enum.
      *
@@ -68,6 +72,7 @@ public enum UserRole {
      * 
      * @return role code
      */
+    @Override
     @JsonValue
     public String getCode() {
         return code;
@@ -82,10 +87,9 @@ public enum UserRole {
      */
     @JsonCreator
     public static UserRole fromCode(String code) {
-        for (UserRole role : values()) {
-            if (role.code.equals(code)) {
-                return role;
-            }
+        UserRole role = CODES.lookup(code);
+        if (role != null) {
+            return role;
         }
         throw new IllegalArgumentException("Invalid user role code: " + code);
     }
@@ -2,6 +2,8 @@ package com.financer.dto.user;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.financer.common.enums.CodedEnum;
+import com.financer.common.enums.EnumCodeRegistry;
 import lombok.Getter;
 
 /**
@@ -13,7 +15,7 @@ import lombok.Getter;
  * @since 2025-11-10
  */
 @Getter
-public enum UserStatus {
+public enum UserStatus implements CodedEnum {
     
     /**
      * Account is active and user can login
@@ -55,6 +57,8 @@ public enum UserStatus {
      */
     private final String description;
 
+    private static final EnumCodeRegistry<UserStatus> CODES = EnumCodeRegistry.exact(UserStatus.class);
+
     /**
      * Constructor for UserStatus enum.
      *
@@ -73,6 +77,7 @@ public enum UserStatus {
      * 
      * @return status code
      */
+    @Override
     @JsonValue
     public String getCode() {
         return code;
@@ -87,10 +92,9 @@ public enum UserStatus {
      */
     @JsonCreator
     public static UserStatus fromCode(String code) {
-        for (UserStatus status : values()) {
-            if (status.code.equals(code)) {
-                return status;
-            }
+        UserStatus status = CODES.lookup(code);
+        if (status != null) {
+            return status;
         }
         throw new IllegalArgumentException("Invalid user status code: " + code);
     }
@@ -0,0 +1,216 @@
+package com.financer.eureka.config;
+
+import com.netflix.appinfo.InstanceInfo;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.netflix.eureka.serviceregistry.EurekaRegistration;
+import org.springframework.cloud.netflix.eureka.serviceregistry.EurekaServiceRegistry;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Takes the instance out of rotation before the web server stops, so rolling
+ * deploys do not turn stale peer caches into errors.
+ * <p>
+ * On shutdown, before the web server's graceful shutdown phase:
+ * <ol>
+ *     <li>marks the instance {@code OUT_OF_SERVICE} on the Eureka server (an
+ *     override, so the health check cannot flip it back to {@code UP});</li>
+ *     <li>keeps serving until peers have dropped it: at most
+ *     {@code propagation-timeout} (registry fetch interval + Eureka server
+ *     response cache + load-balancer cache, 95s with the defaults), or
+ *     earlier once no request arrived for {@code quiet-period}, but never
+ *     before a registry fetch and a load-balancer cache TTL have passed
+ *     (65s with the defaults): a peer may not have sent its next request
+ *     yet while its cache still lists this instance;</li>
+ *     <li>waits up to {@code drain-timeout} for in-flight requests to finish;</li>
+ * </ol>
+ * and only then lets Spring stop the web server. Without a Eureka
+ * registration (e.g. {@code eureka.client.enabled=false}) only step 3 runs.
+ * <p>
+ * Meters: {@code financer.eureka.drain.active}, {@code .inflight},
+ * {@code .requests} (received while draining) and {@code .duration}
+ * (tagged {@code stage} = {@code propagation} / {@code inflight}).
+ * The orchestrator's grace period (e.g. Kubernetes
+ * {@code terminationGracePeriodSeconds}) must exceed
+ * {@code propagation-timeout + drain-timeout}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "financer.eureka.drain.enabled", havingValue = "true", matchIfMissing = true)
+public class GracefulDrainCoordinator implements SmartLifecycle {
+
+    /**
+     * Stops before {@code WebServerGracefulShutdownLifecycle} ({@code DEFAULT_PHASE - 1024}).
+     */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 512;
+
+    private static final long POLL_MILLIS = 100;
+
+    private final ObjectProvider<EurekaRegistration> registration;
+    private final ObjectProvider<EurekaServiceRegistry> serviceRegistry;
+    private final ObjectProvider<InFlightRequestFilter> requests;
+    private final Duration propagationTimeout;
+    private final Duration minimumPropagation;
+    private final Duration quietPeriod;
+    private final Duration drainTimeout;
+    private final Timer propagationTimer;
+    private final Timer inFlightTimer;
+    private volatile boolean running;
+    private volatile boolean draining;
+
+    public GracefulDrainCoordinator(
+            ObjectProvider<EurekaRegistration> registration,
+            ObjectProvider<EurekaServiceRegistry> serviceRegistry,
+            ObjectProvider<InFlightRequestFilter> requests,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${eureka.client.registry-fetch-interval-seconds:30}") long fetchIntervalSeconds,
+            @Value("${spring.cloud.loadbalancer.cache.ttl:35s}") Duration loadBalancerCacheTtl,
+            @Value("${financer.eureka.drain.server-cache:30s}") Duration serverCache,
+            @Value("${financer.eureka.drain.propagation-timeout:#{null}}") Duration propagationTimeout,
+            @Value("${financer.eureka.drain.quiet-period:10s}") Duration quietPeriod,
+            @Value("${financer.eureka.drain.drain-timeout:30s}") Duration drainTimeout) {
+        this.registration = registration;
+        this.serviceRegistry = serviceRegistry;
+        this.requests = requests;
+        this.propagationTimeout = propagationTimeout != null ? propagationTimeout
+                : Duration.ofSeconds(fetchIntervalSeconds).plus(serverCache).plus(loadBalancerCacheTtl);
+        Duration peerCaches = Duration.ofSeconds(fetchIntervalSeconds).plus(loadBalancerCacheTtl);
+        this.minimumPropagation = peerCaches.compareTo(this.propagationTimeout) < 0 ? peerCaches
+                : this.propagationTimeout;
+        this.quietPeriod = quietPeriod;
+        this.drainTimeout = drainTimeout;
+        MeterRegistry meters = meterRegistry.getIfAvailable();
+        if (meters != null) {
+            Gauge.builder("financer.eureka.drain.active", this, c -> c.draining ? 1 : 0)
+                    .description("1 while the instance is draining before shutdown").register(meters);
+            Gauge.builder("financer.eureka.drain.inflight", this, GracefulDrainCoordinator::inFlight)
+                    .description("Requests being processed").register(meters);
+            FunctionCounter.builder("financer.eureka.drain.requests", this, GracefulDrainCoordinator::drainRequests)
+                    .description("Requests received while draining").register(meters);
+            this.propagationTimer = Timer.builder("financer.eureka.drain.duration").tag("stage", "propagation").register(meters);
+            this.inFlightTimer = Timer.builder("financer.eureka.drain.duration").tag("stage", "inflight").register(meters);
+        } else {
+            this.propagationTimer = null;
+            this.inFlightTimer = null;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * Blocks for the whole drain: a synchronous stop is not subject to
+     * {@code spring.lifecycle.timeout-per-shutdown-phase}.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        draining = true;
+        InFlightRequestFilter filter = requests.getIfAvailable();
+        if (filter != null) {
+            filter.startDraining();
+        }
+        long start = System.nanoTime();
+        EurekaRegistration eurekaRegistration = registration.getIfAvailable();
+        boolean registered = eurekaRegistration != null && markOutOfService(eurekaRegistration);
+        if (registered) {
+            log.info("Draining: OUT_OF_SERVICE, waiting {} to {} for peers to drop this instance (quiet period {})",
+                    minimumPropagation, propagationTimeout, quietPeriod);
+            await(start, propagationTimeout, () -> quiet(filter, start));
+        }
+        long propagated = System.nanoTime();
+        await(propagated, drainTimeout, () -> inFlight() == 0);
+        long drained = System.nanoTime();
+        record(propagationTimer, propagated - start);
+        record(inFlightTimer, drained - propagated);
+        int left = inFlight();
+        if (left > 0) {
+            log.warn("Drain timed out after {}: {} requests still in flight", drainTimeout, left);
+        }
+        log.info("Drain finished in {} ms (propagation {} ms, in-flight {} ms, {} requests served while draining)",
+                TimeUnit.NANOSECONDS.toMillis(drained - start), TimeUnit.NANOSECONDS.toMillis(propagated - start),
+                TimeUnit.NANOSECONDS.toMillis(drained - propagated), drainRequests());
+        draining = false;
+    }
+
+    private boolean markOutOfService(EurekaRegistration eurekaRegistration) {
+        EurekaServiceRegistry registry = serviceRegistry.getIfAvailable();
+        if (registry == null) {
+            return false;
+        }
+        try {
+            registry.setStatus(eurekaRegistration, InstanceInfo.InstanceStatus.OUT_OF_SERVICE.name());
+        } catch (RuntimeException ex) {
+            // Eureka's own shutdown still reports DOWN; keep waiting for caches either way
+            log.warn("Could not mark instance OUT_OF_SERVICE: {}", ex.toString());
+        }
+        return true;
+    }
+
+    private boolean quiet(InFlightRequestFilter filter, long start) {
+        long now = System.nanoTime();
+        if (now - start < minimumPropagation.toNanos()) {
+            return false;
+        }
+        long lastRequest = filter == null ? start : Math.max(start, filter.getLastRequestNanos());
+        return now - lastRequest >= quietPeriod.toNanos();
+    }
+
+    private static void await(long start, Duration timeout, BooleanSupplier done) {
+        long deadline = start + timeout.toNanos();
+        while (!done.getAsBoolean() && System.nanoTime() - deadline < 0) {
+            try {
+                Thread.sleep(POLL_MILLIS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static void record(Timer timer, long nanos) {
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int inFlight() {
+        InFlightRequestFilter filter = requests.getIfAvailable();
+        return filter == null ? 0 : filter.getInFlight();
+    }
+
+    private long drainRequests() {
+        InFlightRequestFilter filter = requests.getIfAvailable();
+        return filter == null ? 0 : filter.getDrainRequests();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,81 @@
+package com.financer.eureka.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts requests being processed, for {@link GracefulDrainCoordinator}.
+ * Runs first in the chain so every request is counted, including those
+ * rejected by later filters. A request is counted until its first dispatch
+ * returns; async processing that outlives it is not tracked. Actuator
+ * requests (health probes, metric scrapes) count as in flight but not as
+ * traffic, so they do not hold back the drain's quiet period.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class InFlightRequestFilter extends OncePerRequestFilter {
+
+    @Value("${management.endpoints.web.base-path:/actuator}")
+    private String actuatorPath;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder drainRequests = new LongAdder();
+    private volatile long lastRequestNanos = System.nanoTime();
+    private volatile boolean draining;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        inFlight.incrementAndGet();
+        if (!request.getRequestURI().startsWith(actuatorPath, request.getContextPath().length())) {
+            lastRequestNanos = System.nanoTime();
+            if (draining) {
+                drainRequests.increment();
+            }
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * {@link System#nanoTime()} of the last request received.
+     */
+    public long getLastRequestNanos() {
+        return lastRequestNanos;
+    }
+
+    /**
+     * Requests received since the drain started — traffic still routed here by stale peer caches.
+     */
+    public long getDrainRequests() {
+        return drainRequests.sum();
+    }
+
+    void startDraining() {
+        draining = true;
+    }
+}
@@ -0,0 +1,55 @@
+package com.financer.eureka.config;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.netflix.eureka.serviceregistry.EurekaRegistration;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the instance from {@code STARTING} to {@code UP} once the
+ * application is ready.
+ * <p>
+ * The library defaults {@code eureka.instance.initial-status} to
+ * {@code STARTING}, so a registration or renewal sent while the context is
+ * still refreshing (e.g. during the JVM warm-up) never advertises an
+ * instance that is not listening yet; peers do not route to
+ * {@code STARTING}. On {@link ApplicationReadyEvent} the local status is set
+ * to {@code UP}, which re-registers immediately instead of waiting for the
+ * next instance-info replication. The health check still takes it down
+ * later if the application becomes unhealthy, and statuses other than
+ * {@code STARTING} (such as an {@code OUT_OF_SERVICE} set meanwhile) are
+ * left alone.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "eureka.client.enabled", havingValue = "true", matchIfMissing = true)
+public class ReadyStatusPublisher implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final ObjectProvider<EurekaRegistration> registration;
+
+    public ReadyStatusPublisher(ObjectProvider<EurekaRegistration> registration) {
+        this.registration = registration;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        EurekaRegistration eurekaRegistration = registration.getIfAvailable();
+        if (eurekaRegistration == null) {
+            return;
+        }
+        ApplicationInfoManager manager = eurekaRegistration.getApplicationInfoManager();
+        if (manager.getInfo().getStatus() == InstanceInfo.InstanceStatus.STARTING) {
+            manager.setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+            log.info("Application ready: Eureka instance status STARTING -> UP");
+        }
+    }
+}
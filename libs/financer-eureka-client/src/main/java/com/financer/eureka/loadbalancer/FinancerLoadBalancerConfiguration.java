@@ -0,0 +1,34 @@
+package com.financer.eureka.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Default configuration of every load-balancer child context (registered by
+ * {@link LoadBalancerConfig}). Deliberately not a {@code @Configuration}: it
+ * must only be loaded into the per-service contexts, never component-scanned
+ * into the application context.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class FinancerLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> peakEwmaLoadBalancer(Environment environment,
+                                                                     LoadBalancerClientFactory clientFactory,
+                                                                     InstanceStatsRegistry registry) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        String zone = environment.getProperty("eureka.instance.metadata-map.zone",
+                environment.getProperty("spring.cloud.loadbalancer.zone", ""));
+        int minZoneInstances = environment.getProperty("financer.loadbalancer.zone-affinity.min-instances", Integer.class, 2);
+        return new PeakEwmaLoadBalancer(serviceId,
+                clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                registry, zone, minZoneInstances);
+    }
+}
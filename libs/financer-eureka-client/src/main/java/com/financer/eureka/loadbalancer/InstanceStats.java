@@ -0,0 +1,160 @@
+package com.financer.eureka.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live statistics of one service instance as seen by this client.
+ * <p>
+ * Latency is a peak-sensitive EWMA: a sample above the current average
+ * replaces it outright, lower samples decay it with time constant
+ * {@code decayNanos}. The load-balancing cost is that latency times the
+ * requests currently in flight plus one, so an instance that slows down or
+ * piles up requests loses traffic within a few calls.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class InstanceStats {
+
+    /**
+     * Cost of an instance with requests in flight but no latency sample yet,
+     * so a fresh instance takes one request at a time until it answers.
+     */
+    private static final double UNMEASURED_PENALTY = 1.0e12;
+
+    private final String serviceId;
+    private final String instanceId;
+    private final String zone;
+    private final long decayNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong ejections = new AtomicLong();
+
+    private volatile double ewmaNanos;
+    private long lastSampleAt;
+    private int consecutiveFailures;
+    private int ejectionStreak;
+    private volatile long ejectedUntil;
+    private volatile long lastChosenAt = System.nanoTime();
+
+    InstanceStats(String serviceId, String instanceId, String zone, long decayNanos) {
+        this.serviceId = serviceId;
+        this.instanceId = instanceId;
+        this.zone = zone;
+        this.decayNanos = decayNanos;
+        // nanoTime has an arbitrary origin and may be negative: 0 could lie in the future
+        this.ejectedUntil = System.nanoTime();
+    }
+
+    /**
+     * Load-balancing cost; lower is better.
+     */
+    double cost() {
+        int pending = inFlight.get();
+        double latency = ewmaNanos;
+        if (latency == 0) {
+            return pending == 0 ? 0 : UNMEASURED_PENALTY + pending;
+        }
+        return latency * (pending + 1);
+    }
+
+    void chosen(long now) {
+        lastChosenAt = now;
+    }
+
+    void started() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Records a finished request.
+     *
+     * @return whether this failure reached the consecutive-failure threshold
+     */
+    synchronized boolean completed(long latencyNanos, boolean failed, int failureThreshold) {
+        inFlight.decrementAndGet();
+        requests.incrementAndGet();
+        if (latencyNanos > 0) {
+            sample(latencyNanos);
+        }
+        if (!failed) {
+            consecutiveFailures = 0;
+            if (!isEjected(System.nanoTime())) {
+                ejectionStreak = 0;
+            }
+            return false;
+        }
+        failures.incrementAndGet();
+        return ++consecutiveFailures >= failureThreshold;
+    }
+
+    private void sample(long latencyNanos) {
+        long now = System.nanoTime();
+        double current = ewmaNanos;
+        if (current == 0 || latencyNanos > current) {
+            ewmaNanos = latencyNanos;
+        } else {
+            double weight = Math.exp(-(double) Math.max(0, now - lastSampleAt) / decayNanos);
+            ewmaNanos = current * weight + latencyNanos * (1 - weight);
+        }
+        lastSampleAt = now;
+    }
+
+    /**
+     * Ejects the instance for {@code baseNanos} times 2^(streak - 1), capped at 8 times.
+     */
+    synchronized void eject(long now, long baseNanos) {
+        ejectionStreak = Math.min(ejectionStreak + 1, 4);
+        ejectedUntil = now + baseNanos * (1L << (ejectionStreak - 1));
+        consecutiveFailures = 0;
+        ejections.incrementAndGet();
+    }
+
+    boolean isEjected(long now) {
+        return ejectedUntil - now > 0;
+    }
+
+    long lastChosenAt() {
+        return lastChosenAt;
+    }
+
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public String getZone() {
+        return zone;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getLatencyEwmaSeconds() {
+        return ewmaNanos / 1e9;
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getEjections() {
+        return ejections.get();
+    }
+
+    public boolean isEjected() {
+        return isEjected(System.nanoTime());
+    }
+}
@@ -0,0 +1,74 @@
+package com.financer.eureka.loadbalancer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds {@link InstanceStatsRegistry} from every load-balanced call made
+ * through {@code @LoadBalanced} {@code RestTemplate} / {@code RestClient} /
+ * {@code WebClient}: in-flight count on start, latency and outcome on
+ * completion. A 5xx response or a failed exchange (connect/read timeout,
+ * connection reset) counts as a failure; 4xx responses are successes.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+@ConditionalOnProperty(value = "financer.loadbalancer.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InstanceStatsLifecycle implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private final InstanceStatsRegistry registry;
+
+    @Override
+    public void onStart(Request<Object> request) {
+        // instance not chosen yet
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        if (request.getContext() instanceof TimedRequestContext timed) {
+            timed.setRequestStartTime(System.nanoTime());
+        }
+        registry.stats(lbResponse.getServer()).started();
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()
+                || completionContext.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+        long latency = 0;
+        Request<Object> request = completionContext.getLoadBalancerRequest();
+        if (request != null && request.getContext() instanceof TimedRequestContext timed && timed.getRequestStartTime() > 0) {
+            latency = System.nanoTime() - timed.getRequestStartTime();
+        }
+        registry.completed(lbResponse.getServer(), latency, isFailure(completionContext));
+    }
+
+    private static boolean isFailure(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        if (completionContext.getClientResponse() instanceof ResponseData response) {
+            HttpStatusCode status = response.getHttpStatus();
+            return status != null && status.is5xxServerError();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,175 @@
+package com.financer.eureka.loadbalancer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-instance statistics shared by every {@link PeakEwmaLoadBalancer} and
+ * fed by {@link InstanceStatsLifecycle}.
+ * <p>
+ * Outlier ejection: after {@code financer.loadbalancer.ejection.consecutive-failures}
+ * consecutive 5xx responses or I/O failures an instance is skipped for
+ * {@code ejection.base-seconds}, doubling on each repeated ejection (up to 8x).
+ * At most {@code ejection.max-percent} of a service's instances are ejected at
+ * once, so a dependency-wide outage still spreads load instead of
+ * concentrating it on the last instance standing.
+ * <p>
+ * Meters, tagged {@code service}, {@code instance} and {@code zone}:
+ * {@code financer.loadbalancer.instance.latency} (EWMA, seconds),
+ * {@code .inflight}, {@code .ejected}, {@code .requests}, {@code .failures}
+ * and {@code .ejections}. Instances not chosen for ten minutes are evicted
+ * together with their meters.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "financer.loadbalancer.enabled", havingValue = "true", matchIfMissing = true)
+public class InstanceStatsRegistry {
+
+    private static final long IDLE_EVICTION_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final long decayNanos;
+    private final int failureThreshold;
+    private final long ejectionNanos;
+    private final int maxEjectionPercent;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Map<String, InstanceStats>> services = new ConcurrentHashMap<>();
+    private final Map<InstanceStats, List<Meter>> meters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor;
+
+    public InstanceStatsRegistry(
+            @Value("${financer.loadbalancer.ewma-decay-seconds:10}") long decaySeconds,
+            @Value("${financer.loadbalancer.ejection.consecutive-failures:5}") int failureThreshold,
+            @Value("${financer.loadbalancer.ejection.base-seconds:30}") long ejectionSeconds,
+            @Value("${financer.loadbalancer.ejection.max-percent:50}") int maxEjectionPercent,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.decayNanos = TimeUnit.SECONDS.toNanos(Math.max(1, decaySeconds));
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.ejectionNanos = TimeUnit.SECONDS.toNanos(Math.max(1, ejectionSeconds));
+        this.maxEjectionPercent = Math.min(100, Math.max(0, maxEjectionPercent));
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "financer-loadbalancer-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.evictor.scheduleWithFixedDelay(this::evictIdle, 1, 1, TimeUnit.MINUTES);
+    }
+
+    public InstanceStats stats(ServiceInstance instance) {
+        String serviceId = instance.getServiceId();
+        return services.computeIfAbsent(serviceId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(instanceId(instance), id -> register(new InstanceStats(serviceId, id, zone(instance), decayNanos)));
+    }
+
+    /**
+     * Statistics of every instance of {@code serviceId} seen so far.
+     */
+    public Collection<InstanceStats> stats(String serviceId) {
+        return services.getOrDefault(serviceId, Map.of()).values();
+    }
+
+    /**
+     * Records a finished request and ejects the instance when it crosses the failure threshold.
+     */
+    void completed(ServiceInstance instance, long latencyNanos, boolean failed) {
+        InstanceStats stats = stats(instance);
+        if (stats.completed(latencyNanos, failed, failureThreshold)) {
+            tryEject(stats);
+        }
+    }
+
+    private void tryEject(InstanceStats stats) {
+        long now = System.nanoTime();
+        Collection<InstanceStats> siblings = stats(stats.getServiceId());
+        int ejected = 0;
+        for (InstanceStats sibling : siblings) {
+            if (sibling.isEjected(now)) {
+                ejected++;
+            }
+        }
+        int allowed = siblings.size() * maxEjectionPercent / 100;
+        if (ejected >= allowed) {
+            log.warn("Instance {} of {} failing but not ejected: {} of {} instances already ejected",
+                    stats.getInstanceId(), stats.getServiceId(), ejected, siblings.size());
+            return;
+        }
+        stats.eject(now, ejectionNanos);
+        log.warn("Ejected instance {} of {} after {} consecutive failures",
+                stats.getInstanceId(), stats.getServiceId(), failureThreshold);
+    }
+
+    static String instanceId(ServiceInstance instance) {
+        String id = instance.getInstanceId();
+        return id != null ? id : instance.getHost() + ":" + instance.getPort();
+    }
+
+    static String zone(ServiceInstance instance) {
+        Map<String, String> metadata = instance.getMetadata();
+        String zone = metadata == null ? null : metadata.get("zone");
+        return zone == null ? "" : zone;
+    }
+
+    private InstanceStats register(InstanceStats stats) {
+        if (meterRegistry == null) {
+            return stats;
+        }
+        Tags tags = Tags.of("service", stats.getServiceId(), "instance", stats.getInstanceId(), "zone", stats.getZone());
+        List<Meter> registered = new ArrayList<>();
+        registered.add(Gauge.builder("financer.loadbalancer.instance.latency", stats, InstanceStats::getLatencyEwmaSeconds)
+                .tags(tags).baseUnit("seconds").description("Peak EWMA response time").register(meterRegistry));
+        registered.add(Gauge.builder("financer.loadbalancer.instance.inflight", stats, InstanceStats::getInFlight)
+                .tags(tags).register(meterRegistry));
+        registered.add(Gauge.builder("financer.loadbalancer.instance.ejected", stats, s -> s.isEjected() ? 1 : 0)
+                .tags(tags).register(meterRegistry));
+        registered.add(FunctionCounter.builder("financer.loadbalancer.instance.requests", stats, InstanceStats::getRequests)
+                .tags(tags).register(meterRegistry));
+        registered.add(FunctionCounter.builder("financer.loadbalancer.instance.failures", stats, InstanceStats::getFailures)
+                .tags(tags).register(meterRegistry));
+        registered.add(FunctionCounter.builder("financer.loadbalancer.instance.ejections", stats, InstanceStats::getEjections)
+                .tags(tags).register(meterRegistry));
+        meters.put(stats, registered);
+        return stats;
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        services.values().forEach(instances -> instances.values().removeIf(stats -> {
+            boolean idle = stats.getInFlight() == 0 && now - stats.lastChosenAt() > IDLE_EVICTION_NANOS;
+            if (idle) {
+                List<Meter> registered = meters.remove(stats);
+                if (registered != null) {
+                    registered.forEach(meterRegistry::remove);
+                }
+            }
+            return idle;
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        evictor.shutdownNow();
+    }
+}
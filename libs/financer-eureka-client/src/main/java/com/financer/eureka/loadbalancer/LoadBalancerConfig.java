@@ -0,0 +1,20 @@
+package com.financer.eureka.loadbalancer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Makes {@link PeakEwmaLoadBalancer} the load balancer of every service
+ * called through Spring Cloud LoadBalancer, replacing the default
+ * round-robin. Disable with {@code financer.loadbalancer.enabled=false}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Configuration
+@ConditionalOnProperty(value = "financer.loadbalancer.enabled", havingValue = "true", matchIfMissing = true)
+@LoadBalancerClients(defaultConfiguration = FinancerLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
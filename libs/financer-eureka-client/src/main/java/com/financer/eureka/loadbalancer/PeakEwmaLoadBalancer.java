@@ -0,0 +1,100 @@
+package com.financer.eureka.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power-of-two-choices load balancer over peak-EWMA latency and in-flight
+ * requests.
+ * <p>
+ * For each request: ejected instances are dropped (see
+ * {@link InstanceStatsRegistry}); if at least {@code minZoneInstances}
+ * remaining instances share this instance's zone
+ * ({@code eureka.instance.metadata-map.zone}) only those are considered; then
+ * two distinct candidates are drawn at random and the one with the lower
+ * {@link InstanceStats#cost() cost} wins. Random pairs keep load spread
+ * across equally fast instances, while a slow or saturated instance loses
+ * almost every comparison long before Eureka expires its lease.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> suppliers;
+    private final InstanceStatsRegistry registry;
+    private final String zone;
+    private final int minZoneInstances;
+
+    public PeakEwmaLoadBalancer(String serviceId, ObjectProvider<ServiceInstanceListSupplier> suppliers,
+                                InstanceStatsRegistry registry, String zone, int minZoneInstances) {
+        this.serviceId = serviceId;
+        this.suppliers = suppliers;
+        this.registry = registry;
+        this.zone = zone == null ? "" : zone;
+        this.minZoneInstances = Math.max(1, minZoneInstances);
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = suppliers.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances == null || instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        long now = System.nanoTime();
+        List<ServiceInstance> candidates = new ArrayList<>(instances.size());
+        List<ServiceInstance> local = zone.isEmpty() ? null : new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (registry.stats(instance).isEjected(now)) {
+                continue;
+            }
+            candidates.add(instance);
+            if (local != null && zone.equals(InstanceStatsRegistry.zone(instance))) {
+                local.add(instance);
+            }
+        }
+        if (candidates.isEmpty()) {
+            candidates = instances;
+        } else if (local != null && local.size() >= minZoneInstances) {
+            candidates = local;
+        }
+        ServiceInstance chosen = candidates.size() == 1 ? candidates.get(0) : pickTwo(candidates);
+        registry.stats(chosen).chosen(now);
+        return new DefaultResponse(chosen);
+    }
+
+    private ServiceInstance pickTwo(List<ServiceInstance> candidates) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int size = candidates.size();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return registry.stats(a).cost() <= registry.stats(b).cost() ? a : b;
+    }
+
+    public String getServiceId() {
+        return serviceId;
+    }
+}
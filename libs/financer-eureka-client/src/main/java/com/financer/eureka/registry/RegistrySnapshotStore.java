@@ -0,0 +1,174 @@
+package com.financer.eureka.registry;
+
+import com.netflix.discovery.DiscoveryClient;
+import com.netflix.discovery.converters.wrappers.CodecWrappers;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.netflix.eureka.EurekaClientConfigBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Keeps a copy of the last registry fetched from Eureka on disk and hands it
+ * to {@link SnapshotBackupRegistry} at the next start.
+ * <p>
+ * The file is rewritten after a successful registry fetch, at most once per
+ * {@code financer.eureka.snapshot.interval}. It is written to a temporary
+ * file and moved into place, so a crash never leaves a truncated snapshot.
+ * Empty registries are never written: an outage that empties the registry
+ * must not erase the last good copy.
+ * <p>
+ * Snapshots older than {@code financer.eureka.snapshot.max-age} are ignored
+ * at load. The default path lives under {@code java.io.tmpdir}; point
+ * {@code financer.eureka.snapshot.path} to a persistent volume for the
+ * snapshot to survive container replacement.
+ * <p>
+ * Also a {@link BeanPostProcessor}: it installs {@link SnapshotBackupRegistry}
+ * on the {@link EurekaClientConfigBean} unless another backup registry is
+ * configured, and, being created with the post-processors, it is in place
+ * before any Eureka client exists.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "financer.eureka.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class RegistrySnapshotStore implements BeanPostProcessor {
+
+    private static volatile RegistrySnapshotStore current;
+
+    private final CodecWrappers.JacksonJson codec = new CodecWrappers.JacksonJson();
+    @Getter
+    private final Path path;
+    private final Duration maxAge;
+    private final long intervalNanos;
+    private volatile long lastWriteNanos;
+    @Getter
+    private volatile Instant lastWrite;
+
+    public RegistrySnapshotStore(
+            @Value("${financer.eureka.snapshot.path:${java.io.tmpdir}/financer-eureka/${spring.application.name:application}-registry.json}") String path,
+            @Value("${financer.eureka.snapshot.max-age:24h}") Duration maxAge,
+            @Value("${financer.eureka.snapshot.interval:60s}") Duration interval) {
+        this.path = Path.of(path);
+        this.maxAge = maxAge;
+        this.intervalNanos = interval.toNanos();
+        this.lastWriteNanos = System.nanoTime() - intervalNanos;
+        current = this;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof EurekaClientConfigBean config && config.getBackupRegistryImpl() == null) {
+            config.setBackupRegistryImpl(SnapshotBackupRegistry.class.getName());
+        }
+        return bean;
+    }
+
+    /**
+     * Store of the running application, for {@link SnapshotBackupRegistry}, which Eureka instantiates itself.
+     */
+    static RegistrySnapshotStore current() {
+        return current;
+    }
+
+    /**
+     * Last snapshot, or {@code null} when there is none, it is too old or it cannot be read.
+     */
+    public Applications load() {
+        try {
+            if (!Files.isRegularFile(path)) {
+                log.info("No Eureka registry snapshot at {}", path);
+                return null;
+            }
+            Instant savedAt = Files.getLastModifiedTime(path).toInstant();
+            Duration age = Duration.between(savedAt, Instant.now());
+            if (age.compareTo(maxAge) > 0) {
+                log.warn("Ignoring Eureka registry snapshot {}: {} old (max {})", path, age, maxAge);
+                return null;
+            }
+            Applications applications;
+            try (InputStream in = Files.newInputStream(path)) {
+                applications = codec.decode(in, Applications.class);
+            }
+            clearVersion(applications);
+            log.warn("Eureka unreachable at startup: using registry snapshot from {} ({} applications, {} old)",
+                    savedAt, applications.getRegisteredApplications().size(), age);
+            return applications;
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not read Eureka registry snapshot {}: {}", path, ex.toString());
+            return null;
+        }
+    }
+
+    // no delta version: the first successful fetch from the server is a full one
+    @SuppressWarnings("deprecation")
+    private static void clearVersion(Applications applications) {
+        applications.setVersion(-1L);
+    }
+
+    /**
+     * Published by the Eureka client after each successful registry fetch.
+     */
+    @EventListener
+    public void onRegistryFetched(HeartbeatEvent event) {
+        if (event.getSource() instanceof DiscoveryClient client
+                && client.getLastSuccessfulRegistryFetchTimePeriod() >= 0
+                && System.nanoTime() - lastWriteNanos >= intervalNanos) {
+            save(client.getApplications());
+        }
+    }
+
+    synchronized void save(Applications applications) {
+        if (applications == null || instanceCount(applications) == 0) {
+            return;
+        }
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                codec.encode(applications, out);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lastWriteNanos = System.nanoTime();
+            lastWrite = Instant.now();
+            log.debug("Eureka registry snapshot written to {}", path);
+        } catch (IOException | RuntimeException ex) {
+            lastWriteNanos = System.nanoTime();
+            log.warn("Could not write Eureka registry snapshot {}: {}", path, ex.toString());
+        }
+    }
+
+    private static int instanceCount(Applications applications) {
+        int count = 0;
+        for (Application application : applications.getRegisteredApplications()) {
+            count += application.getInstances().size();
+        }
+        return count;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (current == this) {
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.financer.eureka.registry;
+
+import com.netflix.discovery.BackupRegistry;
+import com.netflix.discovery.shared.Applications;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Eureka backup registry served from the {@link RegistrySnapshotStore}
+ * snapshot. The store installs it as
+ * {@code eureka.client.backup-registry-impl} unless one is already set.
+ * <p>
+ * Eureka consults it only when the initial fetch from the server fails. The
+ * snapshot then becomes the client's local registry, so discovery and load
+ * balancing work from the first request. The snapshot carries no delta
+ * version, so the first successful fetch once the server is reachable is a
+ * full one and replaces it entirely; deltas then apply to live data only.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+public class SnapshotBackupRegistry implements BackupRegistry {
+
+    @Override
+    public Applications fetchRegistry() {
+        RegistrySnapshotStore store = RegistrySnapshotStore.current();
+        if (store == null) {
+            log.warn("Eureka registry snapshot requested but no snapshot store is active");
+            return null;
+        }
+        return store.load();
+    }
+
+    /**
+     * Snapshots hold the local region only.
+     */
+    @Override
+    public Applications fetchRegistry(String[] includeRemoteRegions) {
+        return fetchRegistry();
+    }
+}
@@ -0,0 +1,203 @@
+package com.financer.eureka.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Route statistics, retry budgets and settings used by
+ * {@link ResilientLoadBalancerInterceptor}.
+ * <p>
+ * Routes are {@code METHOD /path} with numeric, UUID and long hexadecimal
+ * segments replaced by {@code {id}}; past {@code max-routes-per-service}
+ * distinct routes a service's further paths share a {@code METHOD *} route.
+ * <p>
+ * Meters, tagged {@code service} and {@code route}:
+ * {@code financer.http.client.route.timeout} (current adaptive timeout,
+ * seconds), {@code .route.latency.p99}, {@code .route.timeouts},
+ * {@code .route.retries}, {@code .route.hedges} and {@code .route.hedge.wins};
+ * per service: {@code financer.http.client.retry.budget.balance} and
+ * {@code .retry.budget.exhausted}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "financer.http-client.resilience.enabled", havingValue = "true", matchIfMissing = true)
+public class ResilienceRegistry {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{16,}");
+
+    private final RouteStats.Policy policy;
+    private final int maxRoutesPerService;
+    @Getter
+    private final boolean timeoutEnabled;
+    @Getter
+    private final boolean hedgingEnabled;
+    @Getter
+    private final int maxAttempts;
+    private final Set<HttpMethod> retryMethods;
+    private final Set<Integer> retryStatuses;
+    private final double budgetRatio;
+    private final double budgetMinPerSecond;
+    private final int budgetMaxTokens;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Map<String, RouteStats>> routes = new ConcurrentHashMap<>();
+    private final Map<String, RetryBudget> budgets = new ConcurrentHashMap<>();
+    @Getter
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("financer-http-attempt-", 0).factory());
+
+    public ResilienceRegistry(
+            @Value("${financer.http-client.resilience.window:30s}") Duration window,
+            @Value("${financer.http-client.resilience.min-samples:50}") int minSamples,
+            @Value("${financer.http-client.resilience.max-routes-per-service:100}") int maxRoutesPerService,
+            @Value("${financer.http-client.resilience.timeout.enabled:true}") boolean timeoutEnabled,
+            @Value("${financer.http-client.resilience.timeout.percentile:99}") double timeoutPercentile,
+            @Value("${financer.http-client.resilience.timeout.multiplier:2.0}") double multiplier,
+            @Value("${financer.http-client.resilience.timeout.min:200ms}") Duration minTimeout,
+            @Value("${financer.http-client.resilience.timeout.max:10s}") Duration maxTimeout,
+            @Value("${financer.http-client.resilience.hedging.enabled:false}") boolean hedgingEnabled,
+            @Value("${financer.http-client.resilience.hedging.percentile:95}") double hedgePercentile,
+            @Value("${financer.http-client.resilience.retry.max-attempts:3}") int maxAttempts,
+            @Value("${financer.http-client.resilience.retry.methods:GET,HEAD,OPTIONS}") String[] retryMethods,
+            @Value("${financer.http-client.resilience.retry.statuses:502,503,504}") int[] retryStatuses,
+            @Value("${financer.http-client.resilience.retry.budget.ratio:0.1}") double budgetRatio,
+            @Value("${financer.http-client.resilience.retry.budget.min-per-second:10}") double budgetMinPerSecond,
+            @Value("${financer.http-client.resilience.retry.budget.max-tokens:100}") int budgetMaxTokens,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.policy = new RouteStats.Policy(window.toNanos(), Math.max(1, minSamples),
+                quantile(timeoutPercentile), Math.max(1.0, multiplier),
+                minTimeout.toNanos(), Math.max(minTimeout.toNanos(), maxTimeout.toNanos()),
+                quantile(hedgePercentile));
+        this.maxRoutesPerService = Math.max(1, maxRoutesPerService);
+        this.timeoutEnabled = timeoutEnabled;
+        this.hedgingEnabled = hedgingEnabled;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryMethods = Arrays.stream(retryMethods).map(String::trim).map(HttpMethod::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+        this.retryStatuses = Arrays.stream(retryStatuses).boxed().collect(Collectors.toUnmodifiableSet());
+        this.budgetRatio = budgetRatio;
+        this.budgetMinPerSecond = budgetMinPerSecond;
+        this.budgetMaxTokens = budgetMaxTokens;
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        log.info("HTTP client resilience: timeout {} (p{} x {} in [{}, {}]), hedging {}, {} attempts, retry budget {}%",
+                timeoutEnabled ? "adaptive" : "off", timeoutPercentile, multiplier, minTimeout, maxTimeout,
+                hedgingEnabled ? "after p" + hedgePercentile : "off", this.maxAttempts, budgetRatio * 100);
+    }
+
+    RouteStats route(String serviceId, HttpMethod method, String path) {
+        Map<String, RouteStats> serviceRoutes = routes.computeIfAbsent(serviceId, id -> new ConcurrentHashMap<>());
+        String route = method.name() + " " + template(path);
+        RouteStats stats = serviceRoutes.get(route);
+        if (stats != null) {
+            return stats;
+        }
+        if (serviceRoutes.size() >= maxRoutesPerService) {
+            route = method.name() + " *";
+        }
+        return serviceRoutes.computeIfAbsent(route, key -> register(new RouteStats(serviceId, key, policy)));
+    }
+
+    RetryBudget budget(String serviceId) {
+        return budgets.computeIfAbsent(serviceId, id ->
+                register(new RetryBudget(id, budgetRatio, budgetMinPerSecond, budgetMaxTokens)));
+    }
+
+    boolean isRetryable(HttpMethod method) {
+        return retryMethods.contains(method);
+    }
+
+    boolean isRetryable(HttpStatusCode status) {
+        return retryStatuses.contains(status.value());
+    }
+
+    static boolean isHedgeable(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
+    static String template(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        StringBuilder template = new StringBuilder(path.length());
+        int start = 0;
+        while (start < path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            String segment = path.substring(start, end);
+            template.append(ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment);
+            if (end < path.length()) {
+                template.append('/');
+            }
+            start = end + 1;
+        }
+        return template.toString();
+    }
+
+    private RouteStats register(RouteStats stats) {
+        if (meterRegistry == null) {
+            return stats;
+        }
+        Tags tags = Tags.of("service", stats.getServiceId(), "route", stats.getRoute());
+        Gauge.builder("financer.http.client.route.timeout", stats, RouteStats::getTimeoutSeconds)
+                .tags(tags).baseUnit("seconds").description("Adaptive per-attempt timeout").register(meterRegistry);
+        Gauge.builder("financer.http.client.route.latency.p99", stats, RouteStats::getP99Seconds)
+                .tags(tags).baseUnit("seconds").register(meterRegistry);
+        FunctionCounter.builder("financer.http.client.route.timeouts", stats, RouteStats::getTimeouts)
+                .tags(tags).register(meterRegistry);
+        FunctionCounter.builder("financer.http.client.route.retries", stats, RouteStats::getRetries)
+                .tags(tags).register(meterRegistry);
+        FunctionCounter.builder("financer.http.client.route.hedges", stats, RouteStats::getHedges)
+                .tags(tags).register(meterRegistry);
+        FunctionCounter.builder("financer.http.client.route.hedge.wins", stats, RouteStats::getHedgeWins)
+                .tags(tags).register(meterRegistry);
+        return stats;
+    }
+
+    private RetryBudget register(RetryBudget budget) {
+        if (meterRegistry == null) {
+            return budget;
+        }
+        Tags tags = Tags.of("service", budget.getServiceId());
+        Gauge.builder("financer.http.client.retry.budget.balance", budget, RetryBudget::getBalance)
+                .tags(tags).description("Retry/hedge tokens available").register(meterRegistry);
+        FunctionCounter.builder("financer.http.client.retry.budget.exhausted", budget, RetryBudget::getExhausted)
+                .tags(tags).description("Retries and hedges refused by the budget").register(meterRegistry);
+        return budget;
+    }
+
+    private static double quantile(double percentile) {
+        return Math.min(1.0, Math.max(0.01, percentile / 100));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,214 @@
+package com.financer.eureka.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerInterceptor;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerRequestFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load-balancing interceptor of {@code @LoadBalanced} {@code RestTemplate} and
+ * {@code RestClient} with adaptive timeouts, hedging and budgeted retries.
+ * Installed in place of Spring Cloud's {@link LoadBalancerInterceptor} by
+ * {@link ResilientLoadBalancerPostProcessor}.
+ * <p>
+ * Every attempt goes through {@code super.intercept}, so it picks its own
+ * instance ({@code PeakEwmaLoadBalancer} steers away from the one that just
+ * failed or stalled) and reports to the load-balancer lifecycle.
+ * <ul>
+ *     <li><b>Timeout</b> — each attempt waits at most the route's adaptive
+ *     timeout for the response headers; an attempt left behind keeps running
+ *     on its virtual thread and its response is closed when it arrives.</li>
+ *     <li><b>Hedging</b> (opt-in, GET/HEAD) — if no response arrived after the
+ *     route's p95, a second attempt is sent and the first response wins.</li>
+ *     <li><b>Retries</b> (retry methods only) — on I/O failure, timeout or a
+ *     retry status, up to {@code max-attempts}.</li>
+ * </ul>
+ * Hedges and retries both spend the service's {@link RetryBudget}.
+ * <p>
+ * Repeated attempts re-run the request execution, which only reaches the
+ * HTTP client directly when this is the last interceptor — the position
+ * Spring Cloud gives the load-balancer interceptor.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+public class ResilientLoadBalancerInterceptor extends LoadBalancerInterceptor {
+
+    private final ResilienceRegistry registry;
+
+    public ResilientLoadBalancerInterceptor(LoadBalancerClient loadBalancer, LoadBalancerRequestFactory requestFactory,
+                                            ResilienceRegistry registry) {
+        super(loadBalancer, requestFactory);
+        this.registry = registry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String serviceId = request.getURI().getHost();
+        if (serviceId == null) {
+            return super.intercept(request, body, execution);
+        }
+        HttpMethod method = request.getMethod();
+        RouteStats route = registry.route(serviceId, method, request.getURI().getRawPath());
+        RetryBudget budget = registry.budget(serviceId);
+        budget.deposit();
+        int maxAttempts = registry.isRetryable(method) ? registry.getMaxAttempts() : 1;
+        boolean hedge = registry.isHedgingEnabled() && ResilienceRegistry.isHedgeable(method);
+        for (int attempt = 1; ; attempt++) {
+            ClientHttpResponse response;
+            try {
+                response = execute(route, budget, hedge, request, body, execution);
+            } catch (IOException ex) {
+                if (attempt >= maxAttempts || !budget.tryWithdraw()) {
+                    throw ex;
+                }
+                route.retried();
+                log.debug("Retrying {} {} after {} (attempt {})", serviceId, route.getRoute(), ex.toString(), attempt + 1);
+                continue;
+            }
+            if (attempt < maxAttempts && registry.isRetryable(response.getStatusCode()) && budget.tryWithdraw()) {
+                log.debug("Retrying {} {} after status {} (attempt {})",
+                        serviceId, route.getRoute(), response.getStatusCode().value(), attempt + 1);
+                response.close();
+                route.retried();
+                continue;
+            }
+            return response;
+        }
+    }
+
+    private ClientHttpResponse execute(RouteStats route, RetryBudget budget, boolean hedge, HttpRequest request,
+                                       byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        long timeoutNanos = registry.isTimeoutEnabled() ? route.timeoutNanos() : 0;
+        long hedgeNanos = hedge ? route.hedgeDelayNanos() : 0;
+        if (timeoutNanos <= 0 && hedgeNanos <= 0) {
+            return attempt(route, request, body, execution);
+        }
+        long deadline = timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : Long.MAX_VALUE;
+        CompletableFuture<ClientHttpResponse> pending = submit(route, request, body, execution);
+        if (hedgeNanos > 0 && (timeoutNanos <= 0 || hedgeNanos < timeoutNanos)) {
+            try {
+                return await(pending, hedgeNanos);
+            } catch (TimeoutException notYet) {
+                if (budget.tryWithdraw()) {
+                    route.hedged();
+                    pending = firstOf(route, pending, submit(route, request, body, execution));
+                }
+            }
+        }
+        try {
+            return await(pending, deadline == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.nanoTime());
+        } catch (TimeoutException ex) {
+            discard(pending);
+            route.timedOut();
+            throw new SocketTimeoutException("No response from " + route.getServiceId() + " " + route.getRoute()
+                    + " within " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms");
+        }
+    }
+
+    private ClientHttpResponse attempt(RouteStats route, HttpRequest request, byte[] body,
+                                       ClientHttpRequestExecution execution) throws IOException {
+        long start = System.nanoTime();
+        ClientHttpResponse response = super.intercept(request, body, execution);
+        route.record(System.nanoTime() - start);
+        return response;
+    }
+
+    private CompletableFuture<ClientHttpResponse> submit(RouteStats route, HttpRequest request, byte[] body,
+                                                         ClientHttpRequestExecution execution) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return CompletableFuture.supplyAsync(() -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                return attempt(route, request, body, execution);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            } finally {
+                MDC.clear();
+            }
+        }, registry.getExecutor());
+    }
+
+    /**
+     * Completes with the first response; fails only when both attempts fail. The losing response is closed.
+     */
+    private static CompletableFuture<ClientHttpResponse> firstOf(RouteStats route,
+                                                                 CompletableFuture<ClientHttpResponse> first,
+                                                                 CompletableFuture<ClientHttpResponse> hedge) {
+        CompletableFuture<ClientHttpResponse> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<ClientHttpResponse> attempt : List.of(first, hedge)) {
+            attempt.whenComplete((response, failure) -> {
+                if (failure == null) {
+                    if (winner.complete(response)) {
+                        if (attempt == hedge) {
+                            route.hedgeWon();
+                        }
+                    } else {
+                        response.close();
+                    }
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(failure);
+                }
+            });
+        }
+        return winner;
+    }
+
+    private static ClientHttpResponse await(CompletableFuture<ClientHttpResponse> future, long timeoutNanos)
+            throws IOException, TimeoutException {
+        try {
+            return timeoutNanos == Long.MAX_VALUE ? future.get() : future.get(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            discard(future);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for response");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause() instanceof CompletionException wrapped ? wrapped.getCause() : ex.getCause();
+            if (cause instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Closes the response of an abandoned attempt whenever it arrives.
+     */
+    private static void discard(CompletableFuture<ClientHttpResponse> future) {
+        future.whenComplete((response, failure) -> {
+            if (response != null) {
+                response.close();
+            }
+        });
+    }
+}
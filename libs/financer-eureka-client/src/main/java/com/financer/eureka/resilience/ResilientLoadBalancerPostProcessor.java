@@ -0,0 +1,53 @@
+package com.financer.eureka.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerInterceptor;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerRequestFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replaces Spring Cloud's {@link LoadBalancerInterceptor} bean with a
+ * {@link ResilientLoadBalancerInterceptor}. The bean is swapped rather than
+ * added to, because an outer interceptor cannot retry through the load
+ * balancer: a request execution walks its interceptor chain only once.
+ * <p>
+ * Both {@code @LoadBalanced RestTemplate} (through the
+ * {@code RestTemplateCustomizer}) and {@code @LoadBalanced RestClient.Builder}
+ * (through the deferring interceptor) pick up the replacement. With Spring
+ * Retry on the classpath Spring Cloud uses its {@code RetryLoadBalancerInterceptor}
+ * instead, which is left untouched. Disable with
+ * {@code financer.http-client.resilience.enabled=false}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "financer.http-client.resilience.enabled", havingValue = "true", matchIfMissing = true)
+public class ResilientLoadBalancerPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    private BeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean.getClass() != LoadBalancerInterceptor.class) {
+            return bean;
+        }
+        log.info("Load-balanced HTTP clients use adaptive timeouts, hedging and retry budgets");
+        return new ResilientLoadBalancerInterceptor(
+                beanFactory.getBean(LoadBalancerClient.class),
+                beanFactory.getBean(LoadBalancerRequestFactory.class),
+                beanFactory.getBean(ResilienceRegistry.class));
+    }
+}
@@ -0,0 +1,93 @@
+package com.financer.eureka.resilience;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket capping retries and hedged requests of one service at a
+ * fraction of its traffic.
+ * <p>
+ * Every original request deposits {@code ratio} of a token; every retry or
+ * hedge withdraws a whole one. A small time-based reserve
+ * ({@code minPerSecond}) keeps low-traffic services able to retry at all.
+ * The balance is capped at {@code maxTokens}, so a long healthy period cannot
+ * bank enough tokens to turn the next outage into a retry storm. Balances are
+ * kept in thousandths of a token.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+final class RetryBudget {
+
+    private static final long TOKEN = 1000;
+
+    @Getter
+    private final String serviceId;
+    private final long deposit;
+    private final long capacity;
+    private final double reservePerNano;
+    private final AtomicLong balance;
+    private final AtomicLong lastRefill = new AtomicLong(System.nanoTime());
+    private final LongAdder exhausted = new LongAdder();
+
+    RetryBudget(String serviceId, double ratio, double minPerSecond, int maxTokens) {
+        this.serviceId = serviceId;
+        this.deposit = Math.round(Math.max(0, ratio) * TOKEN);
+        this.capacity = Math.max(1, maxTokens) * TOKEN;
+        this.reservePerNano = Math.max(0, minPerSecond) * TOKEN / 1e9;
+        this.balance = new AtomicLong(Math.min(capacity, Math.round(Math.max(0, minPerSecond)) * TOKEN));
+    }
+
+    /**
+     * Called once per original request.
+     */
+    void deposit() {
+        if (deposit > 0) {
+            add(deposit);
+        }
+    }
+
+    /**
+     * Takes a token for a retry or hedge; {@code false} when the budget is spent.
+     */
+    boolean tryWithdraw() {
+        refill();
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                exhausted.increment();
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    double getBalance() {
+        return balance.get() / (double) TOKEN;
+    }
+
+    long getExhausted() {
+        return exhausted.sum();
+    }
+
+    private void refill() {
+        if (reservePerNano == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = lastRefill.get();
+        long tokens = (long) ((now - last) * reservePerNano);
+        if (tokens > 0 && lastRefill.compareAndSet(last, now)) {
+            add(tokens);
+        }
+    }
+
+    private void add(long amount) {
+        balance.accumulateAndGet(amount, (current, delta) -> Math.min(capacity, current + delta));
+    }
+}
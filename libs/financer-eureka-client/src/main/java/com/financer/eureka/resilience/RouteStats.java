@@ -0,0 +1,128 @@
+package com.financer.eureka.resilience;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Observed latency and derived limits of one route ({@code service} +
+ * {@code METHOD /path/template}).
+ * <p>
+ * The timeout is {@code percentile(timeout-percentile) × multiplier}, clamped
+ * to {@code [min, max]}; the hedge delay is {@code percentile(hedge-percentile)}.
+ * Until {@code min-samples} responses have been seen the timeout is
+ * {@code max} and no hedging happens. Both are recomputed at most once a
+ * second.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+final class RouteStats {
+
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Tuning shared by every route.
+     */
+    record Policy(long windowNanos, int minSamples, double timeoutQuantile, double multiplier,
+                  long minTimeoutNanos, long maxTimeoutNanos, double hedgeQuantile) {
+    }
+
+    @Getter
+    private final String serviceId;
+    @Getter
+    private final String route;
+    private final Policy policy;
+    private final LatencyWindow latencies;
+    private final AtomicLong refreshedAt = new AtomicLong(System.nanoTime() - REFRESH_NANOS);
+    private volatile long timeoutNanos;
+    private volatile long hedgeDelayNanos;
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    RouteStats(String serviceId, String route, Policy policy) {
+        this.serviceId = serviceId;
+        this.route = route;
+        this.policy = policy;
+        this.latencies = new LatencyWindow(policy.windowNanos());
+        this.timeoutNanos = policy.maxTimeoutNanos();
+    }
+
+    void record(long latencyNanos) {
+        latencies.record(latencyNanos);
+    }
+
+    long timeoutNanos() {
+        refresh();
+        return timeoutNanos;
+    }
+
+    /**
+     * Delay after which an idempotent request is hedged; {@code 0} while there is not enough data.
+     */
+    long hedgeDelayNanos() {
+        refresh();
+        return hedgeDelayNanos;
+    }
+
+    private void refresh() {
+        long now = System.nanoTime();
+        long last = refreshedAt.get();
+        if (now - last < REFRESH_NANOS || !refreshedAt.compareAndSet(last, now)) {
+            return;
+        }
+        if (latencies.count() < policy.minSamples()) {
+            timeoutNanos = policy.maxTimeoutNanos();
+            hedgeDelayNanos = 0;
+            return;
+        }
+        long timeout = (long) (latencies.percentileNanos(policy.timeoutQuantile()) * policy.multiplier());
+        timeoutNanos = Math.min(policy.maxTimeoutNanos(), Math.max(policy.minTimeoutNanos(), timeout));
+        hedgeDelayNanos = latencies.percentileNanos(policy.hedgeQuantile());
+    }
+
+    void timedOut() {
+        timeouts.increment();
+    }
+
+    void retried() {
+        retries.increment();
+    }
+
+    void hedged() {
+        hedges.increment();
+    }
+
+    void hedgeWon() {
+        hedgeWins.increment();
+    }
+
+    double getTimeoutSeconds() {
+        return timeoutNanos / 1e9;
+    }
+
+    double getP99Seconds() {
+        return latencies.percentileNanos(0.99) / 1e9;
+    }
+
+    long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    long getRetries() {
+        return retries.sum();
+    }
+
+    long getHedges() {
+        return hedges.sum();
+    }
+
+    long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+}
@@ -0,0 +1,17 @@
+package com.financer.journal;
+
+/**
+ * Thrown when a journal segment is malformed: bad header, a record failing
+ * its CRC before the end of the log, or a gap in the sequence; also when
+ * the journal directory is locked by another writer.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class JournalException extends RuntimeException {
+
+    public JournalException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,106 @@
+package com.financer.journal;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Sequential reader over a journal directory. Segments are mapped read-only
+ * and every posting is handed to the callback as a {@link PostingView} over
+ * the mapping, so a replay is one pass over the page cache (or the disk)
+ * without copying records onto the heap.
+ * <p>
+ * Each record is checked for its CRC (unless disabled) and for sequence
+ * continuity. A bad record in a sealed segment is corruption and raises
+ * {@link JournalException}; at the end of the last segment it is the tail
+ * a writer is still producing (or a crash tore) and ends the replay.
+ * Readers are cheap and not thread-safe; use one per thread.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class JournalReader {
+
+    private final Path directory;
+    private final CRC32C crc;
+    private final PostingView view = new PostingView();
+
+    public JournalReader(Path directory) {
+        this(directory, true);
+    }
+
+    /**
+     * @param verifyCrc whether to check each record's CRC; skipping it is
+     *                  only safe for logs already verified on this host
+     */
+    public JournalReader(Path directory, boolean verifyCrc) {
+        this.directory = directory;
+        this.crc = verifyCrc ? new CRC32C() : null;
+    }
+
+    /**
+     * Replays every posting from {@code fromSequence} (inclusive) to the end of the log.
+     *
+     * @return the last sequence replayed, or {@code fromSequence - 1} if none
+     * @throws JournalException if a segment is corrupt or a sequence is missing,
+     *                          including when {@code fromSequence} was deleted by retention
+     */
+    public long replay(long fromSequence, Consumer<PostingView> consumer) {
+        List<Path> segments = JournalSegment.list(directory);
+        if (segments.isEmpty()) {
+            return fromSequence - 1;
+        }
+        long start = Math.max(fromSequence, 1L);
+        if (JournalSegment.baseSequenceOf(segments.get(0)) > start) {
+            throw new JournalException("Sequence " + start + " is no longer in " + directory);
+        }
+        int first = 0;
+        while (first + 1 < segments.size() && JournalSegment.baseSequenceOf(segments.get(first + 1)) <= start) {
+            first++;
+        }
+        long sequence = JournalSegment.baseSequenceOf(segments.get(first));
+        for (int i = first; i < segments.size(); i++) {
+            boolean last = i == segments.size() - 1;
+            JournalSegment segment;
+            try {
+                segment = JournalSegment.open(segments.get(i), false);
+            } catch (JournalException e) {
+                if (last) {
+                    // the writer is still creating this segment
+                    break;
+                }
+                throw e;
+            }
+            if (segment.getBaseSequence() != sequence) {
+                throw new JournalException("Journal segment " + segment.getPath() + " starts at "
+                        + segment.getBaseSequence() + ", expected " + sequence);
+            }
+            int position = JournalSegment.HEADER_SIZE;
+            for (;;) {
+                int length = segment.recordAt(position, sequence, crc);
+                if (length > 0) {
+                    if (sequence >= fromSequence) {
+                        view.wrap(segment.getBuffer(), position + JournalSegment.RECORD_HEADER_SIZE, length);
+                        consumer.accept(view);
+                    }
+                    position += JournalSegment.recordSize(length);
+                    sequence++;
+                } else if (length == JournalSegment.END_OF_SEGMENT) {
+                    if (last) {
+                        // the writer sealed this segment and is creating the next one
+                        return Math.max(sequence, fromSequence) - 1;
+                    }
+                    break;
+                } else if (last) {
+                    return Math.max(sequence, fromSequence) - 1;
+                } else {
+                    throw new JournalException("Corrupt record at offset " + position + " of " + segment.getPath()
+                            + " (sequence " + sequence + ")");
+                }
+            }
+        }
+        return Math.max(sequence, fromSequence) - 1;
+    }
+}
@@ -0,0 +1,308 @@
+package com.financer.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped journal file, named after the sequence of its first
+ * posting ({@code 00000000000000000001.journal}).
+ * <pre>
+ * header (32 bytes): int magic "FJNL", int format, long base sequence,
+ *                    long created-at millis, int size, int reserved
+ * record:            int payload length, int CRC32C of the payload,
+ *                    payload ({@link PostingCodec}), padding to 8 bytes
+ * </pre>
+ * A length of 0 means nothing written yet (the file is preallocated with
+ * zeros) and {@link #END_OF_SEGMENT} that the log continues in the next
+ * file. The writer stores the length last with release semantics, so a
+ * reader that sees it also sees the CRC and payload.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+final class JournalSegment {
+
+    static final int MAGIC = 0x464A4E4C;
+    static final int FORMAT = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_HEADER_SIZE = 8;
+    static final String SUFFIX = ".journal";
+    static final String TEMP_SUFFIX = SUFFIX + ".tmp";
+
+    /**
+     * {@link #recordAt} results besides a payload length.
+     */
+    static final int NO_RECORD = 0;
+    static final int END_OF_SEGMENT = -1;
+    static final int INVALID = -2;
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path path;
+    private final long baseSequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer crcView;
+
+    /**
+     * End of the written records; owned by the writer.
+     */
+    int writePosition = HEADER_SIZE;
+
+    /**
+     * End of the range already forced to disk; owned by the sync thread.
+     */
+    int syncedPosition = HEADER_SIZE;
+
+    /**
+     * Whether the writer moved on to the next segment.
+     */
+    volatile boolean sealed;
+
+    private JournalSegment(Path path, long baseSequence, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.baseSequence = baseSequence;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+        this.crcView = buffer.duplicate();
+    }
+
+    /**
+     * Creates the segment under a temporary name and renames it once its
+     * header is on disk, so a crash never leaves a headerless segment.
+     */
+    static JournalSegment create(Path directory, long baseSequence, int size) {
+        Path path = pathOf(directory, baseSequence);
+        Path temp = directory.resolve(String.format("%020d%s", baseSequence, TEMP_SUFFIX));
+        try {
+            FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            JournalSegment segment = new JournalSegment(path, baseSequence, channel, buffer);
+            ByteBuffer header = segment.buffer;
+            header.putInt(0, MAGIC);
+            header.putInt(4, FORMAT);
+            header.putLong(8, baseSequence);
+            header.putLong(16, System.currentTimeMillis());
+            header.putInt(24, size);
+            buffer.force(0, HEADER_SIZE);
+            channel.force(true);
+            // the mapping and the channel follow the file through the rename
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            syncDirectory(directory);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal segment " + path, e);
+        }
+    }
+
+    /**
+     * Deletes segments a crash left under their temporary name.
+     */
+    static void deleteTemporary(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().endsWith(TEMP_SUFFIX)).toList()) {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot clean journal directory " + directory, e);
+        }
+    }
+
+    /**
+     * Makes a rename durable: the new name is an entry of the directory.
+     */
+    private static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    static JournalSegment open(Path path, boolean writable) {
+        try {
+            FileChannel channel = writable
+                    ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                    : FileChannel.open(path, StandardOpenOption.READ);
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                channel.close();
+                throw new JournalException("Journal segment " + path + " has invalid size " + size);
+            }
+            MappedByteBuffer buffer = channel.map(
+                    writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, size);
+            if (!writable) {
+                // the mapping stays valid without the channel
+                channel.close();
+            }
+            JournalSegment segment = new JournalSegment(path, baseSequenceOf(path), writable ? channel : null, buffer);
+            segment.checkHeader();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open journal segment " + path, e);
+        }
+    }
+
+    /**
+     * Segment files of a journal directory, oldest first.
+     */
+    static List<Path> list(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparingLong(JournalSegment::baseSequenceOf))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list journal directory " + directory, e);
+        }
+    }
+
+    static Path pathOf(Path directory, long baseSequence) {
+        return directory.resolve(String.format("%020d%s", baseSequence, SUFFIX));
+    }
+
+    static long baseSequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new JournalException("Not a journal segment name: " + name);
+        }
+    }
+
+    static int recordSize(int payloadLength) {
+        return (RECORD_HEADER_SIZE + payloadLength + 7) & ~7;
+    }
+
+    /**
+     * Validates the record at {@code position}.
+     *
+     * @param crc CRC to verify with, or {@code null} to trust the payload
+     * @return the payload length, {@link #NO_RECORD}, {@link #END_OF_SEGMENT}
+     * or {@link #INVALID} (bad length, CRC or sequence)
+     */
+    int recordAt(int position, long expectedSequence, CRC32C crc) {
+        if (position + RECORD_HEADER_SIZE > buffer.capacity()) {
+            return NO_RECORD;
+        }
+        int length = (int) INT.getAcquire(buffer, position);
+        if (length == NO_RECORD || length == END_OF_SEGMENT) {
+            return length;
+        }
+        int payload = position + RECORD_HEADER_SIZE;
+        if (length < PostingCodec.STRINGS || payload + length > buffer.capacity()) {
+            return INVALID;
+        }
+        if (crc != null && buffer.getInt(position + 4) != crc(crc, payload, length)) {
+            return INVALID;
+        }
+        if (buffer.getLong(payload + PostingCodec.SEQUENCE) != expectedSequence) {
+            return INVALID;
+        }
+        return length;
+    }
+
+    int crc(CRC32C crc, int offset, int length) {
+        crc.reset();
+        crcView.limit(offset + length).position(offset);
+        crc.update(crcView);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Makes a record written at {@code position} visible to readers.
+     */
+    void publish(int position, int length) {
+        INT.setRelease(buffer, position, length);
+    }
+
+    /**
+     * Writes the end marker, after which the log continues in the next segment.
+     */
+    void seal() {
+        publish(writePosition, END_OF_SEGMENT);
+        writePosition += RECORD_HEADER_SIZE;
+        sealed = true;
+    }
+
+    /**
+     * Withdraws the end marker of a segment whose successor could not be created.
+     */
+    void unseal() {
+        writePosition -= RECORD_HEADER_SIZE;
+        publish(writePosition, NO_RECORD);
+        sealed = false;
+    }
+
+    /**
+     * Clears a torn tail left by a crash, so stale bytes are never read as records.
+     */
+    void truncate(int position) {
+        int i = position;
+        for (; i + 8 <= buffer.capacity(); i += 8) {
+            buffer.putLong(i, 0L);
+        }
+        for (; i < buffer.capacity(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        force(position, buffer.capacity());
+        writePosition = position;
+        syncedPosition = position;
+    }
+
+    void force(int from, int to) {
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    /**
+     * Closes the file; a mapped buffer is released once unreachable.
+     */
+    void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close journal segment " + path, e);
+        }
+    }
+
+    private void checkHeader() {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT || buffer.getLong(8) != baseSequence) {
+            throw new JournalException("Invalid journal segment header in " + path);
+        }
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getBaseSequence() {
+        return baseSequence;
+    }
+
+    ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+}
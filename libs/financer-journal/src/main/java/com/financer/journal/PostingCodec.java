@@ -0,0 +1,224 @@
+package com.financer.journal;
+
+import com.financer.dto.transaction.TransactionDTO;
+import com.financer.dto.transaction.TransactionStatus;
+import com.financer.dto.transaction.TransactionType;
+import com.financer.money.CurrencyCode;
+import com.financer.money.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary layout of a posting: a {@link TransactionDTO} plus the journal
+ * sequence, little-endian.
+ * <pre>
+ *   0  long   sequence
+ *   8  long   id, userId, fromAccountId, toAccountId          (4 × 8)
+ *  40  long   amount, fee, balanceAfter in {@link Money} units (3 × 8)
+ *  64  long   scheduledAt, processedAt, createdAt, updatedAt  (4 × 8, epoch micros, UTC)
+ *  96  int    currency ({@link CurrencyCode#packed()}, 0 = null)
+ * 100  byte   type, status (ordinal + 1, 0 = null)
+ * 102  short  null bitmap of the eleven long fields from offset 8
+ * 104  9 × (u16 length, UTF-8 bytes), 0xFFFF = null: description, category,
+ *      tags, referenceId, failureReason, metadata, location, deviceInfo, ipAddress
+ * </pre>
+ * The fixed part is read in place by {@link PostingView}; only the strings
+ * need walking. Enum constants may only be appended, as in the binary codec.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+final class PostingCodec {
+
+    static final int SEQUENCE = 0;
+    static final int ID = 8;
+    static final int USER_ID = 16;
+    static final int FROM_ACCOUNT_ID = 24;
+    static final int TO_ACCOUNT_ID = 32;
+    static final int AMOUNT = 40;
+    static final int FEE = 48;
+    static final int BALANCE_AFTER = 56;
+    static final int SCHEDULED_AT = 64;
+    static final int PROCESSED_AT = 72;
+    static final int CREATED_AT = 80;
+    static final int UPDATED_AT = 88;
+    static final int CURRENCY = 96;
+    static final int TYPE = 100;
+    static final int STATUS = 101;
+    static final int NULLS = 102;
+    static final int STRINGS = 104;
+
+    static final int DESCRIPTION = 0;
+    static final int CATEGORY = 1;
+    static final int TAGS = 2;
+    static final int REFERENCE_ID = 3;
+    static final int FAILURE_REASON = 4;
+    static final int METADATA = 5;
+    static final int LOCATION = 6;
+    static final int DEVICE_INFO = 7;
+    static final int IP_ADDRESS = 8;
+    static final int STRING_COUNT = 9;
+
+    static final int NULL_STRING = 0xFFFF;
+    static final int MAX_STRING_BYTES = NULL_STRING - 1;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+
+    private PostingCodec() {
+    }
+
+    /**
+     * UTF-8 bytes of the string fields, in layout order; {@code null} entries for null fields.
+     *
+     * @throws IllegalArgumentException if a field exceeds {@value #MAX_STRING_BYTES} bytes
+     */
+    static byte[][] strings(TransactionDTO posting) {
+        byte[][] strings = new byte[STRING_COUNT][];
+        strings[DESCRIPTION] = utf8(posting.getDescription(), "description");
+        strings[CATEGORY] = utf8(posting.getCategory(), "category");
+        strings[TAGS] = utf8(posting.getTags(), "tags");
+        strings[REFERENCE_ID] = utf8(posting.getReferenceId(), "referenceId");
+        strings[FAILURE_REASON] = utf8(posting.getFailureReason(), "failureReason");
+        strings[METADATA] = utf8(posting.getMetadata(), "metadata");
+        strings[LOCATION] = utf8(posting.getLocation(), "location");
+        strings[DEVICE_INFO] = utf8(posting.getDeviceInfo(), "deviceInfo");
+        strings[IP_ADDRESS] = utf8(posting.getIpAddress(), "ipAddress");
+        return strings;
+    }
+
+    static int size(byte[][] strings) {
+        int size = STRINGS;
+        for (byte[] string : strings) {
+            size += 2 + (string == null ? 0 : string.length);
+        }
+        return size;
+    }
+
+    /**
+     * Writes the posting at {@code offset} of a little-endian buffer.
+     */
+    static void write(ByteBuffer buffer, int offset, long sequence, TransactionDTO posting, byte[][] strings) {
+        int nulls = 0;
+        buffer.putLong(offset + SEQUENCE, sequence);
+        nulls |= putLong(buffer, offset + ID, posting.getId(), 0);
+        nulls |= putLong(buffer, offset + USER_ID, posting.getUserId(), 1);
+        nulls |= putLong(buffer, offset + FROM_ACCOUNT_ID, posting.getFromAccountId(), 2);
+        nulls |= putLong(buffer, offset + TO_ACCOUNT_ID, posting.getToAccountId(), 3);
+        nulls |= putLong(buffer, offset + AMOUNT, units(posting.getAmount()), 4);
+        nulls |= putLong(buffer, offset + FEE, units(posting.getFee()), 5);
+        nulls |= putLong(buffer, offset + BALANCE_AFTER, units(posting.getBalanceAfter()), 6);
+        nulls |= putLong(buffer, offset + SCHEDULED_AT, micros(posting.getScheduledAt()), 7);
+        nulls |= putLong(buffer, offset + PROCESSED_AT, micros(posting.getProcessedAt()), 8);
+        nulls |= putLong(buffer, offset + CREATED_AT, micros(posting.getCreatedAt()), 9);
+        nulls |= putLong(buffer, offset + UPDATED_AT, micros(posting.getUpdatedAt()), 10);
+        buffer.putInt(offset + CURRENCY, posting.getCurrency() == null ? 0 : posting.getCurrency().packed());
+        buffer.put(offset + TYPE, (byte) (posting.getType() == null ? 0 : posting.getType().ordinal() + 1));
+        buffer.put(offset + STATUS, (byte) (posting.getStatus() == null ? 0 : posting.getStatus().ordinal() + 1));
+        buffer.putShort(offset + NULLS, (short) nulls);
+        int position = offset + STRINGS;
+        for (byte[] string : strings) {
+            if (string == null) {
+                buffer.putShort(position, (short) NULL_STRING);
+                position += 2;
+            } else {
+                buffer.putShort(position, (short) string.length);
+                buffer.put(position + 2, string);
+                position += 2 + string.length;
+            }
+        }
+    }
+
+    /**
+     * Offset of string field {@code index} within the posting at {@code offset}.
+     */
+    static int stringOffset(ByteBuffer buffer, int offset, int index) {
+        int position = offset + STRINGS;
+        for (int i = 0; i < index; i++) {
+            int length = Short.toUnsignedInt(buffer.getShort(position));
+            position += 2 + (length == NULL_STRING ? 0 : length);
+        }
+        return position;
+    }
+
+    static String readString(ByteBuffer buffer, int offset, int index) {
+        int position = stringOffset(buffer, offset, index);
+        int length = Short.toUnsignedInt(buffer.getShort(position));
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static boolean isNull(ByteBuffer buffer, int offset, int field) {
+        int bit = (field - ID) >>> 3;
+        return (buffer.getShort(offset + NULLS) & (1 << bit)) != 0;
+    }
+
+    static TransactionType type(ByteBuffer buffer, int offset) {
+        int value = Byte.toUnsignedInt(buffer.get(offset + TYPE));
+        if (value > TYPES.length) {
+            throw new JournalException("Unknown TransactionType ordinal " + (value - 1));
+        }
+        return value == 0 ? null : TYPES[value - 1];
+    }
+
+    static TransactionStatus status(ByteBuffer buffer, int offset) {
+        int value = Byte.toUnsignedInt(buffer.get(offset + STATUS));
+        if (value > STATUSES.length) {
+            throw new JournalException("Unknown TransactionStatus ordinal " + (value - 1));
+        }
+        return value == 0 ? null : STATUSES[value - 1];
+    }
+
+    static CurrencyCode currency(ByteBuffer buffer, int offset) {
+        int packed = buffer.getInt(offset + CURRENCY);
+        return packed == 0 ? null : CurrencyCode.fromPacked(packed);
+    }
+
+    static BigDecimal amount(long units) {
+        return BigDecimal.valueOf(units, Money.SCALE);
+    }
+
+    static LocalDateTime dateTime(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static int putLong(ByteBuffer buffer, int position, Long value, int bit) {
+        buffer.putLong(position, value == null ? 0L : value);
+        return value == null ? 1 << bit : 0;
+    }
+
+    private static Long units(BigDecimal amount) {
+        return amount == null ? null : amount.setScale(Money.SCALE, RoundingMode.UNNECESSARY)
+                .unscaledValue().longValueExact();
+    }
+
+    private static Long micros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), 1_000_000L),
+                dateTime.getNano() / 1_000);
+    }
+
+    private static byte[] utf8(String value, String field) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Posting " + field + " exceeds " + MAX_STRING_BYTES + " bytes");
+        }
+        return bytes;
+    }
+}
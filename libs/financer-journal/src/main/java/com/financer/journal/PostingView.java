@@ -0,0 +1,188 @@
+package com.financer.journal;
+
+import com.financer.dto.transaction.TransactionDTO;
+import com.financer.dto.transaction.TransactionStatus;
+import com.financer.dto.transaction.TransactionType;
+import com.financer.money.CurrencyCode;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+/**
+ * Flyweight over one posting inside a mapped segment: getters read the
+ * {@link PostingCodec layout} in place, so replaying the numeric fields
+ * copies and allocates nothing. The view is repositioned by
+ * {@link JournalReader} for every record; copy what must outlive the
+ * callback, or call {@link #toDTO()}.
+ * <p>
+ * Nullable numeric fields have a {@code has...} check; their getters
+ * return 0 when null. Amounts are in {@code Money} units.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class PostingView {
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    PostingView() {
+    }
+
+    void wrap(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Encoded size of the posting in bytes.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    public long getSequence() {
+        return buffer.getLong(offset + PostingCodec.SEQUENCE);
+    }
+
+    public boolean hasId() {
+        return !PostingCodec.isNull(buffer, offset, PostingCodec.ID);
+    }
+
+    public long getId() {
+        return buffer.getLong(offset + PostingCodec.ID);
+    }
+
+    public boolean hasUserId() {
+        return !PostingCodec.isNull(buffer, offset, PostingCodec.USER_ID);
+    }
+
+    public long getUserId() {
+        return buffer.getLong(offset + PostingCodec.USER_ID);
+    }
+
+    public boolean hasFromAccountId() {
+        return !PostingCodec.isNull(buffer, offset, PostingCodec.FROM_ACCOUNT_ID);
+    }
+
+    public long getFromAccountId() {
+        return buffer.getLong(offset + PostingCodec.FROM_ACCOUNT_ID);
+    }
+
+    public boolean hasToAccountId() {
+        return !PostingCodec.isNull(buffer, offset, PostingCodec.TO_ACCOUNT_ID);
+    }
+
+    public long getToAccountId() {
+        return buffer.getLong(offset + PostingCodec.TO_ACCOUNT_ID);
+    }
+
+    public boolean hasAmount() {
+        return !PostingCodec.isNull(buffer, offset, PostingCodec.AMOUNT);
+    }
+
+    public long getAmountUnits() {
+        return buffer.getLong(offset + PostingCodec.AMOUNT);
+    }
+
+    public boolean hasFee() {
+        return !PostingCodec.isNull(buffer, offset, PostingCodec.FEE);
+    }
+
+    public long getFeeUnits() {
+        return buffer.getLong(offset + PostingCodec.FEE);
+    }
+
+    public boolean hasBalanceAfter() {
+        return !PostingCodec.isNull(buffer, offset, PostingCodec.BALANCE_AFTER);
+    }
+
+    public long getBalanceAfterUnits() {
+        return buffer.getLong(offset + PostingCodec.BALANCE_AFTER);
+    }
+
+    public boolean hasCreatedAt() {
+        return !PostingCodec.isNull(buffer, offset, PostingCodec.CREATED_AT);
+    }
+
+    /**
+     * Creation time in microseconds since the epoch, taking the DTO's local time as UTC.
+     */
+    public long getCreatedAtMicros() {
+        return buffer.getLong(offset + PostingCodec.CREATED_AT);
+    }
+
+    public CurrencyCode getCurrency() {
+        return PostingCodec.currency(buffer, offset);
+    }
+
+    public TransactionType getType() {
+        return PostingCodec.type(buffer, offset);
+    }
+
+    public TransactionStatus getStatus() {
+        return PostingCodec.status(buffer, offset);
+    }
+
+    /**
+     * Decodes the description (allocates).
+     */
+    public String getDescription() {
+        return PostingCodec.readString(buffer, offset, PostingCodec.DESCRIPTION);
+    }
+
+    /**
+     * Decodes the reference id (allocates).
+     */
+    public String getReferenceId() {
+        return PostingCodec.readString(buffer, offset, PostingCodec.REFERENCE_ID);
+    }
+
+    /**
+     * Materializes the whole posting.
+     */
+    public TransactionDTO toDTO() {
+        return TransactionDTO.builder()
+                .id(hasId() ? getId() : null)
+                .userId(hasUserId() ? getUserId() : null)
+                .fromAccountId(hasFromAccountId() ? getFromAccountId() : null)
+                .toAccountId(hasToAccountId() ? getToAccountId() : null)
+                .type(getType())
+                .status(getStatus())
+                .amount(hasAmount() ? PostingCodec.amount(getAmountUnits()) : null)
+                .currency(getCurrency())
+                .description(string(PostingCodec.DESCRIPTION))
+                .category(string(PostingCodec.CATEGORY))
+                .tags(string(PostingCodec.TAGS))
+                .referenceId(string(PostingCodec.REFERENCE_ID))
+                .fee(hasFee() ? PostingCodec.amount(getFeeUnits()) : null)
+                .balanceAfter(hasBalanceAfter() ? PostingCodec.amount(getBalanceAfterUnits()) : null)
+                .scheduledAt(dateTime(PostingCodec.SCHEDULED_AT))
+                .processedAt(dateTime(PostingCodec.PROCESSED_AT))
+                .createdAt(dateTime(PostingCodec.CREATED_AT))
+                .updatedAt(dateTime(PostingCodec.UPDATED_AT))
+                .failureReason(string(PostingCodec.FAILURE_REASON))
+                .metadata(string(PostingCodec.METADATA))
+                .location(string(PostingCodec.LOCATION))
+                .deviceInfo(string(PostingCodec.DEVICE_INFO))
+                .ipAddress(string(PostingCodec.IP_ADDRESS))
+                .build();
+    }
+
+    private String string(int index) {
+        return PostingCodec.readString(buffer, offset, index);
+    }
+
+    private LocalDateTime dateTime(int field) {
+        return PostingCodec.isNull(buffer, offset, field) ? null
+                : PostingCodec.dateTime(buffer.getLong(offset + field));
+    }
+
+    @Override
+    public String toString() {
+        return "PostingView{sequence=" + getSequence() + ", length=" + length + '}';
+    }
+}
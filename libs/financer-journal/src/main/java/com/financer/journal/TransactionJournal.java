@@ -0,0 +1,501 @@
+package com.financer.journal;
+
+import com.financer.dto.transaction.TransactionDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of transaction postings in memory-mapped segment files.
+ * <p>
+ * {@link #append} encodes the posting straight into the mapped segment and
+ * returns its sequence; it costs a memory copy, not a system call. Durability
+ * is group-committed: {@link #awaitDurable} (or {@link #appendDurable})
+ * wakes the {@code financer-journal-sync} thread, which forces everything
+ * appended so far with one {@code msync} and releases every waiter it
+ * covers, so N concurrent writers share one flush. Without waiters, appends
+ * are flushed every {@code flushInterval}.
+ * <p>
+ * Segments roll when full: the full segment is forced, end marker included,
+ * before the next one is created, so only the last segment can have a torn
+ * tail. If rolling fails the end marker is withdrawn and the journal refuses
+ * further appends; reopen it once the cause (a full disk, say) is fixed.
+ * Sealed segments older than {@code retention} are deleted on roll. On
+ * open, the tail of the last segment is checked record by record and
+ * anything after the last valid record (a write torn by a crash) is
+ * cleared. Reads go through {@link JournalReader}.
+ * <p>
+ * One journal writes to a directory at a time: the constructor takes a
+ * {@link FileChannel#tryLock() lock} on {@value #LOCK_FILE} and fails with
+ * {@link JournalException} if another one holds it.
+ * <p>
+ * Locks are {@link ReentrantLock}s rather than monitors, so virtual
+ * threads are never pinned while a segment rolls.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+public class TransactionJournal implements Closeable {
+
+    private static final int MIN_SEGMENT_SIZE = 1 << 20;
+    private static final String LOCK_FILE = "journal.lock";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Duration retention;
+    private final long flushIntervalNanos;
+    private final FileChannel lockChannel;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<JournalSegment> sealed = new ArrayList<>();
+    private final CRC32C crc = new CRC32C();
+    private JournalSegment active;
+    private long nextSequence;
+    private volatile long writtenSequence;
+    private volatile boolean closed;
+    private volatile RuntimeException rollFailure;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition syncRequested = syncLock.newCondition();
+    private final Condition synced = syncLock.newCondition();
+    private long requestedSequence;
+    private volatile long durableSequence;
+    private volatile RuntimeException syncFailure;
+    private final Thread syncThread;
+
+    private final LongAdder appends = new LongAdder();
+    private final LongAdder syncs = new LongAdder();
+    private final DistributionSummary batchSizes;
+    private final Timer syncTimer;
+
+    /**
+     * Opens (or creates) the journal in {@code directory} and recovers its tail.
+     *
+     * @param segmentSize   bytes per segment file, at least 1 MiB
+     * @param retention     age after which sealed segments are deleted
+     * @param flushInterval longest time an append waits for a flush when nobody awaits it
+     * @throws JournalException if another journal has the directory open
+     */
+    public TransactionJournal(Path directory, int segmentSize, Duration retention, Duration flushInterval,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Journal segment size must be at least " + MIN_SEGMENT_SIZE);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize & ~7;
+        this.retention = retention;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal directory " + directory, e);
+        }
+        this.lockChannel = lock(directory);
+        try {
+            recover();
+        } catch (RuntimeException e) {
+            unlock();
+            throw e;
+        }
+        MeterRegistry meters = meterRegistry.getIfAvailable();
+        this.batchSizes = meters == null ? null : DistributionSummary.builder("financer.journal.sync.batch")
+                .description("Postings made durable per journal flush")
+                .register(meters);
+        this.syncTimer = meters == null ? null : Timer.builder("financer.journal.sync")
+                .description("Duration of a journal flush")
+                .register(meters);
+        if (meters != null) {
+            registerMeters(meters);
+        }
+        this.syncThread = new Thread(this::runSync, "financer-journal-sync");
+        syncThread.setDaemon(true);
+        syncThread.start();
+        log.info("Transaction journal at {} opened, next sequence {}", directory, nextSequence);
+    }
+
+    /**
+     * Appends a posting; it is durable once {@link #getDurableSequence()}
+     * reaches the returned sequence.
+     *
+     * @return the posting's sequence
+     * @throws IllegalArgumentException if a text field exceeds 65534 UTF-8 bytes
+     * @throws ArithmeticException      if an amount has more than 4 decimal places
+     */
+    public long append(TransactionDTO posting) {
+        byte[][] strings = PostingCodec.strings(posting);
+        int length = PostingCodec.size(strings);
+        int recordSize = JournalSegment.recordSize(length);
+        writeLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Journal is closed: " + directory);
+            }
+            if (rollFailure != null) {
+                throw new IllegalStateException("Journal failed to roll and must be reopened: " + directory,
+                        rollFailure);
+            }
+            // keep room for the end-of-segment marker
+            if (active.writePosition + recordSize > active.capacity() - JournalSegment.RECORD_HEADER_SIZE) {
+                roll(recordSize);
+            }
+            int position = active.writePosition;
+            int payload = position + JournalSegment.RECORD_HEADER_SIZE;
+            long sequence = nextSequence;
+            PostingCodec.write(active.getBuffer(), payload, sequence, posting, strings);
+            active.getBuffer().putInt(position + 4, active.crc(crc, payload, length));
+            active.publish(position, length);
+            active.writePosition = position + recordSize;
+            nextSequence = sequence + 1;
+            writtenSequence = sequence;
+            appends.increment();
+            return sequence;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@link #append} and {@link #awaitDurable}: returns once the posting is on disk.
+     */
+    public long appendDurable(TransactionDTO posting) {
+        long sequence = append(posting);
+        awaitDurable(sequence);
+        return sequence;
+    }
+
+    /**
+     * Blocks until every posting up to {@code sequence} is forced to disk,
+     * sharing the flush with every other waiter.
+     *
+     * @throws IllegalStateException if the flush failed or the journal closed first
+     */
+    public void awaitDurable(long sequence) {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        if (sequence > writtenSequence) {
+            throw new IllegalArgumentException("Sequence " + sequence + " was not appended yet");
+        }
+        syncLock.lock();
+        try {
+            if (sequence > requestedSequence) {
+                requestedSequence = sequence;
+                syncRequested.signal();
+            }
+            while (durableSequence < sequence) {
+                RuntimeException failure = syncFailure;
+                if (failure != null) {
+                    throw new IllegalStateException("Journal flush failed before sequence " + sequence, failure);
+                }
+                if (!syncThread.isAlive()) {
+                    throw new IllegalStateException("Journal closed before sequence " + sequence + " was durable");
+                }
+                synced.awaitUninterruptibly();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public long getWrittenSequence() {
+        return writtenSequence;
+    }
+
+    public long getDurableSequence() {
+        return durableSequence;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Reader over this journal's directory; it sees postings as soon as they
+     * are appended, durable or not.
+     */
+    public JournalReader reader() {
+        return new JournalReader(directory);
+    }
+
+    /**
+     * Stops accepting appends, flushes what was appended and closes the segments.
+     */
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            writeLock.unlock();
+        }
+        syncLock.lock();
+        try {
+            syncRequested.signal();
+        } finally {
+            syncLock.unlock();
+        }
+        try {
+            syncThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sealed.forEach(JournalSegment::close);
+        active.close();
+        unlock();
+        log.info("Transaction journal at {} closed at sequence {} (durable {})", directory, writtenSequence,
+                durableSequence);
+    }
+
+    /**
+     * Takes the directory's lock file for the life of the journal; the OS
+     * releases it if the process dies.
+     */
+    private static FileChannel lock(Path directory) {
+        Path path = directory.resolve(LOCK_FILE);
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                lock = null;
+            }
+            if (lock == null) {
+                channel.close();
+                throw new JournalException("Journal directory " + directory + " is in use by another writer");
+            }
+            return channel;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot lock journal directory " + directory, e);
+        }
+    }
+
+    private void unlock() {
+        try {
+            // closing the channel releases its lock
+            lockChannel.close();
+        } catch (IOException e) {
+            log.warn("Cannot release journal lock in {}: {}", directory, e.toString());
+        }
+    }
+
+    private void recover() {
+        JournalSegment.deleteTemporary(directory);
+        List<Path> segments = JournalSegment.list(directory);
+        if (segments.isEmpty()) {
+            active = JournalSegment.create(directory, 1L, segmentSize);
+            nextSequence = 1L;
+            return;
+        }
+        JournalSegment last = JournalSegment.open(segments.get(segments.size() - 1), true);
+        long sequence = last.getBaseSequence();
+        int position = JournalSegment.HEADER_SIZE;
+        for (;;) {
+            int length = last.recordAt(position, sequence, crc);
+            if (length > 0) {
+                position += JournalSegment.recordSize(length);
+                sequence++;
+                continue;
+            }
+            if (length == JournalSegment.END_OF_SEGMENT) {
+                // crashed between sealing and creating the next segment
+                last.writePosition = position + JournalSegment.RECORD_HEADER_SIZE;
+                last.close();
+                active = JournalSegment.create(directory, sequence, segmentSize);
+            } else {
+                if (length == JournalSegment.INVALID) {
+                    log.warn("Discarding torn journal tail at offset {} of {}", position, last.getPath());
+                }
+                last.truncate(position);
+                active = last;
+            }
+            break;
+        }
+        nextSequence = sequence;
+        writtenSequence = sequence - 1;
+        durableSequence = sequence - 1;
+        requestedSequence = sequence - 1;
+    }
+
+    private void roll(int recordSize) {
+        if (JournalSegment.HEADER_SIZE + recordSize > segmentSize - JournalSegment.RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Posting of " + recordSize + " bytes does not fit a journal segment");
+        }
+        JournalSegment next;
+        active.seal();
+        try {
+            // the next segment must never reach the disk before this one's records
+            // and end marker: replay would find a zero tail in a sealed segment.
+            // syncedPosition may lag behind the sync thread; forcing from there is safe
+            active.force(active.syncedPosition, active.writePosition);
+            next = JournalSegment.create(directory, nextSequence, segmentSize);
+        } catch (RuntimeException e) {
+            // appends after the marker would be acknowledged but never replayed,
+            // and recovery would hand their sequences out again
+            active.unseal();
+            rollFailure = e;
+            log.error("Journal segment roll failed at sequence {}; refusing further appends", nextSequence, e);
+            throw e;
+        }
+        sealed.add(active);
+        active = next;
+        deleteExpired();
+    }
+
+    private void deleteExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        List<Path> segments = JournalSegment.list(directory);
+        // the newest two are the active segment and the one just sealed
+        for (int i = 0; i < segments.size() - 2; i++) {
+            Path segment = segments.get(i);
+            try {
+                if (Files.getLastModifiedTime(segment).toInstant().isBefore(cutoff)
+                        && sealed.stream().noneMatch(s -> s.getPath().equals(segment))) {
+                    Files.delete(segment);
+                    log.info("Deleted expired journal segment {}", segment.getFileName());
+                }
+            } catch (IOException e) {
+                log.warn("Cannot delete journal segment {}: {}", segment, e.toString());
+            }
+        }
+    }
+
+    private void runSync() {
+        try {
+            syncLoop();
+        } finally {
+            syncLock.lock();
+            try {
+                synced.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+        }
+    }
+
+    private void syncLoop() {
+        for (;;) {
+            syncLock.lock();
+            try {
+                if (!closed && requestedSequence <= durableSequence) {
+                    syncRequested.awaitNanos(flushIntervalNanos);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                syncLock.unlock();
+            }
+            boolean stopping = closed;
+            if (writtenSequence > durableSequence) {
+                sync();
+            }
+            if (stopping) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * One group commit: forces every segment range written since the last
+     * one, then releases the waiters it covers.
+     */
+    private void sync() {
+        long start = System.nanoTime();
+        List<JournalSegment> segments;
+        int[] ends;
+        long target;
+        writeLock.lock();
+        try {
+            target = writtenSequence;
+            segments = new ArrayList<>(sealed);
+            sealed.clear();
+            segments.add(active);
+            ends = new int[segments.size()];
+            for (int i = 0; i < ends.length; i++) {
+                ends[i] = segments.get(i).writePosition;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        RuntimeException failure = null;
+        try {
+            for (int i = 0; i < ends.length; i++) {
+                JournalSegment segment = segments.get(i);
+                segment.force(segment.syncedPosition, ends[i]);
+                segment.syncedPosition = ends[i];
+                if (segment.sealed && segment != segments.get(ends.length - 1)) {
+                    segment.close();
+                }
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+            log.error("Journal flush failed at sequence {}", target, e);
+            writeLock.lock();
+            try {
+                // retry the unforced sealed segments next round
+                sealed.addAll(0, segments.stream()
+                        .filter(segment -> segment.sealed && segment.syncedPosition < segment.writePosition
+                                && !sealed.contains(segment))
+                        .toList());
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        syncLock.lock();
+        try {
+            if (failure == null) {
+                long batch = target - durableSequence;
+                durableSequence = target;
+                syncs.increment();
+                if (batchSizes != null) {
+                    batchSizes.record(batch);
+                    syncTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+            syncFailure = failure;
+            synced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void registerMeters(MeterRegistry meters) {
+        FunctionCounter.builder("financer.journal.appends", appends, LongAdder::sum)
+                .description("Postings appended to the journal")
+                .register(meters);
+        FunctionCounter.builder("financer.journal.syncs", syncs, LongAdder::sum)
+                .description("Journal flushes (group commits)")
+                .register(meters);
+        Gauge.builder("financer.journal.lag", this, journal -> journal.writtenSequence - journal.durableSequence)
+                .description("Postings appended but not yet durable")
+                .register(meters);
+    }
+}
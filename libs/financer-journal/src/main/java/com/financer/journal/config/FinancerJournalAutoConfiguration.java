@@ -0,0 +1,50 @@
+package com.financer.journal.config;
+
+import com.financer.journal.TransactionJournal;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Auto-configuration class for Financer Journal Library.
+ * Opens the transaction journal in {@code financer.journal.directory};
+ * without that property nothing is created.
+ * Properties:
+ * <ul>
+ *     <li>{@code financer.journal.segment-size} (default 64MB) — size of each mapped segment file;</li>
+ *     <li>{@code financer.journal.retention} (default 7d) — age after which sealed segments are deleted;</li>
+ *     <li>{@code financer.journal.sync.interval} (default 10ms) — longest wait for a flush when nobody awaits one.</li>
+ * </ul>
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@AutoConfiguration
+@ConditionalOnProperty("financer.journal.directory")
+public class FinancerJournalAutoConfiguration {
+
+    public FinancerJournalAutoConfiguration() {
+        // Constructor for Spring Boot auto-configuration
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public TransactionJournal transactionJournal(
+            @Value("${financer.journal.directory}") Path directory,
+            @Value("${financer.journal.segment-size:64MB}") DataSize segmentSize,
+            @Value("${financer.journal.retention:7d}") Duration retention,
+            @Value("${financer.journal.sync.interval:10ms}") Duration syncInterval,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TransactionJournal(directory, Math.toIntExact(segmentSize.toBytes()), retention, syncInterval,
+                meterRegistry);
+    }
+}
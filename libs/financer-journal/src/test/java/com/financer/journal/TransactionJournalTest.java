@@ -0,0 +1,216 @@
+package com.financer.journal;
+
+import com.financer.dto.transaction.TransactionDTO;
+import com.financer.dto.transaction.TransactionStatus;
+import com.financer.dto.transaction.TransactionType;
+import com.financer.money.CurrencyCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionJournalTest {
+
+    private static final int SEGMENT_SIZE = 1 << 20;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void discardsTornTailOnRecovery() {
+        try (TransactionJournal journal = open(Duration.ofMillis(10))) {
+            for (long id = 1; id <= 3; id++) {
+                journal.append(posting(id));
+            }
+        }
+        tearRecord(3L);
+
+        try (TransactionJournal journal = open(Duration.ofMillis(10))) {
+            assertEquals(2L, journal.getWrittenSequence());
+            assertEquals(3L, journal.append(posting(30L)));
+        }
+        assertEquals(List.of(1L, 2L, 30L), replayIds(1L));
+    }
+
+    @Test
+    void rollsSegmentsAndReplaysAcrossThem() {
+        int postings = 20_000;
+        try (TransactionJournal journal = open(Duration.ofMillis(10))) {
+            for (long id = 1; id <= postings; id++) {
+                journal.append(posting(id));
+            }
+        }
+        List<Path> segments = JournalSegment.list(directory);
+        assertTrue(segments.size() >= 3, "segments: " + segments.size());
+
+        try (TransactionJournal journal = open(Duration.ofMillis(10))) {
+            assertEquals(postings, journal.getWrittenSequence());
+            assertEquals(postings + 1L, journal.append(posting(postings + 1L)));
+        }
+        List<Long> ids = replayIds(1L);
+        assertEquals(postings + 1, ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i + 1L, ids.get(i));
+        }
+        long secondSegment = JournalSegment.baseSequenceOf(segments.get(1));
+        assertEquals(secondSegment, replayIds(secondSegment).get(0));
+    }
+
+    @Test
+    void failedRollRefusesAppendsAndLosesNothing() throws IOException {
+        int recordSize = JournalSegment.recordSize(PostingCodec.size(PostingCodec.strings(posting(1L))));
+        long fitting = (SEGMENT_SIZE - JournalSegment.HEADER_SIZE - JournalSegment.RECORD_HEADER_SIZE) / recordSize;
+        // a directory where the next segment's temporary file goes makes create fail
+        Path blocker = directory.resolve(String.format("%020d%s", fitting + 1, JournalSegment.TEMP_SUFFIX));
+        try (TransactionJournal journal = open(Duration.ofMillis(10))) {
+            for (long id = 1; id <= fitting; id++) {
+                journal.append(posting(id));
+            }
+            Files.createDirectory(blocker);
+            Files.createFile(blocker.resolve("busy"));
+
+            assertThrows(UncheckedIOException.class, () -> journal.append(posting(fitting + 1)));
+            assertThrows(IllegalStateException.class, () -> journal.append(posting(fitting + 1)));
+            assertEquals(fitting, journal.getWrittenSequence());
+        }
+        Files.delete(blocker.resolve("busy"));
+
+        try (TransactionJournal journal = open(Duration.ofMillis(10))) {
+            assertEquals(fitting, journal.getWrittenSequence());
+            assertEquals(fitting + 1, journal.append(posting(fitting + 1)));
+        }
+        List<Long> ids = replayIds(1L);
+        assertEquals(fitting + 1, ids.size());
+        assertEquals(fitting + 1, ids.get(ids.size() - 1));
+        assertEquals(2, JournalSegment.list(directory).size());
+    }
+
+    @Test
+    void deletesSegmentsLeftUnderTheirTemporaryName() throws IOException {
+        Path leftover = directory.resolve(String.format("%020d%s", 1L, JournalSegment.TEMP_SUFFIX));
+        Files.write(leftover, new byte[16]);
+
+        try (TransactionJournal journal = open(Duration.ofMillis(10))) {
+            assertEquals(1L, journal.append(posting(1L)));
+        }
+        assertFalse(Files.exists(leftover));
+        assertEquals(List.of(1L), replayIds(1L));
+    }
+
+    @Test
+    void groupCommitReleasesEveryWaiter() {
+        int threads = 16;
+        int perThread = 200;
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        // no periodic flush: only the waiters' wake-ups make postings durable
+        try (TransactionJournal journal = open(Duration.ofHours(1), meters)) {
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                try {
+                    List<Future<?>> futures = new ArrayList<>();
+                    for (int t = 0; t < threads; t++) {
+                        futures.add(executor.submit(() -> {
+                            for (int i = 0; i < perThread; i++) {
+                                long sequence = journal.appendDurable(posting(i));
+                                assertTrue(journal.getDurableSequence() >= sequence);
+                            }
+                        }));
+                    }
+                    for (Future<?> future : futures) {
+                        future.get();
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+            });
+            assertEquals((long) threads * perThread, journal.getDurableSequence());
+            double syncs = meters.get("financer.journal.syncs").functionCounter().count();
+            assertTrue(syncs >= 1 && syncs <= threads * perThread, "syncs: " + syncs);
+        }
+    }
+
+    @Test
+    void onlyOneJournalWritesToADirectory() {
+        try (TransactionJournal journal = open(Duration.ofMillis(10))) {
+            assertThrows(JournalException.class, () -> open(Duration.ofMillis(10)));
+            journal.append(posting(1L));
+        }
+        try (TransactionJournal journal = open(Duration.ofMillis(10))) {
+            assertEquals(1L, journal.getWrittenSequence());
+        }
+    }
+
+    private TransactionJournal open(Duration flushInterval) {
+        return new TransactionJournal(directory, SEGMENT_SIZE, Duration.ofDays(1), flushInterval,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    private TransactionJournal open(Duration flushInterval, MeterRegistry meters) {
+        ObjectProvider<MeterRegistry> provider = new StaticListableBeanFactory(Map.of("meters", meters))
+                .getBeanProvider(MeterRegistry.class);
+        return new TransactionJournal(directory, SEGMENT_SIZE, Duration.ofDays(1), flushInterval, provider);
+    }
+
+    /**
+     * Flips a payload byte of the record with {@code sequence}, as a write torn by a crash would.
+     */
+    private void tearRecord(long sequence) {
+        List<Path> segments = JournalSegment.list(directory);
+        JournalSegment segment = JournalSegment.open(segments.get(segments.size() - 1), true);
+        try {
+            int position = JournalSegment.HEADER_SIZE;
+            for (long s = segment.getBaseSequence(); s < sequence; s++) {
+                position += JournalSegment.recordSize(segment.recordAt(position, s, null));
+            }
+            int offset = position + JournalSegment.RECORD_HEADER_SIZE + PostingCodec.STRINGS;
+            segment.getBuffer().put(offset, (byte) ~segment.getBuffer().get(offset));
+            segment.force(position, offset + 1);
+        } finally {
+            segment.close();
+        }
+    }
+
+    private List<Long> replayIds(long fromSequence) {
+        List<Long> ids = new ArrayList<>();
+        new JournalReader(directory).replay(fromSequence, posting -> ids.add(posting.getId()));
+        return ids;
+    }
+
+    private static TransactionDTO posting(long id) {
+        return TransactionDTO.builder()
+                .id(id)
+                .userId(42L)
+                .fromAccountId(1001L)
+                .toAccountId(2002L)
+                .type(TransactionType.TRANSFER)
+                .status(TransactionStatus.COMPLETED)
+                .amount(new BigDecimal("125.90"))
+                .currency(CurrencyCode.BRL)
+                .description("Transferência PIX")
+                .referenceId("PIX-E1234567820251107")
+                .createdAt(LocalDateTime.of(2025, 11, 7, 10, 30))
+                .build();
+    }
+}
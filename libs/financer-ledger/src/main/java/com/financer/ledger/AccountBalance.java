@@ -0,0 +1,184 @@
+package com.financer.ledger;
+
+import com.financer.dto.account.AccountStatus;
+import com.financer.money.CurrencyCode;
+import com.financer.money.Money;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Authoritative in-memory balance of one account, owned by a {@link BalanceLedger}.
+ * <p>
+ * The balance is a {@code long} in {@link Money} units updated by a
+ * compare-and-set loop, so concurrent debits and credits on a hot account
+ * never block each other and a debit can never take the balance below
+ * {@code -creditLimit}. Every applied change bumps {@link #getVersion()},
+ * which {@link BalanceSnapshotter} compares with the last persisted version
+ * to find the accounts to write.
+ * <p>
+ * Credit limit and status come from {@code AccountDTO} and change rarely;
+ * they are plain volatile fields read inside the loop.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class AccountBalance {
+
+    /**
+     * Returned by {@link #tryDebit(long)} when the debit would exceed the credit limit.
+     * Never a valid balance, since balances stay at or above {@code -creditLimit}.
+     */
+    static final long REJECTED = Long.MIN_VALUE;
+
+    private static final VarHandle BALANCE;
+    private static final VarHandle VERSION;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            BALANCE = lookup.findVarHandle(AccountBalance.class, "balance", long.class);
+            VERSION = lookup.findVarHandle(AccountBalance.class, "version", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long accountId;
+    private final CurrencyCode currency;
+
+    private volatile long balance;
+    private volatile long version;
+    private volatile long creditLimit;
+    private volatile AccountStatus status;
+
+    /**
+     * Last version written by the snapshotter; only touched under its lock.
+     */
+    private long persistedVersion;
+
+    AccountBalance(long accountId, CurrencyCode currency, long balance, long version, long persistedVersion,
+                   long creditLimit, AccountStatus status) {
+        this.accountId = accountId;
+        this.currency = currency;
+        this.balance = balance;
+        this.version = version;
+        this.persistedVersion = persistedVersion;
+        this.creditLimit = creditLimit;
+        this.status = status;
+    }
+
+    /**
+     * Subtracts {@code units} unless the result would go below {@code -creditLimit}.
+     *
+     * @return the new balance, or {@link #REJECTED}
+     * @throws ArithmeticException if the balance overflows
+     */
+    long tryDebit(long units) {
+        for (;;) {
+            long current = balance;
+            long next = Math.subtractExact(current, units);
+            if (next < -creditLimit) {
+                return REJECTED;
+            }
+            if (BALANCE.weakCompareAndSet(this, current, next)) {
+                VERSION.getAndAdd(this, 1L);
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Adds {@code units}; credits are never limited.
+     *
+     * @return the new balance
+     * @throws ArithmeticException if the balance overflows
+     */
+    long credit(long units) {
+        for (;;) {
+            long current = balance;
+            long next = Math.addExact(current, units);
+            if (BALANCE.weakCompareAndSet(this, current, next)) {
+                VERSION.getAndAdd(this, 1L);
+                return next;
+            }
+        }
+    }
+
+    void setCreditLimit(long creditLimit) {
+        this.creditLimit = creditLimit;
+    }
+
+    void setStatus(AccountStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * Version and balance for a snapshot. The version is read first, so the
+     * balance includes at least every change it counts; a change racing with
+     * the read leaves the account dirty for the next round.
+     *
+     * @return {@code null} when nothing changed since the last persisted snapshot
+     */
+    BalanceSnapshot snapshotIfDirty() {
+        long currentVersion = version;
+        if (currentVersion == persistedVersion) {
+            return null;
+        }
+        return new BalanceSnapshot(accountId, currency, balance, currentVersion);
+    }
+
+    void persisted(long persistedVersion) {
+        this.persistedVersion = persistedVersion;
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public CurrencyCode getCurrency() {
+        return currency;
+    }
+
+    public Money getBalance() {
+        return Money.ofUnits(balance, currency);
+    }
+
+    public long getBalanceUnits() {
+        return balance;
+    }
+
+    public long getCreditLimitUnits() {
+        return creditLimit;
+    }
+
+    /**
+     * Balance plus credit limit: the largest debit that would be accepted now.
+     */
+    public long getAvailableUnits() {
+        return balance + creditLimit;
+    }
+
+    /**
+     * Credit limit minus the part of it in use ({@code AccountDTO.availableCredit}).
+     */
+    public long getAvailableCreditUnits() {
+        long limit = creditLimit;
+        return limit - Math.min(limit, Math.max(0L, -balance));
+    }
+
+    public AccountStatus getStatus() {
+        return status;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return "AccountBalance{accountId=" + accountId + ", balance=" + getBalance()
+                + ", creditLimit=" + creditLimit + ", status=" + status + ", version=" + version + '}';
+    }
+}
@@ -0,0 +1,37 @@
+package com.financer.ledger;
+
+import com.financer.common.exception.ErrorSeverity;
+import com.financer.common.exception.FinancerException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when an account's shard is owned by another instance.
+ * <p>
+ * Maps to 503, so the caller retries on another instance: it routed with
+ * a stale view of the shard assignment and should go to the owner of
+ * {@link #getShard()}. No stack trace; logged as a warning, since a burst
+ * of them means routing is off.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Getter
+public class AccountNotOwnedException extends FinancerException {
+
+    private final long accountId;
+    private final int shard;
+
+    public AccountNotOwnedException(long accountId, int shard) {
+        super("Account " + accountId + " belongs to ledger shard " + shard + ", not owned by this instance",
+                "LEDGER_SHARD_NOT_OWNED", HttpStatus.SERVICE_UNAVAILABLE, null, false);
+        this.accountId = accountId;
+        this.shard = shard;
+    }
+
+    @Override
+    public ErrorSeverity getSeverity() {
+        return ErrorSeverity.WARNING;
+    }
+}
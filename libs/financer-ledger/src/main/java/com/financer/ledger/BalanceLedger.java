@@ -0,0 +1,342 @@
+package com.financer.ledger;
+
+import com.financer.common.exception.BusinessValidationException;
+import com.financer.common.exception.ResourceNotFoundException;
+import com.financer.dto.account.AccountDTO;
+import com.financer.dto.account.AccountStatus;
+import com.financer.money.CurrencyCode;
+import com.financer.money.Money;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Authoritative balances of the accounts in the shards this instance owns.
+ * <p>
+ * Debits and credits are decided in memory on the {@link AccountBalance}
+ * (a compare-and-set on a {@code long}, no lock, no database round trip)
+ * and written to Postgres in the background by {@link BalanceSnapshotter},
+ * one upsert per changed account per interval instead of one
+ * {@code UPDATE accounts} (plus its audit trigger) per change.
+ * <p>
+ * An account is {@link #track(AccountDTO) tracked} from its DTO the first
+ * time it is used; if the {@link BalanceStore} already has a snapshot, that
+ * balance wins over the DTO's, since {@code accounts.balance} is no longer
+ * written on every change. A debit fails with {@link InsufficientFundsException}
+ * when it would take the balance below {@code -creditLimit}
+ * ({@code AccountDTO.creditLimit}, zero when absent), and only
+ * {@link AccountStatus#ACTIVE} accounts (or ones without a status) move money.
+ * Accounts of shards owned elsewhere raise {@link AccountNotOwnedException}.
+ * <p>
+ * Changes are acknowledged before they are written: a crash loses every
+ * change since the last snapshot the store accepted, and nothing replays
+ * them.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+public class BalanceLedger {
+
+    private static final String OPERATIONS = "financer.ledger.operations";
+
+    private final LedgerSharding sharding;
+    private final BalanceStore store;
+    private final Map<Long, AccountBalance>[] shards;
+    private final LongAdder debits = new LongAdder();
+    private final LongAdder rejectedDebits = new LongAdder();
+    private final LongAdder credits = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public BalanceLedger(LedgerSharding sharding, BalanceStore store, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.sharding = sharding;
+        this.store = store;
+        // before any load, so no previous owner can write over what this instance reads
+        store.claim(sharding);
+        this.shards = new Map[sharding.getShardCount()];
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (sharding.ownsShard(shard)) {
+                shards[shard] = new ConcurrentHashMap<>();
+            }
+        }
+        meterRegistry.ifAvailable(this::registerMeters);
+        log.info("Balance ledger owns {} of {} shards: {}", sharding.getOwnedShardCount(),
+                sharding.getShardCount(), sharding.describeOwned());
+    }
+
+    /**
+     * Starts tracking an account, loading its latest snapshot if there is one.
+     * Tracking an account twice returns the existing balance.
+     *
+     * @throws AccountNotOwnedException if the account's shard is owned elsewhere
+     */
+    public AccountBalance track(AccountDTO account) {
+        trackAll(List.of(account));
+        return get(account.getId());
+    }
+
+    /**
+     * Tracks many accounts with a single {@link BalanceStore#load} call,
+     * e.g. every owned account at startup.
+     */
+    public void trackAll(Collection<AccountDTO> accounts) {
+        List<AccountDTO> untracked = new ArrayList<>();
+        for (AccountDTO account : accounts) {
+            if (account.getId() == null) {
+                throw new IllegalArgumentException("Account without id cannot be tracked");
+            }
+            if (shardMap(account.getId()).get(account.getId()) == null) {
+                untracked.add(account);
+            }
+        }
+        if (untracked.isEmpty()) {
+            return;
+        }
+        Map<Long, BalanceSnapshot> snapshots = store.load(untracked.stream().map(AccountDTO::getId).toList());
+        for (AccountDTO account : untracked) {
+            shardMap(account.getId()).putIfAbsent(account.getId(), balanceOf(account, snapshots.get(account.getId())));
+        }
+    }
+
+    /**
+     * Takes credit limit and status from an updated DTO; the balance stays
+     * the ledger's. Untracked accounts are tracked.
+     */
+    public AccountBalance refresh(AccountDTO account) {
+        AccountBalance balance = find(account.getId()).orElse(null);
+        if (balance == null) {
+            return track(account);
+        }
+        balance.setCreditLimit(creditLimitUnits(account, balance.getCurrency()));
+        balance.setStatus(statusOf(account));
+        return balance;
+    }
+
+    /**
+     * @throws AccountNotOwnedException  if the account's shard is owned elsewhere
+     * @throws ResourceNotFoundException if the account is not tracked
+     */
+    public AccountBalance get(long accountId) {
+        AccountBalance balance = shardMap(accountId).get(accountId);
+        if (balance == null) {
+            throw new ResourceNotFoundException("Account not tracked by the ledger: " + accountId);
+        }
+        return balance;
+    }
+
+    public Optional<AccountBalance> find(long accountId) {
+        return Optional.ofNullable(shardMap(accountId).get(accountId));
+    }
+
+    public boolean isOwned(long accountId) {
+        return sharding.isOwned(accountId);
+    }
+
+    /**
+     * Debits the account if balance plus credit limit covers the amount.
+     *
+     * @return the new balance
+     * @throws InsufficientFundsException  if it does not
+     * @throws BusinessValidationException if the account is not active or the currency differs
+     */
+    public Money debit(long accountId, Money amount) {
+        AccountBalance account = operational(accountId, amount);
+        return Money.ofUnits(debit(account, amount.getUnits()), account.getCurrency());
+    }
+
+    /**
+     * {@link #debit(long, Money)} in the account's currency units, without allocating.
+     */
+    public long debitUnits(long accountId, long units) {
+        return debit(operational(accountId, units), units);
+    }
+
+    /**
+     * Credits the account.
+     *
+     * @return the new balance
+     * @throws BusinessValidationException if the account is not active or the currency differs
+     */
+    public Money credit(long accountId, Money amount) {
+        AccountBalance account = operational(accountId, amount);
+        return Money.ofUnits(credit(account, amount.getUnits()), account.getCurrency());
+    }
+
+    /**
+     * {@link #credit(long, Money)} in the account's currency units, without allocating.
+     */
+    public long creditUnits(long accountId, long units) {
+        return credit(operational(accountId, units), units);
+    }
+
+    /**
+     * Moves an amount between two accounts owned by this instance. The
+     * source is debited first; if the credit then fails the debit is
+     * reverted, so money is never lost, but a concurrent reader may briefly
+     * see it in neither account.
+     *
+     * @return the new balance of the source account
+     */
+    public Money transfer(long fromAccountId, long toAccountId, Money amount) {
+        if (fromAccountId == toAccountId) {
+            throw new BusinessValidationException("Cannot transfer to the same account: " + fromAccountId);
+        }
+        AccountBalance target = operational(toAccountId, amount);
+        AccountBalance source = operational(fromAccountId, amount);
+        long units = amount.getUnits();
+        long balance = debit(source, units);
+        try {
+            credit(target, units);
+        } catch (RuntimeException e) {
+            source.credit(units);
+            throw e;
+        }
+        return Money.ofUnits(balance, source.getCurrency());
+    }
+
+    /**
+     * Copies the ledger's balance and available credit into a DTO read from
+     * the database, whose {@code balance} may be behind.
+     */
+    public AccountDTO applyTo(AccountDTO account) {
+        AccountBalance balance = find(account.getId()).orElse(null);
+        if (balance != null) {
+            account.setBalance(BigDecimal.valueOf(balance.getBalanceUnits(), Money.SCALE));
+            if (account.getCreditLimit() != null) {
+                account.setAvailableCredit(BigDecimal.valueOf(balance.getAvailableCreditUnits(), Money.SCALE));
+            }
+        }
+        return account;
+    }
+
+    public LedgerSharding getSharding() {
+        return sharding;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<Long, AccountBalance> shard : shards) {
+            size += shard == null ? 0 : shard.size();
+        }
+        return size;
+    }
+
+    void forEach(Consumer<AccountBalance> action) {
+        for (Map<Long, AccountBalance> shard : shards) {
+            if (shard != null) {
+                shard.values().forEach(action);
+            }
+        }
+    }
+
+    private long debit(AccountBalance account, long units) {
+        long balance = account.tryDebit(units);
+        if (balance == AccountBalance.REJECTED) {
+            rejectedDebits.increment();
+            throw new InsufficientFundsException(account.getAccountId(),
+                    Money.ofUnits(units, account.getCurrency()),
+                    Money.ofUnits(account.getAvailableUnits(), account.getCurrency()));
+        }
+        debits.increment();
+        return balance;
+    }
+
+    private long credit(AccountBalance account, long units) {
+        long balance = account.credit(units);
+        credits.increment();
+        return balance;
+    }
+
+    private AccountBalance operational(long accountId, Money amount) {
+        AccountBalance account = operational(accountId, amount.getUnits());
+        if (amount.getCurrency() != account.getCurrency()) {
+            throw new BusinessValidationException("Currency mismatch for account " + accountId + ": "
+                    + amount.getCurrencyCode() + " vs " + account.getCurrency().getCode());
+        }
+        return account;
+    }
+
+    private AccountBalance operational(long accountId, long units) {
+        if (units <= 0) {
+            throw new BusinessValidationException("Amount must be positive: " + units + " units");
+        }
+        AccountBalance account = get(accountId);
+        AccountStatus status = account.getStatus();
+        if (status != AccountStatus.ACTIVE) {
+            throw new BusinessValidationException("Account " + accountId + " is not active: " + status.getCode());
+        }
+        return account;
+    }
+
+    private Map<Long, AccountBalance> shardMap(long accountId) {
+        int shard = sharding.shardOf(accountId);
+        Map<Long, AccountBalance> accounts = shards[shard];
+        if (accounts == null) {
+            throw new AccountNotOwnedException(accountId, shard);
+        }
+        return accounts;
+    }
+
+    private static AccountBalance balanceOf(AccountDTO account, BalanceSnapshot snapshot) {
+        CurrencyCode currency = account.getCurrency();
+        if (currency == null || !currency.isIso()) {
+            throw new IllegalArgumentException("Account " + account.getId() + " has no valid currency: " + currency);
+        }
+        long creditLimit = creditLimitUnits(account, currency);
+        if (snapshot != null) {
+            if (snapshot.currency() != currency) {
+                throw new IllegalStateException("Snapshot of account " + account.getId() + " is in "
+                        + snapshot.currency().getCode() + ", account is in " + currency.getCode());
+            }
+            return new AccountBalance(account.getId(), currency, snapshot.balanceUnits(), snapshot.version(),
+                    snapshot.version(), creditLimit, statusOf(account));
+        }
+        long balance = account.getBalance() == null ? 0L : Money.of(account.getBalance(), currency).getUnits();
+        // Never snapshotted: dirty from the start, so the first round persists it
+        return new AccountBalance(account.getId(), currency, balance, 0L, -1L, creditLimit, statusOf(account));
+    }
+
+    private static long creditLimitUnits(AccountDTO account, CurrencyCode currency) {
+        BigDecimal creditLimit = account.getCreditLimit();
+        if (creditLimit == null) {
+            return 0L;
+        }
+        if (creditLimit.signum() < 0) {
+            throw new IllegalArgumentException("Negative credit limit for account " + account.getId());
+        }
+        return Money.of(creditLimit, currency).getUnits();
+    }
+
+    private static AccountStatus statusOf(AccountDTO account) {
+        return account.getStatus() == null ? AccountStatus.ACTIVE : account.getStatus();
+    }
+
+    private void registerMeters(MeterRegistry meters) {
+        operationCounter(meters, "debit", "applied", debits);
+        operationCounter(meters, "debit", "insufficient_funds", rejectedDebits);
+        operationCounter(meters, "credit", "applied", credits);
+        Gauge.builder("financer.ledger.accounts", this, BalanceLedger::size)
+                .description("Accounts tracked by the balance ledger")
+                .register(meters);
+    }
+
+    private static void operationCounter(MeterRegistry meters, String operation, String outcome, LongAdder adder) {
+        FunctionCounter.builder(OPERATIONS, adder, LongAdder::sum)
+                .tags("operation", operation, "outcome", outcome)
+                .description("Balance ledger operations")
+                .register(meters);
+    }
+}
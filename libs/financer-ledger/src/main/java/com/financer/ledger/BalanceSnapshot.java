@@ -0,0 +1,25 @@
+package com.financer.ledger;
+
+import com.financer.money.CurrencyCode;
+import com.financer.money.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * Persisted state of an {@link AccountBalance}: balance in {@link Money}
+ * units and the version it was taken at. A store keeps the highest version
+ * per account, so an older snapshot of the owning instance never overwrites
+ * a newer one; snapshots of an instance whose shards were
+ * {@link BalanceStore#claim claimed} by another are rejected whatever
+ * their version.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public record BalanceSnapshot(long accountId, CurrencyCode currency, long balanceUnits, long version) {
+
+    public BigDecimal balance() {
+        return BigDecimal.valueOf(balanceUnits, Money.SCALE);
+    }
+}
@@ -0,0 +1,183 @@
+package com.financer.ledger;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes the balances changed since the last round to the {@link BalanceStore}
+ * every {@code financer.ledger.snapshot.interval} (default 1s), in batches
+ * of {@code financer.ledger.snapshot.batch-size} (default 500).
+ * <p>
+ * However often an account changed in the interval, it costs one row. A
+ * failed batch leaves its accounts dirty, so they are retried in the next
+ * round, and so does a snapshot the store rejected (its shard was claimed
+ * by another instance, or the store has a newer version); the
+ * {@code financer.ledger.snapshot.age} gauge (seconds since the last round
+ * that wrote every dirty account) is the one to alert on. A last round
+ * runs on shutdown, after the web server stopped taking requests.
+ * <p>
+ * Meters: {@code financer.ledger.snapshot} (timer per round),
+ * {@code financer.ledger.snapshot.accounts},
+ * {@code financer.ledger.snapshot.rejected} and
+ * {@code financer.ledger.snapshot.failures} (counters).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+public class BalanceSnapshotter implements DisposableBean {
+
+    private static final String SNAPSHOT = "financer.ledger.snapshot";
+
+    private final BalanceLedger ledger;
+    private final BalanceStore store;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder accountsWritten = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final Timer roundTimer;
+    private volatile long lastCompleteRoundNanos = System.nanoTime();
+
+    public BalanceSnapshotter(BalanceLedger ledger, BalanceStore store, Duration interval, int batchSize,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        this.ledger = ledger;
+        this.store = store;
+        this.batchSize = batchSize;
+        MeterRegistry meters = meterRegistry.getIfAvailable();
+        this.roundTimer = meters == null ? null : registerMeters(meters);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "financer-ledger-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::scheduledRound, interval.toNanos(), interval.toNanos(),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Persists every dirty account now.
+     *
+     * @return accounts written; rejected snapshots are not counted and stay dirty
+     * @throws RuntimeException from the store; the accounts of the failed batch stay dirty
+     */
+    public synchronized int snapshot() {
+        long start = System.nanoTime();
+        List<AccountBalance> accounts = new ArrayList<>(batchSize);
+        List<BalanceSnapshot> snapshots = new ArrayList<>(batchSize);
+        int[] written = {0};
+        long rejectedBefore = rejected.sum();
+        ledger.forEach(account -> {
+            BalanceSnapshot snapshot = account.snapshotIfDirty();
+            if (snapshot != null) {
+                accounts.add(account);
+                snapshots.add(snapshot);
+                if (snapshots.size() == batchSize) {
+                    written[0] += write(accounts, snapshots);
+                }
+            }
+        });
+        written[0] += write(accounts, snapshots);
+        long end = System.nanoTime();
+        long roundRejected = rejected.sum() - rejectedBefore;
+        if (roundRejected == 0) {
+            lastCompleteRoundNanos = end;
+        } else {
+            log.warn("Balance store rejected {} snapshots; their accounts stay dirty. If this repeats, "
+                    + "their shards were claimed by another instance", roundRejected);
+        }
+        if (roundTimer != null) {
+            roundTimer.record(end - start, TimeUnit.NANOSECONDS);
+        }
+        return written[0];
+    }
+
+    private int write(List<AccountBalance> accounts, List<BalanceSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        boolean[] saved = store.save(snapshots);
+        int written = 0;
+        for (int i = 0; i < snapshots.size(); i++) {
+            if (saved[i]) {
+                accounts.get(i).persisted(snapshots.get(i).version());
+                written++;
+            } else {
+                log.debug("Balance snapshot rejected: {}", snapshots.get(i));
+            }
+        }
+        accountsWritten.add(written);
+        rejected.add(snapshots.size() - written);
+        accounts.clear();
+        snapshots.clear();
+        return written;
+    }
+
+    private void scheduledRound() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Balance snapshot failed, retrying next round: {}", e.toString());
+        }
+    }
+
+    /**
+     * Seconds since the last round that wrote every dirty account.
+     */
+    public double getAgeSeconds() {
+        return (System.nanoTime() - lastCompleteRoundNanos) / 1e9;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Balance snapshot round still running at shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            int written = snapshot();
+            log.info("Final balance snapshot wrote {} accounts", written);
+        } catch (RuntimeException e) {
+            log.error("Final balance snapshot failed; balances changed since {}s ago are not persisted",
+                    String.format("%.1f", getAgeSeconds()), e);
+        }
+    }
+
+    private Timer registerMeters(MeterRegistry meters) {
+        FunctionCounter.builder(SNAPSHOT + ".accounts", accountsWritten, LongAdder::sum)
+                .description("Account balances written by snapshots")
+                .register(meters);
+        FunctionCounter.builder(SNAPSHOT + ".rejected", rejected, LongAdder::sum)
+                .description("Balance snapshots the store refused to write")
+                .register(meters);
+        FunctionCounter.builder(SNAPSHOT + ".failures", failures, LongAdder::sum)
+                .description("Balance snapshot rounds that failed")
+                .register(meters);
+        Gauge.builder(SNAPSHOT + ".age", this, BalanceSnapshotter::getAgeSeconds)
+                .baseUnit("seconds")
+                .description("Time since the last complete balance snapshot")
+                .register(meters);
+        return Timer.builder(SNAPSHOT)
+                .description("Duration of a balance snapshot round")
+                .register(meters);
+    }
+}
@@ -0,0 +1,43 @@
+package com.financer.ledger;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Durable side of the {@link BalanceLedger}: where snapshots are written
+ * and read back when an account is tracked again after a restart.
+ * {@link com.financer.ledger.jdbc.JdbcBalanceStore} is the Postgres
+ * implementation; declare another bean to replace it.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public interface BalanceStore {
+
+    /**
+     * Takes over the owned shards of {@code sharding} for this instance.
+     * Called once by the {@link BalanceLedger} before it loads any account;
+     * from then on, saves by a previous owner of those shards are rejected,
+     * so a late round from an instance being replaced cannot overwrite the
+     * balances this one loads.
+     */
+    void claim(LedgerSharding sharding);
+
+    /**
+     * Latest snapshots of the given accounts; accounts never snapshotted are absent.
+     */
+    Map<Long, BalanceSnapshot> load(Collection<Long> accountIds);
+
+    /**
+     * Writes the snapshots, keeping per account the one with the highest
+     * version; snapshots of shards this instance no longer owns are not
+     * written. Either all accepted snapshots are durable when this returns
+     * or it throws.
+     *
+     * @return per snapshot, whether it was written; {@code false} when the
+     * store kept a newer version or the shard was claimed by another instance
+     */
+    boolean[] save(List<BalanceSnapshot> snapshots);
+}
@@ -0,0 +1,28 @@
+package com.financer.ledger;
+
+import com.financer.common.exception.FinancerException;
+import com.financer.money.Money;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a debit would take an account below its credit limit.
+ * <p>
+ * Maps to 422: the request is well formed, the account just cannot cover
+ * it. Expected control flow, so no stack trace.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Getter
+public class InsufficientFundsException extends FinancerException {
+
+    private final long accountId;
+
+    public InsufficientFundsException(long accountId, Money amount, Money available) {
+        super("Insufficient funds in account " + accountId + ": requested " + amount + ", available " + available,
+                "INSUFFICIENT_FUNDS", HttpStatus.UNPROCESSABLE_ENTITY);
+        this.accountId = accountId;
+    }
+}
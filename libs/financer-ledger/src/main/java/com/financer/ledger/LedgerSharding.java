@@ -0,0 +1,127 @@
+package com.financer.ledger;
+
+import java.util.BitSet;
+
+/**
+ * Assignment of accounts to shards and of shards to this instance.
+ * <p>
+ * An account belongs to shard {@code mix(accountId) mod shardCount}, where
+ * {@code mix} is the 64-bit finalizer of MurmurHash3, so sequential ids
+ * spread evenly. Callers use {@link #shardOf(long)} to route a request to
+ * the instance owning the account; the function must stay the same across
+ * releases, since changing it moves every account. Each instance owns a
+ * disjoint set of shards ({@code financer.ledger.shards.owned}, e.g.
+ * {@code 0-7} on one instance and {@code 8-15} on the other). There is no
+ * default: two replicas both owning every shard would each accept debits
+ * against the same balances.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class LedgerSharding {
+
+    private final int shardCount;
+    private final BitSet owned;
+
+    private LedgerSharding(int shardCount, BitSet owned) {
+        this.shardCount = shardCount;
+        this.owned = owned;
+    }
+
+    /**
+     * @param shardCount total number of shards across all instances
+     * @param owned      shards of this instance as ranges and single values
+     *                   ({@code "0-3,8,10-11"})
+     * @throws IllegalArgumentException if {@code owned} is blank or out of range
+     */
+    public static LedgerSharding of(int shardCount, String owned) {
+        checkShardCount(shardCount);
+        if (owned == null || owned.isBlank()) {
+            throw new IllegalArgumentException("Owned shards are required, e.g. 0-" + (shardCount - 1)
+                    + " for a single instance");
+        }
+        BitSet shards = new BitSet(shardCount);
+        for (String part : owned.split(",")) {
+            String range = part.trim();
+            int dash = range.indexOf('-');
+            int from = Integer.parseInt((dash < 0 ? range : range.substring(0, dash)).trim());
+            int to = dash < 0 ? from : Integer.parseInt(range.substring(dash + 1).trim());
+            if (from < 0 || to >= shardCount || from > to) {
+                throw new IllegalArgumentException("Invalid shard range '" + range + "' for " + shardCount + " shards");
+            }
+            shards.set(from, to + 1);
+        }
+        return new LedgerSharding(shardCount, shards);
+    }
+
+    /**
+     * Every shard, for a single instance (tests, benchmarks).
+     */
+    public static LedgerSharding all(int shardCount) {
+        checkShardCount(shardCount);
+        BitSet shards = new BitSet(shardCount);
+        shards.set(0, shardCount);
+        return new LedgerSharding(shardCount, shards);
+    }
+
+    public int shardOf(long accountId) {
+        return (int) Long.remainderUnsigned(mix(accountId), shardCount);
+    }
+
+    public boolean isOwned(long accountId) {
+        return owned.get(shardOf(accountId));
+    }
+
+    public boolean ownsShard(int shard) {
+        return owned.get(shard);
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int getOwnedShardCount() {
+        return owned.cardinality();
+    }
+
+    /**
+     * Owned shards in the {@code financer.ledger.shards.owned} format, e.g.
+     * for instance metadata.
+     */
+    public String describeOwned() {
+        StringBuilder description = new StringBuilder();
+        for (int from = owned.nextSetBit(0); from >= 0; from = owned.nextSetBit(from + 1)) {
+            int to = owned.nextClearBit(from) - 1;
+            if (!description.isEmpty()) {
+                description.append(',');
+            }
+            description.append(from);
+            if (to > from) {
+                description.append('-').append(to);
+            }
+            from = to;
+        }
+        return description.toString();
+    }
+
+    private static void checkShardCount(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "LedgerSharding{shards=" + shardCount + ", owned=" + describeOwned() + '}';
+    }
+}
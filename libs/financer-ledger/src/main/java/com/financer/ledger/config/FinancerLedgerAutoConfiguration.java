@@ -0,0 +1,88 @@
+package com.financer.ledger.config;
+
+import com.financer.ledger.BalanceLedger;
+import com.financer.ledger.BalanceSnapshotter;
+import com.financer.ledger.BalanceStore;
+import com.financer.ledger.LedgerSharding;
+import com.financer.ledger.jdbc.JdbcBalanceStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Auto-configuration class for Financer Ledger Library.
+ * Sets up the balance ledger for the shards this instance owns, with
+ * snapshots to the application's database.
+ * <p>
+ * Active when a {@link JdbcTemplate} is available (any Boot application
+ * with a {@code DataSource}) unless {@code financer.ledger.enabled=false}.
+ * Properties:
+ * <ul>
+ *     <li>{@code financer.ledger.shards.count} (default 16) — shards across all instances, same everywhere;</li>
+ *     <li>{@code financer.ledger.shards.owned} (required) — e.g. {@code 0-7}, or {@code 0-15} on a single instance;</li>
+ *     <li>{@code financer.ledger.snapshot.interval} (default 1s) and
+ *     {@code financer.ledger.snapshot.batch-size} (default 500);</li>
+ *     <li>{@code financer.ledger.jdbc.table} (default {@code ledger_balances}) and
+ *     {@code financer.ledger.jdbc.owners-table} (default {@code ledger_shard_owners}).</li>
+ * </ul>
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration")
+@ConditionalOnProperty(value = "financer.ledger.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnBean(JdbcTemplate.class)
+public class FinancerLedgerAutoConfiguration {
+
+    public FinancerLedgerAutoConfiguration() {
+        // Constructor for Spring Boot auto-configuration
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LedgerSharding ledgerSharding(
+            @Value("${financer.ledger.shards.count:16}") int shardCount,
+            @Value("${financer.ledger.shards.owned:}") String owned) {
+        if (owned.isBlank()) {
+            throw new IllegalStateException("financer.ledger.shards.owned is required: each instance must own "
+                    + "a disjoint range of the " + shardCount + " shards (0-" + (shardCount - 1)
+                    + " on a single instance), or replicas would debit the same balances");
+        }
+        return LedgerSharding.of(shardCount, owned);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BalanceStore balanceStore(
+            JdbcTemplate jdbcTemplate,
+            @Value("${financer.ledger.jdbc.table:ledger_balances}") String table,
+            @Value("${financer.ledger.jdbc.owners-table:ledger_shard_owners}") String ownersTable) {
+        return new JdbcBalanceStore(jdbcTemplate, table, ownersTable);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BalanceLedger balanceLedger(LedgerSharding sharding, BalanceStore store,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BalanceLedger(sharding, store, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BalanceSnapshotter balanceSnapshotter(
+            BalanceLedger ledger, BalanceStore store,
+            @Value("${financer.ledger.snapshot.interval:1s}") Duration interval,
+            @Value("${financer.ledger.snapshot.batch-size:500}") int batchSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BalanceSnapshotter(ledger, store, interval, batchSize, meterRegistry);
+    }
+}
@@ -0,0 +1,136 @@
+package com.financer.ledger.jdbc;
+
+import com.financer.ledger.BalanceSnapshot;
+import com.financer.ledger.BalanceStore;
+import com.financer.ledger.LedgerSharding;
+import com.financer.money.CurrencyCode;
+import com.financer.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link BalanceStore} on the {@code ledger_balances} table (migration
+ * {@code V3__create_ledger_balances.sql}), fenced by {@code ledger_shard_owners}
+ * (migration {@code V5__create_ledger_shard_owners.sql}).
+ * <p>
+ * {@link #claim} bumps the owner epoch of every owned shard. Snapshots are
+ * written with one batched upsert that only inserts while the shard's epoch
+ * is still the one this instance claimed, and only replaces a row with a
+ * higher version. The upsert holds a share lock on the shard's owner row,
+ * so a claim waits for saves in flight, and saves after it see the new
+ * epoch: once another instance has claimed the shard, a late round from
+ * this one cannot roll a balance back. The tables have no triggers: the
+ * audit trail of balance changes is the transactions themselves, not a
+ * {@code to_jsonb} copy of the row per change.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Slf4j
+public class JdbcBalanceStore implements BalanceStore {
+
+    /**
+     * Ids per {@code IN} list when loading, below the driver's bind parameter limit.
+     */
+    private static final int LOAD_CHUNK = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String claimSql;
+    private final String upsertSql;
+    private final String selectSql;
+
+    private volatile LedgerSharding sharding;
+    private volatile long[] epochs;
+
+    /**
+     * @param table       table name, optionally schema-qualified (default {@code ledger_balances})
+     * @param ownersTable shard owner table, optionally schema-qualified (default {@code ledger_shard_owners})
+     */
+    public JdbcBalanceStore(JdbcTemplate jdbcTemplate, String table, String ownersTable) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.claimSql = "INSERT INTO " + ownersTable + " (shard, owner_epoch, claimed_at) "
+                + "VALUES (?, 1, CURRENT_TIMESTAMP) "
+                + "ON CONFLICT (shard) DO UPDATE SET owner_epoch = " + ownersTable + ".owner_epoch + 1, "
+                + "claimed_at = EXCLUDED.claimed_at "
+                + "RETURNING owner_epoch";
+        this.upsertSql = "INSERT INTO " + table + " (account_id, currency, balance, version, snapshot_at) "
+                + "SELECT ?, ?, ?, ?, CURRENT_TIMESTAMP FROM " + ownersTable
+                + " WHERE shard = ? AND owner_epoch = ? FOR SHARE "
+                + "ON CONFLICT (account_id) DO UPDATE SET currency = EXCLUDED.currency, "
+                + "balance = EXCLUDED.balance, version = EXCLUDED.version, snapshot_at = EXCLUDED.snapshot_at "
+                + "WHERE " + table + ".version < EXCLUDED.version";
+        this.selectSql = "SELECT account_id, currency, balance, version FROM " + table + " WHERE account_id IN (";
+    }
+
+    @Override
+    public void claim(LedgerSharding sharding) {
+        long[] claimed = new long[sharding.getShardCount()];
+        for (int shard = 0; shard < claimed.length; shard++) {
+            if (sharding.ownsShard(shard)) {
+                Long epoch = jdbcTemplate.queryForObject(claimSql, Long.class, shard);
+                claimed[shard] = epoch == null ? 0L : epoch;
+            }
+        }
+        this.epochs = claimed;
+        this.sharding = sharding;
+        log.info("Claimed ledger shards {}: previous owners can no longer save them", sharding.describeOwned());
+    }
+
+    @Override
+    public Map<Long, BalanceSnapshot> load(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, BalanceSnapshot> snapshots = new HashMap<>();
+        List<Long> ids = List.copyOf(accountIds);
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK, ids.size()));
+            String sql = selectSql + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.query(sql, rs -> {
+                CurrencyCode currency = CurrencyCode.of(rs.getString("currency"));
+                BalanceSnapshot snapshot = new BalanceSnapshot(rs.getLong("account_id"), currency,
+                        Money.of(rs.getBigDecimal("balance"), currency).getUnits(), rs.getLong("version"));
+                snapshots.put(snapshot.accountId(), snapshot);
+            }, chunk.toArray());
+        }
+        return snapshots;
+    }
+
+    @Override
+    public boolean[] save(List<BalanceSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return new boolean[0];
+        }
+        LedgerSharding owned = sharding;
+        long[] claimed = epochs;
+        if (owned == null) {
+            throw new IllegalStateException("Ledger shards must be claimed before saving snapshots");
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(upsertSql, snapshots, snapshots.size(), (ps, snapshot) -> {
+            int shard = owned.shardOf(snapshot.accountId());
+            ps.setLong(1, snapshot.accountId());
+            ps.setString(2, snapshot.currency().getCode());
+            ps.setBigDecimal(3, snapshot.balance());
+            ps.setLong(4, snapshot.version());
+            ps.setInt(5, shard);
+            ps.setLong(6, claimed[shard]);
+        });
+        boolean[] written = new boolean[snapshots.size()];
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // no count from the driver: the statement ran without error
+                written[i++] = count > 0 || count == Statement.SUCCESS_NO_INFO;
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,127 @@
+package com.financer.ledger;
+
+import com.financer.common.exception.BusinessValidationException;
+import com.financer.dto.account.AccountDTO;
+import com.financer.dto.account.AccountStatus;
+import com.financer.money.CurrencyCode;
+import com.financer.money.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BalanceLedgerTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 10_000;
+
+    private final InMemoryBalanceStore store = new InMemoryBalanceStore();
+    private final BalanceLedger ledger = new BalanceLedger(LedgerSharding.all(16), store,
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    @Test
+    void concurrentDebitsNeverGoBelowCreditLimit() throws Exception {
+        AccountBalance account = ledger.track(account(1L, "400.00", "100.00"));
+        long available = account.getAvailableUnits();
+        long units = Money.of(new BigDecimal("0.01"), CurrencyCode.BRL).getUnits();
+
+        List<Integer> applied = runConcurrently(() -> {
+            int debits = 0;
+            for (int i = 0; i < OPERATIONS; i++) {
+                try {
+                    ledger.debitUnits(1L, units);
+                    debits++;
+                } catch (InsufficientFundsException e) {
+                    // the limit was reached by another thread
+                }
+            }
+            return debits;
+        });
+
+        long debited = applied.stream().mapToLong(Integer::longValue).sum();
+        assertEquals(available / units, debited);
+        assertEquals(-account.getCreditLimitUnits(), account.getBalanceUnits());
+        assertEquals(debited, account.getVersion());
+    }
+
+    @Test
+    void concurrentDebitsAndCreditsLoseNoUpdate() throws Exception {
+        AccountBalance account = ledger.track(account(1L, "1000000.00", null));
+        long start = account.getBalanceUnits();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                ledger.creditUnits(1L, 3L);
+                ledger.debitUnits(1L, 2L);
+            }
+            return null;
+        });
+
+        assertEquals(start + (long) THREADS * OPERATIONS, account.getBalanceUnits());
+        assertEquals(2L * THREADS * OPERATIONS, account.getVersion());
+    }
+
+    @Test
+    void transferRevertsTheDebitWhenTheCreditFails() {
+        ledger.track(account(1L, "500.00", null));
+        store.snapshots.put(2L, new BalanceSnapshot(2L, CurrencyCode.BRL, Long.MAX_VALUE - 1, 7L));
+        AccountBalance target = ledger.track(account(2L, "0.00", null));
+        AccountBalance source = ledger.get(1L);
+        Money amount = Money.of(new BigDecimal("100.00"), CurrencyCode.BRL);
+
+        assertThrows(ArithmeticException.class, () -> ledger.transfer(1L, 2L, amount));
+
+        assertEquals(Money.of(new BigDecimal("500.00"), CurrencyCode.BRL), source.getBalance());
+        assertEquals(Long.MAX_VALUE - 1, target.getBalanceUnits());
+    }
+
+    @Test
+    void transferFromInactiveAccountMovesNothing() {
+        AccountDTO blocked = account(1L, "500.00", null);
+        blocked.setStatus(AccountStatus.BLOCKED);
+        AccountBalance source = ledger.track(blocked);
+        AccountBalance target = ledger.track(account(2L, "0.00", null));
+
+        assertThrows(BusinessValidationException.class,
+                () -> ledger.transfer(1L, 2L, Money.of(new BigDecimal("100.00"), CurrencyCode.BRL)));
+
+        assertEquals(0L, source.getVersion());
+        assertEquals(0L, target.getVersion());
+    }
+
+    private static <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(task));
+            }
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static AccountDTO account(long id, String balance, String creditLimit) {
+        return AccountDTO.builder()
+                .id(id)
+                .currency(CurrencyCode.BRL)
+                .balance(new BigDecimal(balance))
+                .creditLimit(creditLimit == null ? null : new BigDecimal(creditLimit))
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.financer.ledger;
+
+import com.financer.dto.account.AccountDTO;
+import com.financer.money.CurrencyCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BalanceSnapshotterTest {
+
+    private final InMemoryBalanceStore store = new InMemoryBalanceStore();
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private final BalanceLedger ledger = new BalanceLedger(LedgerSharding.all(16), store,
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    private final BalanceSnapshotter snapshotter = new BalanceSnapshotter(ledger, store, Duration.ofHours(1), 2,
+            new StaticListableBeanFactory(Map.of("meters", meters)).getBeanProvider(MeterRegistry.class));
+
+    @AfterEach
+    void shutdown() {
+        snapshotter.destroy();
+    }
+
+    @Test
+    void writesOnlyChangedAccounts() {
+        for (long id = 1; id <= 5; id++) {
+            ledger.track(account(id));
+        }
+
+        assertEquals(5, snapshotter.snapshot());
+        assertEquals(0, snapshotter.snapshot());
+
+        ledger.creditUnits(3L, 100L);
+        assertEquals(1, snapshotter.snapshot());
+        assertEquals(1L, store.snapshots.get(3L).version());
+    }
+
+    @Test
+    void rejectedSnapshotsStayDirty() {
+        ledger.track(account(1L));
+        ledger.track(account(2L));
+        store.fenced = true;
+
+        assertEquals(0, snapshotter.snapshot());
+        assertEquals(2.0, meters.get("financer.ledger.snapshot.rejected").functionCounter().count());
+
+        store.fenced = false;
+        assertEquals(2, snapshotter.snapshot());
+        assertEquals(2, store.snapshots.size());
+    }
+
+    private static AccountDTO account(long id) {
+        return AccountDTO.builder().id(id).currency(CurrencyCode.BRL).balance(new BigDecimal("10.00")).build();
+    }
+}
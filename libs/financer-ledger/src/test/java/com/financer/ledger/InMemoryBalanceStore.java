@@ -0,0 +1,44 @@
+package com.financer.ledger;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class InMemoryBalanceStore implements BalanceStore {
+
+    final Map<Long, BalanceSnapshot> snapshots = new ConcurrentHashMap<>();
+    volatile boolean fenced;
+
+    @Override
+    public void claim(LedgerSharding sharding) {
+        fenced = false;
+    }
+
+    @Override
+    public Map<Long, BalanceSnapshot> load(Collection<Long> accountIds) {
+        Map<Long, BalanceSnapshot> loaded = new HashMap<>();
+        for (Long accountId : accountIds) {
+            BalanceSnapshot snapshot = snapshots.get(accountId);
+            if (snapshot != null) {
+                loaded.put(accountId, snapshot);
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public boolean[] save(List<BalanceSnapshot> batch) {
+        boolean[] written = new boolean[batch.size()];
+        for (int i = 0; i < written.length; i++) {
+            BalanceSnapshot snapshot = batch.get(i);
+            BalanceSnapshot current = snapshots.get(snapshot.accountId());
+            if (!fenced && (current == null || current.version() < snapshot.version())) {
+                snapshots.put(snapshot.accountId(), snapshot);
+                written[i] = true;
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,39 @@
+package com.financer.ledger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LedgerShardingTest {
+
+    @Test
+    void requiresOwnedShards() {
+        assertThrows(IllegalArgumentException.class, () -> LedgerSharding.of(16, ""));
+        assertThrows(IllegalArgumentException.class, () -> LedgerSharding.of(16, null));
+        assertThrows(IllegalArgumentException.class, () -> LedgerSharding.of(16, "8-16"));
+    }
+
+    @Test
+    void parsesRangesAndSingleShards() {
+        LedgerSharding sharding = LedgerSharding.of(16, "0-3, 8,10-11");
+
+        assertEquals(7, sharding.getOwnedShardCount());
+        assertEquals("0-3,8,10-11", sharding.describeOwned());
+        assertTrue(sharding.ownsShard(8));
+        assertFalse(sharding.ownsShard(9));
+    }
+
+    @Test
+    void disjointRangesSplitEveryAccount() {
+        LedgerSharding first = LedgerSharding.of(16, "0-7");
+        LedgerSharding second = LedgerSharding.of(16, "8-15");
+
+        for (long accountId = 1; accountId <= 1000; accountId++) {
+            assertTrue(first.isOwned(accountId) ^ second.isOwned(accountId));
+        }
+        assertEquals("0-15", LedgerSharding.all(16).describeOwned());
+    }
+}
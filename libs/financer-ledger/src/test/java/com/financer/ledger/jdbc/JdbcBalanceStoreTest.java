@@ -0,0 +1,101 @@
+package com.financer.ledger.jdbc;
+
+import com.financer.ledger.BalanceSnapshot;
+import com.financer.ledger.LedgerSharding;
+import com.financer.money.CurrencyCode;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JdbcBalanceStoreTest {
+
+    private static final Path MIGRATIONS = Path.of("../../db/migrations/postgresql");
+    private static final String BALANCES = "financer.ledger_balances";
+    private static final String OWNERS = "financer.ledger_shard_owners";
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        jdbcTemplate.execute("CREATE SCHEMA financer");
+        jdbcTemplate.execute(Files.readString(MIGRATIONS.resolve("V3__create_ledger_balances.sql")));
+        jdbcTemplate.execute(Files.readString(MIGRATIONS.resolve("V5__create_ledger_shard_owners.sql")));
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void truncate() {
+        jdbcTemplate.execute("TRUNCATE " + BALANCES + ", " + OWNERS);
+    }
+
+    @Test
+    void claimBumpsTheEpochOfOwnedShardsOnly() {
+        store().claim(LedgerSharding.of(4, "0-1"));
+        store().claim(LedgerSharding.all(4));
+
+        assertEquals(List.of(2L, 2L, 1L, 1L), jdbcTemplate.queryForList(
+                "SELECT owner_epoch FROM " + OWNERS + " ORDER BY shard", Long.class));
+    }
+
+    @Test
+    void staleEpochWriterIsRejected() {
+        JdbcBalanceStore previousOwner = store();
+        previousOwner.claim(LedgerSharding.all(4));
+        JdbcBalanceStore newOwner = store();
+        newOwner.claim(LedgerSharding.all(4));
+
+        // a higher version does not get a fenced-off instance through
+        assertArrayEquals(new boolean[]{false}, previousOwner.save(List.of(snapshot(1, 100, 9))));
+        assertEquals(Set.of(), newOwner.load(List.of(1L)).keySet());
+
+        assertArrayEquals(new boolean[]{true}, newOwner.save(List.of(snapshot(1, 200, 1))));
+        assertArrayEquals(new boolean[]{false}, previousOwner.save(List.of(snapshot(1, 100, 9))));
+        assertEquals(snapshot(1, 200, 1), newOwner.load(List.of(1L)).get(1L));
+    }
+
+    @Test
+    void olderVersionDoesNotOverwriteNewer() {
+        JdbcBalanceStore store = store();
+        store.claim(LedgerSharding.all(4));
+
+        assertArrayEquals(new boolean[]{true, true}, store.save(List.of(snapshot(1, 500, 5), snapshot(2, 70, 1))));
+        assertArrayEquals(new boolean[]{false, false, true},
+                store.save(List.of(snapshot(1, 300, 3), snapshot(1, 500, 5), snapshot(2, 80, 2))));
+
+        assertEquals(snapshot(1, 500, 5), store.load(List.of(1L)).get(1L));
+        assertEquals(snapshot(2, 80, 2), store.load(List.of(2L)).get(2L));
+    }
+
+    @Test
+    void savingRequiresAClaim() {
+        assertThrows(IllegalStateException.class, () -> store().save(List.of(snapshot(1, 100, 1))));
+    }
+
+    private static JdbcBalanceStore store() {
+        return new JdbcBalanceStore(jdbcTemplate, BALANCES, OWNERS);
+    }
+
+    private static BalanceSnapshot snapshot(long accountId, long balanceUnits, long version) {
+        return new BalanceSnapshot(accountId, CurrencyCode.BRL, balanceUnits, version);
+    }
+}
@@ -0,0 +1,196 @@
+package com.financer.money;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Interned ISO 4217 alphabetic currency code.
+ * <p>
+ * The three letters are packed into an {@code int} and every listed code has
+ * exactly one instance, kept in a fixed table indexed directly by the letters,
+ * so lookups are a bounds check plus an array read and instances can be
+ * compared with {@code ==}. DTOs hold a reference to the shared instance
+ * instead of their own {@code "BRL"} string.
+ * <p>
+ * {@link #parse(String)} never throws for non-null input: text that is not a
+ * listed code yields a detached instance with {@link #isIso()} {@code false},
+ * which {@link com.financer.money.validation.ValidCurrency @ValidCurrency}
+ * then rejects with a regular validation error.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class CurrencyCode implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int LETTERS = 26;
+
+    private static final CurrencyCode[] TABLE = new CurrencyCode[LETTERS * LETTERS * LETTERS];
+
+    /**
+     * Code / minor-unit pairs of ISO 4217 (-1 where minor units do not apply).
+     */
+    private static final String ISO_4217 =
+            "AED2AFN2ALL2AMD2ANG2AOA2ARS2AUD2AWG2AZN2BAM2BBD2BDT2BGN2BHD3BIF0BMD2BND2BOB2BOV2"
+            + "BRL2BSD2BTN2BWP2BYN2BZD2CAD2CDF2CHE2CHF2CHW2CLF4CLP0CNY2COP2COU2CRC2CUC2CUP2CVE2"
+            + "CZK2DJF0DKK2DOP2DZD2EGP2ERN2ETB2EUR2FJD2FKP2GBP2GEL2GHS2GIP2GMD2GNF0GTQ2GYD2HKD2"
+            + "HNL2HTG2HUF2IDR2ILS2INR2IQD3IRR2ISK0JMD2JOD3JPY0KES2KGS2KHR2KMF0KPW2KRW0KWD3KYD2"
+            + "KZT2LAK2LBP2LKR2LRD2LSL2LYD3MAD2MDL2MGA2MKD2MMK2MNT2MOP2MRU2MUR2MVR2MWK2MXN2MXV2"
+            + "MYR2MZN2NAD2NGN2NIO2NOK2NPR2NZD2OMR3PAB2PEN2PGK2PHP2PKR2PLN2PYG0QAR2RON2RSD2RUB2"
+            + "RWF0SAR2SBD2SCR2SDG2SEK2SGD2SHP2SLE2SLL2SOS2SRD2SSP2STN2SVC2SYP2SZL2THB2TJS2TMT2"
+            + "TND3TOP2TRY2TTD2TWD2TZS2UAH2UGX0USD2USN2UYI0UYU2UYW4UZS2VED2VES2VND0VUV0WST2XAF0"
+            + "XCD2XCG2XOF0XPF0YER2ZAR2ZMW2ZWG2ZWL2"
+            + "XAG-XAU-XBA-XBB-XBC-XBD-XDR-XPD-XPT-XSU-XTS-XUA-XXX-";
+
+    static {
+        for (int i = 0; i < ISO_4217.length(); i += 4) {
+            String code = ISO_4217.substring(i, i + 3);
+            char digits = ISO_4217.charAt(i + 3);
+            TABLE[index(code)] = new CurrencyCode(code, digits == '-' ? -1 : digits - '0', true);
+        }
+    }
+
+    public static final CurrencyCode BRL = of("BRL");
+    public static final CurrencyCode USD = of("USD");
+    public static final CurrencyCode EUR = of("EUR");
+
+    /**
+     * "No currency involved" (ISO 4217 {@code XXX}).
+     */
+    public static final CurrencyCode XXX = of("XXX");
+
+    private final String code;
+    private final int packed;
+    private final int fractionDigits;
+    private final boolean iso;
+
+    private CurrencyCode(String code, int fractionDigits, boolean iso) {
+        this.code = code;
+        this.packed = iso ? (code.charAt(0) << 16) | (code.charAt(1) << 8) | code.charAt(2) : 0;
+        this.fractionDigits = fractionDigits;
+        this.iso = iso;
+    }
+
+    /**
+     * Returns the interned instance for an ISO 4217 code.
+     *
+     * @throws IllegalArgumentException if the code is not listed
+     */
+    public static CurrencyCode of(String code) {
+        CurrencyCode currency = lookup(code);
+        if (currency == null) {
+            throw new IllegalArgumentException("Invalid currency code: " + code);
+        }
+        return currency;
+    }
+
+    /**
+     * @return the interned instance, or {@code null} if {@code code} is not a listed ISO 4217 code
+     */
+    public static CurrencyCode lookup(CharSequence code) {
+        int index = code == null ? -1 : index(code);
+        return index < 0 ? null : TABLE[index];
+    }
+
+    /**
+     * Returns the interned instance for a value produced by {@link #packed()}.
+     *
+     * @throws IllegalArgumentException if the value does not denote a listed code
+     */
+    public static CurrencyCode fromPacked(int packed) {
+        int c0 = (packed >>> 16) - 'A';
+        int c1 = ((packed >>> 8) & 0xFF) - 'A';
+        int c2 = (packed & 0xFF) - 'A';
+        if ((packed >>> 24) != 0 || (c0 | c1 | c2) < 0 || c0 >= LETTERS || c1 >= LETTERS || c2 >= LETTERS
+                || TABLE[(c0 * LETTERS + c1) * LETTERS + c2] == null) {
+            throw new IllegalArgumentException("Invalid packed currency code: " + packed);
+        }
+        return TABLE[(c0 * LETTERS + c1) * LETTERS + c2];
+    }
+
+    /**
+     * Lenient factory used for JSON binding: unknown text is kept as a
+     * detached, non-ISO instance so Bean Validation can report it.
+     */
+    @JsonCreator
+    public static CurrencyCode parse(String code) {
+        if (code == null) {
+            return null;
+        }
+        CurrencyCode currency = lookup(code);
+        return currency != null ? currency : new CurrencyCode(code, -1, false);
+    }
+
+    /**
+     * Regex-free check for a listed ISO 4217 code.
+     */
+    public static boolean isValid(CharSequence code) {
+        return lookup(code) != null;
+    }
+
+    @JsonValue
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * @return the three letters packed as {@code (c0 << 16) | (c1 << 8) | c2}; 0 for non-ISO values
+     */
+    public int packed() {
+        return packed;
+    }
+
+    /**
+     * @return ISO 4217 minor units, or -1 where they do not apply
+     */
+    public int getFractionDigits() {
+        return fractionDigits;
+    }
+
+    public boolean isIso() {
+        return iso;
+    }
+
+    @Serial
+    private Object readResolve() {
+        return parse(code);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        // interned ISO instances are unique; only detached values need a content check
+        return o instanceof CurrencyCode other && !iso && !other.iso && code.equals(other.code);
+    }
+
+    @Override
+    public int hashCode() {
+        return code.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+
+    private static int index(CharSequence code) {
+        if (code.length() != 3) {
+            return -1;
+        }
+        int c0 = code.charAt(0) - 'A';
+        int c1 = code.charAt(1) - 'A';
+        int c2 = code.charAt(2) - 'A';
+        if ((c0 | c1 | c2) < 0 || c0 >= LETTERS || c1 >= LETTERS || c2 >= LETTERS) {
+            return -1;
+        }
+        return (c0 * LETTERS + c1) * LETTERS + c2;
+    }
+}
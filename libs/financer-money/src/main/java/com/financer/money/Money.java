@@ -0,0 +1,209 @@
+package com.financer.money;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable monetary amount stored as a scaled {@code long} plus an interned
+ * {@link CurrencyCode}.
+ * <p>
+ * The scale is fixed at {@value #SCALE} fraction digits to match the
+ * {@code DECIMAL(19, 4)} money columns, so {@code 1 BRL == 10_000} units for
+ * every currency. Arithmetic is exact: overflows raise
+ * {@link ArithmeticException} and mixing currencies raises
+ * {@link IllegalArgumentException}. Hot loops that must not allocate at all
+ * can work on {@link #getUnits()} with {@link MoneyMath} or use a
+ * {@link MoneyAccumulator}.
+ * <p>
+ * Amounts read from JSON carry no currency (they are sibling fields in the
+ * DTOs); such values use {@link CurrencyCode#XXX} until bound with
+ * {@link #withCurrency(CurrencyCode)}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Fraction digits carried by every amount.
+     */
+    public static final int SCALE = 4;
+
+    /**
+     * Units per major currency unit ({@code 10^SCALE}).
+     */
+    public static final long UNIT = 10_000L;
+
+    private final long units;
+    private final CurrencyCode currency;
+
+    private Money(long units, CurrencyCode currency) {
+        this.units = units;
+        this.currency = currency;
+    }
+
+    /**
+     * @param units    amount in units of {@code 10^-SCALE}
+     * @param currency ISO 4217 currency
+     */
+    public static Money ofUnits(long units, CurrencyCode currency) {
+        return new Money(units, iso(currency));
+    }
+
+    /**
+     * Creates an amount from whole major units (e.g. {@code 150} BRL).
+     */
+    public static Money ofMajor(long major, CurrencyCode currency) {
+        return new Money(Math.multiplyExact(major, UNIT), iso(currency));
+    }
+
+    /**
+     * Converts a {@link BigDecimal} amount exactly.
+     *
+     * @throws ArithmeticException if the amount has more than {@value #SCALE}
+     *                             significant fraction digits or overflows
+     */
+    public static Money of(BigDecimal amount, CurrencyCode currency) {
+        return of(amount, currency, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Converts a {@link BigDecimal} amount, rounding extra fraction digits.
+     */
+    public static Money of(BigDecimal amount, CurrencyCode currency, RoundingMode rounding) {
+        long units = amount.setScale(SCALE, rounding).unscaledValue().longValueExact();
+        return new Money(units, iso(currency));
+    }
+
+    public static Money zero(CurrencyCode currency) {
+        return new Money(0L, iso(currency));
+    }
+
+    /**
+     * Amount with no bound currency, as read from a bare JSON number.
+     */
+    public static Money unbound(long units) {
+        return new Money(units, CurrencyCode.XXX);
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public CurrencyCode getCurrency() {
+        return currency;
+    }
+
+    /**
+     * @return the interned ISO code string (no allocation)
+     */
+    public String getCurrencyCode() {
+        return currency.getCode();
+    }
+
+    public boolean isCurrencyBound() {
+        return currency != CurrencyCode.XXX;
+    }
+
+    public Money withCurrency(CurrencyCode currencyCode) {
+        return currencyCode == currency ? this : new Money(units, iso(currencyCode));
+    }
+
+    public Money plus(Money other) {
+        return new Money(MoneyMath.add(units, other.units), sameCurrency(other));
+    }
+
+    public Money minus(Money other) {
+        return new Money(MoneyMath.subtract(units, other.units), sameCurrency(other));
+    }
+
+    public Money negate() {
+        return new Money(MoneyMath.negate(units), currency);
+    }
+
+    /**
+     * Multiplies by {@code rate / 10^rateScale}, e.g. {@code multiplyByRate(125, 2, HALF_EVEN)} for 1.25.
+     */
+    public Money multiplyByRate(long rate, int rateScale, RoundingMode rounding) {
+        return new Money(MoneyMath.multiplyByRate(units, rate, rateScale, rounding), currency);
+    }
+
+    /**
+     * Multiplies by a decimal rate such as {@code AccountDTO.interestRate / 100}.
+     */
+    public Money multiplyByRate(BigDecimal rate, RoundingMode rounding) {
+        BigDecimal normalized = rate.scale() < 0 ? rate.setScale(0) : rate;
+        return multiplyByRate(normalized.unscaledValue().longValueExact(), normalized.scale(), rounding);
+    }
+
+    public int signum() {
+        return Long.signum(units);
+    }
+
+    public boolean isZero() {
+        return units == 0;
+    }
+
+    public boolean isNegative() {
+        return units < 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return compareTo(other) > 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return compareTo(other) < 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        sameCurrency(other);
+        return MoneyMath.compare(units, other.units);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Money other && units == other.units && currency == other.currency;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(units) * 31 + currency.packed();
+    }
+
+    @Override
+    public String toString() {
+        char[] buffer = new char[MoneyFormat.MAX_LENGTH];
+        int length = MoneyFormat.format(units, buffer, 0);
+        return new String(buffer, 0, length) + " " + getCurrencyCode();
+    }
+
+    private CurrencyCode sameCurrency(Money other) {
+        if (currency != other.currency) {
+            throw new IllegalArgumentException(
+                    "Currency mismatch: " + getCurrencyCode() + " vs " + other.getCurrencyCode());
+        }
+        return currency;
+    }
+
+    private static CurrencyCode iso(CurrencyCode currency) {
+        if (currency == null || !currency.isIso()) {
+            throw new IllegalArgumentException("Invalid currency code: " + currency);
+        }
+        return currency;
+    }
+}
@@ -0,0 +1,70 @@
+package com.financer.money;
+
+/**
+ * Mutable running total for aggregations (statement totals, daily limits),
+ * so summing N amounts allocates nothing until {@link #toMoney()} is called.
+ * Not thread-safe.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class MoneyAccumulator {
+
+    private final CurrencyCode currency;
+    private long units;
+    private int count;
+
+    public MoneyAccumulator(CurrencyCode currency) {
+        this.currency = currency;
+    }
+
+    public MoneyAccumulator add(Money amount) {
+        checkCurrency(amount);
+        return addUnits(amount.getUnits());
+    }
+
+    public MoneyAccumulator subtract(Money amount) {
+        checkCurrency(amount);
+        units = MoneyMath.subtract(units, amount.getUnits());
+        count++;
+        return this;
+    }
+
+    public MoneyAccumulator addUnits(long amountUnits) {
+        units = MoneyMath.add(units, amountUnits);
+        count++;
+        return this;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return whether the running total exceeds {@code limitUnits}
+     */
+    public boolean exceeds(long limitUnits) {
+        return units > limitUnits;
+    }
+
+    public void reset() {
+        units = 0;
+        count = 0;
+    }
+
+    public Money toMoney() {
+        return Money.ofUnits(units, currency);
+    }
+
+    private void checkCurrency(Money amount) {
+        if (amount.getCurrency() != currency) {
+            throw new IllegalArgumentException(
+                    "Currency mismatch: " + currency + " vs " + amount.getCurrency());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.financer.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Plain decimal text codec for scaled amounts, working directly on
+ * {@code char[]} buffers so that JSON and log output never round-trip
+ * through {@link BigDecimal}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class MoneyFormat {
+
+    /**
+     * Enough room for a signed {@code long} with a decimal point.
+     */
+    public static final int MAX_LENGTH = 21;
+
+    private MoneyFormat() {
+    }
+
+    /**
+     * Writes {@code units} as a plain decimal with {@link Money#SCALE} fraction
+     * digits (e.g. {@code -12.5000}).
+     *
+     * @return number of characters written
+     */
+    public static int format(long units, char[] dst, int offset) {
+        if (units == Long.MIN_VALUE) {
+            String text = BigDecimal.valueOf(units, Money.SCALE).toPlainString();
+            text.getChars(0, text.length(), dst, offset);
+            return text.length();
+        }
+        int pos = offset;
+        if (units < 0) {
+            dst[pos++] = '-';
+            units = -units;
+        }
+        long integer = units / Money.UNIT;
+        long fraction = units % Money.UNIT;
+
+        int digits = 1;
+        while (digits < 19 && integer >= MoneyMath.powerOfTen(digits)) {
+            digits++;
+        }
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            dst[i] = (char) ('0' + integer % 10);
+            integer /= 10;
+        }
+        pos = end;
+        dst[pos++] = '.';
+        for (int i = pos + Money.SCALE - 1; i >= pos; i--) {
+            dst[i] = (char) ('0' + fraction % 10);
+            fraction /= 10;
+        }
+        return pos + Money.SCALE - offset;
+    }
+
+    /**
+     * Parses a plain decimal (optional sign, digits, optional fraction) into
+     * scaled units. Exponent notation is accepted through a slower exact path.
+     *
+     * @throws NumberFormatException if the text is not a decimal number
+     * @throws ArithmeticException   if the value overflows or has more than
+     *                               {@link Money#SCALE} significant fraction digits
+     */
+    public static long parse(char[] src, int offset, int length) {
+        int pos = offset;
+        int end = offset + length;
+        if (pos == end) {
+            throw new NumberFormatException("Empty amount");
+        }
+        boolean negative = false;
+        if (src[pos] == '-' || src[pos] == '+') {
+            negative = src[pos] == '-';
+            pos++;
+        }
+        // accumulate negatively so Long.MIN_VALUE stays representable
+        long units = 0;
+        int integerDigits = 0;
+        while (pos < end && src[pos] >= '0' && src[pos] <= '9') {
+            units = Math.subtractExact(Math.multiplyExact(units, 10), src[pos++] - '0');
+            integerDigits++;
+        }
+        units = Math.multiplyExact(units, Money.UNIT);
+
+        int fractionDigits = 0;
+        if (pos < end && src[pos] == '.') {
+            pos++;
+            long scale = Money.UNIT;
+            while (pos < end && src[pos] >= '0' && src[pos] <= '9') {
+                int digit = src[pos++] - '0';
+                fractionDigits++;
+                if (scale > 1) {
+                    scale /= 10;
+                    units = Math.subtractExact(units, digit * scale);
+                } else if (digit != 0) {
+                    throw new ArithmeticException("Amount has more than " + Money.SCALE + " decimal places");
+                }
+            }
+        }
+        if (pos < end && (src[pos] == 'e' || src[pos] == 'E')) {
+            BigDecimal exact = new BigDecimal(src, offset, length);
+            return exact.setScale(Money.SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        }
+        if (pos != end || integerDigits + fractionDigits == 0) {
+            throw new NumberFormatException("Invalid amount: " + new String(src, offset, length));
+        }
+        return negative ? units : Math.negateExact(units);
+    }
+
+    /**
+     * Convenience overload of {@link #parse(char[], int, int)}.
+     */
+    public static long parse(CharSequence text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = text.charAt(i);
+        }
+        return parse(chars, 0, chars.length);
+    }
+}
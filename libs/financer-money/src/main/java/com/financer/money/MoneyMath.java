@@ -0,0 +1,111 @@
+package com.financer.money;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Primitive arithmetic on amounts expressed in {@link Money#SCALE scaled}
+ * minor units. Every method works on {@code long}s only, never allocates on
+ * the normal path and throws {@link ArithmeticException} on overflow instead
+ * of wrapping.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class MoneyMath {
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+            100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L,
+            1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L
+    };
+
+    private MoneyMath() {
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    public static long negate(long a) {
+        return Math.negateExact(a);
+    }
+
+    public static int compare(long a, long b) {
+        return Long.compare(a, b);
+    }
+
+    /**
+     * Multiplies an amount by a decimal rate given as {@code rate / 10^rateScale}
+     * (e.g. {@code 1_25, 2} for 1.25) and rounds back to the amount's scale.
+     *
+     * @param units     amount in scaled minor units
+     * @param rate      unscaled rate
+     * @param rateScale number of decimal places in {@code rate} (0-18)
+     * @param rounding  rounding applied to the discarded digits
+     * @return the product in scaled minor units
+     * @throws ArithmeticException if the result does not fit in a {@code long},
+     *                             or rounding is {@link RoundingMode#UNNECESSARY} and digits are lost
+     */
+    public static long multiplyByRate(long units, long rate, int rateScale, RoundingMode rounding) {
+        long divisor = powerOfTen(rateScale);
+        long high = Math.multiplyHigh(units, rate);
+        long low = units * rate;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return divide(low, divisor, rounding);
+        }
+        // 128-bit intermediate product: rare, only for very large amounts or rates
+        BigInteger[] qr = BigInteger.valueOf(units).multiply(BigInteger.valueOf(rate))
+                .divideAndRemainder(BigInteger.valueOf(divisor));
+        long quotient = qr[0].longValueExact();
+        long remainder = qr[1].longValue();
+        return round(quotient, remainder, divisor, Long.signum(units) * Long.signum(rate), rounding);
+    }
+
+    /**
+     * Divides {@code dividend} by a positive {@code divisor} with the given rounding.
+     */
+    public static long divide(long dividend, long divisor, RoundingMode rounding) {
+        if (divisor <= 0) {
+            throw new ArithmeticException("Divisor must be positive: " + divisor);
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        return round(quotient, remainder, divisor, Long.signum(dividend), rounding);
+    }
+
+    /**
+     * @return {@code 10^exponent} for exponents between 0 and 18
+     */
+    public static long powerOfTen(int exponent) {
+        if (exponent < 0 || exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("Scale out of range: " + exponent);
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+
+    private static long round(long quotient, long remainder, long divisor, int sign, RoundingMode rounding) {
+        if (remainder == 0) {
+            return quotient;
+        }
+        long twice = Math.abs(remainder) * 2;
+        boolean increment = switch (rounding) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> sign > 0;
+            case FLOOR -> sign < 0;
+            case HALF_UP -> twice >= divisor;
+            case HALF_DOWN -> twice > divisor;
+            case HALF_EVEN -> twice > divisor || (twice == divisor && (quotient & 1) != 0);
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return increment ? Math.addExact(quotient, sign) : quotient;
+    }
+}
@@ -0,0 +1,45 @@
+package com.financer.money.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.financer.money.CurrencyCode;
+import com.financer.money.Money;
+import com.financer.money.MoneyFormat;
+
+import java.io.IOException;
+
+/**
+ * Reads a JSON number (or numeric string) into an {@link Money#unbound(long) unbound}
+ * {@link Money}, parsing the token text directly instead of materializing a
+ * {@code BigDecimal}. Callers bind the currency from the DTO's {@code currency}
+ * field with {@link Money#withCurrency(CurrencyCode)}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class MoneyDeserializer extends StdScalarDeserializer<Money> {
+
+    public MoneyDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        try {
+            if (token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                return Money.unbound(Math.multiplyExact(p.getLongValue(), Money.UNIT));
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT
+                    || token == JsonToken.VALUE_STRING) {
+                return Money.unbound(MoneyFormat.parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength()));
+            }
+        } catch (ArithmeticException | NumberFormatException e) {
+            return (Money) ctxt.handleWeirdStringValue(Money.class, p.getText(), e.getMessage());
+        }
+        return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+    }
+}
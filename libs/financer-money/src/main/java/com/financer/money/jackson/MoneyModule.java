@@ -0,0 +1,21 @@
+package com.financer.money.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.financer.money.Money;
+
+/**
+ * Jackson module registering the {@link Money} codecs. Expose it as a bean
+ * and {@code JacksonConfig} registers it on the shared {@code ObjectMapper}.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class MoneyModule extends SimpleModule {
+
+    public MoneyModule() {
+        super("FinancerMoneyModule");
+        addSerializer(Money.class, new MoneySerializer());
+        addDeserializer(Money.class, new MoneyDeserializer());
+    }
+}
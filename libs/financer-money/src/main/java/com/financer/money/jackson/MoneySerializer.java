@@ -0,0 +1,32 @@
+package com.financer.money.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.financer.money.Money;
+import com.financer.money.MoneyFormat;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link Money} as a bare JSON number, the same shape as the
+ * {@code BigDecimal} amount fields it replaces (the currency travels in the
+ * DTO's own {@code currency} field).
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class MoneySerializer extends StdSerializer<Money> {
+
+    public MoneySerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buffer = new char[MoneyFormat.MAX_LENGTH];
+        int length = MoneyFormat.format(value.getUnits(), buffer, 0);
+        gen.writeNumber(buffer, 0, length);
+    }
+}
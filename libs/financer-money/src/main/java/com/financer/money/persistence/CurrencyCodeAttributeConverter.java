@@ -0,0 +1,27 @@
+package com.financer.money.persistence;
+
+import com.financer.money.CurrencyCode;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps {@link CurrencyCode} to the {@code VARCHAR(3) currency} columns,
+ * returning the interned instance on read.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Converter(autoApply = true)
+public class CurrencyCodeAttributeConverter implements AttributeConverter<CurrencyCode, String> {
+
+    @Override
+    public String convertToDatabaseColumn(CurrencyCode attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public CurrencyCode convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : CurrencyCode.of(dbData);
+    }
+}
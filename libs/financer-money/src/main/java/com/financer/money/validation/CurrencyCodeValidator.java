@@ -0,0 +1,20 @@
+package com.financer.money.validation;
+
+import com.financer.money.CurrencyCode;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * {@link ValidCurrency} validator for {@link CurrencyCode} values.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class CurrencyCodeValidator implements ConstraintValidator<ValidCurrency, CurrencyCode> {
+
+    @Override
+    public boolean isValid(CurrencyCode value, ConstraintValidatorContext context) {
+        return value == null || value.isIso();
+    }
+}
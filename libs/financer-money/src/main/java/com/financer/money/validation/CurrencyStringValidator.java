@@ -0,0 +1,20 @@
+package com.financer.money.validation;
+
+import com.financer.money.CurrencyCode;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * {@link ValidCurrency} validator for plain {@code String} currency fields.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class CurrencyStringValidator implements ConstraintValidator<ValidCurrency, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || CurrencyCode.isValid(value);
+    }
+}
@@ -0,0 +1,32 @@
+package com.financer.money.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated {@link com.financer.money.CurrencyCode} or {@code CharSequence}
+ * must be a listed ISO 4217 code. Checked by a table lookup, no regex.
+ * {@code null} is valid; combine with {@code @NotNull} when required.
+ *
+ * @author Financer Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Documented
+@Constraint(validatedBy = {CurrencyCodeValidator.class, CurrencyStringValidator.class})
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidCurrency {
+
+    String message() default "Currency must be a valid ISO 4217 code";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}